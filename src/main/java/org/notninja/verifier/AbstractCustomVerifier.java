@@ -23,6 +23,12 @@ package org.notninja.verifier;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
@@ -37,16 +43,22 @@ import org.notninja.verifier.type.ArrayVerifier;
 import org.notninja.verifier.type.BigDecimalVerifier;
 import org.notninja.verifier.type.BigIntegerVerifier;
 import org.notninja.verifier.type.BooleanVerifier;
+import org.notninja.verifier.type.ByteBufferVerifier;
 import org.notninja.verifier.type.ByteVerifier;
 import org.notninja.verifier.type.CalendarVerifier;
+import org.notninja.verifier.type.CharSequenceVerifier;
 import org.notninja.verifier.type.CharacterVerifier;
 import org.notninja.verifier.type.ClassVerifier;
 import org.notninja.verifier.type.CollectionVerifier;
 import org.notninja.verifier.type.ComparableVerifier;
 import org.notninja.verifier.type.DateVerifier;
 import org.notninja.verifier.type.DoubleVerifier;
+import org.notninja.verifier.type.DurationVerifier;
 import org.notninja.verifier.type.FloatVerifier;
+import org.notninja.verifier.type.InstantVerifier;
 import org.notninja.verifier.type.IntegerVerifier;
+import org.notninja.verifier.type.LocalDateTimeVerifier;
+import org.notninja.verifier.type.LocalDateVerifier;
 import org.notninja.verifier.type.LocaleVerifier;
 import org.notninja.verifier.type.LongVerifier;
 import org.notninja.verifier.type.MapVerifier;
@@ -54,6 +66,9 @@ import org.notninja.verifier.type.ObjectVerifier;
 import org.notninja.verifier.type.ShortVerifier;
 import org.notninja.verifier.type.StringVerifier;
 import org.notninja.verifier.type.ThrowableVerifier;
+import org.notninja.verifier.type.Utf8Verifier;
+import org.notninja.verifier.type.ZonedDateTimeVerifier;
+import org.notninja.verifier.util.ValueSet;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -246,6 +261,16 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new ByteVerifier(verification.copy(value, name));
     }
 
+    @Override
+    public ByteBufferVerifier and(final ByteBuffer value) {
+        return and(value, null);
+    }
+
+    @Override
+    public ByteBufferVerifier and(final ByteBuffer value, final Object name) {
+        return new ByteBufferVerifier(verification.copy(value, name));
+    }
+
     @Override
     public CalendarVerifier and(final Calendar value) {
         return and(value, null);
@@ -256,6 +281,16 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new CalendarVerifier(verification.copy(value, name));
     }
 
+    @Override
+    public CharSequenceVerifier and(final CharSequence value) {
+        return and(value, null);
+    }
+
+    @Override
+    public CharSequenceVerifier and(final CharSequence value, final Object name) {
+        return new CharSequenceVerifier(verification.copy(value, name));
+    }
+
     @Override
     public CharacterVerifier and(final Character value) {
         return and(value, null);
@@ -306,6 +341,16 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new DoubleVerifier(verification.copy(value, name));
     }
 
+    @Override
+    public DurationVerifier and(final Duration value) {
+        return and(value, null);
+    }
+
+    @Override
+    public DurationVerifier and(final Duration value, final Object name) {
+        return new DurationVerifier(verification.copy(value, name));
+    }
+
     @Override
     public FloatVerifier and(final Float value) {
         return and(value, null);
@@ -316,6 +361,16 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new FloatVerifier(verification.copy(value, name));
     }
 
+    @Override
+    public InstantVerifier and(final Instant value) {
+        return and(value, null);
+    }
+
+    @Override
+    public InstantVerifier and(final Instant value, final Object name) {
+        return new InstantVerifier(verification.copy(value, name));
+    }
+
     @Override
     public IntegerVerifier and(final Integer value) {
         return and(value, null);
@@ -326,6 +381,26 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new IntegerVerifier(verification.copy(value, name));
     }
 
+    @Override
+    public LocalDateVerifier and(final LocalDate value) {
+        return and(value, null);
+    }
+
+    @Override
+    public LocalDateVerifier and(final LocalDate value, final Object name) {
+        return new LocalDateVerifier(verification.copy(value, name));
+    }
+
+    @Override
+    public LocalDateTimeVerifier and(final LocalDateTime value) {
+        return and(value, null);
+    }
+
+    @Override
+    public LocalDateTimeVerifier and(final LocalDateTime value, final Object name) {
+        return new LocalDateTimeVerifier(verification.copy(value, name));
+    }
+
     @Override
     public LocaleVerifier and(final Locale value) {
         return and(value, null);
@@ -396,6 +471,16 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new ThrowableVerifier(verification.copy(value, name));
     }
 
+    @Override
+    public ZonedDateTimeVerifier and(final ZonedDateTime value) {
+        return and(value, null);
+    }
+
+    @Override
+    public ZonedDateTimeVerifier and(final ZonedDateTime value, final Object name) {
+        return new ZonedDateTimeVerifier(verification.copy(value, name));
+    }
+
     @Override
     public <U, C extends CustomVerifier<U, C>> C and(final U value, final Object name, final Class<C> cls) {
         final Verification<U> copy = verification.copy(value, name);
@@ -412,6 +497,26 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return new ComparableVerifier<>(verification.copy(value, name));
     }
 
+    @Override
+    public Utf8Verifier andUtf8(final byte[] value) {
+        return andUtf8(value, null);
+    }
+
+    @Override
+    public Utf8Verifier andUtf8(final byte[] value, final Object name) {
+        return andUtf8(value != null ? ByteBuffer.wrap(value) : null, name);
+    }
+
+    @Override
+    public Utf8Verifier andUtf8(final ByteBuffer value) {
+        return andUtf8(value, null);
+    }
+
+    @Override
+    public Utf8Verifier andUtf8(final ByteBuffer value, final Object name) {
+        return new Utf8Verifier(verification.copy(value, name));
+    }
+
     /**
      * <p>
      * Returns a reference to this {@link AbstractCustomVerifier} implementation which can be useful for chaining
@@ -461,6 +566,15 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         return chain();
     }
 
+    @Override
+    public V in(final ValueSet<?> values) {
+        final boolean result = values != null && values.contains(verification.getValue());
+
+        verification.report(result, MessageKeys.IN, values);
+
+        return chain();
+    }
+
     @Override
     public V instanceOf(final Class<?> cls) {
         final boolean result = cls != null && cls.isInstance(verification.getValue());
@@ -600,6 +714,7 @@ public abstract class AbstractCustomVerifier<T, V extends AbstractCustomVerifier
         EQUAL_TO("org.notninja.verifier.AbstractCustomVerifier.equalTo"),
         EQUAL_TO_ANY("org.notninja.verifier.AbstractCustomVerifier.equalToAny"),
         HASHED_AS("org.notninja.verifier.AbstractCustomVerifier.hashedAs"),
+        IN("org.notninja.verifier.AbstractCustomVerifier.in"),
         INSTANCE_OF("org.notninja.verifier.AbstractCustomVerifier.instanceOf"),
         INSTANCE_OF_ALL("org.notninja.verifier.AbstractCustomVerifier.instanceOfAll"),
         INSTANCE_OF_ANY("org.notninja.verifier.AbstractCustomVerifier.instanceOfAny"),
@@ -23,6 +23,12 @@ package org.notninja.verifier;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -34,16 +40,22 @@ import org.notninja.verifier.type.ArrayVerifier;
 import org.notninja.verifier.type.BigDecimalVerifier;
 import org.notninja.verifier.type.BigIntegerVerifier;
 import org.notninja.verifier.type.BooleanVerifier;
+import org.notninja.verifier.type.ByteBufferVerifier;
 import org.notninja.verifier.type.ByteVerifier;
 import org.notninja.verifier.type.CalendarVerifier;
+import org.notninja.verifier.type.CharSequenceVerifier;
 import org.notninja.verifier.type.CharacterVerifier;
 import org.notninja.verifier.type.ClassVerifier;
 import org.notninja.verifier.type.CollectionVerifier;
 import org.notninja.verifier.type.ComparableVerifier;
 import org.notninja.verifier.type.DateVerifier;
 import org.notninja.verifier.type.DoubleVerifier;
+import org.notninja.verifier.type.DurationVerifier;
 import org.notninja.verifier.type.FloatVerifier;
+import org.notninja.verifier.type.InstantVerifier;
 import org.notninja.verifier.type.IntegerVerifier;
+import org.notninja.verifier.type.LocalDateTimeVerifier;
+import org.notninja.verifier.type.LocalDateVerifier;
 import org.notninja.verifier.type.LocaleVerifier;
 import org.notninja.verifier.type.LongVerifier;
 import org.notninja.verifier.type.MapVerifier;
@@ -51,6 +63,9 @@ import org.notninja.verifier.type.ObjectVerifier;
 import org.notninja.verifier.type.ShortVerifier;
 import org.notninja.verifier.type.StringVerifier;
 import org.notninja.verifier.type.ThrowableVerifier;
+import org.notninja.verifier.type.Utf8Verifier;
+import org.notninja.verifier.type.ZonedDateTimeVerifier;
+import org.notninja.verifier.util.ValueSet;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -291,6 +306,50 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     ByteVerifier and(Byte value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a byte buffer using a {@link ByteBufferVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @return A {@link ByteBufferVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ByteBufferVerifier}.
+     * @see #and(ByteBuffer, Object)
+     * @see ByteBufferVerifier
+     * @since 0.4.0
+     */
+    ByteBufferVerifier and(ByteBuffer value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a byte buffer using a {@link ByteBufferVerifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link ByteBufferVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ByteBufferVerifier}.
+     * @see #and(ByteBuffer)
+     * @see ByteBufferVerifier
+     * @since 0.4.0
+     */
+    ByteBufferVerifier and(ByteBuffer value, Object name);
+
     /**
      * <p>
      * Starts a new chain for verifying the specified {@code value} as a calendar using a {@link CalendarVerifier}.
@@ -335,6 +394,63 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     CalendarVerifier and(Calendar value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a character sequence using a
+     * {@link CharSequenceVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * Any {@code CharSequence} other than a {@code String}, such as a {@code StringBuilder}, resolves to this method
+     * rather than {@link #and(Object)} at compile time, so it is verified using a {@link CharSequenceVerifier} instead
+     * of an {@link ObjectVerifier}. Cast {@code value} to {@code Object} where an {@code ObjectVerifier} is still
+     * wanted.
+     * </p>
+     *
+     * @param value
+     *         the {@code CharSequence} to be verified (may be {@literal null})
+     * @return A {@link CharSequenceVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link CharSequenceVerifier}.
+     * @see #and(CharSequence, Object)
+     * @see CharSequenceVerifier
+     * @since 0.4.0
+     */
+    CharSequenceVerifier and(CharSequence value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a character sequence using a
+     * {@link CharSequenceVerifier} while allowing {@code value} to be given an optional friendlier {@code name} for the
+     * {@link VerifierException} message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * Any {@code CharSequence} other than a {@code String}, such as a {@code StringBuilder}, resolves to this method
+     * rather than {@link #and(Object, Object)} at compile time, so it is verified using a {@link CharSequenceVerifier}
+     * instead of an {@link ObjectVerifier}. Cast {@code value} to {@code Object} where an {@code ObjectVerifier} is
+     * still wanted.
+     * </p>
+     *
+     * @param value
+     *         the {@code CharSequence} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link CharSequenceVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link CharSequenceVerifier}.
+     * @see #and(CharSequence)
+     * @see CharSequenceVerifier
+     * @since 0.4.0
+     */
+    CharSequenceVerifier and(CharSequence value, Object name);
+
     /**
      * <p>
      * Starts a new chain for verifying the specified {@code value} as a character using a {@link CharacterVerifier}.
@@ -559,6 +675,50 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     DoubleVerifier and(Double value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a duration using a {@link DurationVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Duration} to be verified (may be {@literal null})
+     * @return A {@link DurationVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link DurationVerifier}.
+     * @see #and(Duration, Object)
+     * @see DurationVerifier
+     * @since 0.4.0
+     */
+    DurationVerifier and(Duration value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a duration using a {@link DurationVerifier} while
+     * allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException} message
+     * in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Duration} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link DurationVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link DurationVerifier}.
+     * @see #and(Duration)
+     * @see DurationVerifier
+     * @since 0.4.0
+     */
+    DurationVerifier and(Duration value, Object name);
+
     /**
      * <p>
      * Starts a new chain for verifying the specified {@code value} as a float using a {@link FloatVerifier}.
@@ -603,6 +763,50 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     FloatVerifier and(Float value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as an instant using an {@link InstantVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Instant} to be verified (may be {@literal null})
+     * @return A {@link InstantVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link InstantVerifier}.
+     * @see #and(Instant, Object)
+     * @see InstantVerifier
+     * @since 0.4.0
+     */
+    InstantVerifier and(Instant value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as an instant using an {@link InstantVerifier} while
+     * allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException} message
+     * in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Instant} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link InstantVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link InstantVerifier}.
+     * @see #and(Instant)
+     * @see InstantVerifier
+     * @since 0.4.0
+     */
+    InstantVerifier and(Instant value, Object name);
+
     /**
      * <p>
      * Starts a new chain for verifying the specified {@code value} as an integer using an {@link IntegerVerifier}.
@@ -647,6 +851,95 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     IntegerVerifier and(Integer value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a local date using a {@link LocalDateVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDate} to be verified (may be {@literal null})
+     * @return A {@link LocalDateVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateVerifier}.
+     * @see #and(LocalDate, Object)
+     * @see LocalDateVerifier
+     * @since 0.4.0
+     */
+    LocalDateVerifier and(LocalDate value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a local date using a {@link LocalDateVerifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDate} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link LocalDateVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateVerifier}.
+     * @see #and(LocalDate)
+     * @see LocalDateVerifier
+     * @since 0.4.0
+     */
+    LocalDateVerifier and(LocalDate value, Object name);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a local date-time using a {@link
+     * LocalDateTimeVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDateTime} to be verified (may be {@literal null})
+     * @return A {@link LocalDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateTimeVerifier}.
+     * @see #and(LocalDateTime, Object)
+     * @see LocalDateTimeVerifier
+     * @since 0.4.0
+     */
+    LocalDateTimeVerifier and(LocalDateTime value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a local date-time using a {@link
+     * LocalDateTimeVerifier} while allowing {@code value} to be given an optional friendlier {@code name} for the
+     * {@link VerifierException} message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDateTime} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link LocalDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateTimeVerifier}.
+     * @see #and(LocalDateTime)
+     * @see LocalDateTimeVerifier
+     * @since 0.4.0
+     */
+    LocalDateTimeVerifier and(LocalDateTime value, Object name);
+
     /**
      * <p>
      * Starts a new chain for verifying the specified {@code value} as a locale using a {@link LocaleVerifier}.
@@ -973,6 +1266,51 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     ThrowableVerifier and(Throwable value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a zoned date-time using a {@link
+     * ZonedDateTimeVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ZonedDateTime} to be verified (may be {@literal null})
+     * @return A {@link ZonedDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ZonedDateTimeVerifier}.
+     * @see #and(ZonedDateTime, Object)
+     * @see ZonedDateTimeVerifier
+     * @since 0.4.0
+     */
+    ZonedDateTimeVerifier and(ZonedDateTime value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a zoned date-time using a {@link
+     * ZonedDateTimeVerifier} while allowing {@code value} to be given an optional friendlier {@code name} for the
+     * {@link VerifierException} message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ZonedDateTime} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link ZonedDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ZonedDateTimeVerifier}.
+     * @see #and(ZonedDateTime)
+     * @see ZonedDateTimeVerifier
+     * @since 0.4.0
+     */
+    ZonedDateTimeVerifier and(ZonedDateTime value, Object name);
+
     /**
      * <p>
      * Starts a new chain for verifying the specified {@code value} of a type that matches the {@link CustomVerifier}
@@ -1060,6 +1398,100 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     <C extends Comparable<? super C>> ComparableVerifier<C> andComparable(C value, Object name);
 
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a UTF-8 encoded byte array using a {@link Utf8Verifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * {@code value} is wrapped in a {@code ByteBuffer} so that it is verified in place without being copied or decoded.
+     * </p>
+     *
+     * @param value
+     *         the {@code byte[]} to be verified (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #andUtf8(byte[], Object)
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    Utf8Verifier andUtf8(byte[] value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a UTF-8 encoded byte array using a {@link Utf8Verifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * {@code value} is wrapped in a {@code ByteBuffer} so that it is verified in place without being copied or decoded.
+     * </p>
+     *
+     * @param value
+     *         the {@code byte[]} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #andUtf8(byte[])
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    Utf8Verifier andUtf8(byte[] value, Object name);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a UTF-8 encoded byte buffer using a {@link Utf8Verifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #andUtf8(ByteBuffer, Object)
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    Utf8Verifier andUtf8(ByteBuffer value);
+
+    /**
+     * <p>
+     * Starts a new chain for verifying the specified {@code value} as a UTF-8 encoded byte buffer using a {@link Utf8Verifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #andUtf8(ByteBuffer)
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    Utf8Verifier andUtf8(ByteBuffer value, Object name);
+
     /**
      * <p>
      * Verifies that the value is equal to the {@code other} provided.
@@ -1169,6 +1601,34 @@ public interface CustomVerifier<T, V extends CustomVerifier<T, V>> {
      */
     V hashedAs(int hashCode);
 
+    /**
+     * <p>
+     * Verifies that the value is held within the {@code values} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #equalToAny(Object...)}, this takes constant time regardless of how many values are being checked
+     * against and so is better suited to large allow-lists, which should be created once and shared.
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).in(null)                                    =&gt; FAIL
+     * Verifier.verify(null).in(ValueSet.of("ghi", "def", null))      =&gt; PASS
+     * Verifier.verify(null).in(ValueSet.of("ghi", "def", "abc"))     =&gt; FAIL
+     * Verifier.verify("abc").in(ValueSet.of("ghi", "def", "abc"))    =&gt; PASS
+     * Verifier.verify("abc").in(ValueSet.of("GHI", "DEF", "ABC"))    =&gt; FAIL
+     * Verifier.verify("abc").in(ValueSet.ofIgnoreCase("GHI", "ABC")) =&gt; PASS
+     * </pre>
+     *
+     * @param values
+     *         the {@link ValueSet} to be checked for the value (may be {@literal null})
+     * @return A reference to this {@link CustomVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see ValueSet#contains(Object)
+     * @since 0.4.0
+     */
+    V in(ValueSet<?> values);
+
     /**
      * <p>
      * Verifies that the value is an instance of the class provided.
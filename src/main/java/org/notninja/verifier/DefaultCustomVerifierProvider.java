@@ -21,17 +21,26 @@
  */
 package org.notninja.verifier;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.notninja.verifier.verification.Verification;
 
 /**
  * <p>
- * The default implementation of {@link CustomVerifierProvider} which uses reflection to instantiate the {@link
- * CustomVerifier} class while requiring that it has a constructor with a single {@link Verification} argument which can
- * be used to pass the current {@link Verification} into the instance upon instantiation.
+ * The default implementation of {@link CustomVerifierProvider} which instantiates the {@link CustomVerifier} class
+ * while requiring that it has a constructor with a single {@link Verification} argument which can be used to pass the
+ * current {@link Verification} into the instance upon instantiation.
+ * </p>
+ * <p>
+ * A factory is created for each {@link CustomVerifier} class only once, when it is first provided, and invokes its
+ * constructor via a {@code MethodHandle} instead of reflection. Factories are held in a {@code ClassValue} so that
+ * looking them up does not require any locking. Alternatively, a factory can be {@link #register(Class, Function)
+ * registered} for a {@link CustomVerifier} class so that it is never looked up using reflection at all.
  * </p>
  *
  * @author Alasdair Mercer
@@ -39,33 +48,108 @@ import org.notninja.verifier.verification.Verification;
  */
 public final class DefaultCustomVerifierProvider implements CustomVerifierProvider {
 
-    private static final Map<Class<?>, Constructor<?>> constructors = new HashMap<>();
+    private static final ClassValue<Function<Verification<?>, ?>> FACTORIES = new ClassValue<Function<Verification<?>, ?>>() {
 
-    private static <T> Constructor<T> getConstructor(final Class<T> cls) throws ReflectiveOperationException {
-        synchronized (constructors) {
-            @SuppressWarnings("unchecked")
-            Constructor<T> constructor = (Constructor<T>) constructors.get(cls);
+        @Override
+        protected Function<Verification<?>, ?> computeValue(final Class<?> type) {
+            final Function<Verification<?>, ?> factory = registeredFactories.get(type);
 
-            if (constructor == null) {
-                constructor = cls.getConstructor(Verification.class);
+            return factory != null ? factory : createFactory(type);
+        }
+    };
 
-                constructors.put(cls, constructor);
-            }
+    private static final Map<Class<?>, Function<Verification<?>, ?>> registeredFactories = new ConcurrentHashMap<>();
 
-            return constructor;
+    private static Function<Verification<?>, ?> createFactory(final Class<?> cls) {
+        final MethodHandle constructor;
+        try {
+            constructor = MethodHandles.lookup()
+                .findConstructor(cls, MethodType.methodType(void.class, Verification.class))
+                .asType(MethodType.methodType(Object.class, Verification.class));
+        } catch (ReflectiveOperationException e) {
+            return verification -> {
+                throw new VerifierException("cls could not be instantiated", e);
+            };
         }
+
+        return verification -> {
+            try {
+                return (Object) constructor.invokeExact((Verification) verification);
+            } catch (Throwable e) {
+                throw new VerifierException("cls could not be instantiated", e);
+            }
+        };
     }
 
-    @Override
-    public <T, V extends CustomVerifier<T, V>> V getCustomVerifier(final Class<V> cls, final Verification<T> verification) {
+    /**
+     * <p>
+     * Registers the specified {@code factory} to be used to create instances of the {@link CustomVerifier} {@code cls}
+     * provided, replacing any factory previously registered for {@code cls}.
+     * </p>
+     * <p>
+     * This is useful for {@link CustomVerifier} classes which do not have a suitable constructor or where they should
+     * be created without any use of reflection.
+     * </p>
+     *
+     * @param cls
+     *         the {@link CustomVerifier} class for which {@code factory} is to be registered
+     * @param factory
+     *         the {@code Function} to be used to create instances of {@code cls} for a given {@link Verification}
+     * @param <T>
+     *         the type of the value to be verified
+     * @param <V>
+     *         the type of the {@link CustomVerifier}
+     * @throws VerifierException
+     *         If either {@code cls} or {@code factory} are {@literal null}.
+     * @see #unregister(Class)
+     * @since 0.4.0
+     */
+    public static <T, V extends CustomVerifier<T, V>> void register(final Class<V> cls, final Function<Verification<T>, V> factory) {
         Verifier.verify(cls, "cls")
             .not().nulled();
+        Verifier.verify(factory, "factory")
+            .not().nulled();
 
-        try {
-            return getConstructor(cls).newInstance(verification);
-        } catch (ReflectiveOperationException e) {
-            throw new VerifierException("cls could not be instantiated", e);
+        @SuppressWarnings("unchecked")
+        final Function<Verification<?>, ?> registeredFactory = (Function<Verification<?>, ?>) (Function<?, ?>) factory;
+
+        registeredFactories.put(cls, registeredFactory);
+        FACTORIES.remove(cls);
+    }
+
+    /**
+     * <p>
+     * Unregisters any factory previously {@link #register(Class, Function) registered} for the {@link CustomVerifier}
+     * {@code cls} provided so that its constructor will be used to create instances of it again.
+     * </p>
+     *
+     * @param cls
+     *         the {@link CustomVerifier} class for which any registered factory is to be removed (may be
+     *         {@literal null})
+     * @return {@literal true} if a factory was registered for {@code cls}; otherwise {@literal false}.
+     * @see #register(Class, Function)
+     * @since 0.4.0
+     */
+    public static boolean unregister(final Class<?> cls) {
+        if (cls == null || registeredFactories.remove(cls) == null) {
+            return false;
+        }
+
+        FACTORIES.remove(cls);
+
+        return true;
+    }
+
+    @Override
+    public <T, V extends CustomVerifier<T, V>> V getCustomVerifier(final Class<V> cls, final Verification<T> verification) {
+        if (cls == null) {
+            throw new VerifierException("cls must not be null");
         }
+
+        @SuppressWarnings("unchecked")
+        final V customVerifier = (V) FACTORIES.get(cls).apply(verification);
+
+        return customVerifier;
     }
 
     @Override
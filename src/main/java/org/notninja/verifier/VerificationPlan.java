@@ -0,0 +1,699 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.message.formatter.Formatter;
+import org.notninja.verifier.verification.Verification;
+import org.notninja.verifier.verification.report.KeyMessageHolder;
+import org.notninja.verifier.verification.report.MessageHolder;
+import org.notninja.verifier.verification.report.StringMessageHolder;
+
+/**
+ * <p>
+ * An immutable and thread-safe plan for verifying many objects of the same type using the same verifications, which is
+ * declared once and then run against each object.
+ * </p>
+ * <p>
+ * A {@code VerificationPlan} is made up of fields, each of which has an accessor for obtaining its value from the
+ * object, a factory for the {@link CustomVerifier} to be used to verify that value (e.g. {@code StringVerifier::new})
+ * and the verifications to be performed on it. Each thread running a {@code VerificationPlan} creates the
+ * {@link Verification} and {@link CustomVerifier} for each field only once and then reuses them for every object, so
+ * running it against an object which passes all verifications creates no objects for the plan itself. The accessors and
+ * verifications may still create objects of their own (e.g. when boxing primitive values or passing varargs).
+ * </p>
+ * <p>
+ * Instead of throwing a {@link VerifierException} as soon as a verification fails, the first failed verification of
+ * each field is recorded in the {@link Result} and its message is only created at that point. All other fields are
+ * still verified.
+ * </p>
+ * <pre>
+ * VerificationPlan&lt;Order&gt; plan = VerificationPlan.&lt;Order&gt;builder()
+ *     .field("id", Order::getId, StringVerifier::new, verifier -&gt; verifier.not().blank())
+ *     .field("quantity", Order::getQuantity, IntegerVerifier::new, verifier -&gt; verifier.positive())
+ *     .build();
+ *
+ * plan.check(order).isPassed()
+ * plan.verify(order)
+ * plan.checkAll(orders).getFailures()
+ * </pre>
+ *
+ * @param <T>
+ *         the type of the objects to be verified
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class VerificationPlan<T> {
+
+    // Must be a multiple of Long.SIZE so that no two chunks ever record their failures in the same word
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * <p>
+     * Returns a {@link Builder} that can be used to declare a {@link VerificationPlan}.
+     * </p>
+     *
+     * @param <T>
+     *         the type of the objects to be verified
+     * @return A new {@link Builder}.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    private static <T> boolean isPassed(final List<Evaluator<T, ?, ?>> fieldEvaluators, final T object) {
+        for (final Evaluator<T, ?, ?> evaluator : fieldEvaluators) {
+            if (!evaluator.test(object)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private final List<Field<T, ?, ?>> fields;
+    private final ThreadLocal<List<Evaluator<T, ?, ?>>> evaluators;
+
+    private VerificationPlan(final List<Field<T, ?, ?>> fields) {
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.evaluators = ThreadLocal.withInitial(this::createEvaluators);
+    }
+
+    /**
+     * <p>
+     * Runs this {@link VerificationPlan} against the specified {@code object}.
+     * </p>
+     * <p>
+     * If {@code object} is {@literal null}, the accessors are not called and the value of each field is considered to
+     * be {@literal null}.
+     * </p>
+     *
+     * @param object
+     *         the object to be verified (may be {@literal null})
+     * @return The {@link Result} which indicates which fields, if any, failed verification.
+     */
+    public Result check(final T object) {
+        final List<Evaluator<T, ?, ?>> fieldEvaluators = evaluators.get();
+        BitSet failures = null;
+        List<String> messages = null;
+
+        for (int i = 0; i < fieldEvaluators.size(); i++) {
+            final String message = fieldEvaluators.get(i).evaluate(object);
+            if (message != null) {
+                if (failures == null) {
+                    failures = new BitSet(fieldEvaluators.size());
+                    messages = new ArrayList<>();
+                }
+
+                failures.set(i);
+                messages.add(message);
+            }
+        }
+
+        return failures != null ? new Result(failures, messages) : Result.PASSED;
+    }
+
+    /**
+     * <p>
+     * Runs this {@link VerificationPlan} against each of the specified {@code objects} in turn.
+     * </p>
+     * <p>
+     * Only whether each object passed is recorded while the objects are being checked, which stops as soon as a field
+     * of that object fails verification. The details of why an object failed are only created when they are requested
+     * from the {@link BatchResult} via {@link BatchResult#getResult(int)}.
+     * </p>
+     *
+     * @param objects
+     *         the {@code List} of objects to be verified (may contain {@literal null} references)
+     * @return The {@link BatchResult} which indicates which objects, if any, failed verification.
+     * @throws VerifierException
+     *         If {@code objects} is {@literal null}.
+     * @see #checkAll(List, boolean)
+     * @since 0.4.0
+     */
+    public BatchResult<T> checkAll(final List<? extends T> objects) {
+        return checkAll(objects, false);
+    }
+
+    /**
+     * <p>
+     * Runs this {@link VerificationPlan} against each of the specified {@code objects}, optionally in parallel.
+     * </p>
+     * <p>
+     * {@code objects} is split into fixed-size chunks which, when {@code parallel} is {@literal true}, are checked
+     * concurrently on the common {@code ForkJoinPool}. Either way, only whether each object passed is recorded while the
+     * objects are being checked and the details of why an object failed are only created when they are requested from
+     * the {@link BatchResult} via {@link BatchResult#getResult(int)}.
+     * </p>
+     * <p>
+     * Since objects are looked up by their index, {@code objects} is first copied if it does not support fast random
+     * access (e.g. a {@code LinkedList}).
+     * </p>
+     *
+     * @param objects
+     *         the {@code List} of objects to be verified (may contain {@literal null} references)
+     * @param parallel
+     *         {@literal true} to check chunks of {@code objects} in parallel; otherwise {@literal false}
+     * @return The {@link BatchResult} which indicates which objects, if any, failed verification.
+     * @throws VerifierException
+     *         If {@code objects} is {@literal null}.
+     * @since 0.4.0
+     */
+    public BatchResult<T> checkAll(final List<? extends T> objects, final boolean parallel) {
+        Verifier.verify(objects, "objects")
+            .not().nulled();
+
+        final List<? extends T> indexedObjects = objects instanceof RandomAccess ? objects : new ArrayList<>(objects);
+        final int chunks = (indexedObjects.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream stream = IntStream.range(0, chunks);
+        if (parallel) {
+            stream = stream.parallel();
+        }
+
+        // Chunks never share a word so all can record their failures in a single array without synchronization
+        final long[] failures = new long[(indexedObjects.size() + Long.SIZE - 1) / Long.SIZE];
+        stream.forEach(chunk -> checkChunk(indexedObjects, chunk, failures));
+
+        return new BatchResult<>(this, indexedObjects, BitSet.valueOf(failures));
+    }
+
+    private void checkChunk(final List<? extends T> objects, final int chunk, final long[] failures) {
+        final List<Evaluator<T, ?, ?>> fieldEvaluators = evaluators.get();
+        final int end = Math.min(objects.size(), (chunk + 1) * CHUNK_SIZE);
+
+        for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+            if (!isPassed(fieldEvaluators, objects.get(i))) {
+                failures[i / Long.SIZE] |= 1L << i;
+            }
+        }
+    }
+
+    private List<Evaluator<T, ?, ?>> createEvaluators() {
+        final List<Evaluator<T, ?, ?>> fieldEvaluators = new ArrayList<>(fields.size());
+        for (final Field<T, ?, ?> field : fields) {
+            fieldEvaluators.add(field.createEvaluator());
+        }
+
+        return fieldEvaluators;
+    }
+
+    /**
+     * <p>
+     * Returns the names of the fields within this {@link VerificationPlan} in the order in which they are verified.
+     * </p>
+     *
+     * @return An unmodifiable {@code List} of field names, which may contain {@literal null} references.
+     */
+    public List<Object> getNames() {
+        final List<Object> names = new ArrayList<>(fields.size());
+        for (final Field<T, ?, ?> field : fields) {
+            names.add(field.name);
+        }
+
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * <p>
+     * Returns the number of fields within this {@link VerificationPlan}.
+     * </p>
+     *
+     * @return The size.
+     */
+    public int getSize() {
+        return fields.size();
+    }
+
+    /**
+     * <p>
+     * Runs this {@link VerificationPlan} against the specified {@code object} and throws a {@link VerifierException}
+     * for the first field that failed verification, if any.
+     * </p>
+     *
+     * @param object
+     *         the object to be verified (may be {@literal null})
+     * @return {@code object} for chaining purposes.
+     * @throws VerifierException
+     *         If any field fails verification.
+     * @see #check(Object)
+     */
+    public T verify(final T object) {
+        final Result result = check(object);
+        if (!result.isPassed()) {
+            throw new VerifierException(result.getMessages().get(0));
+        }
+
+        return object;
+    }
+
+    /**
+     * <p>
+     * The result of running a {@link VerificationPlan} against many objects.
+     * </p>
+     * <p>
+     * Only which objects failed verification is known up front. The {@link Result} containing the details of why an
+     * object failed is created, by running the {@link VerificationPlan} against that object again, only when it is
+     * first requested. Therefore, the objects should not be modified while this {@link BatchResult} is still in use.
+     * </p>
+     *
+     * @param <T>
+     *         the type of the objects that were verified
+     * @since 0.4.0
+     */
+    public static final class BatchResult<T> {
+
+        private final BitSet failures;
+        private final List<? extends T> objects;
+        private final VerificationPlan<T> plan;
+        private final Map<Integer, Result> results = new ConcurrentHashMap<>();
+
+        private BatchResult(final VerificationPlan<T> plan, final List<? extends T> objects, final BitSet failures) {
+            this.plan = plan;
+            this.objects = objects;
+            this.failures = failures;
+        }
+
+        /**
+         * <p>
+         * Returns the number of objects that failed verification.
+         * </p>
+         *
+         * @return The failure count.
+         */
+        public int getFailureCount() {
+            return failures.cardinality();
+        }
+
+        /**
+         * <p>
+         * Returns the indices of the objects that failed verification.
+         * </p>
+         *
+         * @return A {@code BitSet} with a bit set for the index of each failed object.
+         */
+        public BitSet getFailures() {
+            return (BitSet) failures.clone();
+        }
+
+        /**
+         * <p>
+         * Returns the {@link Result} for the object at the specified {@code index}, creating it only if the object
+         * failed verification and it has not already been created.
+         * </p>
+         *
+         * @param index
+         *         the index of the object whose {@link Result} is to be returned
+         * @return The {@link Result} for the object at {@code index}.
+         * @throws IndexOutOfBoundsException
+         *         If {@code index} is out of range.
+         */
+        public Result getResult(final int index) {
+            final T object = objects.get(index);
+            if (!failures.get(index)) {
+                return Result.PASSED;
+            }
+
+            return results.computeIfAbsent(index, key -> plan.check(object));
+        }
+
+        /**
+         * <p>
+         * Returns the number of objects that were verified.
+         * </p>
+         *
+         * @return The size.
+         */
+        public int getSize() {
+            return objects.size();
+        }
+
+        /**
+         * <p>
+         * Returns whether the object at the specified {@code index} failed verification.
+         * </p>
+         *
+         * @param index
+         *         the index of the object to be checked
+         * @return {@literal true} if the object failed verification; otherwise {@literal false}.
+         */
+        public boolean isFailed(final int index) {
+            return failures.get(index);
+        }
+
+        /**
+         * <p>
+         * Returns whether all objects passed verification.
+         * </p>
+         *
+         * @return {@literal true} if no objects failed verification; otherwise {@literal false}.
+         */
+        public boolean isPassed() {
+            return failures.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "BatchResult(" + failures.cardinality() + " of " + objects.size() + " failed)";
+        }
+    }
+
+    /**
+     * <p>
+     * Used to declare the fields for a {@link VerificationPlan}.
+     * </p>
+     *
+     * @param <T>
+     *         the type of the objects to be verified
+     * @since 0.4.0
+     */
+    public static final class Builder<T> {
+
+        private final List<Field<T, ?, ?>> fields = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * <p>
+         * Builds a {@link VerificationPlan} containing all of the fields that have been declared.
+         * </p>
+         * <p>
+         * This {@link Builder} can continue to be used afterwards without affecting the {@link VerificationPlan}.
+         * </p>
+         *
+         * @return The {@link VerificationPlan}.
+         */
+        public VerificationPlan<T> build() {
+            return new VerificationPlan<>(fields);
+        }
+
+        /**
+         * <p>
+         * Declares a field whose value is to be obtained from each object using the {@code accessor} provided and then
+         * verified by passing a {@link CustomVerifier} created using {@code factory} to {@code verifications}.
+         * </p>
+         * <p>
+         * {@code verifications} should only use the {@link CustomVerifier} that is passed to it and should not hold a
+         * reference to it, since it will be reused for other objects.
+         * </p>
+         *
+         * @param name
+         *         the optional name used to represent the field (may be {@literal null})
+         * @param accessor
+         *         the {@code Function} to be used to obtain the value of the field from an object
+         * @param factory
+         *         the {@code Function} to be used to create the {@link CustomVerifier} for the field (e.g.
+         *         {@code StringVerifier::new})
+         * @param verifications
+         *         the {@code Consumer} which performs the verifications for the field
+         * @param <F>
+         *         the type of the value of the field
+         * @param <V>
+         *         the type of the {@link CustomVerifier}
+         * @return A reference to this {@link Builder} for chaining purposes.
+         * @throws VerifierException
+         *         If any of {@code accessor}, {@code factory} or {@code verifications} are {@literal null}.
+         */
+        public <F, V extends CustomVerifier<F, V>> Builder<T> field(final Object name, final Function<? super T, ? extends F> accessor, final Function<Verification<F>, V> factory, final Consumer<? super V> verifications) {
+            Verifier.verify(accessor, "accessor")
+                .not().nulled();
+            Verifier.verify(factory, "factory")
+                .not().nulled();
+            Verifier.verify(verifications, "verifications")
+                .not().nulled();
+
+            fields.add(new Field<>(name, accessor, factory, verifications));
+
+            return this;
+        }
+    }
+
+    /**
+     * <p>
+     * The result of running a {@link VerificationPlan} against an object.
+     * </p>
+     *
+     * @since 0.4.0
+     */
+    public static final class Result {
+
+        private static final Result PASSED = new Result(new BitSet(), Collections.emptyList());
+
+        private final BitSet failures;
+        private final List<String> messages;
+
+        private Result(final BitSet failures, final List<String> messages) {
+            this.failures = failures;
+            this.messages = Collections.unmodifiableList(messages);
+        }
+
+        /**
+         * <p>
+         * Returns the number of fields that failed verification.
+         * </p>
+         *
+         * @return The failure count.
+         */
+        public int getFailureCount() {
+            return messages.size();
+        }
+
+        /**
+         * <p>
+         * Returns the indices of the fields that failed verification.
+         * </p>
+         *
+         * @return A {@code BitSet} with a bit set for the index of each failed field.
+         */
+        public BitSet getFailures() {
+            return (BitSet) failures.clone();
+        }
+
+        /**
+         * <p>
+         * Returns the messages for the first failed verification of each field that failed verification.
+         * </p>
+         *
+         * @return An unmodifiable {@code List} of messages in the order of the failed fields.
+         */
+        public List<String> getMessages() {
+            return messages;
+        }
+
+        /**
+         * <p>
+         * Returns whether the field at the specified {@code index} failed verification.
+         * </p>
+         *
+         * @param index
+         *         the index of the field to be checked
+         * @return {@literal true} if the field failed verification; otherwise {@literal false}.
+         */
+        public boolean isFailed(final int index) {
+            return failures.get(index);
+        }
+
+        /**
+         * <p>
+         * Returns whether all fields passed verification.
+         * </p>
+         *
+         * @return {@literal true} if no fields failed verification; otherwise {@literal false}.
+         */
+        public boolean isPassed() {
+            return messages.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return isPassed() ? "Result(passed)" : "Result(failed" + messages + ")";
+        }
+    }
+
+    private static final class Evaluator<T, F, V extends CustomVerifier<F, V>> {
+
+        private final Field<T, F, V> field;
+        private final PlanVerification<F> verification;
+        private final V verifier;
+
+        Evaluator(final Field<T, F, V> field) {
+            this.field = field;
+            this.verification = new PlanVerification<>(field.name);
+            this.verifier = field.factory.apply(verification);
+        }
+
+        String evaluate(final T object) {
+            return test(object) ? null : verification.getFailureMessage();
+        }
+
+        boolean test(final T object) {
+            verification.reset(object != null ? field.accessor.apply(object) : null);
+            field.verifications.accept(verifier);
+
+            return !verification.isFailed();
+        }
+    }
+
+    private static final class Field<T, F, V extends CustomVerifier<F, V>> {
+
+        private final Function<? super T, ? extends F> accessor;
+        private final Function<Verification<F>, V> factory;
+        private final Object name;
+        private final Consumer<? super V> verifications;
+
+        Field(final Object name, final Function<? super T, ? extends F> accessor, final Function<Verification<F>, V> factory, final Consumer<? super V> verifications) {
+            this.name = name;
+            this.accessor = accessor;
+            this.factory = factory;
+            this.verifications = verifications;
+        }
+
+        Evaluator<T, F, V> createEvaluator() {
+            return new Evaluator<>(this);
+        }
+    }
+
+    private static final class PlanVerification<F> implements Verification<F> {
+
+        private Verification<F> delegate;
+        private MessageHolder failure;
+        private boolean failureNegated;
+        private final Object name;
+        private boolean negated;
+        private F value;
+
+        PlanVerification(final Object name) {
+            this.name = name;
+        }
+
+        @Override
+        public <U> Verification<U> copy(final U value, final Object name) {
+            return getDelegate().copy(value, name);
+        }
+
+        private Verification<F> createVerification(final boolean negated) {
+            final Verification<F> verification = getDelegate().copy(value, name);
+            verification.setNegated(negated);
+
+            return verification;
+        }
+
+        private Verification<F> getDelegate() {
+            if (delegate == null) {
+                delegate = Verifier.getVerification(null, name);
+            }
+
+            return delegate;
+        }
+
+        String getFailureMessage() {
+            return failure.getMessage(createVerification(failureNegated));
+        }
+
+        @Override
+        public Formatter getFormatter(final Object obj) {
+            return getDelegate().getFormatter(obj);
+        }
+
+        @Override
+        public String getMessage(final MessageKey key, final Object... args) {
+            return createVerification(negated).getMessage(key, args);
+        }
+
+        @Override
+        public String getMessage(final String message, final Object... args) {
+            return createVerification(negated).getMessage(message, args);
+        }
+
+        @Override
+        public PlanVerification<F> report(final boolean result, final MessageKey key, final Object... args) {
+            if (result == negated && failure == null) {
+                failure = new KeyMessageHolder(key, args);
+                failureNegated = negated;
+            }
+
+            negated = false;
+
+            return this;
+        }
+
+        @Override
+        public PlanVerification<F> report(final boolean result, final String message, final Object... args) {
+            if (result == negated && failure == null) {
+                failure = new StringMessageHolder(message, args);
+                failureNegated = negated;
+            }
+
+            negated = false;
+
+            return this;
+        }
+
+        void reset(final F value) {
+            this.value = value;
+            this.failure = null;
+            this.failureNegated = false;
+            this.negated = false;
+        }
+
+        @Override
+        public Locale getLocale() {
+            return getDelegate().getLocale();
+        }
+
+        @Override
+        public Object getName() {
+            return name;
+        }
+
+        boolean isFailed() {
+            return failure != null;
+        }
+
+        @Override
+        public boolean isNegated() {
+            return negated;
+        }
+
+        @Override
+        public void setNegated(final boolean negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        public F getValue() {
+            return value;
+        }
+    }
+}
@@ -23,9 +23,17 @@ package org.notninja.verifier;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
@@ -34,16 +42,22 @@ import org.notninja.verifier.type.ArrayVerifier;
 import org.notninja.verifier.type.BigDecimalVerifier;
 import org.notninja.verifier.type.BigIntegerVerifier;
 import org.notninja.verifier.type.BooleanVerifier;
+import org.notninja.verifier.type.ByteBufferVerifier;
 import org.notninja.verifier.type.ByteVerifier;
 import org.notninja.verifier.type.CalendarVerifier;
+import org.notninja.verifier.type.CharSequenceVerifier;
 import org.notninja.verifier.type.CharacterVerifier;
 import org.notninja.verifier.type.ClassVerifier;
 import org.notninja.verifier.type.CollectionVerifier;
 import org.notninja.verifier.type.ComparableVerifier;
 import org.notninja.verifier.type.DateVerifier;
 import org.notninja.verifier.type.DoubleVerifier;
+import org.notninja.verifier.type.DurationVerifier;
 import org.notninja.verifier.type.FloatVerifier;
+import org.notninja.verifier.type.InstantVerifier;
 import org.notninja.verifier.type.IntegerVerifier;
+import org.notninja.verifier.type.LocalDateTimeVerifier;
+import org.notninja.verifier.type.LocalDateVerifier;
 import org.notninja.verifier.type.LocaleVerifier;
 import org.notninja.verifier.type.LongVerifier;
 import org.notninja.verifier.type.MapVerifier;
@@ -51,6 +65,8 @@ import org.notninja.verifier.type.ObjectVerifier;
 import org.notninja.verifier.type.ShortVerifier;
 import org.notninja.verifier.type.StringVerifier;
 import org.notninja.verifier.type.ThrowableVerifier;
+import org.notninja.verifier.type.Utf8Verifier;
+import org.notninja.verifier.type.ZonedDateTimeVerifier;
 import org.notninja.verifier.verification.Verification;
 import org.notninja.verifier.verification.VerificationProvider;
 
@@ -72,6 +88,122 @@ import org.notninja.verifier.verification.VerificationProvider;
  */
 public class Verifier {
 
+    /**
+     * <p>
+     * Runs the specified {@code plan} against each of the specified {@code values} and returns which, if any, failed
+     * verification rather than throwing a {@link VerifierException} for the first value that fails.
+     * </p>
+     * <pre>
+     * Verifier.checkAll(orders, plan).getFailures() =&gt; {1, 4}
+     * Verifier.checkAll(orders, plan).getResult(1)  =&gt; Result(failed[quantity must be positive: -1])
+     * </pre>
+     *
+     * @param values
+     *         the {@code List} of values to be verified (may contain {@literal null} references)
+     * @param plan
+     *         the {@link VerificationPlan} to be run against each of {@code values}
+     * @param <T>
+     *         the type of the values being verified
+     * @return The {@link VerificationPlan.BatchResult} which indicates which of {@code values}, if any, failed
+     * verification.
+     * @throws VerifierException
+     *         If either {@code values} or {@code plan} are {@literal null}.
+     * @see #checkAll(List, VerificationPlan, boolean)
+     * @see VerificationPlan#checkAll(List)
+     * @since 0.4.0
+     */
+    public static <T> VerificationPlan.BatchResult<T> checkAll(final List<? extends T> values, final VerificationPlan<T> plan) {
+        return checkAll(values, plan, false);
+    }
+
+    /**
+     * <p>
+     * Runs the specified {@code plan} against each of the specified {@code values}, optionally in parallel, and returns
+     * which, if any, failed verification rather than throwing a {@link VerifierException} for the first value that
+     * fails.
+     * </p>
+     *
+     * @param values
+     *         the {@code List} of values to be verified (may contain {@literal null} references)
+     * @param plan
+     *         the {@link VerificationPlan} to be run against each of {@code values}
+     * @param parallel
+     *         {@literal true} to verify chunks of {@code values} in parallel; otherwise {@literal false}
+     * @param <T>
+     *         the type of the values being verified
+     * @return The {@link VerificationPlan.BatchResult} which indicates which of {@code values}, if any, failed
+     * verification.
+     * @throws VerifierException
+     *         If either {@code values} or {@code plan} are {@literal null}.
+     * @see #checkAll(List, VerificationPlan)
+     * @see VerificationPlan#checkAll(List, boolean)
+     * @since 0.4.0
+     */
+    public static <T> VerificationPlan.BatchResult<T> checkAll(final List<? extends T> values, final VerificationPlan<T> plan, final boolean parallel) {
+        verify(values, "values")
+            .not().nulled();
+        verify(plan, "plan")
+            .not().nulled();
+
+        return plan.checkAll(values, parallel);
+    }
+
+    /**
+     * <p>
+     * Runs the specified {@code plan} against each of the specified {@code values} and returns which, if any, failed
+     * verification rather than throwing a {@link VerifierException} for the first value that fails.
+     * </p>
+     *
+     * @param values
+     *         the array of values to be verified (may contain {@literal null} references)
+     * @param plan
+     *         the {@link VerificationPlan} to be run against each of {@code values}
+     * @param <T>
+     *         the type of the values being verified
+     * @return The {@link VerificationPlan.BatchResult} which indicates which of {@code values}, if any, failed
+     * verification.
+     * @throws VerifierException
+     *         If either {@code values} or {@code plan} are {@literal null}.
+     * @see #checkAll(Object[], VerificationPlan, boolean)
+     * @since 0.4.0
+     */
+    public static <T> VerificationPlan.BatchResult<T> checkAll(final T[] values, final VerificationPlan<T> plan) {
+        return checkAll(values, plan, false);
+    }
+
+    /**
+     * <p>
+     * Runs the specified {@code plan} against each of the specified {@code values}, optionally in parallel, and returns
+     * which, if any, failed verification rather than throwing a {@link VerifierException} for the first value that
+     * fails.
+     * </p>
+     * <p>
+     * {@code values} is not copied and so should not be modified while the returned
+     * {@link VerificationPlan.BatchResult} is still in use.
+     * </p>
+     *
+     * @param values
+     *         the array of values to be verified (may contain {@literal null} references)
+     * @param plan
+     *         the {@link VerificationPlan} to be run against each of {@code values}
+     * @param parallel
+     *         {@literal true} to verify chunks of {@code values} in parallel; otherwise {@literal false}
+     * @param <T>
+     *         the type of the values being verified
+     * @return The {@link VerificationPlan.BatchResult} which indicates which of {@code values}, if any, failed
+     * verification.
+     * @throws VerifierException
+     *         If either {@code values} or {@code plan} are {@literal null}.
+     * @see #checkAll(Object[], VerificationPlan)
+     * @since 0.4.0
+     */
+    public static <T> VerificationPlan.BatchResult<T> checkAll(final T[] values, final VerificationPlan<T> plan, final boolean parallel) {
+        verify(values, "values")
+            .not().nulled();
+
+        return checkAll(Arrays.asList(values), plan, parallel);
+    }
+
     /**
      * <p>
      * Calls the {@link VerificationProvider VerificationProviders} in order of importance with the specified
@@ -327,6 +459,54 @@ public class Verifier {
         return new ByteVerifier(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a byte buffer using a {@link ByteBufferVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @return A {@link ByteBufferVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ByteBufferVerifier}.
+     * @see #verify(ByteBuffer, Object)
+     * @see ByteBufferVerifier
+     * @since 0.4.0
+     */
+    public static ByteBufferVerifier verify(final ByteBuffer value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a byte buffer using a {@link ByteBufferVerifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link ByteBufferVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ByteBufferVerifier}.
+     * @see #verify(ByteBuffer)
+     * @see ByteBufferVerifier
+     * @since 0.4.0
+     */
+    public static ByteBufferVerifier verify(final ByteBuffer value, final Object name) {
+        return new ByteBufferVerifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Starts a chain for verifying the specified {@code value} as a calendar using a {@link CalendarVerifier}.
@@ -373,6 +553,67 @@ public class Verifier {
         return new CalendarVerifier(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a character sequence using a
+     * {@link CharSequenceVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * Any {@code CharSequence} other than a {@code String}, such as a {@code StringBuilder}, resolves to this method
+     * rather than {@link #verify(Object)} at compile time, so it is verified using a {@link CharSequenceVerifier}
+     * instead of an {@link ObjectVerifier}. Cast {@code value} to {@code Object} where an {@code ObjectVerifier} is
+     * still wanted.
+     * </p>
+     *
+     * @param value
+     *         the {@code CharSequence} to be verified (may be {@literal null})
+     * @return A {@link CharSequenceVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link CharSequenceVerifier}.
+     * @see #verify(CharSequence, Object)
+     * @see CharSequenceVerifier
+     * @since 0.4.0
+     */
+    public static CharSequenceVerifier verify(final CharSequence value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a character sequence using a
+     * {@link CharSequenceVerifier} while allowing {@code value} to be given an optional friendlier {@code name} for the
+     * {@link VerifierException} message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * Any {@code CharSequence} other than a {@code String}, such as a {@code StringBuilder}, resolves to this method
+     * rather than {@link #verify(Object, Object)} at compile time, so it is verified using a {@link
+     * CharSequenceVerifier} instead of an {@link ObjectVerifier}. Cast {@code value} to {@code Object} where an {@code
+     * ObjectVerifier} is still wanted.
+     * </p>
+     *
+     * @param value
+     *         the {@code CharSequence} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link CharSequenceVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link CharSequenceVerifier}.
+     * @see #verify(CharSequence)
+     * @see CharSequenceVerifier
+     * @since 0.4.0
+     */
+    public static CharSequenceVerifier verify(final CharSequence value, final Object name) {
+        return new CharSequenceVerifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Starts a chain for verifying the specified {@code value} as a character using a {@link CharacterVerifier}.
@@ -607,6 +848,54 @@ public class Verifier {
         return new DoubleVerifier(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a duration using a {@link DurationVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Duration} to be verified (may be {@literal null})
+     * @return A {@link DurationVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link DurationVerifier}.
+     * @see #verify(Duration, Object)
+     * @see DurationVerifier
+     * @since 0.4.0
+     */
+    public static DurationVerifier verify(final Duration value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a duration using a {@link DurationVerifier} while
+     * allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException} message
+     * in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Duration} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link DurationVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link DurationVerifier}.
+     * @see #verify(Duration)
+     * @see DurationVerifier
+     * @since 0.4.0
+     */
+    public static DurationVerifier verify(final Duration value, final Object name) {
+        return new DurationVerifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Starts a chain for verifying the specified {@code value} as a float using a {@link FloatVerifier}.
@@ -653,6 +942,54 @@ public class Verifier {
         return new FloatVerifier(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as an instant using an {@link InstantVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Instant} to be verified (may be {@literal null})
+     * @return A {@link InstantVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link InstantVerifier}.
+     * @see #verify(Instant, Object)
+     * @see InstantVerifier
+     * @since 0.4.0
+     */
+    public static InstantVerifier verify(final Instant value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as an instant using an {@link InstantVerifier} while
+     * allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException} message
+     * in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code Instant} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link InstantVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link InstantVerifier}.
+     * @see #verify(Instant)
+     * @see InstantVerifier
+     * @since 0.4.0
+     */
+    public static InstantVerifier verify(final Instant value, final Object name) {
+        return new InstantVerifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Starts a chain for verifying the specified {@code value} as an integer using an {@link IntegerVerifier}.
@@ -699,6 +1036,103 @@ public class Verifier {
         return new IntegerVerifier(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a local date using a {@link LocalDateVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDate} to be verified (may be {@literal null})
+     * @return A {@link LocalDateVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateVerifier}.
+     * @see #verify(LocalDate, Object)
+     * @see LocalDateVerifier
+     * @since 0.4.0
+     */
+    public static LocalDateVerifier verify(final LocalDate value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a local date using a {@link LocalDateVerifier} while
+     * allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException} message
+     * in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDate} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link LocalDateVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateVerifier}.
+     * @see #verify(LocalDate)
+     * @see LocalDateVerifier
+     * @since 0.4.0
+     */
+    public static LocalDateVerifier verify(final LocalDate value, final Object name) {
+        return new LocalDateVerifier(getVerification(value, name));
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a local date-time using a {@link
+     * LocalDateTimeVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDateTime} to be verified (may be {@literal null})
+     * @return A {@link LocalDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateTimeVerifier}.
+     * @see #verify(LocalDateTime, Object)
+     * @see LocalDateTimeVerifier
+     * @since 0.4.0
+     */
+    public static LocalDateTimeVerifier verify(final LocalDateTime value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a local date-time using a {@link
+     * LocalDateTimeVerifier} while allowing {@code value} to be given an optional friendlier {@code name} for the
+     * {@link VerifierException} message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code LocalDateTime} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link LocalDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link LocalDateTimeVerifier}.
+     * @see #verify(LocalDateTime)
+     * @see LocalDateTimeVerifier
+     * @since 0.4.0
+     */
+    public static LocalDateTimeVerifier verify(final LocalDateTime value, final Object name) {
+        return new LocalDateTimeVerifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Starts a chain for verifying the specified {@code value} as a locale using a {@link LocaleVerifier}.
@@ -1039,6 +1473,55 @@ public class Verifier {
         return new ThrowableVerifier(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a zoned date-time using a {@link
+     * ZonedDateTimeVerifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ZonedDateTime} to be verified (may be {@literal null})
+     * @return A {@link ZonedDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ZonedDateTimeVerifier}.
+     * @see #verify(ZonedDateTime, Object)
+     * @see ZonedDateTimeVerifier
+     * @since 0.4.0
+     */
+    public static ZonedDateTimeVerifier verify(final ZonedDateTime value) {
+        return verify(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a zoned date-time using a {@link
+     * ZonedDateTimeVerifier} while allowing {@code value} to be given an optional friendlier {@code name} for the
+     * {@link VerifierException} message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ZonedDateTime} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link ZonedDateTimeVerifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link ZonedDateTimeVerifier}.
+     * @see #verify(ZonedDateTime)
+     * @see ZonedDateTimeVerifier
+     * @since 0.4.0
+     */
+    public static ZonedDateTimeVerifier verify(final ZonedDateTime value, final Object name) {
+        return new ZonedDateTimeVerifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Starts a chain for verifying the specified {@code value} of a type that matches the {@link CustomVerifier}
@@ -1130,6 +1613,108 @@ public class Verifier {
         return new ComparableVerifier<>(getVerification(value, name));
     }
 
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a UTF-8 encoded byte array using a {@link Utf8Verifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * {@code value} is wrapped in a {@code ByteBuffer} so that it is verified in place without being copied or decoded.
+     * </p>
+     *
+     * @param value
+     *         the {@code byte[]} to be verified (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #verifyUtf8(byte[], Object)
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    public static Utf8Verifier verifyUtf8(final byte[] value) {
+        return verifyUtf8(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a UTF-8 encoded byte array using a {@link Utf8Verifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     * <p>
+     * {@code value} is wrapped in a {@code ByteBuffer} so that it is verified in place without being copied or decoded.
+     * </p>
+     *
+     * @param value
+     *         the {@code byte[]} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #verifyUtf8(byte[])
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    public static Utf8Verifier verifyUtf8(final byte[] value, final Object name) {
+        return verifyUtf8(value != null ? ByteBuffer.wrap(value) : null, name);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a UTF-8 encoded byte buffer using a {@link Utf8Verifier}.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #verifyUtf8(ByteBuffer, Object)
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    public static Utf8Verifier verifyUtf8(final ByteBuffer value) {
+        return verifyUtf8(value, null);
+    }
+
+    /**
+     * <p>
+     * Starts a chain for verifying the specified {@code value} as a UTF-8 encoded byte buffer using a {@link Utf8Verifier}
+     * while allowing {@code value} to be given an optional friendlier {@code name} for the {@link VerifierException}
+     * message in the event that one is thrown.
+     * </p>
+     * <p>
+     * If {@code value} fails any subsequent verifications within this chain a {@link VerifierException} will be thrown
+     * immediately by the method for the offending verification.
+     * </p>
+     *
+     * @param value
+     *         the {@code ByteBuffer} to be verified (may be {@literal null})
+     * @param name
+     *         the optional name used to represent {@code value} (may be {@literal null})
+     * @return A {@link Utf8Verifier} to be used to verify {@code value}.
+     * @throws VerifierException
+     *         If a problem occurs while setting up the {@link Utf8Verifier}.
+     * @see #verifyUtf8(ByteBuffer)
+     * @see Utf8Verifier
+     * @since 0.4.0
+     */
+    public static Utf8Verifier verifyUtf8(final ByteBuffer value, final Object name) {
+        return new Utf8Verifier(getVerification(value, name));
+    }
+
     /**
      * <p>
      * Creates an instance of {@link Verifier}.
@@ -23,9 +23,9 @@ package org.notninja.verifier.message;
 
 import java.text.MessageFormat;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.notninja.verifier.message.formatter.Formatter;
 import org.notninja.verifier.util.ArrayUtils;
@@ -51,6 +51,11 @@ import org.notninja.verifier.verification.Verification;
  * {@link Verification}) and this class allows these, and anything else cached by child implementations, to be cleared
  * easily using {@link #clearCache()}.
  * </p>
+ * <p>
+ * No locks are held while {@code MessageFormats} are being created or used to format messages, so that many threads
+ * failing verification at once do not block each other. Since {@code MessageFormat} is not thread-safe, cached
+ * instances are copied before being used to format a message.
+ * </p>
  *
  * @author Alasdair Mercer
  * @since 0.2.0
@@ -67,8 +72,13 @@ public abstract class AbstractMessageSource implements MessageSource {
 
     private static final Object[] EMPTY_ARRAY = new Object[0];
 
+    private static String format(final MessageFormat messageFormat, final Object[] args) {
+        // MessageFormat is not thread-safe so a copy is used rather than locking on the shared instance
+        return ((MessageFormat) messageFormat.clone()).format(args);
+    }
+
     private boolean alwaysUseMessageFormat;
-    private final Map<String, Map<Locale, MessageFormat>> messageFormatsPerMessage = new HashMap<>();
+    private final Map<String, Map<Locale, MessageFormat>> messageFormatsPerMessage = new ConcurrentHashMap<>();
     private boolean useKeyAsDefaultMessage;
 
     /**
@@ -102,9 +112,7 @@ public abstract class AbstractMessageSource implements MessageSource {
      * </p>
      */
     public void clearCache() {
-        synchronized (messageFormatsPerMessage) {
-            messageFormatsPerMessage.clear();
-        }
+        messageFormatsPerMessage.clear();
     }
 
     /**
@@ -162,40 +170,32 @@ public abstract class AbstractMessageSource implements MessageSource {
         }
 
         final Locale locale = verification.getLocale();
-        MessageFormat messageFormat = null;
-
-        synchronized (messageFormatsPerMessage) {
-            Map<Locale, MessageFormat> messageFormatsPerLocale = messageFormatsPerMessage.get(message);
 
-            if (messageFormatsPerLocale != null) {
-                messageFormat = messageFormatsPerLocale.get(locale);
-            } else {
-                messageFormatsPerLocale = new HashMap<>();
-                messageFormatsPerMessage.put(message, messageFormatsPerLocale);
-            }
-
-            if (messageFormat == null) {
-                try {
-                    messageFormat = createMessageFormat(message, verification);
-                } catch (IllegalArgumentException e) {
-                    if (isAlwaysUseMessageFormat()) {
-                        throw e;
-                    }
+        Map<Locale, MessageFormat> messageFormatsPerLocale = messageFormatsPerMessage.get(message);
+        if (messageFormatsPerLocale == null) {
+            messageFormatsPerLocale = messageFormatsPerMessage.computeIfAbsent(message, k -> new ConcurrentHashMap<>());
+        }
 
-                    messageFormat = INVALID_MESSAGE_FORMAT;
+        MessageFormat messageFormat = messageFormatsPerLocale.get(locale);
+        if (messageFormat == null) {
+            try {
+                messageFormat = createMessageFormat(message, verification);
+            } catch (IllegalArgumentException e) {
+                if (isAlwaysUseMessageFormat()) {
+                    throw e;
                 }
 
-                messageFormatsPerLocale.put(locale, messageFormat);
+                messageFormat = INVALID_MESSAGE_FORMAT;
             }
+
+            messageFormatsPerLocale.put(locale, messageFormat);
         }
 
         if (messageFormat == INVALID_MESSAGE_FORMAT) {
             return message;
         }
 
-        synchronized (messageFormat) {
-            return messageFormat.format(resolveArguments(args, verification));
-        }
+        return format(messageFormat, resolveArguments(args, verification));
     }
 
     /**
@@ -341,9 +341,7 @@ public abstract class AbstractMessageSource implements MessageSource {
         final Object[] resolvedArgs = resolveArguments(args, verification);
         final MessageFormat messageFormat = resolveKey(key, verification);
         if (messageFormat != null) {
-            synchronized (messageFormat) {
-                return messageFormat.format(resolvedArgs);
-            }
+            return format(messageFormat, resolvedArgs);
         }
 
         return null;
@@ -458,9 +456,7 @@ public abstract class AbstractMessageSource implements MessageSource {
     protected String resolveKeyWithoutArguments(final MessageKey key, final Verification<?> verification) {
         final MessageFormat messageFormat = resolveKey(key, verification);
         if (messageFormat != null) {
-            synchronized (messageFormat) {
-                return messageFormat.format(EMPTY_ARRAY);
-            }
+            return format(messageFormat, EMPTY_ARRAY);
         }
 
         return null;
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.message;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * A collection of messages for a single {@code Locale} which can be looked up using {@link MessageKey MessageKeys}
+ * without any of the overhead involved in looking them up from {@code ResourceBundles}.
+ * </p>
+ * <p>
+ * Each message is resolved only when it is first looked up and is then held by its code so that it is never resolved
+ * again. Missing messages are held explicitly so that they are as cheap to look up as those that exist. When a
+ * {@link MessageKey} is an enum, the message is also held in a slot indexed by its ordinal so that subsequent lookups
+ * do not even require hashing its code.
+ * </p>
+ * <p>
+ * The {@code MessageFormat} for each message is also created only once when it is first needed, however, since
+ * {@code MessageFormat} is not thread-safe, it must be copied before being used to format a message.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class MessageCatalog {
+
+    private static final Entry MISSING = new Entry(null);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Entry[]> entriesPerEnum = new ConcurrentHashMap<>();
+    private final Locale locale;
+    private final Function<? super MessageKey, String> resolver;
+
+    /**
+     * <p>
+     * Creates an instance of {@link MessageCatalog} for the {@code locale} which uses the {@code resolver} provided to
+     * resolve each message when it is first looked up.
+     * </p>
+     * <p>
+     * {@code resolver} may be called concurrently, but never more than once for the same code, and should return
+     * {@literal null} if there is no message for a {@link MessageKey}.
+     * </p>
+     *
+     * @param locale
+     *         the {@code Locale} of the messages
+     * @param resolver
+     *         the {@code Function} to be used to resolve the message for a {@link MessageKey}
+     */
+    public MessageCatalog(final Locale locale, final Function<? super MessageKey, String> resolver) {
+        this.locale = locale;
+        this.resolver = resolver;
+    }
+
+    private Entry createEntry(final MessageKey key) {
+        final String message = resolver.apply(key);
+
+        return message != null ? new Entry(message) : MISSING;
+    }
+
+    private Entry getEntry(final MessageKey key) {
+        if (key instanceof Enum) {
+            final Enum<?> constant = (Enum<?>) key;
+
+            Entry[] enumEntries = entriesPerEnum.get(constant.getDeclaringClass());
+            if (enumEntries == null) {
+                enumEntries = entriesPerEnum.computeIfAbsent(constant.getDeclaringClass(), type -> new Entry[type.getEnumConstants().length]);
+            }
+
+            // Entries are immutable apart from their volatile MessageFormat so racing to fill a slot is harmless
+            Entry entry = enumEntries[constant.ordinal()];
+            if (entry == null) {
+                entry = getEntryForCode(key);
+                enumEntries[constant.ordinal()] = entry;
+            }
+
+            return entry;
+        }
+
+        return getEntryForCode(key);
+    }
+
+    private Entry getEntryForCode(final MessageKey key) {
+        final String code = key.code();
+        final Entry entry = entries.get(code);
+
+        return entry != null ? entry : entries.computeIfAbsent(code, k -> createEntry(key));
+    }
+
+    /**
+     * <p>
+     * Returns the {@code Locale} of the messages within this {@link MessageCatalog}.
+     * </p>
+     *
+     * @return The {@code Locale}.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * <p>
+     * Returns the message for the specified {@code key}, resolving it only if it has not already been resolved.
+     * </p>
+     *
+     * @param key
+     *         the {@link MessageKey} of the message to be returned
+     * @return The message for {@code key} or {@literal null} if this {@link MessageCatalog} contains no message for it.
+     */
+    public String getMessage(final MessageKey key) {
+        return getEntry(key).message;
+    }
+
+    /**
+     * <p>
+     * Returns a {@code MessageFormat} for the message for the specified {@code key}, using the {@code factory} provided
+     * to create it only if one has not already been created.
+     * </p>
+     *
+     * @param key
+     *         the {@link MessageKey} of the message whose {@code MessageFormat} is to be returned
+     * @param factory
+     *         the {@code Function} to be used to create a {@code MessageFormat} for the message
+     * @return The {@code MessageFormat} for the message for {@code key} or {@literal null} if this
+     * {@link MessageCatalog} contains no message for it.
+     * @throws IllegalArgumentException
+     *         If {@code factory} cannot create a {@code MessageFormat} for the message (e.g. it is an invalid format
+     *         pattern).
+     */
+    public MessageFormat getMessageFormat(final MessageKey key, final Function<String, MessageFormat> factory) {
+        final Entry entry = getEntry(key);
+        if (entry.message == null) {
+            return null;
+        }
+
+        MessageFormat messageFormat = entry.messageFormat;
+        if (messageFormat == null) {
+            messageFormat = factory.apply(entry.message);
+            entry.messageFormat = messageFormat;
+        }
+
+        return messageFormat;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageCatalog(" + locale + ")";
+    }
+
+    private static final class Entry {
+
+        private final String message;
+        private volatile MessageFormat messageFormat;
+
+        Entry(final String message) {
+            this.message = message;
+        }
+    }
+}
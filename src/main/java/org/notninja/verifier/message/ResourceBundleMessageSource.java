@@ -22,15 +22,18 @@
 package org.notninja.verifier.message;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.notninja.verifier.verification.Verification;
 
@@ -40,10 +43,20 @@ import org.notninja.verifier.verification.Verification;
  * configurable {@code ResourceBundles} with support for multiple base names.
  * </p>
  * <p>
+ * Messages are resolved from a {@link MessageCatalog}, which is created once for each {@code Locale} and looks up each
+ * message from the {@code ResourceBundles} for all base names only when it is first requested, so that looking it up
+ * again does not involve walking bundles or handling a {@code MissingResourceException} when a base name lacks the
+ * key. Earlier base names take precedence over later ones.
+ * </p>
+ * <p>
  * All created {@code MessageFormats} are cached based on the message and {@code Locale} (provided by the current
- * {@link Verification}) and all loaded {@code ResourceBundles} are cached based on the base name and {@code Locale},
- * which this class allows, as well as anything else cached by child implementations, to be cleared easily using
- * {@link #clearCache()}.
+ * {@link Verification}), all loaded {@code ResourceBundles} are cached based on the base name and {@code Locale}, and
+ * all built {@code MessageCatalogs} are cached based on the {@code Locale}, which this class allows, as well as
+ * anything else cached by child implementations, to be cleared easily using {@link #clearCache()}.
+ * </p>
+ * <p>
+ * These caches are safe to be used concurrently and no locks are held while {@code ResourceBundles} are being loaded,
+ * so threads resolving messages are never blocked waiting for another thread to read a bundle.
  * </p>
  *
  * @author Alasdair Mercer
@@ -55,8 +68,10 @@ public class ResourceBundleMessageSource extends AbstractMessageSource {
     public static final String[] DEFAULT_BASE_NAMES = {"Verifier"};
 
     private final Set<String> baseNames;
-    private final Map<ResourceBundle, Map<MessageKey, Map<Locale, MessageFormat>>> messageFormatsPerResourceBundle = new HashMap<>();
-    private final Map<String, Map<Locale, ResourceBundle>> resourceBundlesPerBaseName = new HashMap<>();
+    private volatile List<String> messageCatalogBaseNames = new ArrayList<>();
+    private final Map<Locale, MessageCatalog> messageCatalogs = new ConcurrentHashMap<>();
+    private final Map<ResourceBundle, Map<MessageKey, Map<Locale, MessageFormat>>> messageFormatsPerResourceBundle = new ConcurrentHashMap<>();
+    private final Map<String, Map<Locale, ResourceBundle>> resourceBundlesPerBaseName = new ConcurrentHashMap<>();
 
     /**
      * <p>
@@ -111,12 +126,47 @@ public class ResourceBundleMessageSource extends AbstractMessageSource {
     public void clearCache() {
         super.clearCache();
 
-        synchronized (messageFormatsPerResourceBundle) {
-            messageFormatsPerResourceBundle.clear();
-        }
-        synchronized (resourceBundlesPerBaseName) {
-            resourceBundlesPerBaseName.clear();
+        messageCatalogs.clear();
+        messageFormatsPerResourceBundle.clear();
+        resourceBundlesPerBaseName.clear();
+    }
+
+    /**
+     * <p>
+     * Creates a message catalog which resolves messages from the resource bundles for all base names using the
+     * {@code verification} provided.
+     * </p>
+     * <p>
+     * The resource bundles are loaded immediately, but each message is only looked up when it is first requested from
+     * the catalog, using {@link #getStringOrNull(ResourceBundle, MessageKey)} on each resource bundle in turn. Where
+     * more than one resource bundle contains a message for the same code, the message from the resource bundle for the
+     * earliest base name is used.
+     * </p>
+     *
+     * @param verification
+     *         the current {@link Verification}
+     * @return A {@link MessageCatalog} for the current {@code Locale}.
+     * @since 0.4.0
+     */
+    protected MessageCatalog createMessageCatalog(final Verification<?> verification) {
+        final List<ResourceBundle> bundles = new ArrayList<>();
+        for (final String baseName : getBaseNames()) {
+            final ResourceBundle bundle = getResourceBundle(baseName, verification);
+            if (bundle != null) {
+                bundles.add(bundle);
+            }
         }
+
+        return new MessageCatalog(verification.getLocale(), key -> {
+            for (final ResourceBundle bundle : bundles) {
+                final String message = getStringOrNull(bundle, key);
+                if (message != null) {
+                    return message;
+                }
+            }
+
+            return null;
+        });
     }
 
     @Override
@@ -141,6 +191,39 @@ public class ResourceBundleMessageSource extends AbstractMessageSource {
         return defaultName;
     }
 
+    /**
+     * <p>
+     * Returns a message catalog containing the messages from the resource bundles for all base names using the
+     * {@code verification} provided.
+     * </p>
+     * <p>
+     * All {@code MessageCatalogs} that are built by this method are cached based on the {@code Locale} contained within
+     * {@code verification} to optimize subsequent calls to this method for the same {@code Locale}. They are discarded
+     * whenever the base names are changed.
+     * </p>
+     *
+     * @param verification
+     *         the current {@link Verification}
+     * @return The {@link MessageCatalog} for the current {@code Locale}.
+     * @see #createMessageCatalog(Verification)
+     * @since 0.4.0
+     */
+    protected MessageCatalog getMessageCatalog(final Verification<?> verification) {
+        if (!isMessageCatalogBaseNames()) {
+            messageCatalogs.clear();
+            messageCatalogBaseNames = new ArrayList<>(baseNames);
+        }
+
+        final Locale locale = verification.getLocale();
+        MessageCatalog messageCatalog = messageCatalogs.get(locale);
+        if (messageCatalog == null) {
+            messageCatalog = createMessageCatalog(verification);
+            messageCatalogs.put(locale, messageCatalog);
+        }
+
+        return messageCatalog;
+    }
+
     /**
      * <p>
      * Resolves the message for the specified {@code key} by looking up its string value from the resource
@@ -166,42 +249,42 @@ public class ResourceBundleMessageSource extends AbstractMessageSource {
      * @throws IllegalArgumentException
      *         If the resolved message is formatted but is an invalid format pattern or any of the format {@code args}
      *         are invalid for their placeholders.
+     * @deprecated Messages are now resolved from a {@link MessageCatalog} so this method is no longer called when
+     * resolving a {@link MessageKey}. Override {@link #getStringOrNull(ResourceBundle, MessageKey)} or
+     * {@link #createMessageCatalog(Verification)} instead.
      */
+    @Deprecated
     protected MessageFormat getMessageFormat(final ResourceBundle bundle, final MessageKey key, final Verification<?> verification) {
         final Locale locale = verification.getLocale();
-        MessageFormat messageFormat = null;
-
-        synchronized (messageFormatsPerResourceBundle) {
-            Map<MessageKey, Map<Locale, MessageFormat>> messageFormatsPerMessageKey = messageFormatsPerResourceBundle.get(bundle);
-            Map<Locale, MessageFormat> messageFormatsPerLocale = null;
-
-            if (messageFormatsPerMessageKey != null) {
-                messageFormatsPerLocale = messageFormatsPerMessageKey.get(key);
-                if (messageFormatsPerLocale != null) {
-                    messageFormat = messageFormatsPerLocale.get(locale);
-                    if (messageFormat != null) {
-                        return messageFormat;
-                    }
-                }
-            }
 
-            final String message = getStringOrNull(bundle, key);
+        Map<MessageKey, Map<Locale, MessageFormat>> messageFormatsPerMessageKey = messageFormatsPerResourceBundle.get(bundle);
+        Map<Locale, MessageFormat> messageFormatsPerLocale = null;
 
-            if (message != null) {
-                if (messageFormatsPerMessageKey == null) {
-                    messageFormatsPerMessageKey = new HashMap<>();
-                    messageFormatsPerResourceBundle.put(bundle, messageFormatsPerMessageKey);
-                }
-                if (messageFormatsPerLocale == null) {
-                    messageFormatsPerLocale = new HashMap<>();
-                    messageFormatsPerMessageKey.put(key, messageFormatsPerLocale);
+        if (messageFormatsPerMessageKey != null) {
+            messageFormatsPerLocale = messageFormatsPerMessageKey.get(key);
+            if (messageFormatsPerLocale != null) {
+                final MessageFormat messageFormat = messageFormatsPerLocale.get(locale);
+                if (messageFormat != null) {
+                    return messageFormat;
                 }
-
-                messageFormat = createMessageFormat(message, verification);
-                messageFormatsPerLocale.put(locale, messageFormat);
             }
         }
 
+        final String message = getStringOrNull(bundle, key);
+        if (message == null) {
+            return null;
+        }
+
+        if (messageFormatsPerMessageKey == null) {
+            messageFormatsPerMessageKey = messageFormatsPerResourceBundle.computeIfAbsent(bundle, k -> new ConcurrentHashMap<>());
+        }
+        if (messageFormatsPerLocale == null) {
+            messageFormatsPerLocale = messageFormatsPerMessageKey.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        }
+
+        final MessageFormat messageFormat = createMessageFormat(message, verification);
+        messageFormatsPerLocale.put(locale, messageFormat);
+
         return messageFormat;
     }
 
@@ -228,33 +311,30 @@ public class ResourceBundleMessageSource extends AbstractMessageSource {
      */
     protected ResourceBundle getResourceBundle(final String baseName, final Verification<?> verification) {
         final Locale locale = verification.getLocale();
-        ResourceBundle bundle;
-
-        synchronized (resourceBundlesPerBaseName) {
-            Map<Locale, ResourceBundle> resourceBundlesPerLocale = resourceBundlesPerBaseName.get(baseName);
 
-            if (resourceBundlesPerLocale != null) {
-                bundle = resourceBundlesPerLocale.get(locale);
-                if (bundle != null) {
-                    return bundle;
-                }
+        Map<Locale, ResourceBundle> resourceBundlesPerLocale = resourceBundlesPerBaseName.get(baseName);
+        if (resourceBundlesPerLocale != null) {
+            final ResourceBundle bundle = resourceBundlesPerLocale.get(locale);
+            if (bundle != null) {
+                return bundle;
             }
+        }
 
-            try {
-                bundle = getResourceBundleInternal(baseName, locale);
+        // Load outside of any lock so that threads are not blocked while the bundle is read
+        final ResourceBundle bundle;
+        try {
+            bundle = getResourceBundleInternal(baseName, locale);
+        } catch (MissingResourceException e) {
+            return null;
+        }
 
-                if (resourceBundlesPerLocale == null) {
-                    resourceBundlesPerLocale = new HashMap<>();
-                    resourceBundlesPerBaseName.put(baseName, resourceBundlesPerLocale);
-                }
+        if (resourceBundlesPerLocale == null) {
+            resourceBundlesPerLocale = resourceBundlesPerBaseName.computeIfAbsent(baseName, k -> new ConcurrentHashMap<>());
+        }
 
-                resourceBundlesPerLocale.put(locale, bundle);
+        resourceBundlesPerLocale.put(locale, bundle);
 
-                return bundle;
-            } catch (MissingResourceException e) {
-                return null;
-            }
-        }
+        return bundle;
     }
 
     /**
@@ -302,34 +382,25 @@ public class ResourceBundleMessageSource extends AbstractMessageSource {
         }
     }
 
-    @Override
-    protected MessageFormat resolveKey(final MessageKey key, final Verification<?> verification) {
-        for (final String baseName : getBaseNames()) {
-            final ResourceBundle bundle = getResourceBundle(baseName, verification);
-            if (bundle != null) {
-                final MessageFormat messageFormat = getMessageFormat(bundle, key, verification);
-                if (messageFormat != null) {
-                    return messageFormat;
-                }
+    private boolean isMessageCatalogBaseNames() {
+        final Iterator<String> iterator = messageCatalogBaseNames.iterator();
+        for (final String baseName : baseNames) {
+            if (!iterator.hasNext() || !iterator.next().equals(baseName)) {
+                return false;
             }
         }
 
-        return null;
+        return !iterator.hasNext();
     }
 
     @Override
-    protected String resolveKeyWithoutArguments(final MessageKey key, final Verification<?> verification) {
-        for (final String baseName : getBaseNames()) {
-            final ResourceBundle bundle = getResourceBundle(baseName, verification);
-            if (bundle != null) {
-                final String message = getStringOrNull(bundle, key);
-                if (message != null) {
-                    return message;
-                }
-            }
-        }
+    protected MessageFormat resolveKey(final MessageKey key, final Verification<?> verification) {
+        return getMessageCatalog(verification).getMessageFormat(key, message -> createMessageFormat(message, verification));
+    }
 
-        return null;
+    @Override
+    protected String resolveKeyWithoutArguments(final MessageKey key, final Verification<?> verification) {
+        return getMessageCatalog(verification).getMessage(key);
     }
 
     /**
@@ -21,8 +21,11 @@
  */
 package org.notninja.verifier.message.formatter;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.notninja.verifier.util.ArrayUtils;
 
@@ -40,7 +43,20 @@ public final class CollectionFormatter extends HierarchicalFormatter {
 
     @Override
     protected Collection<Object> getChildren(final Object parent) {
-        return ArrayUtils.isArray(parent) ? Arrays.asList((Object[]) parent) : (Collection) parent;
+        if (parent instanceof Object[]) {
+            return Arrays.asList((Object[]) parent);
+        }
+        if (ArrayUtils.isArray(parent)) {
+            final int length = Array.getLength(parent);
+            final List<Object> children = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                children.add(Array.get(parent, i));
+            }
+
+            return children;
+        }
+
+        return (Collection) parent;
     }
 
     @Override
@@ -22,10 +22,8 @@
 package org.notninja.verifier.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.function.Function;
 
@@ -58,6 +56,11 @@ import org.notninja.verifier.service.Weighted.WeightedComparator;
  * <pre>
  * com.example.verifier.MyCustomLocaleContextProvider
  * </pre>
+ * <p>
+ * The implementations of each service are only loaded, and {@link Weighted} services only sorted, once when they are
+ * first looked up and are then held in a {@code ClassValue} so that looking them up again does not require any
+ * locking.
+ * </p>
  *
  * @author Alasdair Mercer
  * @since 0.2.0
@@ -66,7 +69,33 @@ public final class Services {
 
     private static final WeightedComparator WEIGHTED_COMPARATOR = new WeightedComparator();
 
-    private static final Map<Class, ServiceLoader> cache = new HashMap<>();
+    private static final ClassValue<List<?>> SERVICES = new ClassValue<List<?>>() {
+
+        @Override
+        protected List<?> computeValue(final Class<?> type) {
+            final List<Object> instances = new ArrayList<>();
+            for (final Object instance : ServiceLoader.load(type)) {
+                instances.add(instance);
+            }
+
+            return Collections.unmodifiableList(instances);
+        }
+    };
+
+    private static final ClassValue<List<?>> WEIGHTED_SERVICES = new ClassValue<List<?>>() {
+
+        @Override
+        protected List<?> computeValue(final Class<?> type) {
+            final List<Weighted> instances = new ArrayList<>();
+            for (final Object instance : SERVICES.get(type)) {
+                instances.add((Weighted) instance);
+            }
+
+            instances.sort(WEIGHTED_COMPARATOR);
+
+            return Collections.unmodifiableList(instances);
+        }
+    };
 
     /**
      * <p>
@@ -97,7 +126,7 @@ public final class Services {
      * @see #findFirstNonNullForWeightedService(Class, Function)
      */
     public static <T, R> R findFirstNonNullForService(final Class<T> service, final Function<T, R> mapper) {
-        for (final T instance : getServiceLoader(service)) {
+        for (final T instance : getCachedServices(service)) {
             final R result = mapper.apply(instance);
             if (result != null) {
                 return result;
@@ -133,7 +162,7 @@ public final class Services {
      * @see #findFirstNonNullForService(Class, Function)
      */
     public static <T extends Weighted, R> R findFirstNonNullForWeightedService(final Class<T> service, final Function<T, R> mapper) {
-        for (final T instance : getWeightedServices(service)) {
+        for (final T instance : getCachedWeightedServices(service)) {
             final R result = mapper.apply(instance);
             if (result != null) {
                 return result;
@@ -143,6 +172,16 @@ public final class Services {
         return null;
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> getCachedServices(final Class<T> service) {
+        return (List<T>) SERVICES.get(service);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Weighted> List<T> getCachedWeightedServices(final Class<T> service) {
+        return (List<T>) WEIGHTED_SERVICES.get(service);
+    }
+
     /**
      * <p>
      * Returns the first registered implementation of the specified {@code service}.
@@ -162,9 +201,9 @@ public final class Services {
      * @see #getWeightedService(Class)
      */
     public static <T> T getService(final Class<T> service) {
-        final Iterator<T> iterator = getServiceLoader(service).iterator();
-        if (iterator.hasNext()) {
-            return iterator.next();
+        final List<T> instances = getCachedServices(service);
+        if (!instances.isEmpty()) {
+            return instances.get(0);
         }
 
         throw new ServiceNotFoundException(service);
@@ -186,12 +225,7 @@ public final class Services {
      * @see #getWeightedServices(Class)
      */
     public static <T> List<T> getServices(final Class<T> service) {
-        final List<T> instances = new ArrayList<>();
-        for (final T instance : getServiceLoader(service)) {
-            instances.add(instance);
-        }
-
-        return instances;
+        return new ArrayList<>(getCachedServices(service));
     }
 
     /**
@@ -213,7 +247,7 @@ public final class Services {
      * @see #getWeightedServices(Class)
      */
     public static <T extends Weighted> T getWeightedService(final Class<T> service) {
-        final List<T> instances = getWeightedServices(service);
+        final List<T> instances = getCachedWeightedServices(service);
         if (!instances.isEmpty()) {
             return instances.get(0);
         }
@@ -237,15 +271,7 @@ public final class Services {
      * @see #getWeightedService(Class)
      */
     public static <T extends Weighted> List<T> getWeightedServices(final Class<T> service) {
-        final List<T> instances = getServices(service);
-        instances.sort(WEIGHTED_COMPARATOR);
-
-        return instances;
-    }
-
-    @SuppressWarnings("unchecked")
-    private static <T> ServiceLoader<T> getServiceLoader(final Class<T> service) {
-        return (ServiceLoader<T>) cache.computeIfAbsent(service, k -> ServiceLoader.load(service));
+        return new ArrayList<>(getCachedWeightedServices(service));
     }
 
     /**
@@ -23,6 +23,8 @@ package org.notninja.verifier.type;
 
 import java.math.BigDecimal;
 
+import org.notninja.verifier.VerifierException;
+import org.notninja.verifier.message.MessageKey;
 import org.notninja.verifier.type.base.BaseComparableVerifier;
 import org.notninja.verifier.type.base.BaseNumberVerifier;
 import org.notninja.verifier.type.base.BaseTruthVerifier;
@@ -38,11 +40,50 @@ import org.notninja.verifier.verification.Verification;
  * {@literal null} and {@code BigDecimal.ZERO} are <b>always</b> considered to be falsy and {@code BigDecimal.ONE} is
  * <b>always</b> considered to be truthy.
  * </p>
+ * <p>
+ * Verifications work on the existing representation of the value (i.e. its unscaled value and scale) and avoid creating
+ * new {@code BigDecimal} or {@code BigInteger} instances wherever possible.
+ * </p>
  *
  * @author Alasdair Mercer
  */
 public final class BigDecimalVerifier extends BaseComparableVerifier<BigDecimal, BigDecimalVerifier> implements BaseNumberVerifier<BigDecimal, BigDecimalVerifier> {
 
+    private static final int LONG_PRECISION = 19;
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+
+    private static BigDecimal getIntegralValue(final BigDecimal value) {
+        if (value.scale() <= 0) {
+            return value;
+        }
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        // Non-zero values whose digits are all after the decimal point cannot be integral
+        if (value.precision() <= value.scale()) {
+            return null;
+        }
+
+        final BigDecimal stripped = value.stripTrailingZeros();
+
+        return stripped.scale() <= 0 ? stripped : null;
+    }
+
+    private static boolean isLong(final BigDecimal integralValue) {
+        final long digits = (long) integralValue.precision() - integralValue.scale();
+        if (digits < LONG_PRECISION) {
+            return true;
+        }
+
+        return digits == LONG_PRECISION && integralValue.compareTo(LONG_MIN) >= 0 && integralValue.compareTo(LONG_MAX) <= 0;
+    }
+
+    private static boolean isOdd(final BigDecimal integralValue) {
+        // Integral values with a negative scale are multiples of ten and so are always even
+        return integralValue.scale() == 0 && (integralValue.longValue() & 1) != 0;
+    }
+
     /**
      * <p>
      * Creates an instance of {@link BigDecimalVerifier} based on the {@code verification} provided.
@@ -58,7 +99,8 @@ public final class BigDecimalVerifier extends BaseComparableVerifier<BigDecimal,
     @Override
     public BigDecimalVerifier even() {
         final BigDecimal value = verification().getValue();
-        final boolean result = value != null && !value.stripTrailingZeros().unscaledValue().testBit(0);
+        final BigDecimal integralValue = value != null ? getIntegralValue(value) : null;
+        final boolean result = integralValue != null && !isOdd(integralValue);
 
         verification().report(result, BaseNumberVerifier.MessageKeys.EVEN);
 
@@ -68,17 +110,77 @@ public final class BigDecimalVerifier extends BaseComparableVerifier<BigDecimal,
     @Override
     public BigDecimalVerifier falsy() {
         final BigDecimal value = verification().getValue();
-        final boolean result = value == null || value.compareTo(BigDecimal.ZERO) == 0;
+        final boolean result = value == null || value.signum() == 0;
 
         verification().report(result, BaseTruthVerifier.MessageKeys.FALSY);
 
         return this;
     }
 
+    /**
+     * <p>
+     * Verifies that the value is integral and within the range of a {@code long}, which means that it can be converted
+     * to a {@code long} without losing any information.
+     * </p>
+     * <pre>
+     * Verifier.verify((BigDecimal) null).fitsInLong()                      =&gt; FAIL
+     * Verifier.verify(new BigDecimal("123")).fitsInLong()                  =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.00")).fitsInLong()               =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.45")).fitsInLong()               =&gt; FAIL
+     * Verifier.verify(new BigDecimal("-9223372036854775808")).fitsInLong() =&gt; PASS
+     * Verifier.verify(new BigDecimal("9223372036854775808")).fitsInLong()  =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BigDecimalVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BigDecimal#longValueExact()
+     * @since 0.4.0
+     */
+    public BigDecimalVerifier fitsInLong() {
+        final BigDecimal value = verification().getValue();
+        final BigDecimal integralValue = value != null ? getIntegralValue(value) : null;
+        final boolean result = integralValue != null && isLong(integralValue);
+
+        verification().report(result, MessageKeys.FITS_IN_LONG);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is integral (i.e. has no fractional part).
+     * </p>
+     * <p>
+     * Trailing zeros after the decimal point are ignored.
+     * </p>
+     * <pre>
+     * Verifier.verify((BigDecimal) null).integral()         =&gt; FAIL
+     * Verifier.verify(new BigDecimal("123")).integral()     =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.00")).integral()  =&gt; PASS
+     * Verifier.verify(new BigDecimal("1.23E+5")).integral() =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.45")).integral()  =&gt; FAIL
+     * Verifier.verify(new BigDecimal("0.5")).integral()     =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BigDecimalVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @since 0.4.0
+     */
+    public BigDecimalVerifier integral() {
+        final BigDecimal value = verification().getValue();
+        final boolean result = value != null && getIntegralValue(value) != null;
+
+        verification().report(result, MessageKeys.INTEGRAL);
+
+        return this;
+    }
+
     @Override
     public BigDecimalVerifier negative() {
         final BigDecimal value = verification().getValue();
-        final boolean result = value != null && value.compareTo(BigDecimal.ZERO) < 0;
+        final boolean result = value != null && value.signum() < 0;
 
         verification().report(result, BaseNumberVerifier.MessageKeys.NEGATIVE);
 
@@ -88,7 +190,8 @@ public final class BigDecimalVerifier extends BaseComparableVerifier<BigDecimal,
     @Override
     public BigDecimalVerifier odd() {
         final BigDecimal value = verification().getValue();
-        final boolean result = value != null && value.stripTrailingZeros().unscaledValue().testBit(0);
+        final BigDecimal integralValue = value != null ? getIntegralValue(value) : null;
+        final boolean result = integralValue != null && isOdd(integralValue);
 
         verification().report(result, BaseNumberVerifier.MessageKeys.ODD);
 
@@ -108,13 +211,82 @@ public final class BigDecimalVerifier extends BaseComparableVerifier<BigDecimal,
     @Override
     public BigDecimalVerifier positive() {
         final BigDecimal value = verification().getValue();
-        final boolean result = value != null && value.compareTo(BigDecimal.ZERO) >= 0;
+        final boolean result = value != null && value.signum() >= 0;
 
         verification().report(result, BaseNumberVerifier.MessageKeys.POSITIVE);
 
         return this;
     }
 
+    /**
+     * <p>
+     * Verifies that the value has a precision (i.e. number of digits in its unscaled value) of at most the
+     * {@code precision} provided.
+     * </p>
+     * <p>
+     * The precision is that of the existing representation of the value and so trailing zeros are counted.
+     * </p>
+     * <pre>
+     * Verifier.verify((BigDecimal) null).precisionAtMost(5)         =&gt; FAIL
+     * Verifier.verify(new BigDecimal("123.45")).precisionAtMost(5)  =&gt; PASS
+     * Verifier.verify(new BigDecimal("-123.45")).precisionAtMost(5) =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.450")).precisionAtMost(5) =&gt; FAIL
+     * Verifier.verify(new BigDecimal("1234.5")).precisionAtMost(4)  =&gt; FAIL
+     * </pre>
+     *
+     * @param precision
+     *         the maximum precision that the value may have
+     * @return A reference to this {@link BigDecimalVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BigDecimal#precision()
+     * @see #scaleAtMost(int)
+     * @since 0.4.0
+     */
+    public BigDecimalVerifier precisionAtMost(final int precision) {
+        final BigDecimal value = verification().getValue();
+        final boolean result = value != null && value.precision() <= precision;
+
+        verification().report(result, MessageKeys.PRECISION_AT_MOST, precision);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has a scale (i.e. number of digits after the decimal point) of at most the {@code scale}
+     * provided.
+     * </p>
+     * <p>
+     * The scale is that of the existing representation of the value and so trailing zeros are counted. This is useful
+     * for verifying monetary amounts against the number of minor units for their currency.
+     * </p>
+     * <pre>
+     * Verifier.verify((BigDecimal) null).scaleAtMost(2)         =&gt; FAIL
+     * Verifier.verify(new BigDecimal("123")).scaleAtMost(2)     =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.4")).scaleAtMost(2)   =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.45")).scaleAtMost(2)  =&gt; PASS
+     * Verifier.verify(new BigDecimal("123.450")).scaleAtMost(2) =&gt; FAIL
+     * </pre>
+     *
+     * @param scale
+     *         the maximum scale that the value may have
+     * @return A reference to this {@link BigDecimalVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BigDecimal#scale()
+     * @see #precisionAtMost(int)
+     * @since 0.4.0
+     */
+    public BigDecimalVerifier scaleAtMost(final int scale) {
+        final BigDecimal value = verification().getValue();
+        final boolean result = value != null && value.scale() <= scale;
+
+        verification().report(result, MessageKeys.SCALE_AT_MOST, scale);
+
+        return this;
+    }
+
     @Override
     public BigDecimalVerifier truthy() {
         final BigDecimal value = verification().getValue();
@@ -128,10 +300,36 @@ public final class BigDecimalVerifier extends BaseComparableVerifier<BigDecimal,
     @Override
     public BigDecimalVerifier zero() {
         final BigDecimal value = verification().getValue();
-        final boolean result = value != null && value.compareTo(BigDecimal.ZERO) == 0;
+        final boolean result = value != null && value.signum() == 0;
 
         verification().report(result, BaseNumberVerifier.MessageKeys.ZERO);
 
         return this;
     }
+
+    /**
+     * <p>
+     * The {@link MessageKey MessageKeys} that are used by {@link BigDecimalVerifier}.
+     * </p>
+     *
+     * @since 0.4.0
+     */
+    enum MessageKeys implements MessageKey {
+
+        FITS_IN_LONG("org.notninja.verifier.type.BigDecimalVerifier.fitsInLong"),
+        INTEGRAL("org.notninja.verifier.type.BigDecimalVerifier.integral"),
+        PRECISION_AT_MOST("org.notninja.verifier.type.BigDecimalVerifier.precisionAtMost"),
+        SCALE_AT_MOST("org.notninja.verifier.type.BigDecimalVerifier.scaleAtMost");
+
+        private final String code;
+
+        MessageKeys(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
 }
@@ -23,6 +23,8 @@ package org.notninja.verifier.type;
 
 import java.math.BigInteger;
 
+import org.notninja.verifier.VerifierException;
+import org.notninja.verifier.message.MessageKey;
 import org.notninja.verifier.type.base.BaseComparableVerifier;
 import org.notninja.verifier.type.base.BaseNumberVerifier;
 import org.notninja.verifier.type.base.BaseTruthVerifier;
@@ -43,6 +45,23 @@ import org.notninja.verifier.verification.Verification;
  */
 public final class BigIntegerVerifier extends BaseComparableVerifier<BigInteger, BigIntegerVerifier> implements BaseNumberVerifier<BigInteger, BigIntegerVerifier> {
 
+    private static boolean isPrecisionAtMost(final BigInteger value, final int precision) {
+        if (precision < 1) {
+            return false;
+        }
+
+        // Decide using the bit length alone where possible since 2^(3p) < 10^p <= 2^(4p)
+        final long bitLength = value.bitLength();
+        if (bitLength <= 3L * precision) {
+            return true;
+        }
+        if (bitLength > 4L * precision) {
+            return false;
+        }
+
+        return value.abs().compareTo(BigInteger.TEN.pow(precision)) < 0;
+    }
+
     /**
      * <p>
      * Creates an instance of {@link BigIntegerVerifier} based on the {@code verification} provided.
@@ -68,17 +87,44 @@ public final class BigIntegerVerifier extends BaseComparableVerifier<BigInteger,
     @Override
     public BigIntegerVerifier falsy() {
         final BigInteger value = verification().getValue();
-        final boolean result = value == null || value.compareTo(BigInteger.ZERO) == 0;
+        final boolean result = value == null || value.signum() == 0;
 
         verification().report(result, BaseTruthVerifier.MessageKeys.FALSY);
 
         return this;
     }
 
+    /**
+     * <p>
+     * Verifies that the value is within the range of a {@code long}, which means that it can be converted to a
+     * {@code long} without losing any information.
+     * </p>
+     * <pre>
+     * Verifier.verify((BigInteger) null).fitsInLong()                      =&gt; FAIL
+     * Verifier.verify(new BigInteger("123")).fitsInLong()                  =&gt; PASS
+     * Verifier.verify(new BigInteger("-9223372036854775808")).fitsInLong() =&gt; PASS
+     * Verifier.verify(new BigInteger("9223372036854775808")).fitsInLong()  =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BigIntegerVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BigInteger#longValueExact()
+     * @since 0.4.0
+     */
+    public BigIntegerVerifier fitsInLong() {
+        final BigInteger value = verification().getValue();
+        final boolean result = value != null && value.bitLength() < Long.SIZE;
+
+        verification().report(result, MessageKeys.FITS_IN_LONG);
+
+        return this;
+    }
+
     @Override
     public BigIntegerVerifier negative() {
         final BigInteger value = verification().getValue();
-        final boolean result = value != null && value.compareTo(BigInteger.ZERO) < 0;
+        final boolean result = value != null && value.signum() < 0;
 
         verification().report(result, BaseNumberVerifier.MessageKeys.NEGATIVE);
 
@@ -108,13 +154,45 @@ public final class BigIntegerVerifier extends BaseComparableVerifier<BigInteger,
     @Override
     public BigIntegerVerifier positive() {
         final BigInteger value = verification().getValue();
-        final boolean result = value != null && value.compareTo(BigInteger.ZERO) >= 0;
+        final boolean result = value != null && value.signum() >= 0;
 
         verification().report(result, BaseNumberVerifier.MessageKeys.POSITIVE);
 
         return this;
     }
 
+    /**
+     * <p>
+     * Verifies that the value has a precision (i.e. number of decimal digits, ignoring its sign) of at most the
+     * {@code precision} provided.
+     * </p>
+     * <p>
+     * This is consistent with {@code BigDecimal#precision()} and so {@code BigInteger.ZERO} has a precision of one.
+     * </p>
+     * <pre>
+     * Verifier.verify((BigInteger) null).precisionAtMost(3)      =&gt; FAIL
+     * Verifier.verify(new BigInteger("0")).precisionAtMost(1)    =&gt; PASS
+     * Verifier.verify(new BigInteger("999")).precisionAtMost(3)  =&gt; PASS
+     * Verifier.verify(new BigInteger("-999")).precisionAtMost(3) =&gt; PASS
+     * Verifier.verify(new BigInteger("1000")).precisionAtMost(3) =&gt; FAIL
+     * </pre>
+     *
+     * @param precision
+     *         the maximum precision that the value may have
+     * @return A reference to this {@link BigIntegerVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @since 0.4.0
+     */
+    public BigIntegerVerifier precisionAtMost(final int precision) {
+        final BigInteger value = verification().getValue();
+        final boolean result = value != null && isPrecisionAtMost(value, precision);
+
+        verification().report(result, MessageKeys.PRECISION_AT_MOST, precision);
+
+        return this;
+    }
+
     @Override
     public BigIntegerVerifier truthy() {
         final BigInteger value = verification().getValue();
@@ -128,10 +206,34 @@ public final class BigIntegerVerifier extends BaseComparableVerifier<BigInteger,
     @Override
     public BigIntegerVerifier zero() {
         final BigInteger value = verification().getValue();
-        final boolean result = value != null && value.compareTo(BigInteger.ZERO) == 0;
+        final boolean result = value != null && value.signum() == 0;
 
         verification().report(result, BaseNumberVerifier.MessageKeys.ZERO);
 
         return this;
     }
+
+    /**
+     * <p>
+     * The {@link MessageKey MessageKeys} that are used by {@link BigIntegerVerifier}.
+     * </p>
+     *
+     * @since 0.4.0
+     */
+    enum MessageKeys implements MessageKey {
+
+        FITS_IN_LONG("org.notninja.verifier.type.BigIntegerVerifier.fitsInLong"),
+        PRECISION_AT_MOST("org.notninja.verifier.type.BigIntegerVerifier.precisionAtMost");
+
+        private final String code;
+
+        MessageKeys(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
 }
@@ -0,0 +1,487 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+
+import org.notninja.verifier.AbstractCustomVerifier;
+import org.notninja.verifier.VerifierException;
+import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link AbstractCustomVerifier} which can be used to verify a {@code ByteBuffer} value.
+ * </p>
+ * <p>
+ * Only the bytes between the position and limit of the value are verified. They are read using absolute operations so
+ * the position, limit and mark of the value are never changed and its contents are never copied. This means that heap,
+ * direct and memory-mapped buffers can all be verified in place, regardless of their size.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class ByteBufferVerifier extends AbstractCustomVerifier<ByteBuffer, ByteBufferVerifier> {
+
+    private static final long ASCII_MASK = 0x8080808080808080L;
+
+    private static boolean isAllBetween(final ByteBuffer buffer, final int start, final int end) {
+        final int limit = buffer.limit();
+        for (int i = buffer.position(); i < limit; i++) {
+            final int b = buffer.get(i) & 0xFF;
+            if (b < start || b > end) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isAscii(final ByteBuffer buffer) {
+        return skipAscii(buffer, buffer.position()) == buffer.limit();
+    }
+
+    private static boolean isUtf8(final ByteBuffer buffer) {
+        final int limit = buffer.limit();
+        int i = buffer.position();
+
+        while ((i = skipAscii(buffer, i)) < limit) {
+            final int b = buffer.get(i) & 0xFF;
+            final int trailing;
+            int minimum = 0x80;
+            int maximum = 0xBF;
+
+            if (b >= 0xC2 && b <= 0xDF) {
+                trailing = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                trailing = 2;
+                if (b == 0xE0) {
+                    // Overlong encoding
+                    minimum = 0xA0;
+                } else if (b == 0xED) {
+                    // UTF-16 surrogate
+                    maximum = 0x9F;
+                }
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                trailing = 3;
+                if (b == 0xF0) {
+                    // Overlong encoding
+                    minimum = 0x90;
+                } else if (b == 0xF4) {
+                    // Above U+10FFFF
+                    maximum = 0x8F;
+                }
+            } else {
+                return false;
+            }
+
+            if (limit - i <= trailing) {
+                return false;
+            }
+
+            final int second = buffer.get(i + 1) & 0xFF;
+            if (second < minimum || second > maximum) {
+                return false;
+            }
+
+            for (int j = 2; j <= trailing; j++) {
+                if ((buffer.get(i + j) & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+
+            i += trailing + 1;
+        }
+
+        return true;
+    }
+
+    static int skipAscii(final ByteBuffer buffer, final int index) {
+        final int limit = buffer.limit();
+        int i = index;
+
+        while (limit - i >= Long.BYTES && (buffer.getLong(i) & ASCII_MASK) == 0) {
+            i += Long.BYTES;
+        }
+        while (i < limit && buffer.get(i) >= 0) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * <p>
+     * Creates an instance of {@link ByteBufferVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public ByteBufferVerifier(final Verification<ByteBuffer> verification) {
+        super(verification);
+    }
+
+    /**
+     * <p>
+     * Verifies that the Adler-32 checksum of the value matches the {@code checksum} provided.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).adler32(1)                                              =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(0)).adler32(1)                                         =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8))).adler32(42074437) =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8))).adler32(1)        =&gt; FAIL
+     * </pre>
+     *
+     * @param checksum
+     *         the expected Adler-32 checksum of the value
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #crc32(long)
+     */
+    public ByteBufferVerifier adler32(final long checksum) {
+        final ByteBuffer value = verification().getValue();
+        boolean result = false;
+
+        if (value != null) {
+            final Adler32 adler32 = new Adler32();
+            adler32.update(value.duplicate());
+
+            result = adler32.getValue() == checksum;
+        }
+
+        verification().report(result, MessageKeys.ADLER32, checksum);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only ASCII bytes (i.e. less than {@literal 0x80}).
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).ascii()                              =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(0)).ascii()                         =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x00, 0x41, 0x7F})).ascii()  =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x41, (byte) 0x80})).ascii() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #utf8()
+     */
+    public ByteBufferVerifier ascii() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && isAscii(value);
+
+        verification().report(result, MessageKeys.ASCII);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only bytes whose unsigned values are between the {@code start} and {@code end}
+     * provided (inclusive).
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).bytesBetween(0x20, 0x7E)                             =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(0)).bytesBetween(0x20, 0x7E)                        =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x20, 0x41, 0x7E})).bytesBetween(0x20, 0x7E) =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x0A, 0x41})).bytesBetween(0x20, 0x7E)       =&gt; FAIL
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{(byte) 0xFF})).bytesBetween(0x80, 0xFF)      =&gt; PASS
+     * </pre>
+     *
+     * @param start
+     *         the lowest unsigned byte value (inclusive) that the bytes within the value may have
+     * @param end
+     *         the highest unsigned byte value (inclusive) that the bytes within the value may have
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public ByteBufferVerifier bytesBetween(final int start, final int end) {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && isAllBetween(value, start, end);
+
+        verification().report(result, MessageKeys.BYTES_BETWEEN, start, end);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the CRC-32 checksum of the value matches the {@code checksum} provided.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).crc32(0)                                                 =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(0)).crc32(0)                                            =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8))).crc32(2356372769L) =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8))).crc32(0)           =&gt; FAIL
+     * </pre>
+     *
+     * @param checksum
+     *         the expected CRC-32 checksum of the value
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #adler32(long)
+     */
+    public ByteBufferVerifier crc32(final long checksum) {
+        final ByteBuffer value = verification().getValue();
+        boolean result = false;
+
+        if (value != null) {
+            final CRC32 crc32 = new CRC32();
+            crc32.update(value.duplicate());
+
+            result = crc32.getValue() == checksum;
+        }
+
+        verification().report(result, MessageKeys.CRC32, checksum);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has no remaining bytes.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).empty()                 =&gt; PASS
+     * Verifier.verify(ByteBuffer.allocate(0)).empty()            =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x41})).empty() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public ByteBufferVerifier empty() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value == null || !value.hasRemaining();
+
+        verification().report(result, MessageKeys.EMPTY);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has at least the number of remaining bytes provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions and are treated as having no bytes.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).sizeAtLeast(0)      =&gt; PASS
+     * Verifier.verify((ByteBuffer) null).sizeAtLeast(1)      =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeAtLeast(2) =&gt; PASS
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeAtLeast(4) =&gt; PASS
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeAtLeast(8) =&gt; FAIL
+     * </pre>
+     *
+     * @param size
+     *         the minimum number of bytes that the value may have remaining
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #sizeAtMost(int)
+     * @see #sizeOf(int)
+     */
+    public ByteBufferVerifier sizeAtLeast(final int size) {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = (value == null ? 0 : value.remaining()) >= size;
+
+        verification().report(result, MessageKeys.SIZE_AT_LEAST, size);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has at most the number of remaining bytes provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions and are treated as having no bytes.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).sizeAtMost(0)      =&gt; PASS
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeAtMost(2) =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeAtMost(4) =&gt; PASS
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeAtMost(8) =&gt; PASS
+     * </pre>
+     *
+     * @param size
+     *         the maximum number of bytes that the value may have remaining
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #sizeAtLeast(int)
+     * @see #sizeOf(int)
+     */
+    public ByteBufferVerifier sizeAtMost(final int size) {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = (value == null ? 0 : value.remaining()) <= size;
+
+        verification().report(result, MessageKeys.SIZE_AT_MOST, size);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has exactly the number of remaining bytes provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions and are treated as having no bytes.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).sizeOf(0)      =&gt; PASS
+     * Verifier.verify((ByteBuffer) null).sizeOf(1)      =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeOf(2) =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(4)).sizeOf(4) =&gt; PASS
+     * </pre>
+     *
+     * @param size
+     *         the number of bytes that the value must have remaining
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #sizeAtLeast(int)
+     * @see #sizeAtMost(int)
+     */
+    public ByteBufferVerifier sizeOf(final int size) {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = (value == null ? 0 : value.remaining()) == size;
+
+        verification().report(result, MessageKeys.SIZE_OF, size);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the remaining bytes of the value start with the {@code prefix} provided.
+     * </p>
+     * <p>
+     * This is useful for checking the magic number at the start of a binary format.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).startWith((byte[]) null)                                              =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(4)).startWith((byte[]) null)                                         =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(4)).startWith()                                                      =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x50, 0x4B, 0x03, 0x04})).startWith((byte) 0x50, (byte) 0x4B) =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x50, 0x4B, 0x03, 0x04})).startWith((byte) 0x4B)              =&gt; FAIL
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{0x50})).startWith((byte) 0x50, (byte) 0x4B)                   =&gt; FAIL
+     * </pre>
+     *
+     * @param prefix
+     *         the bytes that the value is expected to start with (may be {@literal null})
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public ByteBufferVerifier startWith(final byte... prefix) {
+        final ByteBuffer value = verification().getValue();
+        boolean result = value != null && prefix != null && value.remaining() >= prefix.length;
+
+        if (result) {
+            final int position = value.position();
+            for (int i = 0; i < prefix.length && result; i++) {
+                result = value.get(position + i) == prefix[i];
+            }
+        }
+
+        verification().report(result, MessageKeys.START_WITH, (Object) prefix);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only well-formed UTF-8.
+     * </p>
+     * <p>
+     * Overlong encodings, UTF-16 surrogates, code points above {@literal U+10FFFF} and truncated sequences are all
+     * considered to be malformed. Runs of ASCII bytes are skipped eight bytes at a time.
+     * </p>
+     * <pre>
+     * Verifier.verify((ByteBuffer) null).utf8()                                          =&gt; FAIL
+     * Verifier.verify(ByteBuffer.allocate(0)).utf8()                                     =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8))).utf8()    =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("é".getBytes(StandardCharsets.UTF_8))).utf8()      =&gt; PASS
+     * Verifier.verify(ByteBuffer.wrap("é".getBytes(StandardCharsets.ISO_8859_1))).utf8() =&gt; FAIL
+     * Verifier.verify(ByteBuffer.wrap(new byte[]{(byte) 0xC0, (byte) 0x80})).utf8()      =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link ByteBufferVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #ascii()
+     */
+    public ByteBufferVerifier utf8() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && isUtf8(value);
+
+        verification().report(result, MessageKeys.UTF8);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * The {@link MessageKey MessageKeys} that are used by {@link ByteBufferVerifier}.
+     * </p>
+     *
+     * @since 0.4.0
+     */
+    enum MessageKeys implements MessageKey {
+
+        ADLER32("org.notninja.verifier.type.ByteBufferVerifier.adler32"),
+        ASCII("org.notninja.verifier.type.ByteBufferVerifier.ascii"),
+        BYTES_BETWEEN("org.notninja.verifier.type.ByteBufferVerifier.bytesBetween"),
+        CRC32("org.notninja.verifier.type.ByteBufferVerifier.crc32"),
+        EMPTY("org.notninja.verifier.type.ByteBufferVerifier.empty"),
+        SIZE_AT_LEAST("org.notninja.verifier.type.ByteBufferVerifier.sizeAtLeast"),
+        SIZE_AT_MOST("org.notninja.verifier.type.ByteBufferVerifier.sizeAtMost"),
+        SIZE_OF("org.notninja.verifier.type.ByteBufferVerifier.sizeOf"),
+        START_WITH("org.notninja.verifier.type.ByteBufferVerifier.startWith"),
+        UTF8("org.notninja.verifier.type.ByteBufferVerifier.utf8");
+
+        private final String code;
+
+        MessageKeys(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
+}
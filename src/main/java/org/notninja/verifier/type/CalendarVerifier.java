@@ -21,6 +21,7 @@
  */
 package org.notninja.verifier.type;
 
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 
 import org.notninja.verifier.type.base.BaseTimeVerifier;
@@ -30,6 +31,10 @@ import org.notninja.verifier.verification.Verification;
  * <p>
  * An implementation of {@link BaseTimeVerifier} which can be used to verify a {@code Calendar} value.
  * </p>
+ * <p>
+ * The date/time parts of values are compared using the fields of the {@code Calendar} values themselves so that their
+ * own time zones and calendar systems are respected.
+ * </p>
  *
  * @author Alasdair Mercer
  */
@@ -48,7 +53,7 @@ public final class CalendarVerifier extends BaseTimeVerifier<Calendar, CalendarV
     }
 
     @Override
-    protected Calendar getCalendar(final Calendar value) {
-        return value;
+    protected boolean isSameAs(final Calendar value, final Calendar other, final ChronoUnit unit) {
+        return isSameCalendarAs(value, other, unit);
     }
 }
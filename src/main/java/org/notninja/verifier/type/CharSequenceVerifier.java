@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import org.notninja.verifier.AbstractCustomVerifier;
+import org.notninja.verifier.type.base.BaseCharSequenceVerifier;
+import org.notninja.verifier.util.CharSequenceUtils;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link AbstractCustomVerifier} and {@link BaseCharSequenceVerifier} which can be used to verify
+ * any {@code CharSequence} value.
+ * </p>
+ * <p>
+ * {@code CharSequenceVerifier} offers the same verification methods as {@link StringVerifier}, except those inherited
+ * from {@code BaseComparableVerifier}, so that implementations such as {@code StringBuilder} and {@code CharBuffer} can
+ * be verified without first being copied into a {@code String}. Unlike {@code StringVerifier}, the value is considered
+ * to be equal to another {@code CharSequence} if they contain the same characters, regardless of their type.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class CharSequenceVerifier extends AbstractCustomVerifier<CharSequence, CharSequenceVerifier> implements BaseCharSequenceVerifier<CharSequence, CharSequenceVerifier> {
+
+    /**
+     * <p>
+     * Creates an instance of {@link CharSequenceVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public CharSequenceVerifier(final Verification<CharSequence> verification) {
+        super(verification);
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code value} is equal to the {@code other} provided.
+     * </p>
+     * <p>
+     * If {@code other} is also a {@code CharSequence}, they are considered equal when they contain the same characters;
+     * otherwise {@code other} is compared using {@link Object#equals(Object)}.
+     * </p>
+     *
+     * @param value
+     *         the value being verified (may be {@literal null})
+     * @param other
+     *         the object to compare against {@code value} (may be {@literal null})
+     * @return {@literal true} if {@code value} equals {@code other}; otherwise {@literal false}.
+     */
+    @Override
+    protected boolean isEqualTo(final CharSequence value, final Object other) {
+        if (other instanceof CharSequence) {
+            return CharSequenceUtils.contentEquals(value, (CharSequence) other);
+        }
+
+        return super.isEqualTo(value, other);
+    }
+}
@@ -25,6 +25,7 @@ import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
 import org.notninja.verifier.type.base.BaseComparableVerifier;
 import org.notninja.verifier.type.base.BaseTruthVerifier;
+import org.notninja.verifier.util.CharacterClass;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -41,22 +42,6 @@ import org.notninja.verifier.verification.Verification;
  */
 public final class CharacterVerifier extends BaseComparableVerifier<Character, CharacterVerifier> implements BaseTruthVerifier<Character, CharacterVerifier> {
 
-    private static boolean isAsciiAlpha(final char ch) {
-        return isAsciiAlphaUpperCase(ch) || isAsciiAlphaLowerCase(ch);
-    }
-
-    private static boolean isAsciiAlphaLowerCase(final char ch) {
-        return ch >= 'a' && ch <= 'z';
-    }
-
-    private static boolean isAsciiAlphaUpperCase(final char ch) {
-        return ch >= 'A' && ch <= 'Z';
-    }
-
-    private static boolean isAsciiNumeric(final char ch) {
-        return ch >= '0' && ch <= '9';
-    }
-
     /**
      * <p>
      * Creates an instance of {@link CharacterVerifier} based on the {@code verification} provided.
@@ -89,7 +74,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier alpha() {
         final Character value = verification().getValue();
-        final boolean result = value != null && Character.isLetter(value);
+        final boolean result = value != null && CharacterClass.ALPHA.matches(value);
 
         verification().report(result, MessageKeys.ALPHA);
 
@@ -116,7 +101,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier alphanumeric() {
         final Character value = verification().getValue();
-        final boolean result = value != null && Character.isLetterOrDigit(value);
+        final boolean result = value != null && CharacterClass.ALPHANUMERIC.matches(value);
 
         verification().report(result, MessageKeys.ALPHANUMERIC);
 
@@ -142,7 +127,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier ascii() {
         final Character value = verification().getValue();
-        final boolean result = value != null && value < 128;
+        final boolean result = value != null && CharacterClass.ASCII.matches(value);
 
         verification().report(result, MessageKeys.ASCII);
 
@@ -169,7 +154,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiAlpha() {
         final Character value = verification().getValue();
-        final boolean result = value != null && isAsciiAlpha(value);
+        final boolean result = value != null && CharacterClass.ASCII_ALPHA.matches(value);
 
         verification().report(result, MessageKeys.ASCII_ALPHA);
 
@@ -198,7 +183,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiAlphaLowerCase() {
         final Character value = verification().getValue();
-        final boolean result = value != null && isAsciiAlphaLowerCase(value);
+        final boolean result = value != null && CharacterClass.ASCII_ALPHA_LOWER_CASE.matches(value);
 
         verification().report(result, MessageKeys.ASCII_ALPHA_LOWER_CASE);
 
@@ -227,7 +212,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiAlphaUpperCase() {
         final Character value = verification().getValue();
-        final boolean result = value != null && isAsciiAlphaUpperCase(value);
+        final boolean result = value != null && CharacterClass.ASCII_ALPHA_UPPER_CASE.matches(value);
 
         verification().report(result, MessageKeys.ASCII_ALPHA_UPPER_CASE);
 
@@ -254,7 +239,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiAlphanumeric() {
         final Character value = verification().getValue();
-        final boolean result = value != null && (isAsciiAlpha(value) || isAsciiNumeric(value));
+        final boolean result = value != null && CharacterClass.ASCII_ALPHANUMERIC.matches(value);
 
         verification().report(result, MessageKeys.ASCII_ALPHANUMERIC);
 
@@ -280,7 +265,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiControl() {
         final Character value = verification().getValue();
-        final boolean result = value != null && (value < 32 || value == 127);
+        final boolean result = value != null && CharacterClass.ASCII_CONTROL.matches(value);
 
         verification().report(result, MessageKeys.ASCII_CONTROL);
 
@@ -307,7 +292,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiNumeric() {
         final Character value = verification().getValue();
-        final boolean result = value != null && isAsciiNumeric(value);
+        final boolean result = value != null && CharacterClass.ASCII_NUMERIC.matches(value);
 
         verification().report(result, MessageKeys.ASCII_NUMERIC);
 
@@ -335,7 +320,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier asciiPrintable() {
         final Character value = verification().getValue();
-        final boolean result = value != null && value >= 32 && value < 127;
+        final boolean result = value != null && CharacterClass.ASCII_PRINTABLE.matches(value);
 
         verification().report(result, MessageKeys.ASCII_PRINTABLE);
 
@@ -375,7 +360,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier lowerCase() {
         final Character value = verification().getValue();
-        final boolean result = value != null && Character.isLowerCase(value);
+        final boolean result = value != null && CharacterClass.LOWER_CASE.matches(value);
 
         verification().report(result, MessageKeys.LOWER_CASE);
 
@@ -402,7 +387,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier numeric() {
         final Character value = verification().getValue();
-        final boolean result = value != null && Character.isDigit(value);
+        final boolean result = value != null && CharacterClass.NUMERIC.matches(value);
 
         verification().report(result, MessageKeys.NUMERIC);
 
@@ -442,7 +427,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier upperCase() {
         final Character value = verification().getValue();
-        final boolean result = value != null && Character.isUpperCase(value);
+        final boolean result = value != null && CharacterClass.UPPER_CASE.matches(value);
 
         verification().report(result, MessageKeys.UPPER_CASE);
 
@@ -470,7 +455,7 @@ public final class CharacterVerifier extends BaseComparableVerifier<Character, C
      */
     public CharacterVerifier whitespace() {
         final Character value = verification().getValue();
-        final boolean result = value != null && Character.isWhitespace(value);
+        final boolean result = value != null && CharacterClass.WHITESPACE.matches(value);
 
         verification().report(result, MessageKeys.WHITESPACE);
 
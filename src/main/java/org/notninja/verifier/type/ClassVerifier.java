@@ -22,15 +22,11 @@
 package org.notninja.verifier.type;
 
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 
 import org.notninja.verifier.AbstractCustomVerifier;
 import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.util.ClassMetadata;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -42,13 +38,6 @@ import org.notninja.verifier.verification.Verification;
  */
 public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVerifier> {
 
-    private static final Set<Class<?>> PRIMITIVE_WRAPPERS;
-
-    static {
-        final List<Class<?>> primitiveWrappers = Arrays.asList(Boolean.class, Byte.class, Character.class, Double.class, Float.class, Integer.class, Long.class, Short.class, Void.TYPE);
-        PRIMITIVE_WRAPPERS = Collections.unmodifiableSet(new HashSet<>(primitiveWrappers));
-    }
-
     /**
      * <p>
      * Creates an instance of {@link ClassVerifier} based on the {@code verification} provided.
@@ -77,7 +66,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier annotated() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.getAnnotations().length > 0;
+        final boolean result = value != null && ClassMetadata.of(value).isAnnotated();
 
         verification().report(result, MessageKeys.ANNOTATED);
 
@@ -107,7 +96,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier annotatedWith(final Class<? extends Annotation> type) {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && type != null && value.isAnnotationPresent(type);
+        final boolean result = value != null && ClassMetadata.of(value).isAnnotatedWith(type);
 
         verification().report(result, MessageKeys.ANNOTATED_WITH, type);
 
@@ -139,7 +128,8 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier annotatedWithAll(final Class<? extends Annotation>... types) {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && matchAll(types, input -> input != null && value.isAnnotationPresent(input));
+        final ClassMetadata metadata = value != null ? ClassMetadata.of(value) : null;
+        final boolean result = metadata != null && matchAll(types, metadata::isAnnotatedWith);
 
         verification().report(result, MessageKeys.ANNOTATED_WITH_ALL, (Object) types);
 
@@ -170,7 +160,8 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier annotatedWithAny(final Class<? extends Annotation>... types) {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && matchAny(types, input -> input != null && value.isAnnotationPresent(input));
+        final ClassMetadata metadata = value != null ? ClassMetadata.of(value) : null;
+        final boolean result = metadata != null && matchAny(types, metadata::isAnnotatedWith);
 
         verification().report(result, MessageKeys.ANNOTATED_WITH_ANY, (Object) types);
 
@@ -193,7 +184,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier annotation() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.isAnnotation();
+        final boolean result = value != null && ClassMetadata.of(value).isAnnotation();
 
         verification().report(result, MessageKeys.ANNOTATION);
 
@@ -216,7 +207,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier anonymous() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.isAnonymousClass();
+        final boolean result = value != null && ClassMetadata.of(value).isAnonymous();
 
         verification().report(result, MessageKeys.ANONYMOUS);
 
@@ -239,7 +230,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier array() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.isArray();
+        final boolean result = value != null && ClassMetadata.of(value).isArray();
 
         verification().report(result, MessageKeys.ARRAY);
 
@@ -269,7 +260,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier assignableFrom(final Class<?> type) {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && type != null && value.isAssignableFrom(type);
+        final boolean result = value != null && ClassMetadata.of(value).isAssignableFrom(type);
 
         verification().report(result, MessageKeys.ASSIGNABLE_FROM, type);
 
@@ -304,7 +295,8 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier assignableFromAll(final Class<?>... types) {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && matchAll(types, input -> input != null && value.isAssignableFrom(input));
+        final ClassMetadata metadata = value != null ? ClassMetadata.of(value) : null;
+        final boolean result = metadata != null && matchAll(types, metadata::isAssignableFrom);
 
         verification().report(result, MessageKeys.ASSIGNABLE_FROM_ALL, (Object) types);
 
@@ -338,7 +330,8 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier assignableFromAny(final Class<?>... types) {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && matchAny(types, input -> input != null && value.isAssignableFrom(input));
+        final ClassMetadata metadata = value != null ? ClassMetadata.of(value) : null;
+        final boolean result = metadata != null && matchAny(types, metadata::isAssignableFrom);
 
         verification().report(result, MessageKeys.ASSIGNABLE_FROM_ANY, (Object) types);
 
@@ -361,7 +354,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier enumeration() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.isEnum();
+        final boolean result = value != null && ClassMetadata.of(value).isEnumeration();
 
         verification().report(result, MessageKeys.ENUMERATION);
 
@@ -385,7 +378,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier interfaced() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.isInterface();
+        final boolean result = value != null && ClassMetadata.of(value).isInterface();
 
         verification().report(result, MessageKeys.INTERFACED);
 
@@ -408,7 +401,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier nested() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.getEnclosingClass() != null;
+        final boolean result = value != null && ClassMetadata.of(value).isNested();
 
         verification().report(result, MessageKeys.NESTED);
 
@@ -432,7 +425,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier primitive() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && value.isPrimitive();
+        final boolean result = value != null && ClassMetadata.of(value).isPrimitive();
 
         verification().report(result, MessageKeys.PRIMITIVE);
 
@@ -456,7 +449,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier primitiveOrWrapper() {
         final Class<?> value = verification().getValue();
-        final boolean result = value != null && (value.isPrimitive() || PRIMITIVE_WRAPPERS.contains(value));
+        final boolean result = value != null && (ClassMetadata.of(value).isPrimitive() || ClassMetadata.of(value).isPrimitiveWrapper());
 
         verification().report(result, MessageKeys.PRIMITIVE_OR_WRAPPER);
 
@@ -480,7 +473,7 @@ public final class ClassVerifier extends AbstractCustomVerifier<Class, ClassVeri
      */
     public ClassVerifier primitiveWrapper() {
         final Class<?> value = verification().getValue();
-        final boolean result = PRIMITIVE_WRAPPERS.contains(value);
+        final boolean result = value != null && ClassMetadata.of(value).isPrimitiveWrapper();
 
         verification().report(result, MessageKeys.PRIMITIVE_WRAPPER);
 
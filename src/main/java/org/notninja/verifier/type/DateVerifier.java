@@ -21,20 +21,26 @@
  */
 package org.notninja.verifier.type;
 
-import java.util.Calendar;
+import java.time.ZoneId;
 import java.util.Date;
 
-import org.notninja.verifier.type.base.BaseTimeVerifier;
+import org.notninja.verifier.type.base.BaseZonedTimeVerifier;
 import org.notninja.verifier.verification.Verification;
 
 /**
  * <p>
- * An implementation of {@link BaseTimeVerifier} which can be used to verify a {@code Date} value.
+ * An implementation of {@link BaseZonedTimeVerifier} which can be used to verify a {@code Date} value.
+ * </p>
+ * <p>
+ * Unless {@link #withZone(ZoneId)} is called, the date/time parts of values are resolved using the system default
+ * {@code ZoneId} at the time of the first comparison within the chain.
  * </p>
  *
  * @author Alasdair Mercer
  */
-public final class DateVerifier extends BaseTimeVerifier<Date, DateVerifier> {
+public final class DateVerifier extends BaseZonedTimeVerifier<Date, DateVerifier> {
+
+    private ZoneId defaultZone;
 
     /**
      * <p>
@@ -49,14 +55,22 @@ public final class DateVerifier extends BaseTimeVerifier<Date, DateVerifier> {
     }
 
     @Override
-    protected Calendar getCalendar(final Date value) {
-        if (value == null) {
-            return null;
+    protected ZoneId getDefaultZone(final Date value) {
+        // Looking up the system default copies the default TimeZone, so only do so once for each chain
+        if (defaultZone == null) {
+            defaultZone = ZoneId.systemDefault();
         }
 
-        final Calendar calendar = Calendar.getInstance();
-        calendar.setTime(value);
+        return defaultZone;
+    }
+
+    @Override
+    protected long getEpochSecond(final Date value) {
+        return Math.floorDiv(value.getTime(), 1000);
+    }
 
-        return calendar;
+    @Override
+    protected int getNano(final Date value) {
+        return (int) Math.floorMod(value.getTime(), 1000) * 1000000;
     }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+import org.notninja.verifier.VerifierException;
+import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.type.base.BaseComparableVerifier;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link BaseComparableVerifier} which can be used to verify a {@code Duration} value.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class DurationVerifier extends BaseComparableVerifier<Duration, DurationVerifier> {
+
+    private static long getWholeSeconds(final Duration duration) {
+        // getSeconds floors negative durations so round towards zero instead, as division does for the larger units
+        final long seconds = duration.getSeconds();
+
+        return seconds < 0 && duration.getNano() > 0 ? seconds + 1 : seconds;
+    }
+
+    private static boolean isSameUnitsAs(final Duration value, final Duration other, final ChronoUnit unit) {
+        if (value == null || other == null) {
+            return false;
+        }
+
+        final long secondsPerUnit = unit.getDuration().getSeconds();
+
+        return getWholeSeconds(value) / secondsPerUnit == getWholeSeconds(other) / secondsPerUnit;
+    }
+
+    /**
+     * <p>
+     * Creates an instance of {@link DurationVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public DurationVerifier(final Verification<Duration> verification) {
+        super(verification);
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is negative.
+     * </p>
+     * <pre>
+     * Verifier.verify((Duration) null).negative()        =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(-1)).negative() =&gt; PASS
+     * Verifier.verify(Duration.ZERO).negative()          =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(1)).negative()  =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier negative() {
+        final Duration value = verification().getValue();
+        final boolean result = value != null && value.isNegative();
+
+        verification().report(result, MessageKeys.NEGATIVE);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is positive.
+     * </p>
+     * <pre>
+     * Verifier.verify((Duration) null).positive()        =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(-1)).positive() =&gt; FAIL
+     * Verifier.verify(Duration.ZERO).positive()          =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(1)).positive()  =&gt; PASS
+     * </pre>
+     *
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier positive() {
+        final Duration value = verification().getValue();
+        final boolean result = value != null && !value.isNegative() && !value.isZero();
+
+        verification().report(result, MessageKeys.POSITIVE);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has the same number of whole days as the {@code other} provided.
+     * </p>
+     * <p>
+     * Any remaining part of a day is ignored, so the number of whole days is always rounded towards zero (e.g.
+     * -1.5 days is treated as -1 day). {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).sameDaysAs(null)                                             =&gt; FAIL
+     * Verifier.verify((Duration) null).sameDaysAs(*)                                  =&gt; FAIL
+     * Verifier.verify(Duration.ofDays(2)).sameDaysAs(Duration.ofDays(3))              =&gt; FAIL
+     * Verifier.verify(Duration.ofDays(2)).sameDaysAs(Duration.ofDays(2).plusHours(1)) =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code Duration} to compare against the value (may be {@literal null})
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier sameDaysAs(final Duration other) {
+        final Duration value = verification().getValue();
+        final boolean result = isSameUnitsAs(value, other, ChronoUnit.DAYS);
+
+        verification().report(result, MessageKeys.SAME_DAYS_AS, other);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has the same number of whole hours as the {@code other} provided.
+     * </p>
+     * <p>
+     * Any remaining part of an hour is ignored, so the number of whole hours is always rounded towards zero (e.g.
+     * -1.5 hours is treated as -1 hour). {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).sameHoursAs(null)                                                 =&gt; FAIL
+     * Verifier.verify((Duration) null).sameHoursAs(*)                                      =&gt; FAIL
+     * Verifier.verify(Duration.ofHours(2)).sameHoursAs(Duration.ofHours(3))                =&gt; FAIL
+     * Verifier.verify(Duration.ofHours(2)).sameHoursAs(Duration.ofHours(2).plusMinutes(1)) =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code Duration} to compare against the value (may be {@literal null})
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier sameHoursAs(final Duration other) {
+        final Duration value = verification().getValue();
+        final boolean result = isSameUnitsAs(value, other, ChronoUnit.HOURS);
+
+        verification().report(result, MessageKeys.SAME_HOURS_AS, other);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has the same number of whole minutes as the {@code other} provided.
+     * </p>
+     * <p>
+     * Any remaining part of a minute is ignored, so the number of whole minutes is always rounded towards zero (e.g.
+     * -1.5 minutes is treated as -1 minute). {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).sameMinutesAs(null)                                                     =&gt; FAIL
+     * Verifier.verify((Duration) null).sameMinutesAs(*)                                          =&gt; FAIL
+     * Verifier.verify(Duration.ofMinutes(2)).sameMinutesAs(Duration.ofMinutes(3))                =&gt; FAIL
+     * Verifier.verify(Duration.ofMinutes(2)).sameMinutesAs(Duration.ofMinutes(2).plusSeconds(1)) =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code Duration} to compare against the value (may be {@literal null})
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier sameMinutesAs(final Duration other) {
+        final Duration value = verification().getValue();
+        final boolean result = isSameUnitsAs(value, other, ChronoUnit.MINUTES);
+
+        verification().report(result, MessageKeys.SAME_MINUTES_AS, other);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value has the same number of whole seconds as the {@code other} provided.
+     * </p>
+     * <p>
+     * Any remaining part of a second is ignored, so the number of whole seconds is always rounded towards zero (e.g.
+     * -1.5 seconds is treated as -1 second). {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).sameSecondsAs(null)                                                    =&gt; FAIL
+     * Verifier.verify((Duration) null).sameSecondsAs(*)                                         =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(2)).sameSecondsAs(Duration.ofSeconds(3))               =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(2)).sameSecondsAs(Duration.ofSeconds(2).plusMillis(1)) =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code Duration} to compare against the value (may be {@literal null})
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier sameSecondsAs(final Duration other) {
+        final Duration value = verification().getValue();
+        final boolean result = isSameUnitsAs(value, other, ChronoUnit.SECONDS);
+
+        verification().report(result, MessageKeys.SAME_SECONDS_AS, other);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is zero.
+     * </p>
+     * <pre>
+     * Verifier.verify((Duration) null).zero()        =&gt; FAIL
+     * Verifier.verify(Duration.ofSeconds(-1)).zero() =&gt; FAIL
+     * Verifier.verify(Duration.ZERO).zero()          =&gt; PASS
+     * Verifier.verify(Duration.ofNanos(1)).zero()    =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link DurationVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    public DurationVerifier zero() {
+        final Duration value = verification().getValue();
+        final boolean result = value != null && value.isZero();
+
+        verification().report(result, MessageKeys.ZERO);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * The {@link MessageKey MessageKeys} that are used by {@link DurationVerifier}.
+     * </p>
+     *
+     * @since 0.4.0
+     */
+    enum MessageKeys implements MessageKey {
+
+        NEGATIVE("org.notninja.verifier.type.DurationVerifier.negative"),
+        POSITIVE("org.notninja.verifier.type.DurationVerifier.positive"),
+        SAME_DAYS_AS("org.notninja.verifier.type.DurationVerifier.sameDaysAs"),
+        SAME_HOURS_AS("org.notninja.verifier.type.DurationVerifier.sameHoursAs"),
+        SAME_MINUTES_AS("org.notninja.verifier.type.DurationVerifier.sameMinutesAs"),
+        SAME_SECONDS_AS("org.notninja.verifier.type.DurationVerifier.sameSecondsAs"),
+        ZERO("org.notninja.verifier.type.DurationVerifier.zero");
+
+        private final String code;
+
+        MessageKeys(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
+}
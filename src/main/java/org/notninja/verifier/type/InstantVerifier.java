@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.notninja.verifier.type.base.BaseZonedTimeVerifier;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link BaseZonedTimeVerifier} which can be used to verify an {@code Instant} value.
+ * </p>
+ * <p>
+ * Unless {@link #withZone(ZoneId)} is called, the date/time parts of values are resolved in UTC.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class InstantVerifier extends BaseZonedTimeVerifier<Instant, InstantVerifier> {
+
+    /**
+     * <p>
+     * Creates an instance of {@link InstantVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public InstantVerifier(final Verification<Instant> verification) {
+        super(verification);
+    }
+
+    @Override
+    protected ZoneId getDefaultZone(final Instant value) {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    protected long getEpochSecond(final Instant value) {
+        return value.getEpochSecond();
+    }
+
+    @Override
+    protected int getNano(final Instant value) {
+        return value.getNano();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import org.notninja.verifier.type.base.BaseTimeVerifier;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link BaseTimeVerifier} which can be used to verify a {@code LocalDateTime} value.
+ * </p>
+ * <p>
+ * Since {@code LocalDateTime} values have no time zone, their date/time parts are compared exactly as they are.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class LocalDateTimeVerifier extends BaseTimeVerifier<LocalDateTime, LocalDateTimeVerifier> {
+
+    /**
+     * <p>
+     * Creates an instance of {@link LocalDateTimeVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public LocalDateTimeVerifier(final Verification<LocalDateTime> verification) {
+        super(verification);
+    }
+
+    @Override
+    protected boolean isSameAs(final LocalDateTime value, final LocalDateTime other, final ChronoUnit unit) {
+        return isSameAs(value.toEpochSecond(ZoneOffset.UTC), value.getNano(), other.toEpochSecond(ZoneOffset.UTC), other.getNano(), unit);
+    }
+}
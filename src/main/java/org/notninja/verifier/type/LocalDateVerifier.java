@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import org.notninja.verifier.type.base.BaseTimeVerifier;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link BaseTimeVerifier} which can be used to verify a {@code LocalDate} value.
+ * </p>
+ * <p>
+ * Since {@code LocalDate} values have no time, they are treated as being at the start of their day. This means that
+ * values on the same day are also considered to be of the same hour, minute, second and time.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class LocalDateVerifier extends BaseTimeVerifier<LocalDate, LocalDateVerifier> {
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    /**
+     * <p>
+     * Creates an instance of {@link LocalDateVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public LocalDateVerifier(final Verification<LocalDate> verification) {
+        super(verification);
+    }
+
+    @Override
+    protected boolean isSameAs(final LocalDate value, final LocalDate other, final ChronoUnit unit) {
+        return isSameAs(value.toEpochDay() * SECONDS_PER_DAY, 0, other.toEpochDay() * SECONDS_PER_DAY, 0, unit);
+    }
+}
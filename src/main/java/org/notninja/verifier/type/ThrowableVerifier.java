@@ -22,14 +22,16 @@
 package org.notninja.verifier.type;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.notninja.verifier.AbstractCustomVerifier;
 import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.util.ClassMetadata;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -41,18 +43,10 @@ import org.notninja.verifier.verification.Verification;
  */
 public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, ThrowableVerifier> {
 
-    private static boolean isCausedBy(final Collection<Class<?>> throwableTypes, final Class<?> type) {
-        return throwableTypes.stream()
-            .anyMatch(type::isAssignableFrom);
-    }
-
-    private static boolean isCausedBy(final Collection<Throwable> throwables, final Throwable throwable) {
-        return throwables.contains(throwable);
-    }
-
     private static List<Throwable> getThrowables(Throwable throwable) {
         final List<Throwable> throwables = new ArrayList<>();
-        while (throwable != null && !throwables.contains(throwable)) {
+        final Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        while (throwable != null && visited.add(throwable)) {
             throwables.add(throwable);
             throwable = throwable.getCause();
         }
@@ -60,11 +54,9 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
         return throwables;
     }
 
-    private static Set<Class<?>> getThrowableTypes(final Throwable throwable) {
-        return getThrowables(throwable).stream()
-            .map(Throwable::getClass)
-            .collect(Collectors.toSet());
-    }
+    private List<Throwable> throwables;
+    private Set<Class<?>> throwableTypes;
+    private Throwable throwablesValue;
 
     /**
      * <p>
@@ -105,8 +97,7 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
      * @see #causedBy(Throwable, Object)
      */
     public ThrowableVerifier causedBy(final Class<?> type) {
-        final Throwable value = verification().getValue();
-        final boolean result = isCausedBy(getThrowableTypes(value), type);
+        final boolean result = isCausedBy(type);
 
         verification().report(result, MessageKeys.CAUSED_BY, type);
 
@@ -172,8 +163,7 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
      * @see #causedBy(Throwable)
      */
     public ThrowableVerifier causedBy(final Throwable cause, final Object name) {
-        final Throwable value = verification().getValue();
-        final boolean result = isCausedBy(getThrowables(value), cause);
+        final boolean result = isCausedBy(cause);
 
         verification().report(result, MessageKeys.CAUSED_BY, name);
 
@@ -207,9 +197,7 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
      * @since 0.2.0
      */
     public ThrowableVerifier causedByAll(final Class<?>... types) {
-        final Throwable value = verification().getValue();
-        final Set<Class<?>> throwableTypes = getThrowableTypes(value);
-        final boolean result = matchAll(types, input -> input != null && isCausedBy(throwableTypes, input));
+        final boolean result = matchAll(types, this::isCausedBy);
 
         verification().report(result, MessageKeys.CAUSED_BY_ALL, (Object) types);
 
@@ -244,9 +232,7 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
      * @since 0.2.0
      */
     public ThrowableVerifier causedByAny(final Class<?>... types) {
-        final Throwable value = verification().getValue();
-        final Set<Class<?>> throwableTypes = getThrowableTypes(value);
-        final boolean result = matchAny(types, input -> input != null && isCausedBy(throwableTypes, input));
+        final boolean result = matchAny(types, this::isCausedBy);
 
         verification().report(result, MessageKeys.CAUSED_BY_ANY, (Object) types);
 
@@ -280,9 +266,7 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
      * @since 0.2.0
      */
     public ThrowableVerifier causedByAny(final Throwable... causes) {
-        final Throwable value = verification().getValue();
-        final List<Throwable> throwables = getThrowables(value);
-        final boolean result = matchAny(causes, input -> isCausedBy(throwables, input));
+        final boolean result = matchAny(causes, this::isCausedBy);
 
         verification().report(result, MessageKeys.CAUSED_BY_ANY, (Object) causes);
 
@@ -315,6 +299,39 @@ public final class ThrowableVerifier extends AbstractCustomVerifier<Throwable, T
         return this;
     }
 
+    private List<Throwable> getThrowables() {
+        final Throwable value = verification().getValue();
+        if (throwables == null || throwablesValue != value) {
+            throwables = getThrowables(value);
+            throwableTypes = null;
+            throwablesValue = value;
+        }
+
+        return throwables;
+    }
+
+    private Set<Class<?>> getThrowableTypes() {
+        final List<Throwable> chain = getThrowables();
+        if (throwableTypes == null) {
+            final Set<Class<?>> types = new HashSet<>();
+            for (final Throwable throwable : chain) {
+                types.addAll(ClassMetadata.of(throwable.getClass()).getAssignableTypes());
+            }
+
+            throwableTypes = types;
+        }
+
+        return throwableTypes;
+    }
+
+    private boolean isCausedBy(final Class<?> type) {
+        return type != null && getThrowableTypes().contains(type);
+    }
+
+    private boolean isCausedBy(final Throwable cause) {
+        return getThrowables().contains(cause);
+    }
+
     /**
      * <p>
      * Verifies that the value has the {@code message} provided.
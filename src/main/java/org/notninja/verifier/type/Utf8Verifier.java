@@ -0,0 +1,432 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.nio.ByteBuffer;
+
+import org.notninja.verifier.AbstractCustomVerifier;
+import org.notninja.verifier.VerifierException;
+import org.notninja.verifier.type.base.BaseCharSequenceVerifier;
+import org.notninja.verifier.util.CharacterClass;
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An implementation of {@link AbstractCustomVerifier} which can be used to verify a {@code ByteBuffer} value containing
+ * UTF-8 encoded text as if it were a {@code String}, without ever decoding it into one.
+ * </p>
+ * <p>
+ * Only the bytes between the position and limit of the value are verified. They are read using absolute operations so
+ * the position, limit and mark of the value are never changed. ASCII bytes are matched directly and only multi-byte
+ * sequences are decoded into code points, one at a time. Malformed UTF-8 will fail any verification that needs to
+ * decode it, much like the replacement characters that it would be decoded into would.
+ * </p>
+ * <p>
+ * The results of verifications match those of the same verifications on {@link StringVerifier} for the decoded text,
+ * including that supplementary code points are counted and matched as two UTF-16 {@code chars}.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class Utf8Verifier extends AbstractCustomVerifier<ByteBuffer, Utf8Verifier> {
+
+    private static final int INVALID = -1;
+
+    private static int decode(final ByteBuffer buffer, final int index, final int length) {
+        if (length == 0 || buffer.limit() - index < length) {
+            return INVALID;
+        }
+
+        int codePoint = buffer.get(index) & (0xFF >>> (length + 1));
+        for (int i = 1; i < length; i++) {
+            final int b = buffer.get(index + i);
+            if ((b & 0xC0) != 0x80) {
+                return INVALID;
+            }
+
+            codePoint = codePoint << 6 | b & 0x3F;
+        }
+
+        if (length == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint))) {
+            return INVALID;
+        }
+        if (length == 4 && (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT)) {
+            return INVALID;
+        }
+
+        return codePoint;
+    }
+
+    static int getLength(final ByteBuffer buffer) {
+        final int limit = buffer.limit();
+        int i = buffer.position();
+        int length = 0;
+
+        while (true) {
+            final int next = ByteBufferVerifier.skipAscii(buffer, i);
+            length += next - i;
+            i = next;
+
+            if (i == limit) {
+                return length;
+            }
+
+            final int sequenceLength = getSequenceLength(buffer.get(i));
+            final int codePoint = decode(buffer, i, sequenceLength);
+            if (codePoint == INVALID) {
+                return INVALID;
+            }
+
+            length += Character.charCount(codePoint);
+            i += sequenceLength;
+        }
+    }
+
+    private static int getSequenceLength(final byte lead) {
+        final int b = lead & 0xFF;
+        if (b < 0xC2) {
+            // Continuation byte or overlong encoding
+            return 0;
+        }
+        if (b <= 0xDF) {
+            return 2;
+        }
+        if (b <= 0xEF) {
+            return 3;
+        }
+        if (b <= 0xF4) {
+            return 4;
+        }
+
+        return 0;
+    }
+
+    static boolean matchesAll(final ByteBuffer buffer, final CharacterClass characterClass) {
+        final int limit = buffer.limit();
+        int i = buffer.position();
+
+        while (i < limit) {
+            final byte b = buffer.get(i);
+            if (b >= 0) {
+                if (!characterClass.matches((char) b)) {
+                    return false;
+                }
+
+                i++;
+                continue;
+            }
+
+            final int sequenceLength = getSequenceLength(b);
+            final int codePoint = decode(buffer, i, sequenceLength);
+            // Supplementary code points are surrogate pairs once decoded, which never belong to a CharacterClass
+            if (codePoint == INVALID || Character.isSupplementaryCodePoint(codePoint) || !characterClass.matches((char) codePoint)) {
+                return false;
+            }
+
+            i += sequenceLength;
+        }
+
+        return true;
+    }
+
+    static boolean startsWith(final ByteBuffer buffer, final CharSequence prefix) {
+        final int limit = buffer.limit();
+        final int prefixLength = prefix.length();
+        int i = buffer.position();
+        int j = 0;
+
+        while (j < prefixLength) {
+            if (i == limit) {
+                return false;
+            }
+
+            final byte b = buffer.get(i);
+            if (b >= 0) {
+                if (prefix.charAt(j) != b) {
+                    return false;
+                }
+
+                i++;
+                j++;
+                continue;
+            }
+
+            final int sequenceLength = getSequenceLength(b);
+            final int codePoint = decode(buffer, i, sequenceLength);
+            if (codePoint == INVALID) {
+                return false;
+            }
+
+            if (Character.isSupplementaryCodePoint(codePoint)) {
+                if (prefix.charAt(j) != Character.highSurrogate(codePoint) || j + 1 < prefixLength && prefix.charAt(j + 1) != Character.lowSurrogate(codePoint)) {
+                    return false;
+                }
+
+                j += 2;
+            } else {
+                if (prefix.charAt(j) != codePoint) {
+                    return false;
+                }
+
+                j++;
+            }
+
+            i += sequenceLength;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Creates an instance of {@link Utf8Verifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public Utf8Verifier(final Verification<ByteBuffer> verification) {
+        super(verification);
+    }
+
+    /**
+     * <p>
+     * Verifies that the value decodes to contain only letters.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).alpha()                             =&gt; FAIL
+     * Verifier.verifyUtf8(new byte[0]).alpha()                               =&gt; PASS
+     * Verifier.verifyUtf8("abc".getBytes(StandardCharsets.UTF_8)).alpha()    =&gt; PASS
+     * Verifier.verifyUtf8("été".getBytes(StandardCharsets.UTF_8)).alpha()    =&gt; PASS
+     * Verifier.verifyUtf8("abc123".getBytes(StandardCharsets.UTF_8)).alpha() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#alpha()
+     */
+    public Utf8Verifier alpha() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && matchesAll(value, CharacterClass.ALPHA);
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.ALPHA);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value decodes to contain only letters or digits.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).alphanumeric()                              =&gt; FAIL
+     * Verifier.verifyUtf8(new byte[0]).alphanumeric()                                =&gt; PASS
+     * Verifier.verifyUtf8("abc123".getBytes(StandardCharsets.UTF_8)).alphanumeric()  =&gt; PASS
+     * Verifier.verifyUtf8("abc 123".getBytes(StandardCharsets.UTF_8)).alphanumeric() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#alphanumeric()
+     */
+    public Utf8Verifier alphanumeric() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && matchesAll(value, CharacterClass.ALPHANUMERIC);
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.ALPHANUMERIC);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only ASCII printable characters.
+     * </p>
+     * <p>
+     * Since these are all single bytes in UTF-8, no decoding is ever required. {@literal null} references are handled
+     * gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).asciiPrintable()                              =&gt; FAIL
+     * Verifier.verifyUtf8(new byte[0]).asciiPrintable()                                =&gt; PASS
+     * Verifier.verifyUtf8("abc 123".getBytes(StandardCharsets.UTF_8)).asciiPrintable() =&gt; PASS
+     * Verifier.verifyUtf8("été".getBytes(StandardCharsets.UTF_8)).asciiPrintable()     =&gt; FAIL
+     * Verifier.verifyUtf8("\r\n".getBytes(StandardCharsets.UTF_8)).asciiPrintable()    =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#asciiPrintable()
+     */
+    public Utf8Verifier asciiPrintable() {
+        final ByteBuffer value = verification().getValue();
+        boolean result = value != null;
+
+        if (result) {
+            final int limit = value.limit();
+            for (int i = value.position(); i < limit && result; i++) {
+                final byte b = value.get(i);
+                result = b >= 32 && b < 127;
+            }
+        }
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.ASCII_PRINTABLE);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is empty.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).empty()                          =&gt; PASS
+     * Verifier.verifyUtf8(new byte[0]).empty()                            =&gt; PASS
+     * Verifier.verifyUtf8(" ".getBytes(StandardCharsets.UTF_8)).empty()   =&gt; FAIL
+     * Verifier.verifyUtf8("abc".getBytes(StandardCharsets.UTF_8)).empty() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#empty()
+     */
+    public Utf8Verifier empty() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value == null || !value.hasRemaining();
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.EMPTY);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value decodes to contain only digits.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).numeric()                             =&gt; FAIL
+     * Verifier.verifyUtf8(new byte[0]).numeric()                               =&gt; PASS
+     * Verifier.verifyUtf8("123".getBytes(StandardCharsets.UTF_8)).numeric()    =&gt; PASS
+     * Verifier.verifyUtf8("123abc".getBytes(StandardCharsets.UTF_8)).numeric() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#numeric()
+     */
+    public Utf8Verifier numeric() {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && matchesAll(value, CharacterClass.NUMERIC);
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.NUMERIC);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value decodes to contain exactly the specified number ({@code size}) of UTF-16 {@code chars}.
+     * </p>
+     * <p>
+     * Runs of ASCII bytes are counted eight bytes at a time and malformed UTF-8 never matches any {@code size}.
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).sizeOf(0)                          =&gt; PASS
+     * Verifier.verifyUtf8((byte[]) null).sizeOf(1)                          =&gt; FAIL
+     * Verifier.verifyUtf8("abc".getBytes(StandardCharsets.UTF_8)).sizeOf(3) =&gt; PASS
+     * Verifier.verifyUtf8("été".getBytes(StandardCharsets.UTF_8)).sizeOf(3) =&gt; PASS
+     * Verifier.verifyUtf8("été".getBytes(StandardCharsets.UTF_8)).sizeOf(5) =&gt; FAIL
+     * </pre>
+     *
+     * @param size
+     *         the size to be checked
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#sizeOf(int)
+     */
+    public Utf8Verifier sizeOf(final int size) {
+        final ByteBuffer value = verification().getValue();
+        final boolean result;
+        if (value == null) {
+            result = size == 0;
+        } else {
+            final int length = getLength(value);
+            result = length != INVALID && length == size;
+        }
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.SIZE_OF, size);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value decodes to start with the {@code other} provided.
+     * </p>
+     * <p>
+     * Only as many bytes as are needed to match {@code other} are decoded, so any bytes after those are not checked.
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verifyUtf8((byte[]) null).startWith(*)                                  =&gt; FAIL
+     * Verifier.verifyUtf8(*).startWith(null)                                           =&gt; FAIL
+     * Verifier.verifyUtf8(*).startWith("")                                             =&gt; PASS
+     * Verifier.verifyUtf8("abc def".getBytes(StandardCharsets.UTF_8)).startWith("abc") =&gt; PASS
+     * Verifier.verifyUtf8("abc def".getBytes(StandardCharsets.UTF_8)).startWith("ABC") =&gt; FAIL
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to be checked as the prefix of the value (may be {@literal null})
+     * @return A reference to this {@link Utf8Verifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see BaseCharSequenceVerifier#startWith(CharSequence)
+     */
+    public Utf8Verifier startWith(final CharSequence other) {
+        final ByteBuffer value = verification().getValue();
+        final boolean result = value != null && other != null && startsWith(value, other);
+
+        verification().report(result, BaseCharSequenceVerifier.MessageKeys.START_WITH, other);
+
+        return this;
+    }
+}
@@ -0,0 +1,1651 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type.base;
+
+import java.util.regex.Pattern;
+
+import org.notninja.verifier.VerifierException;
+import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.util.ArrayUtils;
+import org.notninja.verifier.util.CharSequenceUtils;
+import org.notninja.verifier.util.CharacterClass;
+import org.notninja.verifier.util.FormatUtils;
+import org.notninja.verifier.util.NeedleSet;
+import org.notninja.verifier.util.PatternCache;
+import org.notninja.verifier.util.PatternSet;
+
+/**
+ * <p>
+ * An extension of {@link BaseTruthVerifier} which includes methods for verifying the characters of a
+ * {@code CharSequence} value.
+ * </p>
+ * <p>
+ * Each verification reads the characters of the value directly so that they work the same for a {@code String} as for
+ * any other {@code CharSequence}, such as a {@code StringBuilder}, without copying it first.
+ * </p>
+ * <p>
+ * All of the {@link BaseTruthVerifier} methods are implemented so that {@literal null}, empty and {@literal "false"}
+ * (ignoring case) are <b>always</b> considered to be falsy and {@literal "true"} (ignoring case) is <b>always</b>
+ * considered to be truthy.
+ * </p>
+ *
+ * @param <T>
+ *         the type of the {@code CharSequence} being verified
+ * @param <V>
+ *         the type of the {@link BaseCharSequenceVerifier} for chaining purposes
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+@SuppressWarnings("unchecked")
+public interface BaseCharSequenceVerifier<T extends CharSequence, V extends BaseCharSequenceVerifier<T, V>> extends BaseTruthVerifier<T, V> {
+
+    /**
+     * <p>
+     * Verifies that the value contains only letters.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).alpha() =&gt; FAIL
+     * Verifier.verify("\0\r\n").alpha()      =&gt; FAIL
+     * Verifier.verify("123").alpha()         =&gt; FAIL
+     * Verifier.verify("abc").alpha()         =&gt; PASS
+     * Verifier.verify("abc123").alpha()      =&gt; FAIL
+     * Verifier.verify("a b c").alpha()       =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #alphaSpace()
+     */
+    default V alpha() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.ALPHA.matchesAll(value);
+
+        verification().report(result, MessageKeys.ALPHA);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only letters or space.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).alphaSpace() =&gt; FAIL
+     * Verifier.verify("\0 \r \n").alphaSpace()    =&gt; FAIL
+     * Verifier.verify("1 2 3").alphaSpace()       =&gt; FAIL
+     * Verifier.verify("a b c").alphaSpace()       =&gt; PASS
+     * Verifier.verify("a b c 1 2 3").alphaSpace() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #alpha()
+     */
+    default V alphaSpace() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.ALPHA_OR_SPACE.matchesAll(value);
+
+        verification().report(result, MessageKeys.ALPHA_SPACE);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only letters or digits.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).alphanumeric() =&gt; FAIL
+     * Verifier.verify("\0\r\n").alphanumeric()      =&gt; FAIL
+     * Verifier.verify("123").alphanumeric()         =&gt; PASS
+     * Verifier.verify("abc").alphanumeric()         =&gt; PASS
+     * Verifier.verify("abc123").alphanumeric()      =&gt; PASS
+     * Verifier.verify("a b c 1 2 3").alphanumeric() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #alphanumericSpace()
+     */
+    default V alphanumeric() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.ALPHANUMERIC.matchesAll(value);
+
+        verification().report(result, MessageKeys.ALPHANUMERIC);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only letters or digits or space.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).alphanumericSpace() =&gt; FAIL
+     * Verifier.verify("\0 \r \n").alphanumericSpace()    =&gt; FAIL
+     * Verifier.verify("1 2 3").alphanumericSpace()       =&gt; PASS
+     * Verifier.verify("a b c").alphanumericSpace()       =&gt; PASS
+     * Verifier.verify("a b c 1 2 3").alphanumericSpace() =&gt; PASS
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #alphanumeric()
+     */
+    default V alphanumericSpace() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.ALPHANUMERIC_OR_SPACE.matchesAll(value);
+
+        verification().report(result, MessageKeys.ALPHANUMERIC_SPACE);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value only contains ASCII printable characters.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).asciiPrintable() =&gt; FAIL
+     * Verifier.verify("\0 abc").asciiPrintable()      =&gt; FAIL
+     * Verifier.verify("abc ~ 123").asciiPrintable()   =&gt; PASS
+     * Verifier.verify("É १").asciiPrintable()         =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    default V asciiPrintable() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.ASCII_PRINTABLE.matchesAll(value);
+
+        verification().report(result, MessageKeys.ASCII_PRINTABLE);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is encoded using the standard Base64 alphabet, including any padding.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).base64() =&gt; FAIL
+     * Verifier.verify("").base64()            =&gt; PASS
+     * Verifier.verify("Zm9vYg==").base64()    =&gt; PASS
+     * Verifier.verify("Zm9vYg").base64()      =&gt; FAIL
+     * Verifier.verify("Zm9v_g==").base64()    =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isBase64(CharSequence)
+     */
+    default V base64() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isBase64(value);
+
+        verification().report(result, MessageKeys.BASE64);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is blank (i.e. only contains whitespace).
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).blank() =&gt; PASS
+     * Verifier.verify("abc 123").blank()     =&gt; FAIL
+     * Verifier.verify("  abc 123  ").blank() =&gt; FAIL
+     * Verifier.verify("  \r\nabc").blank()   =&gt; FAIL
+     * Verifier.verify("").blank()            =&gt; PASS
+     * Verifier.verify("  ").blank()          =&gt; PASS
+     * Verifier.verify("\r\n\t").blank()      =&gt; PASS
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #empty()
+     */
+    default V blank() {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.isBlank(value);
+
+        verification().report(result, MessageKeys.BLANK);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains the {@code other} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).contain(*)             =&gt; FAIL
+     * Verifier.verify(*).contain(null)                      =&gt; FAIL
+     * Verifier.verify(*).contain("")                        =&gt; PASS
+     * Verifier.verify("abc def 123").contain("ghi")         =&gt; FAIL
+     * Verifier.verify("abc def 123").contain("def")         =&gt; PASS
+     * Verifier.verify("abc def 123").contain("abc def 123") =&gt; PASS
+     * Verifier.verify("abc def 123").contain("DEF")         =&gt; FAIL
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containIgnoreCase(CharSequence)
+     */
+    default V contain(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.contains(value, other);
+
+        verification().report(result, MessageKeys.CONTAIN, other);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains <b>all</b> of the {@code others} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containAll(*)            =&gt; FAIL
+     * Verifier.verify(*).containAll((CharSequence[]) null)    =&gt; PASS
+     * Verifier.verify("abc def 123").containAll("ghi", "456") =&gt; FAIL
+     * Verifier.verify("abc def 123").containAll("def", "456") =&gt; FAIL
+     * Verifier.verify("abc def 123").containAll("123", "def") =&gt; PASS
+     * Verifier.verify("abc def 123").containAll("123", "ABC") =&gt; FAIL
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containAllIgnoreCase(CharSequence...)
+     */
+    default V containAll(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAll(others, input -> CharSequenceUtils.contains(value, input));
+
+        verification().report(result, MessageKeys.CONTAIN_ALL, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains <b>all</b> of the needles within the {@code needles} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #containAll(CharSequence...)}, the value is only scanned once, regardless of the number of needles.
+     * Case is ignored if {@code needles} was created using {@link NeedleSet#ofIgnoreCase(CharSequence...)}.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containAll(*)                                    =&gt; FAIL
+     * Verifier.verify(*).containAll((NeedleSet) null)                                 =&gt; PASS
+     * Verifier.verify("abc def 123").containAll(NeedleSet.of("def", "456"))           =&gt; FAIL
+     * Verifier.verify("abc def 123").containAll(NeedleSet.of("123", "def"))           =&gt; PASS
+     * Verifier.verify("abc def 123").containAll(NeedleSet.ofIgnoreCase("123", "DEF")) =&gt; PASS
+     * </pre>
+     *
+     * @param needles
+     *         the {@link NeedleSet} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containAll(CharSequence...)
+     * @see #containAllIgnoreCase(CharSequence...)
+     */
+    default V containAll(final NeedleSet needles) {
+        final T value = verification().getValue();
+        final boolean result = value != null && (needles == null || needles.allIn(value));
+        final MessageKey key = needles != null && needles.isIgnoreCase() ? MessageKeys.CONTAIN_ALL_IGNORE_CASE : MessageKeys.CONTAIN_ALL;
+
+        verification().report(result, key, needles);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains <b>all</b> of the {@code others} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containAllIgnoreCase(*)            =&gt; FAIL
+     * Verifier.verify(*).containAllIgnoreCase((CharSequence[]) null)    =&gt; PASS
+     * Verifier.verify("abc def 123").containAllIgnoreCase("ghi", "456") =&gt; FAIL
+     * Verifier.verify("abc def 123").containAllIgnoreCase("def", "456") =&gt; FAIL
+     * Verifier.verify("abc def 123").containAllIgnoreCase("123", "def") =&gt; PASS
+     * Verifier.verify("abc def 123").containAllIgnoreCase("123", "DEF") =&gt; PASS
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containAll(CharSequence...)
+     */
+    default V containAllIgnoreCase(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAll(others, input -> CharSequenceUtils.containsIgnoreCase(value, input));
+
+        verification().report(result, MessageKeys.CONTAIN_ALL_IGNORE_CASE, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains <b>any</b> of the {@code others} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containAny(*)            =&gt; FAIL
+     * Verifier.verify(*).containAny((CharSequence[]) null)    =&gt; FAIL
+     * Verifier.verify(*).containAny("", *)                    =&gt; PASS
+     * Verifier.verify("abc def 123").containAny("ghi", "456") =&gt; FAIL
+     * Verifier.verify("abc def 123").containAny("def", "456") =&gt; PASS
+     * Verifier.verify("abc def 123").containAny("123", "def") =&gt; PASS
+     * Verifier.verify("abc def 123").containAny("DEF", "456") =&gt; FAIL
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containAnyIgnoreCase(CharSequence...)
+     */
+    default V containAny(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAny(others, input -> CharSequenceUtils.contains(value, input));
+
+        verification().report(result, MessageKeys.CONTAIN_ANY, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains <b>any</b> of the needles within the {@code needles} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #containAny(CharSequence...)}, the value is only scanned once, regardless of the number of needles.
+     * Case is ignored if {@code needles} was created using {@link NeedleSet#ofIgnoreCase(CharSequence...)}.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containAny(*)                                    =&gt; FAIL
+     * Verifier.verify(*).containAny((NeedleSet) null)                                 =&gt; FAIL
+     * Verifier.verify("abc def 123").containAny(NeedleSet.of("ghi", "456"))           =&gt; FAIL
+     * Verifier.verify("abc def 123").containAny(NeedleSet.of("def", "456"))           =&gt; PASS
+     * Verifier.verify("abc def 123").containAny(NeedleSet.ofIgnoreCase("DEF", "456")) =&gt; PASS
+     * </pre>
+     *
+     * @param needles
+     *         the {@link NeedleSet} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containAny(CharSequence...)
+     * @see #containAnyIgnoreCase(CharSequence...)
+     */
+    default V containAny(final NeedleSet needles) {
+        final T value = verification().getValue();
+        final boolean result = value != null && (needles != null && needles.anyIn(value));
+        final MessageKey key = needles != null && needles.isIgnoreCase() ? MessageKeys.CONTAIN_ANY_IGNORE_CASE : MessageKeys.CONTAIN_ANY;
+
+        verification().report(result, key, needles);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains <b>any</b> of the {@code others} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containAnyIgnoreCase(*)            =&gt; FAIL
+     * Verifier.verify(*).containAnyIgnoreCase((CharSequence[]) null)    =&gt; FAIL
+     * Verifier.verify(*).containAnyIgnoreCase("", *)                    =&gt; PASS
+     * Verifier.verify("abc def 123").containAnyIgnoreCase("ghi", "456") =&gt; FAIL
+     * Verifier.verify("abc def 123").containAnyIgnoreCase("def", "456") =&gt; PASS
+     * Verifier.verify("abc def 123").containAnyIgnoreCase("123", "def") =&gt; PASS
+     * Verifier.verify("abc def 123").containAnyIgnoreCase("DEF", "456") =&gt; PASS
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #containAny(CharSequence...)
+     */
+    default V containAnyIgnoreCase(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAny(others, input -> CharSequenceUtils.containsIgnoreCase(value, input));
+
+        verification().report(result, MessageKeys.CONTAIN_ANY_IGNORE_CASE, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains the {@code other} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).containIgnoreCase(*)             =&gt; FAIL
+     * Verifier.verify(*).containIgnoreCase(null)                      =&gt; FAIL
+     * Verifier.verify(*).containIgnoreCase("")                        =&gt; PASS
+     * Verifier.verify("abc def 123").containIgnoreCase("ghi")         =&gt; FAIL
+     * Verifier.verify("abc def 123").containIgnoreCase("def")         =&gt; PASS
+     * Verifier.verify("abc def 123").containIgnoreCase("abc def 123") =&gt; PASS
+     * Verifier.verify("abc def 123").containIgnoreCase("DEF")         =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #contain(CharSequence)
+     */
+    default V containIgnoreCase(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = value != null && CharSequenceUtils.containsIgnoreCase(value, other);
+
+        verification().report(result, MessageKeys.CONTAIN_IGNORE_CASE, other);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is a syntactically valid e-mail address.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).email()         =&gt; FAIL
+     * Verifier.verify("").email()                    =&gt; FAIL
+     * Verifier.verify("foo.bar@example.com").email() =&gt; PASS
+     * Verifier.verify("foo@localhost").email()       =&gt; PASS
+     * Verifier.verify("foo bar@example.com").email() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isEmail(CharSequence)
+     */
+    default V email() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isEmail(value);
+
+        verification().report(result, MessageKeys.EMAIL);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is empty.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).empty() =&gt; PASS
+     * Verifier.verify("abc 123").empty()     =&gt; FAIL
+     * Verifier.verify("").empty()            =&gt; PASS
+     * Verifier.verify("  ").empty()          =&gt; FAIL
+     * Verifier.verify("\r\n\t").empty()      =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #blank()
+     */
+    default V empty() {
+        final T value = verification().getValue();
+        final boolean result = value == null || value.length() == 0;
+
+        verification().report(result, MessageKeys.EMPTY);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value ends with the {@code other} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).endWith(*)     =&gt; FAIL
+     * Verifier.verify(*).endWith(null)              =&gt; FAIL
+     * Verifier.verify(*).endWith("")                =&gt; PASS
+     * Verifier.verify("abc def").endWith("abc")     =&gt; FAIL
+     * Verifier.verify("abc def").endWith("def")     =&gt; PASS
+     * Verifier.verify("abc def").endWith("abc def") =&gt; PASS
+     * Verifier.verify("abc def").endWith("DEF")     =&gt; FAIL
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to check for at the end of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #endWithIgnoreCase(CharSequence)
+     */
+    default V endWith(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.endsWith(value, other, false);
+
+        verification().report(result, MessageKeys.END_WITH, other);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value ends with <b>any</b> of the {@code others} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).endWithAny(*)         =&gt; FAIL
+     * Verifier.verify(*).endWithAny((CharSequence[]) null) =&gt; FAIL
+     * Verifier.verify(*).endWithAny("", *)                 =&gt; PASS
+     * Verifier.verify("abc def").endWithAny("ghi", "123")  =&gt; FAIL
+     * Verifier.verify("abc def").endWithAny("def", "123")  =&gt; PASS
+     * Verifier.verify("abc def").endWithAny("DEF", "123")  =&gt; FAIL
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for at the end of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #endWithAnyIgnoreCase(CharSequence...)
+     */
+    default V endWithAny(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAny(others, input -> CharSequenceUtils.endsWith(value, input, false));
+
+        verification().report(result, MessageKeys.END_WITH_ANY, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value ends with <b>any</b> of the needles within the {@code needles} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #endWithAny(CharSequence...)}, the value is only scanned once, regardless of the number of needles.
+     * Case is ignored if {@code needles} was created using {@link NeedleSet#ofIgnoreCase(CharSequence...)}.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).endWithAny(*)                                =&gt; FAIL
+     * Verifier.verify(*).endWithAny((NeedleSet) null)                             =&gt; FAIL
+     * Verifier.verify("abc def").endWithAny(NeedleSet.of("ghi", "123"))           =&gt; FAIL
+     * Verifier.verify("abc def").endWithAny(NeedleSet.of("def", "123"))           =&gt; PASS
+     * Verifier.verify("abc def").endWithAny(NeedleSet.ofIgnoreCase("DEF", "123")) =&gt; PASS
+     * </pre>
+     *
+     * @param needles
+     *         the {@link NeedleSet} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #endWithAny(CharSequence...)
+     * @see #endWithAnyIgnoreCase(CharSequence...)
+     */
+    default V endWithAny(final NeedleSet needles) {
+        final T value = verification().getValue();
+        final boolean result = value != null && (needles != null && needles.anySuffixOf(value));
+        final MessageKey key = needles != null && needles.isIgnoreCase() ? MessageKeys.END_WITH_ANY_IGNORE_CASE : MessageKeys.END_WITH_ANY;
+
+        verification().report(result, key, needles);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value ends with <b>any</b> of the {@code others} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).endWithAnyIgnoreCase(*)         =&gt; FAIL
+     * Verifier.verify(*).endWithAnyIgnoreCase((CharSequence[]) null) =&gt; FAIL
+     * Verifier.verify(*).endWithAnyIgnoreCase("", *)                 =&gt; PASS
+     * Verifier.verify("abc def").endWithAnyIgnoreCase("ghi", "123")  =&gt; FAIL
+     * Verifier.verify("abc def").endWithAnyIgnoreCase("def", "123")  =&gt; PASS
+     * Verifier.verify("abc def").endWithAnyIgnoreCase("DEF", "123")  =&gt; PASS
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for at the end of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #endWithAny(CharSequence...)
+     */
+    default V endWithAnyIgnoreCase(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAny(others, input -> CharSequenceUtils.endsWith(value, input, true));
+
+        verification().report(result, MessageKeys.END_WITH_ANY_IGNORE_CASE, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value ends with the {@code other} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).endWithIgnoreCase(*)     =&gt; FAIL
+     * Verifier.verify(*).endWithIgnoreCase(null)              =&gt; FAIL
+     * Verifier.verify(*).endWithIgnoreCase("")                =&gt; PASS
+     * Verifier.verify("abc def").endWithIgnoreCase("abc")     =&gt; FAIL
+     * Verifier.verify("abc def").endWithIgnoreCase("def")     =&gt; PASS
+     * Verifier.verify("abc def").endWithIgnoreCase("abc def") =&gt; PASS
+     * Verifier.verify("abc def").endWithIgnoreCase("DEF")     =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to check for at the end of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #endWith(CharSequence)
+     */
+    default V endWithIgnoreCase(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.endsWith(value, other, true);
+
+        verification().report(result, MessageKeys.END_WITH_IGNORE_CASE, other);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is equal to any of the {@code others} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).equalToAnyIgnoreCase()                                =&gt; FAIL
+     * Verifier.verify(*).equalToAnyIgnoreCase((CharSequence[]) null)           =&gt; FAIL
+     * Verifier.verify((String) null).equalToAnyIgnoreCase("ghi", "def", null)  =&gt; PASS
+     * Verifier.verify((String) null).equalToAnyIgnoreCase("ghi", "def", "abc") =&gt; FAIL
+     * Verifier.verify("abc").equalToAnyIgnoreCase("ghi", "def", null)          =&gt; FAIL
+     * Verifier.verify("abc").equalToAnyIgnoreCase("ghi", "def", "abc")         =&gt; PASS
+     * Verifier.verify("abc").equalToAnyIgnoreCase("GHI", "DEF", "ABC")         =&gt; PASS
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to compare against the value (may be {@literal null} or contain {@literal null}
+     *         references)
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #equalToAny(Object...)
+     */
+    default V equalToAnyIgnoreCase(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.equalsAnyIgnoreCase(value, others);
+
+        verification().report(result, MessageKeys.EQUAL_TO_ANY_IGNORE_CASE, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is equal to the {@code other} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).equalToIgnoreCase(null)  =&gt; PASS
+     * Verifier.verify((String) null).equalToIgnoreCase("abc") =&gt; FAIL
+     * Verifier.verify("abc").equalToIgnoreCase(null)          =&gt; FAIL
+     * Verifier.verify("abc").equalToIgnoreCase("abc")         =&gt; PASS
+     * Verifier.verify("abc").equalToIgnoreCase("ABC")         =&gt; PASS
+     * Verifier.verify("abc").equalToIgnoreCase("def")         =&gt; FAIL
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to compare against the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #equalTo(Object)
+     */
+    default V equalToIgnoreCase(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.equalsIgnoreCase(value, other);
+
+        verification().report(result, MessageKeys.EQUAL_TO_IGNORE_CASE, other);
+
+        return (V) this;
+    }
+
+
+    @Override
+    default V falsy() {
+        final T value = verification().getValue();
+        final boolean result = value == null || value.length() == 0 || CharSequenceUtils.equalsIgnoreCase(Boolean.FALSE.toString(), value);
+
+        verification().report(result, BaseTruthVerifier.MessageKeys.FALSY);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only hexadecimal digits.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).hex() =&gt; FAIL
+     * Verifier.verify("").hex()            =&gt; FAIL
+     * Verifier.verify("09afAF").hex()      =&gt; PASS
+     * Verifier.verify("0x09afAF").hex()    =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isHex(CharSequence)
+     */
+    default V hex() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isHex(value);
+
+        verification().report(result, MessageKeys.HEX);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is an IPv4 address in dotted-decimal notation.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).ipv4() =&gt; FAIL
+     * Verifier.verify("127.0.0.1").ipv4()   =&gt; PASS
+     * Verifier.verify("127.0.0.256").ipv4() =&gt; FAIL
+     * Verifier.verify("127.0.0.01").ipv4()  =&gt; FAIL
+     * Verifier.verify("127.0.1").ipv4()     =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isIpv4(CharSequence)
+     */
+    default V ipv4() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isIpv4(value);
+
+        verification().report(result, MessageKeys.IPV4);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is an IPv6 address.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).ipv6()      =&gt; FAIL
+     * Verifier.verify("::1").ipv6()              =&gt; PASS
+     * Verifier.verify("2001:db8::2:1").ipv6()    =&gt; PASS
+     * Verifier.verify("::ffff:192.0.2.1").ipv6() =&gt; PASS
+     * Verifier.verify("2001:db8::2::1").ipv6()   =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isIpv6(CharSequence)
+     */
+    default V ipv6() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isIpv6(value);
+
+        verification().report(result, MessageKeys.IPV6);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is a date or date-time in the ISO 8601 extended format.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).iso8601()              =&gt; FAIL
+     * Verifier.verify("2016-02-29").iso8601()               =&gt; PASS
+     * Verifier.verify("2016-02-29T13:45:30.123Z").iso8601() =&gt; PASS
+     * Verifier.verify("2016-02-29T13:45+01:00").iso8601()   =&gt; PASS
+     * Verifier.verify("2017-02-29").iso8601()               =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isIso8601(CharSequence)
+     */
+    default V iso8601() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isIso8601(value);
+
+        verification().report(result, MessageKeys.ISO8601);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only lower case letters.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).lowerCase() =&gt; FAIL
+     * Verifier.verify("ABC").lowerCase()         =&gt; FAIL
+     * Verifier.verify("abcDEF").lowerCase()      =&gt; FAIL
+     * Verifier.verify("abc123").lowerCase()      =&gt; FAIL
+     * Verifier.verify("abc").lowerCase()         =&gt; PASS
+     * Verifier.verify("a b c").lowerCase()       =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #upperCase()
+     */
+    default V lowerCase() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.LOWER_CASE.matchesAll(value);
+
+        verification().report(result, MessageKeys.LOWER_CASE);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches the regular expression provided.
+     * </p>
+     * <p>
+     * Compiled regular expressions are cached by the {@link PatternCache#getDefault() default PatternCache} so that
+     * repeated verifications do not need to compile them again.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).match(*)       =&gt; FAIL
+     * Verifier.verify(*).match((CharSequence) null) =&gt; FAIL
+     * Verifier.verify(*).match(".*")                =&gt; PASS
+     * Verifier.verify("foo").match("fo{2}")         =&gt; PASS
+     * Verifier.verify("food").match("fo{2}")        =&gt; FAIL
+     * </pre>
+     *
+     * @param regex
+     *         the regular expression to be matched against the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #match(Pattern)
+     */
+    default V match(final CharSequence regex) {
+        final T value = verification().getValue();
+        final boolean result = value != null && regex != null && PatternCache.getDefault().compile(regex.toString()).matcher(value).matches();
+
+        verification().report(result, MessageKeys.MATCH, regex);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches the regular expression {@code pattern} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).match(*)                 =&gt; FAIL
+     * Verifier.verify(*).match((Pattern) null)                =&gt; FAIL
+     * Verifier.verify(*).match(Pattern.compile(".*"))         =&gt; PASS
+     * Verifier.verify("foo").match(Pattern.compile("fo{2}"))  =&gt; PASS
+     * Verifier.verify("food").match(Pattern.compile("fo{2}")) =&gt; FAIL
+     * </pre>
+     *
+     * @param pattern
+     *         the regular expression {@code Pattern} to be matched against the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #match(CharSequence)
+     */
+    default V match(final Pattern pattern) {
+        final T value = verification().getValue();
+        final boolean result = value != null && pattern != null && pattern.matcher(value).matches();
+
+        verification().report(result, MessageKeys.MATCH, pattern);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches <b>all</b> of the regular expressions provided.
+     * </p>
+     * <p>
+     * Compiled regular expressions are cached by the {@link PatternCache#getDefault() default PatternCache} so that
+     * repeated verifications do not need to compile them again.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).matchAll()                      =&gt; PASS
+     * Verifier.verify(*).matchAll((CharSequence[]) null) =&gt; PASS
+     * Verifier.verify(*).matchAll(*, null)               =&gt; FAIL
+     * Verifier.verify((String) null).matchAll(*)         =&gt; FAIL
+     * Verifier.verify("foo").matchAll(".*", "fo{2}")     =&gt; PASS
+     * Verifier.verify("foo").matchAll(".*", "fiz{2}")    =&gt; FAIL
+     * </pre>
+     *
+     * @param regexes
+     *         the regular expressions to be matched against of the value (may be {@literal null} or contain {@literal
+     *         null} references)
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #matchAll(Pattern...)
+     */
+    default V matchAll(final CharSequence... regexes) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAll(regexes, input -> input != null && PatternCache.getDefault().compile(input.toString()).matcher(value).matches());
+
+        verification().report(result, MessageKeys.MATCH_ALL, (Object) regexes);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches <b>all</b> of the regular expression {@code patterns} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).matchAll()                                                     =&gt; PASS
+     * Verifier.verify(*).matchAll((Pattern[]) null)                                     =&gt; PASS
+     * Verifier.verify(*).matchAll(*, null)                                              =&gt; FAIL
+     * Verifier.verify((String) null).matchAll(*)                                        =&gt; FAIL
+     * Verifier.verify("foo").matchAll(Pattern.compile(".*"), Pattern.compile("fo{2}"))  =&gt; PASS
+     * Verifier.verify("foo").matchAll(Pattern.compile(".*"), Pattern.compile("fiz{2}")) =&gt; FAIL
+     * </pre>
+     *
+     * @param patterns
+     *         the regular expression {@code Patterns} to be matched against of the value (may be {@literal null} or
+     *         contain {@literal null} references)
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #matchAll(CharSequence...)
+     */
+    default V matchAll(final Pattern... patterns) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAll(patterns, input -> input != null && input.matcher(value).matches());
+
+        verification().report(result, MessageKeys.MATCH_ALL, (Object) patterns);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches <b>all</b> of the regular expressions within the {@code patterns} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #matchAll(Pattern...)}, patterns which cannot possibly match the value are skipped without being
+     * evaluated.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).matchAll(*)                          =&gt; FAIL
+     * Verifier.verify(*).matchAll((PatternSet) null)                      =&gt; PASS
+     * Verifier.verify("foo").matchAll(PatternSet.compile(".*", "fo{2}"))  =&gt; PASS
+     * Verifier.verify("foo").matchAll(PatternSet.compile(".*", "fiz{2}")) =&gt; FAIL
+     * </pre>
+     *
+     * @param patterns
+     *         the {@link PatternSet} to be matched against the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #matchAll(Pattern...)
+     */
+    default V matchAll(final PatternSet patterns) {
+        final T value = verification().getValue();
+        final boolean result = value != null && (patterns == null || patterns.matchesAll(value));
+
+        verification().report(result, MessageKeys.MATCH_ALL, patterns);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches <b>any</b> of the regular expressions provided.
+     * </p>
+     * <p>
+     * Compiled regular expressions are cached by the {@link PatternCache#getDefault() default PatternCache} so that
+     * repeated verifications do not need to compile them again.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).matchAny()                       =&gt; FAIL
+     * Verifier.verify(*).matchAny((CharSequence[]) null)  =&gt; FAIL
+     * Verifier.verify((String) null).matchAny(*)          =&gt; FAIL
+     * Verifier.verify("foo").matchAny("fo{2}", "fiz{2}")  =&gt; PASS
+     * Verifier.verify("foo").matchAny("fiz{2}", "buz{2}") =&gt; FAIL
+     * </pre>
+     *
+     * @param regexes
+     *         the regular expressions to be matched against of the value (may be {@literal null} or contain {@literal
+     *         null} references)
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #matchAny(Pattern...)
+     */
+    default V matchAny(final CharSequence... regexes) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAny(regexes, input -> input != null && PatternCache.getDefault().compile(input.toString()).matcher(value).matches());
+
+        verification().report(result, MessageKeys.MATCH_ANY, (Object) regexes);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches <b>any</b> of the regular expression {@code patterns} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).matchAny()                                                         =&gt; FAIL
+     * Verifier.verify(*).matchAny((Pattern[]) null)                                         =&gt; FAIL
+     * Verifier.verify((String) null).matchAny(*)                                            =&gt; FAIL
+     * Verifier.verify("foo").matchAny(Pattern.compile("fo{2}"), Pattern.compile("fiz{2}"))  =&gt; PASS
+     * Verifier.verify("foo").matchAny(Pattern.compile("fiz{2}"), Pattern.compile("buz{2}")) =&gt; FAIL
+     * </pre>
+     *
+     * @param patterns
+     *         the regular expression {@code Patterns} to be matched against of the value (may be {@literal null} or
+     *         contain {@literal null} references)
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #matchAny(CharSequence...)
+     */
+    default V matchAny(final Pattern... patterns) {
+        final T value = verification().getValue();
+        final boolean result = value != null && ArrayUtils.matchAny(patterns, input -> input != null && input.matcher(value).matches());
+
+        verification().report(result, MessageKeys.MATCH_ANY, (Object) patterns);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value matches <b>any</b> of the regular expressions within the {@code patterns} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #matchAny(Pattern...)}, patterns which cannot possibly match the value are skipped without being
+     * evaluated. The first pattern to match the value is included in the {@link VerifierException} message when this
+     * verification is negated.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).matchAny(*)                              =&gt; FAIL
+     * Verifier.verify(*).matchAny((PatternSet) null)                          =&gt; FAIL
+     * Verifier.verify("foo").matchAny(PatternSet.compile("fo{2}", "fiz{2}"))  =&gt; PASS
+     * Verifier.verify("foo").matchAny(PatternSet.compile("fiz{2}", "buz{2}")) =&gt; FAIL
+     * </pre>
+     *
+     * @param patterns
+     *         the {@link PatternSet} to be matched against the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #matchAny(Pattern...)
+     */
+    default V matchAny(final PatternSet patterns) {
+        final T value = verification().getValue();
+        final Pattern match = value != null && patterns != null ? patterns.findFirstMatch(value) : null;
+        if (match != null) {
+            verification().report(true, MessageKeys.MATCH_ANY_MATCH, patterns, match);
+        } else {
+            verification().report(false, MessageKeys.MATCH_ANY, patterns);
+        }
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only digits.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).numeric() =&gt; FAIL
+     * Verifier.verify("\0\r\n").numeric()      =&gt; FAIL
+     * Verifier.verify("123").numeric()         =&gt; PASS
+     * Verifier.verify("abc").numeric()         =&gt; FAIL
+     * Verifier.verify("abc123").numeric()      =&gt; FAIL
+     * Verifier.verify("1 2 3").numeric()       =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #numericSpace()
+     */
+    default V numeric() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.NUMERIC.matchesAll(value);
+
+        verification().report(result, MessageKeys.NUMERIC);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only digits or space.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).numericSpace() =&gt; FAIL
+     * Verifier.verify("\0 \r \n").numericSpace()    =&gt; FAIL
+     * Verifier.verify("1 2 3").numericSpace()       =&gt; PASS
+     * Verifier.verify("a b c").numericSpace()       =&gt; FAIL
+     * Verifier.verify("a b c 1 2 3").numericSpace() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #numeric()
+     */
+    default V numericSpace() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.NUMERIC_OR_SPACE.matchesAll(value);
+
+        verification().report(result, MessageKeys.NUMERIC_SPACE);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is of the {@code size} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).sizeOf(1) =&gt; FAIL
+     * Verifier.verify((String) null).sizeOf(0) =&gt; PASS
+     * Verifier.verify("").sizeOf(1)            =&gt; FAIL
+     * Verifier.verify("").sizeOf(0)            =&gt; PASS
+     * Verifier.verify(" ").sizeOf(1)           =&gt; PASS
+     * Verifier.verify("abc 123").sizeOf(0)     =&gt; FAIL
+     * Verifier.verify("abc 123").sizeOf(7)     =&gt; PASS
+     * </pre>
+     *
+     * @param size
+     *         the size to compare against the number of characters within the value
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     */
+    default V sizeOf(final int size) {
+        final T value = verification().getValue();
+        final boolean result = value == null ? size == 0 : value.length() == size;
+
+        verification().report(result, MessageKeys.SIZE_OF, size);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value starts with the {@code other} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).startWith(*)     =&gt; FAIL
+     * Verifier.verify(*).startWith(null)              =&gt; FAIL
+     * Verifier.verify(*).startWith("")                =&gt; PASS
+     * Verifier.verify("abc def").startWith("abc")     =&gt; PASS
+     * Verifier.verify("abc def").startWith("def")     =&gt; FAIL
+     * Verifier.verify("abc def").startWith("abc def") =&gt; PASS
+     * Verifier.verify("abc def").startWith("ABC")     =&gt; FAIL
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to check for at the start of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #startWithIgnoreCase(CharSequence)
+     */
+    default V startWith(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.startsWith(value, other, false);
+
+        verification().report(result, MessageKeys.START_WITH, other);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value starts with <b>any</b> of the {@code others} provided.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).startWithAny(*)         =&gt; FAIL
+     * Verifier.verify(*).startWithAny((CharSequence[]) null) =&gt; FAIL
+     * Verifier.verify(*).startWithAny("", *)                 =&gt; PASS
+     * Verifier.verify("abc def").startWithAny("ghi", "123")  =&gt; FAIL
+     * Verifier.verify("abc def").startWithAny("abc", "123")  =&gt; PASS
+     * Verifier.verify("abc def").startWithAny("ABC", "123")  =&gt; FAIL
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for at the start of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #startWithAnyIgnoreCase(CharSequence...)
+     */
+    default V startWithAny(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = ArrayUtils.matchAny(others, input -> CharSequenceUtils.startsWith(value, input, false));
+
+        verification().report(result, MessageKeys.START_WITH_ANY, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value starts with <b>any</b> of the needles within the {@code needles} provided.
+     * </p>
+     * <p>
+     * Unlike {@link #startWithAny(CharSequence...)}, the value is only scanned once, regardless of the number of needles.
+     * Case is ignored if {@code needles} was created using {@link NeedleSet#ofIgnoreCase(CharSequence...)}.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).startWithAny(*)                                =&gt; FAIL
+     * Verifier.verify(*).startWithAny((NeedleSet) null)                             =&gt; FAIL
+     * Verifier.verify("abc def").startWithAny(NeedleSet.of("ghi", "123"))           =&gt; FAIL
+     * Verifier.verify("abc def").startWithAny(NeedleSet.of("abc", "123"))           =&gt; PASS
+     * Verifier.verify("abc def").startWithAny(NeedleSet.ofIgnoreCase("ABC", "123")) =&gt; PASS
+     * </pre>
+     *
+     * @param needles
+     *         the {@link NeedleSet} to check for within the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #startWithAny(CharSequence...)
+     * @see #startWithAnyIgnoreCase(CharSequence...)
+     */
+    default V startWithAny(final NeedleSet needles) {
+        final T value = verification().getValue();
+        final boolean result = value != null && (needles != null && needles.anyPrefixOf(value));
+        final MessageKey key = needles != null && needles.isIgnoreCase() ? MessageKeys.START_WITH_ANY_IGNORE_CASE : MessageKeys.START_WITH_ANY;
+
+        verification().report(result, key, needles);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value starts with <b>any</b> of the {@code others} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).startWithAnyIgnoreCase(*)         =&gt; FAIL
+     * Verifier.verify(*).startWithAnyIgnoreCase((CharSequence[]) null) =&gt; FAIL
+     * Verifier.verify(*).startWithAnyIgnoreCase("", *)                 =&gt; PASS
+     * Verifier.verify("abc def").startWithAnyIgnoreCase("ghi", "123")  =&gt; FAIL
+     * Verifier.verify("abc def").startWithAnyIgnoreCase("abc", "123")  =&gt; PASS
+     * Verifier.verify("abc def").startWithAnyIgnoreCase("ABC", "123")  =&gt; PASS
+     * </pre>
+     *
+     * @param others
+     *         the {@code CharSequences} to check for at the start of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #startWithAny(CharSequence...)
+     */
+    default V startWithAnyIgnoreCase(final CharSequence... others) {
+        final T value = verification().getValue();
+        final boolean result = ArrayUtils.matchAny(others, input -> CharSequenceUtils.startsWith(value, input, true));
+
+        verification().report(result, MessageKeys.START_WITH_ANY_IGNORE_CASE, (Object) others);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value starts with the {@code other} provided while ignoring case.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).startWithIgnoreCase(*)     =&gt; FAIL
+     * Verifier.verify(*).startWithIgnoreCase(null)              =&gt; FAIL
+     * Verifier.verify(*).startWithIgnoreCase("")                =&gt; PASS
+     * Verifier.verify("abc def").startWithIgnoreCase("abc")     =&gt; PASS
+     * Verifier.verify("abc def").startWithIgnoreCase("def")     =&gt; FAIL
+     * Verifier.verify("abc def").startWithIgnoreCase("abc def") =&gt; PASS
+     * Verifier.verify("abc def").startWithIgnoreCase("ABC")     =&gt; PASS
+     * </pre>
+     *
+     * @param other
+     *         the {@code CharSequence} to check for at the start of the value (may be {@literal null})
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #startWith(CharSequence)
+     */
+    default V startWithIgnoreCase(final CharSequence other) {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.startsWith(value, other, true);
+
+        verification().report(result, MessageKeys.START_WITH_IGNORE_CASE, other);
+
+        return (V) this;
+    }
+
+
+    @Override
+    default V truthy() {
+        final T value = verification().getValue();
+        final boolean result = CharSequenceUtils.equalsIgnoreCase(Boolean.TRUE.toString(), value);
+
+        verification().report(result, BaseTruthVerifier.MessageKeys.TRUTHY);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains only upper case letters.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).upperCase() =&gt; FAIL
+     * Verifier.verify("abc").upperCase()         =&gt; FAIL
+     * Verifier.verify("abcDEF").upperCase()      =&gt; FAIL
+     * Verifier.verify("ABC123").upperCase()      =&gt; FAIL
+     * Verifier.verify("ABC").upperCase()         =&gt; PASS
+     * Verifier.verify("A B C").upperCase()       =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #lowerCase()
+     */
+    default V upperCase() {
+        final T value = verification().getValue();
+        final boolean result = CharacterClass.UPPER_CASE.matchesAll(value);
+
+        verification().report(result, MessageKeys.UPPER_CASE);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is an absolute URL.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).url()                   =&gt; FAIL
+     * Verifier.verify("https://example.com").url()           =&gt; PASS
+     * Verifier.verify("http://[::1]:8080/a%20b?c=d#e").url() =&gt; PASS
+     * Verifier.verify("example.com").url()                   =&gt; FAIL
+     * Verifier.verify("https://example.com/a b").url()       =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isUrl(CharSequence)
+     */
+    default V url() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isUrl(value);
+
+        verification().report(result, MessageKeys.URL);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * Verifies that the value is a UUID in its canonical textual representation.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((String) null).uuid()                          =&gt; FAIL
+     * Verifier.verify("123e4567-e89b-12d3-a456-426655440000").uuid() =&gt; PASS
+     * Verifier.verify("123E4567-E89B-12D3-A456-426655440000").uuid() =&gt; PASS
+     * Verifier.verify("123e4567e89b12d3a456426655440000").uuid()     =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCharSequenceVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see FormatUtils#isUuid(CharSequence)
+     */
+    default V uuid() {
+        final T value = verification().getValue();
+        final boolean result = FormatUtils.isUuid(value);
+
+        verification().report(result, MessageKeys.UUID);
+
+        return (V) this;
+    }
+
+    /**
+     * <p>
+     * The {@link MessageKey MessageKeys} that are used by {@link BaseCharSequenceVerifier}.
+     * </p>
+     * <p>
+     * These keep the codes that were used when they belonged to {@code StringVerifier} so that existing translations
+     * and custom messages are still found.
+     * </p>
+     */
+    enum MessageKeys implements MessageKey {
+
+        ALPHA("org.notninja.verifier.type.StringVerifier.alpha"),
+        ALPHA_SPACE("org.notninja.verifier.type.StringVerifier.alphaSpace"),
+        ALPHANUMERIC("org.notninja.verifier.type.StringVerifier.alphanumeric"),
+        ALPHANUMERIC_SPACE("org.notninja.verifier.type.StringVerifier.alphanumericSpace"),
+        ASCII_PRINTABLE("org.notninja.verifier.type.StringVerifier.asciiPrintable"),
+        BASE64("org.notninja.verifier.type.StringVerifier.base64"),
+        BLANK("org.notninja.verifier.type.StringVerifier.blank"),
+        CONTAIN("org.notninja.verifier.type.StringVerifier.contain"),
+        CONTAIN_ALL("org.notninja.verifier.type.StringVerifier.containAll"),
+        CONTAIN_ALL_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.containAllIgnoreCase"),
+        CONTAIN_ANY("org.notninja.verifier.type.StringVerifier.containAny"),
+        CONTAIN_ANY_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.containAnyIgnoreCase"),
+        CONTAIN_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.containIgnoreCase"),
+        EMAIL("org.notninja.verifier.type.StringVerifier.email"),
+        EMPTY("org.notninja.verifier.type.StringVerifier.empty"),
+        END_WITH("org.notninja.verifier.type.StringVerifier.endWith"),
+        END_WITH_ANY("org.notninja.verifier.type.StringVerifier.endWithAny"),
+        END_WITH_ANY_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.endWithAnyIgnoreCase"),
+        END_WITH_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.endWithIgnoreCase"),
+        EQUAL_TO_ANY_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.equalToAnyIgnoreCase"),
+        EQUAL_TO_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.equalToIgnoreCase"),
+        HEX("org.notninja.verifier.type.StringVerifier.hex"),
+        IPV4("org.notninja.verifier.type.StringVerifier.ipv4"),
+        IPV6("org.notninja.verifier.type.StringVerifier.ipv6"),
+        ISO8601("org.notninja.verifier.type.StringVerifier.iso8601"),
+        LOWER_CASE("org.notninja.verifier.type.StringVerifier.lowerCase"),
+        MATCH("org.notninja.verifier.type.StringVerifier.match"),
+        MATCH_ALL("org.notninja.verifier.type.StringVerifier.matchAll"),
+        MATCH_ANY("org.notninja.verifier.type.StringVerifier.matchAny"),
+        MATCH_ANY_MATCH("org.notninja.verifier.type.StringVerifier.matchAnyMatch"),
+        NUMERIC("org.notninja.verifier.type.StringVerifier.numeric"),
+        NUMERIC_SPACE("org.notninja.verifier.type.StringVerifier.numericSpace"),
+        SIZE_OF("org.notninja.verifier.type.StringVerifier.sizeOf"),
+        START_WITH("org.notninja.verifier.type.StringVerifier.startWith"),
+        START_WITH_ANY("org.notninja.verifier.type.StringVerifier.startWithAny"),
+        START_WITH_ANY_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.startWithAnyIgnoreCase"),
+        START_WITH_IGNORE_CASE("org.notninja.verifier.type.StringVerifier.startWithIgnoreCase"),
+        UPPER_CASE("org.notninja.verifier.type.StringVerifier.upperCase"),
+        URL("org.notninja.verifier.type.StringVerifier.url"),
+        UUID("org.notninja.verifier.type.StringVerifier.uuid");
+
+        private final String code;
+
+        MessageKeys(final String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
+}
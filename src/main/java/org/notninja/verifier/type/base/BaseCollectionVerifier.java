@@ -22,12 +22,16 @@
 package org.notninja.verifier.type.base;
 
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 import org.notninja.verifier.AbstractCustomVerifier;
 import org.notninja.verifier.Verifier;
 import org.notninja.verifier.VerifierAssertion;
 import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.util.CollectionUtils;
+import org.notninja.verifier.util.Duplicate;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -47,6 +51,21 @@ import org.notninja.verifier.verification.Verification;
  */
 public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerifier<E, T, V>> extends AbstractCustomVerifier<T, V> {
 
+    /**
+     * <p>
+     * The default maximum number of elements to be verified sequentially by a single task when elements are being
+     * verified in parallel.
+     * </p>
+     *
+     * @see #parallel(ForkJoinPool, int)
+     * @since 0.4.0
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+    private boolean bloomFilter;
+    private int parallelThreshold;
+    private ForkJoinPool pool;
+
     /**
      * <p>
      * Creates an instance of {@link BaseCollectionVerifier} based on the {@code verification} provided.
@@ -59,6 +78,34 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
         super(verification);
     }
 
+    /**
+     * <p>
+     * Enables the use of a Bloom filter by the next call to {@link #distinct()} or {@link #distinctBy(Function)} within
+     * this chain to find the elements which may be duplicated before searching for the first duplicate.
+     * </p>
+     * <p>
+     * This is intended for values with a very large number of elements (e.g. tens of millions) which are expected to be
+     * distinct since it requires far less memory in that case. However, the elements are iterated over, and have their
+     * keys obtained, twice. The verifications are otherwise unaffected.
+     * </p>
+     * <p>
+     * Like {@link #not()}, this is reset as soon as it has been used by {@code distinct} or {@code distinctBy}. This is
+     * not a verification and so it will never fail, regardless of whether this chain is negated.
+     * </p>
+     * <pre>
+     * Verifier.verify(ids).bloomFilter().distinct()
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCollectionVerifier} for chaining purposes.
+     * @see Duplicate#find(Collection, Function, boolean)
+     * @since 0.4.0
+     */
+    public V bloomFilter() {
+        bloomFilter = true;
+
+        return chain();
+    }
+
     /**
      * <p>
      * Verifies that the value contains the {@code element} provided.
@@ -97,6 +144,9 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
      * <p>
      * {@literal null} references are handled gracefully without exceptions.
      * </p>
+     * <p>
+     * Large list-backed values are indexed once when looking up multiple {@code elements}.
+     * </p>
      * <pre>
      * Verifier.verify((Object[]) null).containAll(*)                      =&gt; FAIL
      * Verifier.verify(new Object[0]).containAll(*)                        =&gt; FAIL
@@ -116,7 +166,7 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
      */
     public V containAll(final E... elements) {
         final Collection<E> value = getCollection(verification().getValue());
-        final boolean result = value != null && matchAll(elements, value::contains);
+        final boolean result = CollectionUtils.containsAll(value, elements);
 
         verification().report(result, MessageKeys.CONTAIN_ALL, (Object) elements);
 
@@ -130,6 +180,9 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
      * <p>
      * {@literal null} references are handled gracefully without exceptions.
      * </p>
+     * <p>
+     * Large list-backed values are indexed once when looking up multiple {@code elements}.
+     * </p>
      * <pre>
      * Verifier.verify((Object[]) null).containAny(*)                      =&gt; FAIL
      * Verifier.verify(new Object[0]).containAny(*)                        =&gt; FAIL
@@ -149,13 +202,92 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
      */
     public V containAny(final E... elements) {
         final Collection<E> value = getCollection(verification().getValue());
-        final boolean result = value != null && matchAny(elements, value::contains);
+        final boolean result = CollectionUtils.containsAny(value, elements);
 
         verification().report(result, MessageKeys.CONTAIN_ANY, (Object) elements);
 
         return chain();
     }
 
+    /**
+     * <p>
+     * Verifies that the value contains no duplicate elements.
+     * </p>
+     * <p>
+     * The search stops as soon as the first duplicate is found, which is then included in the {@link VerifierException}
+     * message along with the indices of both elements. Elements are compared using {@link Object#equals(Object)} and
+     * are therefore expected to implement {@code hashCode} consistently with it.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify((Object[]) null).distinct()               =&gt; FAIL
+     * Verifier.verify(new Object[0]).distinct()                 =&gt; PASS
+     * Verifier.verify(new Object[]{123, 456, 789}).distinct()   =&gt; PASS
+     * Verifier.verify(new Object[]{123, 456, 123}).distinct()   =&gt; FAIL
+     * Verifier.verify(new Object[]{123, null, null}).distinct() =&gt; FAIL
+     * </pre>
+     *
+     * @return A reference to this {@link BaseCollectionVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see #bloomFilter()
+     * @see #distinctBy(Function)
+     * @since 0.4.0
+     */
+    public V distinct() {
+        return distinctBy(Function.identity());
+    }
+
+    /**
+     * <p>
+     * Verifies that the value contains no elements with the same key, as returned by the {@code keyMapper} provided.
+     * </p>
+     * <p>
+     * The search stops as soon as the first duplicate key is found, which is then included in the
+     * {@link VerifierException} message along with the indices of both elements. Keys are compared using
+     * {@link Object#equals(Object)} and are therefore expected to implement {@code hashCode} consistently with it.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).distinctBy(null)                                                 =&gt; FAIL
+     * Verifier.verify((Object[]) null).distinctBy(*)                                      =&gt; FAIL
+     * Verifier.verify(new Object[0]).distinctBy(*)                                        =&gt; PASS
+     * Verifier.verify(new Object[]{123, 456, 789}).distinctBy(value -&gt; value % 100)    =&gt; PASS
+     * Verifier.verify(new Object[]{123, 456, 789}).distinctBy(value -&gt; value &gt; 200) =&gt; FAIL
+     * </pre>
+     *
+     * @param keyMapper
+     *         the {@code Function} to be used to obtain the key for each element within the value
+     * @return A reference to this {@link BaseCollectionVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If {@code keyMapper} is {@literal null} or the verification fails while not negated or passes while
+     *         negated.
+     * @see #bloomFilter()
+     * @see #distinct()
+     * @since 0.4.0
+     */
+    public V distinctBy(final Function<? super E, ?> keyMapper) {
+        final boolean useBloomFilter = bloomFilter;
+        bloomFilter = false;
+
+        Verifier.verify(keyMapper, "keyMapper")
+            .not().nulled();
+
+        final Collection<E> value = getCollection(verification().getValue());
+        final Duplicate duplicate = value != null ? Duplicate.find(value, keyMapper, useBloomFilter) : null;
+        if (duplicate != null) {
+            verification().report(false, MessageKeys.DISTINCT_DUPLICATE, duplicate.getKey(), duplicate.getFirstIndex(), duplicate.getIndex());
+        } else {
+            verification().report(value != null, MessageKeys.DISTINCT);
+        }
+
+        return chain();
+    }
+
     /**
      * <p>
      * Verifies that the value is empty.
@@ -182,6 +314,67 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
         return chain();
     }
 
+    /**
+     * <p>
+     * Enables parallel evaluation of the {@link VerifierAssertion} passed to the next call to
+     * {@link #thatAll(VerifierAssertion)} or {@link #thatAny(VerifierAssertion)} (including their variants) within this
+     * chain using the common {@code ForkJoinPool} and {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     * </p>
+     * <p>
+     * Like {@link #not()}, this is reset as soon as it has been used by {@code thatAll} or {@code thatAny}. This is not
+     * a verification and so it will never fail, regardless of whether this chain is negated.
+     * </p>
+     *
+     * @return A reference to this {@link BaseCollectionVerifier} for chaining purposes.
+     * @see #parallel(ForkJoinPool, int)
+     * @since 0.4.0
+     */
+    public V parallel() {
+        return parallel(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * <p>
+     * Enables parallel evaluation of the {@link VerifierAssertion} passed to the next call to
+     * {@link #thatAll(VerifierAssertion)} or {@link #thatAny(VerifierAssertion)} (including their variants) within this
+     * chain using the {@code pool} and {@code threshold} provided.
+     * </p>
+     * <p>
+     * Elements are split into tasks containing no more than {@code threshold} elements, which are then executed by
+     * {@code pool}. As soon as the result is known (i.e. when an element fails the assertion for {@code thatAll} or
+     * passes it for {@code thatAny}) all outstanding tasks are abandoned. Values with no more than {@code threshold}
+     * elements are always verified sequentially on the calling thread. Since elements may be passed to the assertion
+     * concurrently and in any order, the assertion must be thread-safe.
+     * </p>
+     * <p>
+     * This is reset as soon as it has been used and is not a verification, so it will never fail, regardless of
+     * whether this chain is negated.
+     * </p>
+     * <pre>
+     * Verifier.verify(records).parallel(pool, 1000).thatAll(record -&gt; schema.isValid(record))
+     * </pre>
+     *
+     * @param pool
+     *         the {@code ForkJoinPool} to be used to evaluate assertions
+     * @param threshold
+     *         the maximum number of elements to be verified sequentially by a single task
+     * @return A reference to this {@link BaseCollectionVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If {@code pool} is {@literal null} or {@code threshold} is not greater than zero.
+     * @since 0.4.0
+     */
+    public V parallel(final ForkJoinPool pool, final int threshold) {
+        Verifier.verify(pool, "pool")
+            .not().nulled();
+        Verifier.verify(threshold, "threshold")
+            .greaterThan(0);
+
+        this.pool = pool;
+        parallelThreshold = threshold;
+
+        return chain();
+    }
+
     /**
      * <p>
      * Verifies that the value is of the {@code size} provided.
@@ -328,10 +521,16 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
      * @since 0.2.0
      */
     protected boolean thatAllInternal(final VerifierAssertion<E> assertion) {
+        final ForkJoinPool parallelPool = pool;
+        pool = null;
+
         Verifier.verify(assertion, "assertion")
             .not().nulled();
 
         final Collection<E> value = getCollection(verification().getValue());
+        if (parallelPool != null) {
+            return CollectionUtils.matchAllParallel(value, assertion::verify, parallelPool, parallelThreshold);
+        }
 
         return matchAll(value, assertion::verify);
     }
@@ -451,10 +650,16 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
      * @since 0.2.0
      */
     protected boolean thatAnyInternal(final VerifierAssertion<E> assertion) {
+        final ForkJoinPool parallelPool = pool;
+        pool = null;
+
         Verifier.verify(assertion, "assertion")
             .not().nulled();
 
         final Collection<E> value = getCollection(verification().getValue());
+        if (parallelPool != null) {
+            return CollectionUtils.matchAnyParallel(value, assertion::verify, parallelPool, parallelThreshold);
+        }
 
         return matchAny(value, assertion::verify);
     }
@@ -503,6 +708,8 @@ public abstract class BaseCollectionVerifier<E, T, V extends BaseCollectionVerif
         CONTAIN("org.notninja.verifier.type.base.BaseCollectionVerifier.contain"),
         CONTAIN_ALL("org.notninja.verifier.type.base.BaseCollectionVerifier.containAll"),
         CONTAIN_ANY("org.notninja.verifier.type.base.BaseCollectionVerifier.containAny"),
+        DISTINCT("org.notninja.verifier.type.base.BaseCollectionVerifier.distinct"),
+        DISTINCT_DUPLICATE("org.notninja.verifier.type.base.BaseCollectionVerifier.distinctDuplicate"),
         EMPTY("org.notninja.verifier.type.base.BaseCollectionVerifier.empty"),
         SIZE_OF("org.notninja.verifier.type.base.BaseCollectionVerifier.sizeOf");
 
@@ -24,6 +24,7 @@ package org.notninja.verifier.type.base;
 import org.notninja.verifier.AbstractCustomVerifier;
 import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.util.RangeSet;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -325,6 +326,42 @@ public abstract class BaseComparableVerifier<T extends Comparable<? super T>, V
         return comparesTo(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO, other, name, MessageKeys.GREATER_THAN_OR_EQUAL_TO);
     }
 
+    /**
+     * <p>
+     * Verifies that the value is within at least one of the ranges in the specified {@code ranges}.
+     * </p>
+     * <p>
+     * This is an alternative to chaining several calls to {@link #between(Comparable, Comparable)} when a value may
+     * fall within any of a number of ranges and, since the ranges are sorted and merged when the {@link RangeSet} is
+     * built, it only requires a binary search.
+     * </p>
+     * <p>
+     * {@literal null} references are handled gracefully without exceptions.
+     * </p>
+     * <pre>
+     * Verifier.verify(*).inRanges(null)                                                               =&gt; FAIL
+     * Verifier.verify((Integer) null).inRanges(*)                                                     =&gt; FAIL
+     * Verifier.verify(50).inRanges(RangeSet.&lt;Integer&gt;builder().add(0, 25).add(75, 100).build()) =&gt; FAIL
+     * Verifier.verify(50).inRanges(RangeSet.&lt;Integer&gt;builder().add(0, 25).add(50, 100).build()) =&gt; PASS
+     * Verifier.verify(50).inRanges(RangeSet.&lt;Integer&gt;builder().add(0, 50).add(75, 100).build()) =&gt; PASS
+     * </pre>
+     *
+     * @param ranges
+     *         the {@link RangeSet} to be checked for the value (may be {@literal null})
+     * @return A reference to this {@link BaseComparableVerifier} for chaining purposes.
+     * @throws VerifierException
+     *         If the verification fails while not negated or passes while negated.
+     * @see RangeSet#contains(Comparable)
+     * @since 0.4.0
+     */
+    public V inRanges(final RangeSet<T> ranges) {
+        final boolean result = ranges != null && ranges.contains(verification().getValue());
+
+        verification().report(result, MessageKeys.IN_RANGES, ranges);
+
+        return chain();
+    }
+
     /**
      * <p>
      * Verifies that the value is less than ({@code <}) the {@code other} provided.
@@ -489,6 +526,7 @@ public abstract class BaseComparableVerifier<T extends Comparable<? super T>, V
         BETWEEN_EXCLUSIVE("org.notninja.verifier.type.base.BaseComparableVerifier.betweenExclusive"),
         GREATER_THAN("org.notninja.verifier.type.base.BaseComparableVerifier.greaterThan"),
         GREATER_THAN_OR_EQUAL_TO("org.notninja.verifier.type.base.BaseComparableVerifier.greaterThanOrEqualTo"),
+        IN_RANGES("org.notninja.verifier.type.base.BaseComparableVerifier.inRanges"),
         LESS_THAN("org.notninja.verifier.type.base.BaseComparableVerifier.lessThan"),
         LESS_THAN_OR_EQUAL_TO("org.notninja.verifier.type.base.BaseComparableVerifier.lessThanOrEqualTo");
 
@@ -21,7 +21,13 @@
  */
 package org.notninja.verifier.type.base;
 
+import java.time.DayOfWeek;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.WeekFields;
 import java.util.Calendar;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
@@ -30,8 +36,8 @@ import org.notninja.verifier.verification.Verification;
 /**
  * <p>
  * An abstract extension of {@link BaseComparableVerifier} which includes methods for verifying date/time parts of a
- * value. Implementations of {@code BaseTimeVerifier} must be able to provide a {@code Calendar} representation of the
- * value which should also be {@code Comparable}.
+ * value. Implementations of {@code BaseTimeVerifier} should be able to determine whether two values fall within the
+ * same unit of time, which they can typically do using simple arithmetic on the number of seconds since the epoch.
  * </p>
  *
  * @param <T>
@@ -42,6 +48,131 @@ import org.notninja.verifier.verification.Verification;
  */
 public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extends BaseTimeVerifier<T, V>> extends BaseComparableVerifier<T, V> {
 
+    private static final ConcurrentMap<Locale, DayOfWeek> FIRST_DAYS_OF_WEEK = new ConcurrentHashMap<>();
+
+    private static long getEpochDay(final long localSecond) {
+        return Math.floorDiv(localSecond, ChronoUnit.DAYS.getDuration().getSeconds());
+    }
+
+    private static long getEpochWeek(final long epochDay) {
+        final DayOfWeek firstDayOfWeek = FIRST_DAYS_OF_WEEK.computeIfAbsent(Locale.getDefault(Locale.Category.FORMAT), locale -> WeekFields.of(locale).getFirstDayOfWeek());
+
+        // 1970-01-01 was a Thursday so shift epochDay to be relative to the nearest preceding first day of the week
+        return Math.floorDiv(epochDay + DayOfWeek.THURSDAY.getValue() - firstDayOfWeek.getValue(), 7);
+    }
+
+    private static long getProlepticMonth(final long epochDay) {
+        // Based on the "civil_from_days" algorithm by Howard Hinnant, which works with 400 year cycles starting in March
+        final long shiftedDay = epochDay + 719468;
+        final long cycle = Math.floorDiv(shiftedDay, 146097);
+        final long dayOfCycle = shiftedDay - cycle * 146097;
+        final long yearOfCycle = (dayOfCycle - dayOfCycle / 1460 + dayOfCycle / 36524 - dayOfCycle / 146096) / 365;
+        final long dayOfYear = dayOfCycle - (365 * yearOfCycle + yearOfCycle / 4 - yearOfCycle / 100);
+        final long monthFromMarch = (5 * dayOfYear + 2) / 153;
+        final long year = cycle * 400 + yearOfCycle + (monthFromMarch >= 10 ? 1 : 0);
+        final long month = monthFromMarch >= 10 ? monthFromMarch - 10 : monthFromMarch + 2;
+
+        return year * 12 + month;
+    }
+
+    /**
+     * <p>
+     * Returns whether the local date/times represented by the specified seconds since the epoch (i.e.
+     * {@code 1970-01-01T00:00:00} in the local time-line) and nanosecond adjustments fall within the same {@code unit}
+     * of time.
+     * </p>
+     * <p>
+     * This is done using simple arithmetic on the ISO-8601 calendar system, so no objects are created. Weeks start on
+     * the first day of the week for the default locale.
+     * </p>
+     *
+     * @param localSecond1
+     *         the seconds since the epoch of the first local date/time
+     * @param nano1
+     *         the nanosecond adjustment of the first local date/time
+     * @param localSecond2
+     *         the seconds since the epoch of the second local date/time
+     * @param nano2
+     *         the nanosecond adjustment of the second local date/time
+     * @param unit
+     *         the {@code ChronoUnit} to be compared
+     * @return {@literal true} if both local date/times fall within the same {@code unit}; otherwise {@literal false}.
+     * @throws IllegalArgumentException
+     *         If {@code unit} is not supported.
+     * @see #isSameAs(Comparable, Comparable, ChronoUnit)
+     * @since 0.4.0
+     */
+    protected static boolean isSameAs(final long localSecond1, final int nano1, final long localSecond2, final int nano2, final ChronoUnit unit) {
+        switch (unit) {
+            case NANOS:
+                return localSecond1 == localSecond2 && nano1 == nano2;
+            case SECONDS:
+                return localSecond1 == localSecond2;
+            case MINUTES:
+            case HOURS:
+                return Math.floorDiv(localSecond1, unit.getDuration().getSeconds()) == Math.floorDiv(localSecond2, unit.getDuration().getSeconds());
+            case DAYS:
+                return getEpochDay(localSecond1) == getEpochDay(localSecond2);
+            case WEEKS:
+                return getEpochWeek(getEpochDay(localSecond1)) == getEpochWeek(getEpochDay(localSecond2));
+            case MONTHS:
+                return getProlepticMonth(getEpochDay(localSecond1)) == getProlepticMonth(getEpochDay(localSecond2));
+            case YEARS:
+                return Math.floorDiv(getProlepticMonth(getEpochDay(localSecond1)), 12) == Math.floorDiv(getProlepticMonth(getEpochDay(localSecond2)), 12);
+            case ERAS:
+                return getProlepticMonth(getEpochDay(localSecond1)) >= 12 == getProlepticMonth(getEpochDay(localSecond2)) >= 12;
+            default:
+                throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code calendar1} and {@code calendar2} fall within the same {@code unit} of time
+     * by comparing their own fields, so that their time zones and calendar systems are respected.
+     * </p>
+     *
+     * @param calendar1
+     *         the first {@code Calendar} to be compared (must not be {@literal null})
+     * @param calendar2
+     *         the second {@code Calendar} to be compared (must not be {@literal null})
+     * @param unit
+     *         the {@code ChronoUnit} to be compared
+     * @return {@literal true} if both calendars fall within the same {@code unit}; otherwise {@literal false}.
+     * @throws IllegalArgumentException
+     *         If {@code unit} is not supported.
+     * @see #isSameAs(Comparable, Comparable, ChronoUnit)
+     * @since 0.4.0
+     */
+    protected static boolean isSameCalendarAs(final Calendar calendar1, final Calendar calendar2, final ChronoUnit unit) {
+        switch (unit) {
+            case NANOS:
+                return calendar1.getTimeInMillis() == calendar2.getTimeInMillis();
+            case SECONDS:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.MINUTES) && isSameField(calendar1, calendar2, Calendar.SECOND);
+            case MINUTES:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.HOURS) && isSameField(calendar1, calendar2, Calendar.MINUTE);
+            case HOURS:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.DAYS) && isSameField(calendar1, calendar2, Calendar.HOUR_OF_DAY);
+            case DAYS:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.YEARS) && isSameField(calendar1, calendar2, Calendar.DAY_OF_YEAR);
+            case WEEKS:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.YEARS) && isSameField(calendar1, calendar2, Calendar.WEEK_OF_YEAR);
+            case MONTHS:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.YEARS) && isSameField(calendar1, calendar2, Calendar.MONTH);
+            case YEARS:
+                return isSameCalendarAs(calendar1, calendar2, ChronoUnit.ERAS) && isSameField(calendar1, calendar2, Calendar.YEAR);
+            case ERAS:
+                return isSameField(calendar1, calendar2, Calendar.ERA);
+            default:
+                throw new IllegalArgumentException("Unsupported unit: " + unit);
+        }
+    }
+
+    private static boolean isSameField(final Calendar calendar1, final Calendar calendar2, final int field) {
+        return calendar1.get(field) == calendar2.get(field);
+    }
+
     /**
      * <p>
      * Creates an instance of {@link BaseTimeVerifier} based on the {@code verification} provided.
@@ -76,12 +207,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameDayAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR) &&
-                calendar1.get(Calendar.DAY_OF_YEAR) == calendar2.get(Calendar.DAY_OF_YEAR));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.DAYS);
 
         verification().report(result, MessageKeys.SAME_DAY_AS, other);
 
@@ -109,10 +236,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameEraAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA);
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.ERAS);
 
         verification().report(result, MessageKeys.SAME_ERA_AS, other);
 
@@ -141,13 +266,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameHourAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR) &&
-                calendar1.get(Calendar.DAY_OF_YEAR) == calendar2.get(Calendar.DAY_OF_YEAR) &&
-                calendar1.get(Calendar.HOUR_OF_DAY) == calendar2.get(Calendar.HOUR_OF_DAY));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.HOURS);
 
         verification().report(result, MessageKeys.SAME_HOUR_AS, other);
 
@@ -176,14 +296,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameMinuteAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR) &&
-                calendar1.get(Calendar.DAY_OF_YEAR) == calendar2.get(Calendar.DAY_OF_YEAR) &&
-                calendar1.get(Calendar.HOUR_OF_DAY) == calendar2.get(Calendar.HOUR_OF_DAY) &&
-                calendar1.get(Calendar.MINUTE) == calendar2.get(Calendar.MINUTE));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.MINUTES);
 
         verification().report(result, MessageKeys.SAME_MINUTE_AS, other);
 
@@ -212,12 +326,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameMonthAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR) &&
-                calendar1.get(Calendar.MONTH) == calendar2.get(Calendar.MONTH));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.MONTHS);
 
         verification().report(result, MessageKeys.SAME_MONTH_AS, other);
 
@@ -246,15 +356,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameSecondAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR) &&
-                calendar1.get(Calendar.DAY_OF_YEAR) == calendar2.get(Calendar.DAY_OF_YEAR) &&
-                calendar1.get(Calendar.HOUR_OF_DAY) == calendar2.get(Calendar.HOUR_OF_DAY) &&
-                calendar1.get(Calendar.MINUTE) == calendar2.get(Calendar.MINUTE) &&
-                calendar1.get(Calendar.SECOND) == calendar2.get(Calendar.SECOND));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.SECONDS);
 
         verification().report(result, MessageKeys.SAME_SECOND_AS, other);
 
@@ -283,10 +386,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameTimeAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            calendar1.getTimeInMillis() == calendar2.getTimeInMillis();
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.NANOS);
 
         verification().report(result, MessageKeys.SAME_TIME_AS, other);
 
@@ -315,12 +416,8 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameWeekAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR) &&
-                calendar1.get(Calendar.WEEK_OF_YEAR) == calendar2.get(Calendar.WEEK_OF_YEAR));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.WEEKS);
 
         verification().report(result, MessageKeys.SAME_WEEK_AS, other);
 
@@ -349,31 +446,71 @@ public abstract class BaseTimeVerifier<T extends Comparable<? super T>, V extend
      *         If the verification fails while not negated or passes while negated.
      */
     public V sameYearAs(final T other) {
-        final Calendar calendar1 = getCalendar(verification().getValue());
-        final Calendar calendar2 = getCalendar(other);
-        final boolean result = calendar1 != null && calendar2 != null &&
-            (calendar1.get(Calendar.ERA) == calendar2.get(Calendar.ERA) &&
-                calendar1.get(Calendar.YEAR) == calendar2.get(Calendar.YEAR));
+        final T value = verification().getValue();
+        final boolean result = value != null && other != null && isSameAs(value, other, ChronoUnit.YEARS);
 
         verification().report(result, MessageKeys.SAME_YEAR_AS, other);
 
         return chain();
     }
 
+    /**
+     * <p>
+     * Returns whether the specified {@code value} and {@code other} fall within the same {@code unit} of time.
+     * </p>
+     * <p>
+     * {@code unit} will be one of {@link ChronoUnit#ERAS ERAS}, {@link ChronoUnit#YEARS YEARS},
+     * {@link ChronoUnit#MONTHS MONTHS}, {@link ChronoUnit#WEEKS WEEKS}, {@link ChronoUnit#DAYS DAYS},
+     * {@link ChronoUnit#HOURS HOURS}, {@link ChronoUnit#MINUTES MINUTES}, {@link ChronoUnit#SECONDS SECONDS} or
+     * {@link ChronoUnit#NANOS NANOS}, where the latter is used to check whether they represent exactly the same time, to
+     * the highest precision supported by the value type.
+     * </p>
+     * <p>
+     * Implementations that can represent their values as a local date/time in seconds since the epoch are encouraged to
+     * delegate to {@link #isSameAs(long, int, long, int, ChronoUnit)} so that no intermediate objects need to be
+     * created.
+     * </p>
+     * <p>
+     * By default, this compares the fields of the {@code Calendar} representations of {@code value} and {@code other}
+     * returned by {@link #getCalendar(Comparable)} so that implementations written before this method was introduced
+     * continue to work. New implementations should override this method instead.
+     * </p>
+     *
+     * @param value
+     *         the value being verified (will never be {@literal null})
+     * @param other
+     *         the object to compare against {@code value} (will never be {@literal null})
+     * @param unit
+     *         the {@code ChronoUnit} to be compared
+     * @return {@literal true} if {@code value} and {@code other} fall within the same {@code unit}; otherwise
+     * {@literal false}.
+     * @since 0.4.0
+     */
+    protected boolean isSameAs(final T value, final T other, final ChronoUnit unit) {
+        return isSameCalendarAs(getCalendar(value), getCalendar(other), unit);
+    }
+
     /**
      * <p>
      * Returns a calendar representation of the specified {@code value}.
      * </p>
      * <p>
-     * Implementations should ensure that this method returns {@literal null} when {@code value} is {@literal null}.
+     * This is only called by the default implementation of {@link #isSameAs(Comparable, Comparable, ChronoUnit)} and so
+     * implementations which override that method need not override this one.
      * </p>
      *
      * @param value
-     *         the value to be transformed into a {@code Calendar} (may be {@literal null})
-     * @return A {@code Calendar} instance to represent {@code value} or {@literal null} if {@code value} is {@literal
-     * null}.
+     *         the value to be transformed into a {@code Calendar} (will never be {@literal null})
+     * @return A {@code Calendar} instance to represent {@code value}.
+     * @throws UnsupportedOperationException
+     *         If this method has not been overridden.
+     * @deprecated Override {@link #isSameAs(Comparable, Comparable, ChronoUnit)} instead, which avoids creating a
+     * {@code Calendar} for each value being compared.
      */
-    protected abstract Calendar getCalendar(T value);
+    @Deprecated
+    protected Calendar getCalendar(final T value) {
+        throw new UnsupportedOperationException(getClass().getName() + " must override isSameAs or getCalendar");
+    }
 
     /**
      * <p>
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type.base;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import org.notninja.verifier.verification.Verification;
+
+/**
+ * <p>
+ * An abstract extension of {@link BaseTimeVerifier} for values which represent an instant on the time-line. Such values
+ * are resolved to a local date/time using a {@code ZoneId} before comparing date/time parts so implementations of
+ * {@code BaseZonedTimeVerifier} only need to provide the number of seconds since the epoch for a value, along with its
+ * nanosecond adjustment and the {@code ZoneId} to be used by default.
+ * </p>
+ * <p>
+ * The {@code ZoneId} can be explicitly set for a chain by calling {@link #withZone(ZoneId)}.
+ * </p>
+ *
+ * @param <T>
+ *         the type of the value being verified
+ * @param <V>
+ *         the type of the {@link BaseZonedTimeVerifier} for chaining purposes
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public abstract class BaseZonedTimeVerifier<T extends Comparable<? super T>, V extends BaseZonedTimeVerifier<T, V>> extends BaseTimeVerifier<T, V> {
+
+    private static volatile OffsetPeriod lastOffsetPeriod;
+
+    private static long getLocalSecond(final ZoneRules rules, final long epochSecond) {
+        if (rules.isFixedOffset()) {
+            return epochSecond + rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+
+        OffsetPeriod offsetPeriod = lastOffsetPeriod;
+        if (offsetPeriod == null || !offsetPeriod.contains(rules, epochSecond)) {
+            offsetPeriod = new OffsetPeriod(rules, epochSecond);
+            lastOffsetPeriod = offsetPeriod;
+        }
+
+        return epochSecond + offsetPeriod.offsetSeconds;
+    }
+
+    private ZoneId zone;
+
+    /**
+     * <p>
+     * Creates an instance of {@link BaseZonedTimeVerifier} based on the {@code verification} provided.
+     * </p>
+     *
+     * @param verification
+     *         the {@link Verification} to be used
+     */
+    public BaseZonedTimeVerifier(final Verification<T> verification) {
+        super(verification);
+    }
+
+    @Override
+    protected boolean isSameAs(final T value, final T other, final ChronoUnit unit) {
+        final ZoneRules rules = (zone != null ? zone : getDefaultZone(value)).getRules();
+
+        return isSameAs(getLocalSecond(rules, getEpochSecond(value)), getNano(value), getLocalSecond(rules, getEpochSecond(other)), getNano(other), unit);
+    }
+
+    /**
+     * <p>
+     * Sets the {@code ZoneId} to be used to resolve the local date/time of values within this chain to the {@code zone}
+     * provided.
+     * </p>
+     * <p>
+     * This is not a verification and so it will never fail, regardless of whether this chain is negated. If
+     * {@code zone} is {@literal null}, the default {@code ZoneId} for the value type will be used.
+     * </p>
+     * <pre>
+     * Verifier.verify(parse("2016-10-31T23:30:00Z")).withZone(ZoneOffset.UTC).sameDayAs(parse("2016-10-31T00:00:00Z"))        =&gt; PASS
+     * Verifier.verify(parse("2016-10-31T23:30:00Z")).withZone(ZoneId.of("Europe/Paris")).sameDayAs(parse("2016-10-31T00:00:00Z")) =&gt; FAIL
+     * </pre>
+     *
+     * @param zone
+     *         the {@code ZoneId} to be used (may be {@literal null})
+     * @return A reference to this {@link BaseZonedTimeVerifier} for chaining purposes.
+     */
+    public V withZone(final ZoneId zone) {
+        this.zone = zone;
+
+        return chain();
+    }
+
+    /**
+     * <p>
+     * Returns the {@code ZoneId} to be used to resolve the local date/time of values when one has not been explicitly
+     * set using {@link #withZone(ZoneId)}.
+     * </p>
+     *
+     * @param value
+     *         the value being verified (will never be {@literal null})
+     * @return The default {@code ZoneId} for {@code value}.
+     */
+    protected abstract ZoneId getDefaultZone(T value);
+
+    /**
+     * <p>
+     * Returns the number of seconds since the epoch (i.e. {@code 1970-01-01T00:00:00Z}) for the specified
+     * {@code value}.
+     * </p>
+     *
+     * @param value
+     *         the value whose epoch seconds are to be returned (will never be {@literal null})
+     * @return The number of seconds since the epoch for {@code value}.
+     */
+    protected abstract long getEpochSecond(T value);
+
+    /**
+     * <p>
+     * Returns the nanosecond adjustment to the number of seconds since the epoch for the specified {@code value}.
+     * </p>
+     *
+     * @param value
+     *         the value whose nanosecond adjustment is to be returned (will never be {@literal null})
+     * @return The nanosecond adjustment for {@code value}, from {@literal 0} to {@literal 999,999,999}.
+     * @see #getEpochSecond(Comparable)
+     */
+    protected abstract int getNano(T value);
+
+    /**
+     * <p>
+     * The period between two transitions of a {@code ZoneRules} during which its offset does not change.
+     * </p>
+     * <p>
+     * The last period to be looked up is shared so that comparing values which are close together in time (e.g. within
+     * the same year) only needs to look up the offset once, after which no objects are created.
+     * </p>
+     */
+    private static final class OffsetPeriod {
+
+        private final long end;
+        private final int offsetSeconds;
+        private final ZoneRules rules;
+        private final long start;
+
+        OffsetPeriod(final ZoneRules rules, final long epochSecond) {
+            final Instant instant = Instant.ofEpochSecond(epochSecond);
+            // A transition at exactly epochSecond has already taken effect, so it starts this period
+            final ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+            final ZoneOffsetTransition next = rules.nextTransition(instant);
+
+            this.rules = rules;
+            this.offsetSeconds = rules.getOffset(instant).getTotalSeconds();
+            this.start = previous != null ? previous.toEpochSecond() : Long.MIN_VALUE;
+            this.end = next != null ? next.toEpochSecond() : Long.MAX_VALUE;
+        }
+
+        boolean contains(final ZoneRules rules, final long epochSecond) {
+            return this.rules == rules && epochSecond >= start && epochSecond < end;
+        }
+    }
+}
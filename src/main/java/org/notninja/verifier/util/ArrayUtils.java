@@ -21,6 +21,8 @@
  */
 package org.notninja.verifier.util;
 
+import java.util.function.Predicate;
+
 /**
  * <p>
  * Contains utility methods for dealing with arrays.
@@ -68,6 +70,78 @@ public final class ArrayUtils {
         return array == null || array.length == 0;
     }
 
+    /**
+     * <p>
+     * Returns whether the specified {@code predicate} matches <b>all</b> of the elements within the {@code array}
+     * provided.
+     * </p>
+     * <pre>
+     * ArrayUtils.matchAll(null, *)                                  =&gt; true
+     * ArrayUtils.matchAll(new String[0], *)                         =&gt; true
+     * ArrayUtils.matchAll(new String[]{"", ""}, String::isEmpty)    =&gt; true
+     * ArrayUtils.matchAll(new String[]{"", "foo"}, String::isEmpty) =&gt; false
+     * </pre>
+     *
+     * @param array
+     *         the array whose elements are to be matched (may be {@literal null})
+     * @param predicate
+     *         the {@code Predicate} to be used to match each element
+     * @param <E>
+     *         the type of the elements within {@code array}
+     * @return {@literal true} if {@code array} is {@literal null} or {@code predicate} matches all of its elements;
+     * otherwise {@literal false}.
+     * @since 0.4.0
+     */
+    public static <E> boolean matchAll(final E[] array, final Predicate<? super E> predicate) {
+        if (array == null) {
+            return true;
+        }
+
+        for (final E element : array) {
+            if (!predicate.test(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code predicate} matches <b>any</b> of the elements within the {@code array}
+     * provided.
+     * </p>
+     * <pre>
+     * ArrayUtils.matchAny(null, *)                                     =&gt; false
+     * ArrayUtils.matchAny(new String[0], *)                            =&gt; false
+     * ArrayUtils.matchAny(new String[]{"", "foo"}, String::isEmpty)    =&gt; true
+     * ArrayUtils.matchAny(new String[]{"foo", "bar"}, String::isEmpty) =&gt; false
+     * </pre>
+     *
+     * @param array
+     *         the array whose elements are to be matched (may be {@literal null})
+     * @param predicate
+     *         the {@code Predicate} to be used to match each element
+     * @param <E>
+     *         the type of the elements within {@code array}
+     * @return {@literal true} if {@code array} is not {@literal null} and {@code predicate} matches any of its elements;
+     * otherwise {@literal false}.
+     * @since 0.4.0
+     */
+    public static <E> boolean matchAny(final E[] array, final Predicate<? super E> predicate) {
+        if (array == null) {
+            return false;
+        }
+
+        for (final E element : array) {
+            if (predicate.test(element)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * <p>
      * Creates an instance of {@link ArrayUtils}.
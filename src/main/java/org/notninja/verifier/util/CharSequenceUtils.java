@@ -0,0 +1,500 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Contains utility methods for dealing with {@code CharSequences}.
+ * </p>
+ * <p>
+ * All methods operate directly on the characters within the {@code CharSequences} provided so that implementations
+ * other than {@code String} (e.g. {@code StringBuilder} and {@code CharBuffer}) never need to be copied.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class CharSequenceUtils {
+
+    private static final int ASCII_SIZE = 128;
+    // Below these lengths, building the shift table costs more than the characters it allows to be skipped
+    private static final int SHIFT_TABLE_MIN_SCAN_LENGTH = 256;
+    private static final int SHIFT_TABLE_MIN_SEARCH_LENGTH = 4;
+    private static final int SHIFT_TABLE_SIZE = 256;
+
+    private static char fold(final char ch) {
+        if (ch < ASCII_SIZE) {
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} contains {@code search}.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.contains(null, *)          =&gt; false
+     * CharSequenceUtils.contains(*, null)          =&gt; false
+     * CharSequenceUtils.contains(*, "")            =&gt; true
+     * CharSequenceUtils.contains("abc def", "def") =&gt; true
+     * CharSequenceUtils.contains("abc def", "DEF") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @param search
+     *         the {@code CharSequence} to search for (may be {@literal null})
+     * @return {@literal true} if neither {@code cs} nor {@code search} are {@literal null} and {@code cs} contains
+     * {@code search}; otherwise {@literal false}.
+     * @see #indexOf(CharSequence, CharSequence, int)
+     */
+    public static boolean contains(final CharSequence cs, final CharSequence search) {
+        return indexOf(cs, search, 0) >= 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} contains {@code search} while ignoring case.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.containsIgnoreCase(null, *)          =&gt; false
+     * CharSequenceUtils.containsIgnoreCase(*, null)          =&gt; false
+     * CharSequenceUtils.containsIgnoreCase(*, "")            =&gt; true
+     * CharSequenceUtils.containsIgnoreCase("abc def", "def") =&gt; true
+     * CharSequenceUtils.containsIgnoreCase("abc def", "DEF") =&gt; true
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @param search
+     *         the {@code CharSequence} to search for (may be {@literal null})
+     * @return {@literal true} if neither {@code cs} nor {@code search} are {@literal null} and {@code cs} contains
+     * {@code search} while ignoring case; otherwise {@literal false}.
+     * @see #indexOfIgnoreCase(CharSequence, CharSequence, int)
+     */
+    public static boolean containsIgnoreCase(final CharSequence cs, final CharSequence search) {
+        return indexOfIgnoreCase(cs, search, 0) >= 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} contains the exact same characters as {@code other}.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.contentEquals(null, null)   =&gt; true
+     * CharSequenceUtils.contentEquals(null, "abc")  =&gt; false
+     * CharSequenceUtils.contentEquals("abc", null)  =&gt; false
+     * CharSequenceUtils.contentEquals("abc", "abc") =&gt; true
+     * CharSequenceUtils.contentEquals("abc", "ABC") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be compared (may be {@literal null})
+     * @param other
+     *         the {@code CharSequence} to compare against {@code cs} (may be {@literal null})
+     * @return {@literal true} if {@code cs} and {@code other} are both {@literal null} or contain the same characters;
+     * otherwise {@literal false}.
+     */
+    public static boolean contentEquals(final CharSequence cs, final CharSequence other) {
+        if (cs == other) {
+            return true;
+        }
+        if (cs == null || other == null) {
+            return false;
+        }
+
+        return cs.length() == other.length() && regionMatches(cs, false, 0, other, 0, cs.length());
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} ends with {@code suffix}, optionally ignoring case.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.endsWith(null, *, *)             =&gt; false
+     * CharSequenceUtils.endsWith(*, null, *)             =&gt; false
+     * CharSequenceUtils.endsWith(*, "", *)               =&gt; true
+     * CharSequenceUtils.endsWith("abc def", "def", *)    =&gt; true
+     * CharSequenceUtils.endsWith("abc def", "DEF", true) =&gt; true
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @param suffix
+     *         the {@code CharSequence} to check for at the end of {@code cs} (may be {@literal null})
+     * @param ignoreCase
+     *         {@literal true} to ignore case when comparing characters; otherwise {@literal false}
+     * @return {@literal true} if neither {@code cs} nor {@code suffix} are {@literal null} and {@code cs} ends with
+     * {@code suffix}; otherwise {@literal false}.
+     */
+    public static boolean endsWith(final CharSequence cs, final CharSequence suffix, final boolean ignoreCase) {
+        return cs != null && suffix != null && regionMatches(cs, ignoreCase, cs.length() - suffix.length(), suffix, 0, suffix.length());
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} contains the same characters as <b>any</b> of the {@code others} provided while
+     * ignoring case.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.equalsAnyIgnoreCase(*, null)               =&gt; false
+     * CharSequenceUtils.equalsAnyIgnoreCase(null, {"abc", null})   =&gt; true
+     * CharSequenceUtils.equalsAnyIgnoreCase("abc", {"ABC", "def"}) =&gt; true
+     * CharSequenceUtils.equalsAnyIgnoreCase("abc", {"AB", "def"})  =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be compared (may be {@literal null})
+     * @param others
+     *         the {@code CharSequences} to compare against {@code cs} (may be {@literal null} or contain
+     *         {@literal null} references)
+     * @return {@literal true} if {@code cs} is equal to any of the {@code others} while ignoring case; otherwise
+     * {@literal false}.
+     * @see #equalsIgnoreCase(CharSequence, CharSequence)
+     */
+    public static boolean equalsAnyIgnoreCase(final CharSequence cs, final CharSequence[] others) {
+        if (others == null) {
+            return false;
+        }
+
+        for (final CharSequence other : others) {
+            if (equalsIgnoreCase(cs, other)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} contains the same characters as {@code other} while ignoring case.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.equalsIgnoreCase(null, null)   =&gt; true
+     * CharSequenceUtils.equalsIgnoreCase(null, "abc")  =&gt; false
+     * CharSequenceUtils.equalsIgnoreCase("abc", null)  =&gt; false
+     * CharSequenceUtils.equalsIgnoreCase("abc", "ABC") =&gt; true
+     * CharSequenceUtils.equalsIgnoreCase("abc", "AB")  =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be compared (may be {@literal null})
+     * @param other
+     *         the {@code CharSequence} to compare against {@code cs} (may be {@literal null})
+     * @return {@literal true} if {@code cs} and {@code other} are both {@literal null} or contain the same characters
+     * while ignoring case; otherwise {@literal false}.
+     */
+    public static boolean equalsIgnoreCase(final CharSequence cs, final CharSequence other) {
+        if (cs == other) {
+            return true;
+        }
+        if (cs == null || other == null) {
+            return false;
+        }
+
+        return cs.length() == other.length() && regionMatches(cs, true, 0, other, 0, cs.length());
+    }
+
+    /**
+     * <p>
+     * Returns the index within {@code cs} of the first occurrence of {@code search}, starting at {@code fromIndex}.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.indexOf(null, *, *)          =&gt; -1
+     * CharSequenceUtils.indexOf(*, null, *)          =&gt; -1
+     * CharSequenceUtils.indexOf("abc def", "", 0)    =&gt; 0
+     * CharSequenceUtils.indexOf("abc def", "def", 0) =&gt; 4
+     * CharSequenceUtils.indexOf("abc abc", "abc", 1) =&gt; 4
+     * CharSequenceUtils.indexOf("abc def", "ghi", 0) =&gt; -1
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @param search
+     *         the {@code CharSequence} to search for (may be {@literal null})
+     * @param fromIndex
+     *         the index from which to start the search
+     * @return The index of the first occurrence of {@code search} within {@code cs} or {@literal -1} if either are
+     * {@literal null} or there is no such occurrence.
+     */
+    public static int indexOf(final CharSequence cs, final CharSequence search, final int fromIndex) {
+        if (cs == null || search == null) {
+            return -1;
+        }
+        if (cs instanceof String && search instanceof String) {
+            return ((String) cs).indexOf((String) search, fromIndex);
+        }
+
+        final int searchLength = search.length();
+        final int maximum = cs.length() - searchLength;
+        if (searchLength == 0) {
+            return Math.min(Math.max(fromIndex, 0), cs.length());
+        }
+
+        final char first = search.charAt(0);
+        for (int i = Math.max(fromIndex, 0); i <= maximum; i++) {
+            if (cs.charAt(i) == first && regionMatches(cs, false, i + 1, search, 1, searchLength - 1)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * <p>
+     * Returns the index within {@code cs} of the first occurrence of {@code search}, starting at {@code fromIndex},
+     * while ignoring case.
+     * </p>
+     * <p>
+     * Characters are considered equal if they are the same after being converted to upper case and then to lower case,
+     * which is consistent with {@link String#equalsIgnoreCase(String)}. ASCII characters are folded without calling
+     * {@code Character}. Short searches are made by comparing {@code search} at each index in turn without creating any
+     * objects, while longer searches fold {@code search} only once before scanning {@code cs} using the
+     * Boyer-Moore-Horspool algorithm, which can skip up to the length of {@code search} at a time.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.indexOfIgnoreCase(null, *, *)          =&gt; -1
+     * CharSequenceUtils.indexOfIgnoreCase(*, null, *)          =&gt; -1
+     * CharSequenceUtils.indexOfIgnoreCase("abc def", "", 0)    =&gt; 0
+     * CharSequenceUtils.indexOfIgnoreCase("abc def", "DEF", 0) =&gt; 4
+     * CharSequenceUtils.indexOfIgnoreCase("abc ABC", "abc", 1) =&gt; 4
+     * CharSequenceUtils.indexOfIgnoreCase("abc def", "ghi", 0) =&gt; -1
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @param search
+     *         the {@code CharSequence} to search for (may be {@literal null})
+     * @param fromIndex
+     *         the index from which to start the search
+     * @return The index of the first occurrence of {@code search} within {@code cs} while ignoring case or
+     * {@literal -1} if either are {@literal null} or there is no such occurrence.
+     */
+    public static int indexOfIgnoreCase(final CharSequence cs, final CharSequence search, final int fromIndex) {
+        if (cs == null || search == null) {
+            return -1;
+        }
+
+        final int searchLength = search.length();
+        final int maximum = cs.length() - searchLength;
+        final int start = Math.max(fromIndex, 0);
+        if (searchLength == 0) {
+            return Math.min(start, cs.length());
+        }
+        if (start > maximum) {
+            return -1;
+        }
+        if (searchLength < SHIFT_TABLE_MIN_SEARCH_LENGTH || maximum - start < SHIFT_TABLE_MIN_SCAN_LENGTH) {
+            return indexOfIgnoreCaseNaive(cs, search, start, maximum);
+        }
+
+        final char[] folded = new char[searchLength];
+        for (int i = 0; i < searchLength; i++) {
+            folded[i] = fold(search.charAt(i));
+        }
+
+        final int lastIndex = searchLength - 1;
+        final char last = folded[lastIndex];
+
+        // Characters are bucketed by their low byte so shifts are conservative for any that share a bucket
+        final int[] shifts = new int[SHIFT_TABLE_SIZE];
+        Arrays.fill(shifts, searchLength);
+        for (int i = 0; i < lastIndex; i++) {
+            shifts[folded[i] & (SHIFT_TABLE_SIZE - 1)] = lastIndex - i;
+        }
+
+        int i = start;
+        while (i <= maximum) {
+            final char ch = fold(cs.charAt(i + lastIndex));
+            if (ch == last) {
+                int j = lastIndex - 1;
+                while (j >= 0 && fold(cs.charAt(i + j)) == folded[j]) {
+                    j--;
+                }
+
+                if (j < 0) {
+                    return i;
+                }
+            }
+
+            i += shifts[ch & (SHIFT_TABLE_SIZE - 1)];
+        }
+
+        return -1;
+    }
+
+    private static int indexOfIgnoreCaseNaive(final CharSequence cs, final CharSequence search, final int start, final int maximum) {
+        final int searchLength = search.length();
+        final char first = fold(search.charAt(0));
+
+        for (int i = start; i <= maximum; i++) {
+            if (fold(cs.charAt(i)) == first) {
+                int j = 1;
+                while (j < searchLength && fold(cs.charAt(i + j)) == fold(search.charAt(j))) {
+                    j++;
+                }
+
+                if (j == searchLength) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is blank (i.e. only contains whitespace).
+     * </p>
+     * <p>
+     * Whitespace is defined as any character less than or equal to the space character, which is consistent with
+     * {@link String#trim()}.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.isBlank(null)      =&gt; true
+     * CharSequenceUtils.isBlank("")        =&gt; true
+     * CharSequenceUtils.isBlank(" \r\n\t") =&gt; true
+     * CharSequenceUtils.isBlank(" abc ")   =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is {@literal null} or only contains whitespace; otherwise {@literal false}.
+     */
+    public static boolean isBlank(final CharSequence cs) {
+        if (cs == null) {
+            return true;
+        }
+
+        final int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            if (cs.charAt(i) > ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether the region of {@code cs} starting at {@code offset} matches the region of {@code other} starting
+     * at {@code start}, both of the specified {@code length}, optionally ignoring case.
+     * </p>
+     * <p>
+     * This behaves in the same way as {@link String#regionMatches(boolean, int, String, int, int)} and so will return
+     * {@literal false} if either region is out of bounds instead of throwing an exception. However, when ignoring case,
+     * ASCII characters are folded without calling {@code Character}.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @param ignoreCase
+     *         {@literal true} to ignore case when comparing characters; otherwise {@literal false}
+     * @param offset
+     *         the starting offset of the region within {@code cs}
+     * @param other
+     *         the {@code CharSequence} to compare against {@code cs} (may be {@literal null})
+     * @param start
+     *         the starting offset of the region within {@code other}
+     * @param length
+     *         the number of characters to be compared
+     * @return {@literal true} if neither {@code cs} nor {@code other} are {@literal null} and the regions match;
+     * otherwise {@literal false}.
+     */
+    public static boolean regionMatches(final CharSequence cs, final boolean ignoreCase, final int offset, final CharSequence other, final int start, final int length) {
+        if (cs == null || other == null) {
+            return false;
+        }
+
+        if (!ignoreCase && cs instanceof String && other instanceof String) {
+            return ((String) cs).regionMatches(offset, (String) other, start, length);
+        }
+
+        if (offset < 0 || start < 0 || offset > cs.length() - length || start > other.length() - length) {
+            return false;
+        }
+
+        int index1 = offset;
+        int index2 = start;
+        int remaining = length;
+
+        while (remaining-- > 0) {
+            final char ch1 = cs.charAt(index1++);
+            final char ch2 = other.charAt(index2++);
+
+            if (ch1 == ch2) {
+                continue;
+            }
+
+            if (!ignoreCase || fold(ch1) != fold(ch2)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} starts with {@code prefix}, optionally ignoring case.
+     * </p>
+     * <pre>
+     * CharSequenceUtils.startsWith(null, *, *)             =&gt; false
+     * CharSequenceUtils.startsWith(*, null, *)             =&gt; false
+     * CharSequenceUtils.startsWith(*, "", *)               =&gt; true
+     * CharSequenceUtils.startsWith("abc def", "abc", *)    =&gt; true
+     * CharSequenceUtils.startsWith("abc def", "ABC", true) =&gt; true
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @param prefix
+     *         the {@code CharSequence} to check for at the start of {@code cs} (may be {@literal null})
+     * @param ignoreCase
+     *         {@literal true} to ignore case when comparing characters; otherwise {@literal false}
+     * @return {@literal true} if neither {@code cs} nor {@code prefix} are {@literal null} and {@code cs} starts with
+     * {@code prefix}; otherwise {@literal false}.
+     */
+    public static boolean startsWith(final CharSequence cs, final CharSequence prefix, final boolean ignoreCase) {
+        return prefix != null && regionMatches(cs, ignoreCase, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * <p>
+     * Creates an instance of {@link CharSequenceUtils}.
+     * </p>
+     * <p>
+     * This should <b>not</b> be used for standard programming but is available for cases where an instance is needed
+     * for a Java Bean etc.
+     * </p>
+     */
+    public CharSequenceUtils() {
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.function.IntPredicate;
+
+/**
+ * <p>
+ * A class of characters which can be matched without boxing.
+ * </p>
+ * <p>
+ * Membership of each ASCII character is precomputed into a 128-bit lookup table when the class is loaded so matching an
+ * ASCII character is a single bit test. Only non-ASCII characters fall back to the methods on {@code Character}.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public enum CharacterClass {
+
+    ALPHA(Character::isLetter),
+    ALPHA_OR_SPACE(ch -> Character.isLetter(ch) || ch == ' '),
+    ALPHANUMERIC(Character::isLetterOrDigit),
+    ALPHANUMERIC_OR_SPACE(ch -> Character.isLetterOrDigit(ch) || ch == ' '),
+    ASCII(ch -> ch < 128),
+    ASCII_ALPHA(ch -> (ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z')),
+    ASCII_ALPHA_LOWER_CASE(ch -> ch >= 'a' && ch <= 'z'),
+    ASCII_ALPHA_UPPER_CASE(ch -> ch >= 'A' && ch <= 'Z'),
+    ASCII_ALPHANUMERIC(ch -> (ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z') || (ch >= '0' && ch <= '9')),
+    ASCII_CONTROL(ch -> ch < 32 || ch == 127),
+    ASCII_NUMERIC(ch -> ch >= '0' && ch <= '9'),
+    ASCII_PRINTABLE(ch -> ch >= 32 && ch < 127),
+    LOWER_CASE(Character::isLowerCase),
+    NUMERIC(Character::isDigit),
+    NUMERIC_OR_SPACE(ch -> Character.isDigit(ch) || ch == ' '),
+    UPPER_CASE(Character::isUpperCase),
+    WHITESPACE(Character::isWhitespace);
+
+    private final long asciiHigh;
+    private final long asciiLow;
+    private final IntPredicate predicate;
+
+    CharacterClass(final IntPredicate predicate) {
+        long high = 0;
+        long low = 0;
+        for (int ch = 0; ch < 64; ch++) {
+            if (predicate.test(ch)) {
+                low |= 1L << ch;
+            }
+            if (predicate.test(ch + 64)) {
+                high |= 1L << ch;
+            }
+        }
+
+        this.asciiHigh = high;
+        this.asciiLow = low;
+        this.predicate = predicate;
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified character belongs to this {@link CharacterClass}.
+     * </p>
+     * <pre>
+     * CharacterClass.ALPHA.matches('a')           =&gt; true
+     * CharacterClass.ALPHA.matches('1')           =&gt; false
+     * CharacterClass.ASCII_ALPHA.matches('a')     =&gt; true
+     * CharacterClass.ASCII_ALPHA.matches('\u00E9') =&gt; false
+     * </pre>
+     *
+     * @param ch
+     *         the character to be matched
+     * @return {@literal true} if {@code ch} belongs to this {@link CharacterClass}; otherwise {@literal false}.
+     */
+    public boolean matches(final char ch) {
+        if (ch < 64) {
+            return (asciiLow & 1L << ch) != 0;
+        }
+        if (ch < 128) {
+            return (asciiHigh & 1L << ch) != 0;
+        }
+
+        return predicate.test(ch);
+    }
+
+    /**
+     * <p>
+     * Returns whether <b>all</b> of the characters within {@code cs} belong to this {@link CharacterClass}.
+     * </p>
+     * <pre>
+     * CharacterClass.ALPHA.matchesAll(null)  =&gt; false
+     * CharacterClass.ALPHA.matchesAll("")    =&gt; true
+     * CharacterClass.ALPHA.matchesAll("abc") =&gt; true
+     * CharacterClass.ALPHA.matchesAll("a1c") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} whose characters are to be matched (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and all of its characters belong to this
+     * {@link CharacterClass}; otherwise {@literal false}.
+     */
+    public boolean matchesAll(final CharSequence cs) {
+        if (cs == null) {
+            return false;
+        }
+
+        final int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            if (!matches(cs.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>
+ * Facts about a {@code Class} which are computed only once so that repeatedly checking them does not require going back
+ * to reflection, which can be expensive (e.g. {@code Class#getAnnotations()} copies the annotations each time it is
+ * called).
+ * </p>
+ * <p>
+ * Instances are held in a {@code ClassValue} and so are shared, including across threads, and can be discarded along
+ * with the {@code Class} to which they relate when it is unloaded.
+ * </p>
+ * <pre>
+ * ClassMetadata.of(CharSequence.class).isAssignableFrom(String.class) =&gt; true
+ * ClassMetadata.of(String.class).isAssignableFrom(CharSequence.class) =&gt; false
+ * ClassMetadata.of(Integer.class).isPrimitiveWrapper()                =&gt; true
+ * </pre>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class ClassMetadata {
+
+    private static final int ANNOTATION = 1;
+    private static final int ANONYMOUS = 1 << 1;
+    private static final int ARRAY = 1 << 2;
+    private static final int ENUMERATION = 1 << 3;
+    private static final int INTERFACE = 1 << 4;
+    private static final int NESTED = 1 << 5;
+    private static final int PRIMITIVE = 1 << 6;
+    private static final int PRIMITIVE_WRAPPER = 1 << 7;
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private static final Set<Class<?>> PRIMITIVE_WRAPPERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(Boolean.class, Byte.class, Character.class, Double.class, Float.class, Integer.class, Long.class, Short.class, Void.TYPE)));
+
+    private static void addAssignableTypes(final Class<?> type, final Set<Class<?>> types) {
+        if (type == null || !types.add(type)) {
+            return;
+        }
+
+        addAssignableTypes(type.getSuperclass(), types);
+
+        for (final Class<?> interfaceType : type.getInterfaces()) {
+            addAssignableTypes(interfaceType, types);
+        }
+    }
+
+    private static int getFlags(final Class<?> type) {
+        int flags = 0;
+        if (type.isAnnotation()) {
+            flags |= ANNOTATION;
+        }
+        if (type.isAnonymousClass()) {
+            flags |= ANONYMOUS;
+        }
+        if (type.isArray()) {
+            flags |= ARRAY;
+        }
+        if (type.isEnum()) {
+            flags |= ENUMERATION;
+        }
+        if (type.isInterface()) {
+            flags |= INTERFACE;
+        }
+        if (type.getEnclosingClass() != null) {
+            flags |= NESTED;
+        }
+        if (type.isPrimitive()) {
+            flags |= PRIMITIVE;
+        }
+        if (PRIMITIVE_WRAPPERS.contains(type)) {
+            flags |= PRIMITIVE_WRAPPER;
+        }
+
+        return flags;
+    }
+
+    /**
+     * <p>
+     * Returns the {@link ClassMetadata} for the specified {@code type}, computing it only if it has not already been
+     * computed.
+     * </p>
+     *
+     * @param type
+     *         the {@code Class} whose {@link ClassMetadata} is to be returned
+     * @return The {@link ClassMetadata} for {@code type}.
+     * @throws NullPointerException
+     *         If {@code type} is {@literal null}.
+     */
+    public static ClassMetadata of(final Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    private final Set<Class<? extends Annotation>> annotationTypes;
+    private volatile Set<Class<?>> assignableTypes;
+    private final int flags;
+    private final Class<?> type;
+
+    private ClassMetadata(final Class<?> type) {
+        this.type = type;
+        this.flags = getFlags(type);
+
+        final Annotation[] annotations = type.getAnnotations();
+        if (annotations.length == 0) {
+            this.annotationTypes = Collections.emptySet();
+        } else {
+            final Set<Class<? extends Annotation>> types = new HashSet<>();
+            for (final Annotation annotation : annotations) {
+                types.add(annotation.annotationType());
+            }
+
+            this.annotationTypes = Collections.unmodifiableSet(types);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the types of the annotations which are present on the {@code Class}, including those which are inherited.
+     * </p>
+     *
+     * @return An unmodifiable {@code Set} of annotation types.
+     */
+    public Set<Class<? extends Annotation>> getAnnotationTypes() {
+        return annotationTypes;
+    }
+
+    /**
+     * <p>
+     * Returns all types to which the {@code Class} is assignable, including itself, its superclasses and interfaces and,
+     * for arrays, the arrays of those of its component type.
+     * </p>
+     * <p>
+     * This is computed when it is first needed.
+     * </p>
+     *
+     * @return An unmodifiable {@code Set} of assignable types.
+     * @see Class#isAssignableFrom(Class)
+     */
+    public Set<Class<?>> getAssignableTypes() {
+        Set<Class<?>> types = assignableTypes;
+        if (types == null) {
+            types = new HashSet<>();
+
+            if (isArray()) {
+                types.add(Object.class);
+                types.add(Cloneable.class);
+                types.add(Serializable.class);
+
+                for (final Class<?> componentType : of(type.getComponentType()).getAssignableTypes()) {
+                    types.add(Array.newInstance(componentType, 0).getClass());
+                }
+            } else {
+                addAssignableTypes(type, types);
+
+                if (isInterface()) {
+                    types.add(Object.class);
+                }
+            }
+
+            types = Collections.unmodifiableSet(types);
+            assignableTypes = types;
+        }
+
+        return types;
+    }
+
+    /**
+     * <p>
+     * Returns the {@code Class} to which this {@link ClassMetadata} relates.
+     * </p>
+     *
+     * @return The {@code Class}.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} has at least one annotation of any type.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is annotated; otherwise {@literal false}.
+     */
+    public boolean isAnnotated() {
+        return !annotationTypes.isEmpty();
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} has an annotation of the specified {@code type}.
+     * </p>
+     *
+     * @param type
+     *         the annotation type to be checked (may be {@literal null})
+     * @return {@literal true} if the {@code Class} is annotated with {@code type}; otherwise {@literal false}.
+     * @see Class#isAnnotationPresent(Class)
+     */
+    public boolean isAnnotatedWith(final Class<? extends Annotation> type) {
+        return annotationTypes.contains(type);
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is an annotation.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is an annotation; otherwise {@literal false}.
+     */
+    public boolean isAnnotation() {
+        return (flags & ANNOTATION) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is anonymous.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is anonymous; otherwise {@literal false}.
+     */
+    public boolean isAnonymous() {
+        return (flags & ANONYMOUS) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is an array.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is an array; otherwise {@literal false}.
+     */
+    public boolean isArray() {
+        return (flags & ARRAY) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is either the same as, or is a superclass or superinterface of, the specified
+     * {@code type}.
+     * </p>
+     * <p>
+     * This is answered from the {@link #getAssignableTypes() assignable types} of {@code type}.
+     * </p>
+     *
+     * @param type
+     *         the {@code Class} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code type} can be assigned to the {@code Class}; otherwise {@literal false}.
+     * @see Class#isAssignableFrom(Class)
+     */
+    public boolean isAssignableFrom(final Class<?> type) {
+        return type != null && (this.type == type || of(type).getAssignableTypes().contains(this.type));
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is an enum.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is an enum; otherwise {@literal false}.
+     */
+    public boolean isEnumeration() {
+        return (flags & ENUMERATION) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is an interface.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is an interface; otherwise {@literal false}.
+     */
+    public boolean isInterface() {
+        return (flags & INTERFACE) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is nested within another.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is nested; otherwise {@literal false}.
+     */
+    public boolean isNested() {
+        return (flags & NESTED) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is a primitive.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is a primitive; otherwise {@literal false}.
+     */
+    public boolean isPrimitive() {
+        return (flags & PRIMITIVE) != 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether the {@code Class} is a primitive wrapper.
+     * </p>
+     *
+     * @return {@literal true} if the {@code Class} is a primitive wrapper; otherwise {@literal false}.
+     */
+    public boolean isPrimitiveWrapper() {
+        return (flags & PRIMITIVE_WRAPPER) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassMetadata(" + type.getName() + ")";
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * <p>
+ * Contains utility methods for dealing with collections.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class CollectionUtils {
+
+    // Below this many comparisons, calling List#contains for each element is cheaper than hashing the elements
+    private static final long HASH_SEARCH_THRESHOLD = 1024;
+
+    private static boolean isHashSearchWorthwhile(final Collection<?> collection, final Object[] elements) {
+        return elements.length > 1 && collection instanceof List && (long) elements.length * collection.size() > HASH_SEARCH_THRESHOLD;
+    }
+
+    private static <E> boolean search(final Collection<E> collection, final Predicate<? super E> predicate, final boolean target, final ForkJoinPool pool, final int threshold) {
+        if (collection.size() <= threshold) {
+            for (final E element : collection) {
+                if (predicate.test(element) == target) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        // Take a snapshot of the elements before using its length, in case the collection changes size in the meantime
+        final Object[] elements = collection.toArray();
+        final SearchTask<E> task = new SearchTask<>(elements, 0, elements.length, predicate, target, threshold, new AtomicBoolean());
+        pool.invoke(task);
+
+        return task.found.get();
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code collection} contains <b>all</b> of the {@code elements} provided.
+     * </p>
+     * <p>
+     * When looking up multiple elements within a large {@code List}, the elements are hashed so that the list only needs
+     * to be iterated over once, stopping as soon as the result is known, rather than once for each element. Elements
+     * are therefore expected to implement {@code hashCode} consistently with {@code equals}.
+     * </p>
+     * <pre>
+     * CollectionUtils.containsAll(null, *)                                      =&gt; false
+     * CollectionUtils.containsAll(*, null)                                      =&gt; true
+     * CollectionUtils.containsAll(Arrays.asList("foo", "bar"), new Object[0])   =&gt; true
+     * CollectionUtils.containsAll(Arrays.asList("foo", "bar"), {"bar", "foo"})  =&gt; true
+     * CollectionUtils.containsAll(Arrays.asList("foo", "bar"), {"bar", "fizz"}) =&gt; false
+     * </pre>
+     *
+     * @param collection
+     *         the {@code Collection} to be searched (may be {@literal null})
+     * @param elements
+     *         the elements to search for (may be {@literal null})
+     * @return {@literal true} if {@code collection} is not {@literal null} and contains all {@code elements} or
+     * {@code elements} is {@literal null}; otherwise {@literal false}.
+     */
+    public static boolean containsAll(final Collection<?> collection, final Object[] elements) {
+        if (collection == null) {
+            return false;
+        }
+        if (elements == null) {
+            return true;
+        }
+
+        if (isHashSearchWorthwhile(collection, elements)) {
+            final Set<Object> remaining = new HashSet<>(Arrays.asList(elements));
+            for (final Object element : collection) {
+                if (remaining.remove(element) && remaining.isEmpty()) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        for (final Object element : elements) {
+            if (!collection.contains(element)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code collection} contains <b>any</b> of the {@code elements} provided.
+     * </p>
+     * <p>
+     * When looking up multiple elements within a large {@code List}, the elements are hashed so that the list only needs
+     * to be iterated over once, stopping as soon as the result is known, rather than once for each element. Elements
+     * are therefore expected to implement {@code hashCode} consistently with {@code equals}.
+     * </p>
+     * <pre>
+     * CollectionUtils.containsAny(null, *)                                       =&gt; false
+     * CollectionUtils.containsAny(*, null)                                       =&gt; false
+     * CollectionUtils.containsAny(Arrays.asList("foo", "bar"), new Object[0])    =&gt; false
+     * CollectionUtils.containsAny(Arrays.asList("foo", "bar"), {"fizz", "foo"})  =&gt; true
+     * CollectionUtils.containsAny(Arrays.asList("foo", "bar"), {"fizz", "buzz"}) =&gt; false
+     * </pre>
+     *
+     * @param collection
+     *         the {@code Collection} to be searched (may be {@literal null})
+     * @param elements
+     *         the elements to search for (may be {@literal null})
+     * @return {@literal true} if {@code collection} is not {@literal null} and contains any of the {@code elements};
+     * otherwise {@literal false}.
+     */
+    public static boolean containsAny(final Collection<?> collection, final Object[] elements) {
+        if (collection == null || elements == null) {
+            return false;
+        }
+
+        if (isHashSearchWorthwhile(collection, elements)) {
+            final Set<Object> wanted = new HashSet<>(Arrays.asList(elements));
+            for (final Object element : collection) {
+                if (wanted.contains(element)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        for (final Object element : elements) {
+            if (collection.contains(element)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code predicate} matches <b>all</b> of the elements within the
+     * {@code collection} provided, splitting the work across the {@code pool} when {@code collection} contains more
+     * than {@code threshold} elements.
+     * </p>
+     * <p>
+     * Once {@code predicate} fails to match any element, all outstanding work is abandoned as soon as possible. As
+     * such, {@code predicate} must be thread-safe and may be called for elements in any order.
+     * </p>
+     *
+     * @param collection
+     *         the {@code Collection} whose elements are to be matched (may be {@literal null})
+     * @param predicate
+     *         the {@code Predicate} to be used to match each element
+     * @param pool
+     *         the {@code ForkJoinPool} to be used to match elements in parallel
+     * @param threshold
+     *         the maximum number of elements to be matched sequentially by a single task
+     * @param <E>
+     *         the type of the elements within {@code collection}
+     * @return {@literal true} if {@code collection} is {@literal null} or {@code predicate} matches all of its elements;
+     * otherwise {@literal false}.
+     */
+    public static <E> boolean matchAllParallel(final Collection<E> collection, final Predicate<? super E> predicate, final ForkJoinPool pool, final int threshold) {
+        return collection == null || !search(collection, predicate, false, pool, threshold);
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code predicate} matches <b>any</b> of the elements within the
+     * {@code collection} provided, splitting the work across the {@code pool} when {@code collection} contains more
+     * than {@code threshold} elements.
+     * </p>
+     * <p>
+     * Once {@code predicate} matches any element, all outstanding work is abandoned as soon as possible. As such,
+     * {@code predicate} must be thread-safe and may be called for elements in any order.
+     * </p>
+     *
+     * @param collection
+     *         the {@code Collection} whose elements are to be matched (may be {@literal null})
+     * @param predicate
+     *         the {@code Predicate} to be used to match each element
+     * @param pool
+     *         the {@code ForkJoinPool} to be used to match elements in parallel
+     * @param threshold
+     *         the maximum number of elements to be matched sequentially by a single task
+     * @param <E>
+     *         the type of the elements within {@code collection}
+     * @return {@literal true} if {@code collection} is not {@literal null} and {@code predicate} matches any of its
+     * elements; otherwise {@literal false}.
+     */
+    public static <E> boolean matchAnyParallel(final Collection<E> collection, final Predicate<? super E> predicate, final ForkJoinPool pool, final int threshold) {
+        return collection != null && search(collection, predicate, true, pool, threshold);
+    }
+
+    /**
+     * <p>
+     * Creates an instance of {@link CollectionUtils}.
+     * </p>
+     * <p>
+     * This should <b>not</b> be used for standard programming but is available for cases where an instance is needed
+     * for a Java Bean etc.
+     * </p>
+     */
+    public CollectionUtils() {
+    }
+
+    /**
+     * <p>
+     * A {@code RecursiveAction} which searches a range of elements for one for which a {@code Predicate} returns the
+     * target result, recursively splitting the range until it contains no more than the threshold.
+     * </p>
+     * <p>
+     * All tasks for a single search share the same flag so that they can stop as soon as any of them finds an element.
+     * </p>
+     *
+     * @param <E>
+     *         the type of the elements being searched
+     */
+    private static final class SearchTask<E> extends RecursiveAction {
+
+        private static final long serialVersionUID = -3870155127425236125L;
+
+        private final Object[] elements;
+        private final int end;
+        private final AtomicBoolean found;
+        private final Predicate<? super E> predicate;
+        private final int start;
+        private final boolean target;
+        private final int threshold;
+
+        SearchTask(final Object[] elements, final int start, final int end, final Predicate<? super E> predicate, final boolean target, final int threshold, final AtomicBoolean found) {
+            this.elements = elements;
+            this.start = start;
+            this.end = end;
+            this.predicate = predicate;
+            this.target = target;
+            this.threshold = threshold;
+            this.found = found;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected void compute() {
+            if (found.get()) {
+                return;
+            }
+            if (end - start > threshold) {
+                final int middle = (start + end) >>> 1;
+
+                invokeAll(new SearchTask<>(elements, start, middle, predicate, target, threshold, found), new SearchTask<>(elements, middle, end, predicate, target, threshold, found));
+                return;
+            }
+
+            for (int i = start; i < end && !found.get(); i++) {
+                if (predicate.test((E) elements[i]) == target) {
+                    found.set(true);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * The first element within a {@code Collection} whose key is the same as that of an earlier element, along with the
+ * indices (in iteration order) of both elements.
+ * </p>
+ * <p>
+ * Duplicates are found using an open-addressing hash table which is sized for all elements up front and the search
+ * stops as soon as the first duplicate is found. Keys are compared using {@link Object#equals(Object)} and are
+ * therefore expected to implement {@code hashCode} consistently with it. {@literal null} keys are permitted and are
+ * considered to be equal to each other.
+ * </p>
+ * <p>
+ * For very large collections (e.g. tens of millions of elements), a Bloom filter can optionally be used to first find
+ * those keys which may be duplicated so that only they need to be held in the hash table. This requires far less
+ * memory when most elements are distinct but iterates over the elements, and maps their keys, twice.
+ * </p>
+ * <pre>
+ * Duplicate.find(Arrays.asList("a", "b", "c"), Function.identity())            =&gt; null
+ * Duplicate.find(Arrays.asList("a", "b", "a", "b"), Function.identity())       =&gt; Duplicate(a at 0 and 2)
+ * Duplicate.find(Arrays.asList("a", "bb", "cc"), String::length)               =&gt; Duplicate(2 at 1 and 2)
+ * Duplicate.find(Arrays.asList("a", "b", "a", "b"), Function.identity(), true) =&gt; Duplicate(a at 0 and 2)
+ * </pre>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class Duplicate {
+
+    private static final int BLOOM_FILTER_BITS_PER_ELEMENT = 8;
+    private static final int BLOOM_FILTER_HASHES = 5;
+    private static final int MAXIMUM_EXPECTED_SIZE = 1 << 29;
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * <p>
+     * Returns the first duplicate within the specified {@code elements} based on the keys returned by
+     * {@code keyMapper}.
+     * </p>
+     *
+     * @param elements
+     *         the {@code Collection} to be searched for duplicates
+     * @param keyMapper
+     *         the {@code Function} to be used to obtain the key for each element
+     * @param <E>
+     *         the type of the elements
+     * @return The first {@link Duplicate} within {@code elements} or {@literal null} if all of their keys are distinct.
+     * @see #find(Collection, Function, boolean)
+     */
+    public static <E> Duplicate find(final Collection<E> elements, final Function<? super E, ?> keyMapper) {
+        return find(elements, keyMapper, false);
+    }
+
+    /**
+     * <p>
+     * Returns the first duplicate within the specified {@code elements} based on the keys returned by
+     * {@code keyMapper}, optionally using a Bloom filter to reduce the amount of memory required.
+     * </p>
+     * <p>
+     * The same {@link Duplicate} is returned regardless of whether a Bloom filter is used. However, when one is used,
+     * {@code elements} is iterated over twice and so must return its elements in the same order each time and
+     * {@code keyMapper} must return equal keys when passed the same element.
+     * </p>
+     *
+     * @param elements
+     *         the {@code Collection} to be searched for duplicates
+     * @param keyMapper
+     *         the {@code Function} to be used to obtain the key for each element
+     * @param bloomFilter
+     *         {@literal true} to use a Bloom filter to find the keys which may be duplicated before searching for the
+     *         first duplicate; otherwise {@literal false}
+     * @param <E>
+     *         the type of the elements
+     * @return The first {@link Duplicate} within {@code elements} or {@literal null} if all of their keys are distinct.
+     */
+    public static <E> Duplicate find(final Collection<E> elements, final Function<? super E, ?> keyMapper, final boolean bloomFilter) {
+        if (!bloomFilter) {
+            return find(elements, keyMapper, null, new KeyTable(elements.size()));
+        }
+
+        final KeyTable candidates = findCandidates(elements, keyMapper);
+        if (candidates.size == 0) {
+            return null;
+        }
+
+        return find(elements, keyMapper, candidates, new KeyTable(candidates.size));
+    }
+
+    private static <E> Duplicate find(final Collection<E> elements, final Function<? super E, ?> keyMapper, final KeyTable candidates, final KeyTable keys) {
+        int index = 0;
+        for (final E element : elements) {
+            final Object key = keyMapper.apply(element);
+            if (candidates == null || candidates.get(key) >= 0) {
+                final int firstIndex = keys.putIfAbsent(key, index);
+                if (firstIndex >= 0) {
+                    return new Duplicate(key, firstIndex, index);
+                }
+            }
+
+            index++;
+        }
+
+        return null;
+    }
+
+    private static <E> KeyTable findCandidates(final Collection<E> elements, final Function<? super E, ?> keyMapper) {
+        final BloomFilter filter = new BloomFilter(elements.size());
+        final KeyTable candidates = new KeyTable(0);
+        for (final E element : elements) {
+            final Object key = keyMapper.apply(element);
+            if (filter.add(hash(key))) {
+                candidates.putIfAbsent(key, 0);
+            }
+        }
+
+        return candidates;
+    }
+
+    private static int hash(final Object key) {
+        final int hash = key != null ? key.hashCode() : 0;
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private final int firstIndex;
+    private final int index;
+    private final Object key;
+
+    private Duplicate(final Object key, final int firstIndex, final int index) {
+        this.key = key;
+        this.firstIndex = firstIndex;
+        this.index = index;
+    }
+
+    /**
+     * <p>
+     * Returns the index of the earlier element whose key is duplicated.
+     * </p>
+     *
+     * @return The index of the first element with the key.
+     */
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * <p>
+     * Returns the index of the element which duplicates the key of an earlier element.
+     * </p>
+     *
+     * @return The index of the duplicate element.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * <p>
+     * Returns the key which is duplicated.
+     * </p>
+     *
+     * @return The duplicated key (may be {@literal null}).
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return "Duplicate(" + key + " at " + firstIndex + " and " + index + ")";
+    }
+
+    /**
+     * <p>
+     * A Bloom filter of key hashes whose size is fixed based on the number of elements that are expected to be added.
+     * </p>
+     */
+    private static final class BloomFilter {
+
+        private final long[] bits;
+        private final long mask;
+
+        BloomFilter(final int expectedSize) {
+            final long bitCount = Long.highestOneBit(Math.max((long) expectedSize * BLOOM_FILTER_BITS_PER_ELEMENT, Long.SIZE)) << 1;
+
+            this.bits = new long[(int) (bitCount >>> 6)];
+            this.mask = bitCount - 1;
+        }
+
+        boolean add(final int hash) {
+            // Derive all positions from two halves of a single 64-bit hash (i.e. double hashing)
+            final long mixed = hash * 0x9E3779B97F4A7C15L;
+            final long hash1 = (int) mixed;
+            final long hash2 = (int) (mixed >>> 32) | 1;
+
+            boolean present = true;
+            for (int i = 0; i < BLOOM_FILTER_HASHES; i++) {
+                final long bit = (hash1 + i * hash2) & mask;
+                final int word = (int) (bit >>> 6);
+                if ((bits[word] & (1L << bit)) == 0) {
+                    bits[word] |= 1L << bit;
+                    present = false;
+                }
+            }
+
+            return present;
+        }
+    }
+
+    /**
+     * <p>
+     * An open-addressing hash table which maps keys to the index of the first element that had them.
+     * </p>
+     */
+    private static final class KeyTable {
+
+        private int[] hashes;
+        private int[] indices;
+        private Object[] keys;
+        private int mask;
+        private int size;
+
+        KeyTable(final int expectedSize) {
+            final int capped = Math.min(expectedSize, MAXIMUM_EXPECTED_SIZE);
+
+            allocate(Integer.highestOneBit(Math.max(capped + (capped >>> 1), 2)) << 1);
+        }
+
+        private void allocate(final int capacity) {
+            hashes = new int[capacity];
+            indices = new int[capacity];
+            keys = new Object[capacity];
+            mask = capacity - 1;
+        }
+
+        int get(final Object key) {
+            final Object tableKey = key != null ? key : NULL_KEY;
+            final int hash = hash(key);
+
+            for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                if (hashes[slot] == hash && keys[slot].equals(tableKey)) {
+                    return indices[slot];
+                }
+            }
+
+            return -1;
+        }
+
+        int putIfAbsent(final Object key, final int index) {
+            final Object tableKey = key != null ? key : NULL_KEY;
+            final int hash = hash(key);
+
+            int slot = hash & mask;
+            while (keys[slot] != null) {
+                if (hashes[slot] == hash && keys[slot].equals(tableKey)) {
+                    return indices[slot];
+                }
+
+                slot = (slot + 1) & mask;
+            }
+
+            hashes[slot] = hash;
+            indices[slot] = index;
+            keys[slot] = tableKey;
+
+            if (++size > (keys.length >>> 2) * 3) {
+                resize();
+            }
+
+            return -1;
+        }
+
+        private void resize() {
+            final int[] oldHashes = hashes;
+            final int[] oldIndices = indices;
+            final Object[] oldKeys = keys;
+
+            allocate(oldKeys.length << 1);
+
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    int slot = oldHashes[i] & mask;
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+
+                    hashes[slot] = oldHashes[i];
+                    indices[slot] = oldIndices[i];
+                    keys[slot] = oldKeys[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,624 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+/**
+ * <p>
+ * Contains utility methods for checking whether {@code CharSequences} conform to common textual formats.
+ * </p>
+ * <p>
+ * Each format is checked by scanning the characters within the {@code CharSequence} directly, without using regular
+ * expressions, so that no intermediate objects are ever created.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class FormatUtils {
+
+    private static final int MAX_DOMAIN_LABEL_LENGTH = 63;
+    private static final int MAX_OFFSET_HOURS = 18;
+    private static final int UUID_LENGTH = 36;
+
+    private static boolean isAsciiLetterOrDigit(final char ch) {
+        return ch < 128 && Character.isLetterOrDigit(ch);
+    }
+
+    private static boolean isBase64Character(final char ch) {
+        return isAsciiLetterOrDigit(ch) || ch == '+' || ch == '/';
+    }
+
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static boolean isEmailLocalCharacter(final char ch) {
+        return isAsciiLetterOrDigit(ch) || ".!#$%&'*+/=?^_`{|}~-".indexOf(ch) >= 0;
+    }
+
+    private static boolean isHexDigit(final char ch) {
+        return ch >= '0' && ch <= '9' || ch >= 'a' && ch <= 'f' || ch >= 'A' && ch <= 'F';
+    }
+
+    private static boolean isIpv4(final CharSequence cs, final int start, final int end) {
+        int dots = 0;
+        int digits = 0;
+        int value = 0;
+
+        for (int i = start; i < end; i++) {
+            final char ch = cs.charAt(i);
+
+            if (ch == '.') {
+                if (digits == 0 || ++dots > 3) {
+                    return false;
+                }
+
+                digits = 0;
+                value = 0;
+            } else if (isDigit(ch)) {
+                // Leading zeros are rejected as some parsers treat them as octal
+                if (digits > 0 && value == 0) {
+                    return false;
+                }
+
+                value = value * 10 + ch - '0';
+                digits++;
+                if (value > 255) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+
+        return dots == 3 && digits > 0;
+    }
+
+    private static boolean isIpv6(final CharSequence cs, final int start, final int end) {
+        boolean compressed = false;
+        int groups = 0;
+        int i = start;
+
+        if (end - start >= 2 && cs.charAt(start) == ':' && cs.charAt(start + 1) == ':') {
+            compressed = true;
+            i += 2;
+        }
+
+        while (i < end) {
+            final int groupStart = i;
+            while (i < end && isHexDigit(cs.charAt(i))) {
+                i++;
+            }
+
+            if (i < end && cs.charAt(i) == '.') {
+                // Embedded IPv4 address occupies the last two groups
+                groups += 2;
+
+                return isIpv4(cs, groupStart, end) && (compressed ? groups < 8 : groups == 8);
+            }
+
+            final int digits = i - groupStart;
+            if (digits == 0 || digits > 4 || ++groups > 8) {
+                return false;
+            }
+            if (i == end) {
+                break;
+            }
+            if (cs.charAt(i) != ':' || ++i == end) {
+                return false;
+            }
+
+            if (cs.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+
+                compressed = true;
+                i++;
+            }
+        }
+
+        return compressed ? groups < 8 : groups == 8;
+    }
+
+    private static boolean isIso8601Offset(final CharSequence cs, final int start) {
+        final int length = cs.length() - start;
+        if (length == 1) {
+            return cs.charAt(start) == 'Z';
+        }
+
+        final char sign = cs.charAt(start);
+        if (length != 6 || sign != '+' && sign != '-' || cs.charAt(start + 3) != ':') {
+            return false;
+        }
+
+        final int hours = parseNumber(cs, start + 1, 2);
+        final int minutes = parseNumber(cs, start + 4, 2);
+
+        return hours >= 0 && minutes >= 0 && minutes < 60 && (hours < MAX_OFFSET_HOURS || hours == MAX_OFFSET_HOURS && minutes == 0);
+    }
+
+    private static boolean isPercentEncoded(final CharSequence cs, final int index, final int end) {
+        return index + 2 < end && isHexDigit(cs.charAt(index + 1)) && isHexDigit(cs.charAt(index + 2));
+    }
+
+    private static boolean isSubDelimiter(final char ch) {
+        return "!$&'()*+,;=".indexOf(ch) >= 0;
+    }
+
+    private static boolean isUnreserved(final char ch) {
+        return isAsciiLetterOrDigit(ch) || ch == '-' || ch == '.' || ch == '_' || ch == '~';
+    }
+
+    private static boolean isUrlAuthority(final CharSequence cs, final int start, final int end) {
+        int hostStart = start;
+        for (int i = start; i < end; i++) {
+            if (cs.charAt(i) == '@') {
+                if (!isUrlComponent(cs, start, i, ":")) {
+                    return false;
+                }
+
+                hostStart = i + 1;
+                break;
+            }
+        }
+
+        int hostEnd;
+        if (hostStart < end && cs.charAt(hostStart) == '[') {
+            hostEnd = hostStart + 1;
+            while (hostEnd < end && cs.charAt(hostEnd) != ']') {
+                hostEnd++;
+            }
+            if (hostEnd == end || !isIpv6(cs, hostStart + 1, hostEnd)) {
+                return false;
+            }
+
+            hostEnd++;
+        } else {
+            hostEnd = hostStart;
+            while (hostEnd < end && cs.charAt(hostEnd) != ':') {
+                hostEnd++;
+            }
+            if (hostEnd == hostStart || !isUrlComponent(cs, hostStart, hostEnd, "")) {
+                return false;
+            }
+        }
+
+        if (hostEnd == end) {
+            return true;
+        }
+        if (cs.charAt(hostEnd) != ':') {
+            return false;
+        }
+
+        for (int i = hostEnd + 1; i < end; i++) {
+            if (!isDigit(cs.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isUrlComponent(final CharSequence cs, final int start, final int end, final String extra) {
+        for (int i = start; i < end; i++) {
+            final char ch = cs.charAt(i);
+
+            if (ch == '%') {
+                if (!isPercentEncoded(cs, i, end)) {
+                    return false;
+                }
+
+                i += 2;
+            } else if (!isUnreserved(ch) && !isSubDelimiter(ch) && extra.indexOf(ch) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int parseNumber(final CharSequence cs, final int start, final int digits) {
+        int value = 0;
+        for (int i = start; i < start + digits; i++) {
+            final char ch = cs.charAt(i);
+            if (!isDigit(ch)) {
+                return -1;
+            }
+
+            value = value * 10 + ch - '0';
+        }
+
+        return value;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is encoded using the standard Base64 alphabet defined in RFC 4648, including any
+     * padding.
+     * </p>
+     * <pre>
+     * FormatUtils.isBase64(null)       =&gt; false
+     * FormatUtils.isBase64("")         =&gt; true
+     * FormatUtils.isBase64("Zm9vYg==") =&gt; true
+     * FormatUtils.isBase64("Zm9vYg")   =&gt; false
+     * FormatUtils.isBase64("Zm9v_g==") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is Base64 encoded; otherwise {@literal false}.
+     */
+    public static boolean isBase64(final CharSequence cs) {
+        if (cs == null) {
+            return false;
+        }
+
+        final int length = cs.length();
+        if (length % 4 != 0) {
+            return false;
+        }
+
+        int end = length;
+        if (end > 0 && cs.charAt(end - 1) == '=') {
+            end--;
+            if (cs.charAt(end - 1) == '=') {
+                end--;
+            }
+        }
+
+        for (int i = 0; i < end; i++) {
+            if (!isBase64Character(cs.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is a syntactically valid e-mail address.
+     * </p>
+     * <p>
+     * This uses the same definition as the HTML specification, which is a deliberately pragmatic subset of RFC 5322:
+     * a local part made up of letters, digits, dots and {@code !#$%&'*+/=?^_`{|}~-}, followed by {@code @} and a domain
+     * of one or more dot-separated labels. Each label contains up to 63 letters, digits and hyphens but must neither
+     * start nor end with a hyphen. Only ASCII characters are permitted.
+     * </p>
+     * <pre>
+     * FormatUtils.isEmail(null)                  =&gt; false
+     * FormatUtils.isEmail("")                    =&gt; false
+     * FormatUtils.isEmail("foo.bar@example.com") =&gt; true
+     * FormatUtils.isEmail("foo@localhost")       =&gt; true
+     * FormatUtils.isEmail("foo@-example.com")    =&gt; false
+     * FormatUtils.isEmail("foo bar@example.com") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is an e-mail address; otherwise {@literal false}.
+     */
+    public static boolean isEmail(final CharSequence cs) {
+        if (cs == null) {
+            return false;
+        }
+
+        final int length = cs.length();
+        int i = 0;
+        while (i < length && isEmailLocalCharacter(cs.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i == length || cs.charAt(i) != '@') {
+            return false;
+        }
+
+        do {
+            final int labelStart = ++i;
+            while (i < length && (isAsciiLetterOrDigit(cs.charAt(i)) || cs.charAt(i) == '-')) {
+                i++;
+            }
+
+            final int labelLength = i - labelStart;
+            if (labelLength == 0 || labelLength > MAX_DOMAIN_LABEL_LENGTH || cs.charAt(labelStart) == '-' || cs.charAt(i - 1) == '-') {
+                return false;
+            }
+        } while (i < length && cs.charAt(i) == '.');
+
+        return i == length;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} contains one or more hexadecimal digits and nothing else.
+     * </p>
+     * <pre>
+     * FormatUtils.isHex(null)      =&gt; false
+     * FormatUtils.isHex("")        =&gt; false
+     * FormatUtils.isHex("09afAF")  =&gt; true
+     * FormatUtils.isHex("0x09afAF") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is hexadecimal; otherwise {@literal false}.
+     */
+    public static boolean isHex(final CharSequence cs) {
+        if (cs == null || cs.length() == 0) {
+            return false;
+        }
+
+        final int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            if (!isHexDigit(cs.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is an IPv4 address in dotted-decimal notation.
+     * </p>
+     * <p>
+     * Each of the four parts must be a decimal number between 0 and 255 without leading zeros.
+     * </p>
+     * <pre>
+     * FormatUtils.isIpv4(null)          =&gt; false
+     * FormatUtils.isIpv4("127.0.0.1")   =&gt; true
+     * FormatUtils.isIpv4("127.0.0.256") =&gt; false
+     * FormatUtils.isIpv4("127.0.0.01")  =&gt; false
+     * FormatUtils.isIpv4("127.0.1")     =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is an IPv4 address; otherwise {@literal false}.
+     */
+    public static boolean isIpv4(final CharSequence cs) {
+        return cs != null && isIpv4(cs, 0, cs.length());
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is an IPv6 address in any of the text representations defined in RFC 4291.
+     * </p>
+     * <p>
+     * This includes zero compression using {@code ::} and the last 32 bits being represented as an embedded IPv4
+     * address. Zone identifiers and enclosing brackets are not permitted.
+     * </p>
+     * <pre>
+     * FormatUtils.isIpv6(null)                      =&gt; false
+     * FormatUtils.isIpv6("::1")                     =&gt; true
+     * FormatUtils.isIpv6("2001:db8:0:0:0:0:2:1")    =&gt; true
+     * FormatUtils.isIpv6("2001:db8::2:1")           =&gt; true
+     * FormatUtils.isIpv6("::ffff:192.0.2.1")        =&gt; true
+     * FormatUtils.isIpv6("2001:db8::2::1")          =&gt; false
+     * FormatUtils.isIpv6("2001:db8:0:0:0:0:0:2:1")  =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is an IPv6 address; otherwise {@literal false}.
+     */
+    public static boolean isIpv6(final CharSequence cs) {
+        return cs != null && isIpv6(cs, 0, cs.length());
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is a date or date-time in the ISO 8601 extended format.
+     * </p>
+     * <p>
+     * The date must be in the form {@code yyyy-MM-dd} and may optionally be followed by {@code T} and a time in the
+     * form {@code HH:mm}, {@code HH:mm:ss} or {@code HH:mm:ss.S} (with up to nine fractional digits). A time may
+     * optionally be followed by either {@code Z} or an offset in the form {@code +HH:mm} or {@code -HH:mm}. All fields
+     * must be within their valid ranges, taking leap years into account, and leap seconds are not permitted.
+     * </p>
+     * <pre>
+     * FormatUtils.isIso8601(null)                            =&gt; false
+     * FormatUtils.isIso8601("2016-02-29")                    =&gt; true
+     * FormatUtils.isIso8601("2016-02-29T13:45")              =&gt; true
+     * FormatUtils.isIso8601("2016-02-29T13:45:30.123Z")      =&gt; true
+     * FormatUtils.isIso8601("2016-02-29T13:45:30.123+01:00") =&gt; true
+     * FormatUtils.isIso8601("2017-02-29")                    =&gt; false
+     * FormatUtils.isIso8601("2016-02-29T24:00")              =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is an ISO 8601 date or date-time; otherwise {@literal false}.
+     */
+    public static boolean isIso8601(final CharSequence cs) {
+        if (cs == null || cs.length() < 10 || cs.charAt(4) != '-' || cs.charAt(7) != '-') {
+            return false;
+        }
+
+        final int year = parseNumber(cs, 0, 4);
+        final int month = parseNumber(cs, 5, 2);
+        final int day = parseNumber(cs, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return false;
+        }
+
+        final int length = cs.length();
+        if (length == 10) {
+            return true;
+        }
+        if (length < 16 || cs.charAt(10) != 'T' || cs.charAt(13) != ':') {
+            return false;
+        }
+
+        final int hour = parseNumber(cs, 11, 2);
+        final int minute = parseNumber(cs, 14, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return false;
+        }
+
+        int i = 16;
+        if (i < length && cs.charAt(i) == ':') {
+            final int second = i + 3 <= length ? parseNumber(cs, i + 1, 2) : -1;
+            if (second < 0 || second > 59) {
+                return false;
+            }
+
+            i += 3;
+            if (i < length && cs.charAt(i) == '.') {
+                final int fractionStart = ++i;
+                while (i < length && isDigit(cs.charAt(i))) {
+                    i++;
+                }
+                if (i == fractionStart || i - fractionStart > 9) {
+                    return false;
+                }
+            }
+        }
+
+        return i == length || isIso8601Offset(cs, i);
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is an absolute URL with an authority component, as defined in RFC 3986.
+     * </p>
+     * <p>
+     * That is; a scheme followed by {@code ://}, an optional user information component, a non-empty host (which may be
+     * an IPv6 address enclosed in brackets), an optional port, a path, an optional query and an optional fragment. Only
+     * characters permitted by RFC 3986 may be used and any other characters must be percent-encoded.
+     * </p>
+     * <pre>
+     * FormatUtils.isUrl(null)                                       =&gt; false
+     * FormatUtils.isUrl("https://example.com")                      =&gt; true
+     * FormatUtils.isUrl("https://user@example.com:8443/a%20b?c=d#e") =&gt; true
+     * FormatUtils.isUrl("http://[::1]/")                            =&gt; true
+     * FormatUtils.isUrl("example.com")                              =&gt; false
+     * FormatUtils.isUrl("https://example.com/a b")                  =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is an absolute URL; otherwise {@literal false}.
+     */
+    public static boolean isUrl(final CharSequence cs) {
+        if (cs == null || cs.length() == 0 || cs.charAt(0) >= 128 || !Character.isLetter(cs.charAt(0))) {
+            return false;
+        }
+
+        final int length = cs.length();
+        int i = 1;
+        while (i < length && (isAsciiLetterOrDigit(cs.charAt(i)) || cs.charAt(i) == '+' || cs.charAt(i) == '-' || cs.charAt(i) == '.')) {
+            i++;
+        }
+        if (!CharSequenceUtils.regionMatches(cs, false, i, "://", 0, 3)) {
+            return false;
+        }
+
+        final int authorityStart = i + 3;
+        int authorityEnd = authorityStart;
+        while (authorityEnd < length && "/?#".indexOf(cs.charAt(authorityEnd)) < 0) {
+            authorityEnd++;
+        }
+        if (!isUrlAuthority(cs, authorityStart, authorityEnd)) {
+            return false;
+        }
+
+        int pathEnd = authorityEnd;
+        while (pathEnd < length && cs.charAt(pathEnd) != '?' && cs.charAt(pathEnd) != '#') {
+            pathEnd++;
+        }
+        if (!isUrlComponent(cs, authorityEnd, pathEnd, ":@/")) {
+            return false;
+        }
+
+        int fragmentStart = pathEnd;
+        while (fragmentStart < length && cs.charAt(fragmentStart) != '#') {
+            fragmentStart++;
+        }
+
+        // Skip the leading '?' and '#' delimiters, which are not permitted within the components themselves
+        return isUrlComponent(cs, pathEnd + 1, fragmentStart, ":@/?") && isUrlComponent(cs, fragmentStart + 1, length, ":@/?");
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} is a UUID in its canonical textual representation.
+     * </p>
+     * <p>
+     * That is; 32 hexadecimal digits, in either case, separated by hyphens into groups of 8, 4, 4, 4 and 12 digits. The
+     * version and variant are not checked.
+     * </p>
+     * <pre>
+     * FormatUtils.isUuid(null)                                   =&gt; false
+     * FormatUtils.isUuid("123e4567-e89b-12d3-a456-426655440000") =&gt; true
+     * FormatUtils.isUuid("123E4567-E89B-12D3-A456-426655440000") =&gt; true
+     * FormatUtils.isUuid("123e4567e89b12d3a456426655440000")     =&gt; false
+     * FormatUtils.isUuid("123e4567-e89b-12d3-a456-42665544000g") =&gt; false
+     * </pre>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is a UUID; otherwise {@literal false}.
+     */
+    public static boolean isUuid(final CharSequence cs) {
+        if (cs == null || cs.length() != UUID_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final char ch = cs.charAt(i);
+            final boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? ch == '-' : isHexDigit(ch);
+            if (!valid) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Creates an instance of {@link FormatUtils}.
+     * </p>
+     * <p>
+     * This should <b>not</b> be used for standard programming but is available for cases where an instance is needed
+     * for a Java Bean etc.
+     * </p>
+     */
+    public FormatUtils() {
+    }
+}
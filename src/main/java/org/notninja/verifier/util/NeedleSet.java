@@ -0,0 +1,473 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * An immutable set of strings ("needles") compiled into an Aho-Corasick automaton so that any {@code CharSequence} can
+ * be searched for all of them in a single pass, regardless of how many needles there are.
+ * </p>
+ * <p>
+ * A {@code NeedleSet} is intended to be created once and shared, including across threads, as compiling the
+ * automaton takes time proportional to the combined length of all needles. Matching is performed on individual
+ * {@code char} values and, when created using {@link #ofIgnoreCase(CharSequence...)}, characters are considered equal
+ * if they are the same after being converted to upper case and then to lower case.
+ * </p>
+ * <p>
+ * {@literal null} needles are permitted but will never be found.
+ * </p>
+ * <pre>
+ * NeedleSet needles = NeedleSet.ofIgnoreCase("foo", "bar");
+ * Verifier.verify("Foo fighters").containAny(needles)          =&gt; PASS
+ * Verifier.verify("Foo fighters and the bar").containAll(needles) =&gt; PASS
+ * </pre>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class NeedleSet {
+
+    private static final int ASCII_SIZE = 128;
+    private static final char[] EMPTY_CHARS = new char[0];
+    private static final int[] EMPTY_STATES = new int[0];
+    private static final int ROOT = 0;
+
+    /**
+     * <p>
+     * Creates a case-sensitive {@link NeedleSet} for the {@code needles} provided.
+     * </p>
+     *
+     * @param needles
+     *         the {@code CharSequences} to be searched for (may be {@literal null} or contain {@literal null}
+     *         references)
+     * @return The compiled {@link NeedleSet}.
+     */
+    public static NeedleSet of(final CharSequence... needles) {
+        return new NeedleSet(needles, false);
+    }
+
+    /**
+     * <p>
+     * Creates a case-insensitive {@link NeedleSet} for the {@code needles} provided.
+     * </p>
+     *
+     * @param needles
+     *         the {@code CharSequences} to be searched for (may be {@literal null} or contain {@literal null}
+     *         references)
+     * @return The compiled {@link NeedleSet}.
+     */
+    public static NeedleSet ofIgnoreCase(final CharSequence... needles) {
+        return new NeedleSet(needles, true);
+    }
+
+    private final int[] asciiTransitions;
+    private final int[] dictionaryLinks;
+    private final int[] failureLinks;
+    private final boolean ignoreCase;
+    private final int maxLength;
+    private final List<String> needles;
+    private final int[] needleIds;
+    private final int needleCount;
+    private final int[] needleStates;
+    private final boolean nullNeedle;
+    private final boolean[] outputs;
+    private final char[][] transitionChars;
+    private final int[][] transitionStates;
+
+    private NeedleSet(final CharSequence[] needles, final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+
+        final List<String> needleList = new ArrayList<>();
+        final Map<Long, Integer> trie = new HashMap<>();
+        final List<Integer> depths = new ArrayList<>();
+        final List<Integer> ids = new ArrayList<>();
+        final List<Integer> states = new ArrayList<>();
+        depths.add(0);
+        ids.add(-1);
+
+        boolean hasNull = false;
+        int count = 0;
+        int longest = 0;
+        if (needles != null) {
+            for (final CharSequence needle : needles) {
+                needleList.add(needle != null ? needle.toString() : null);
+                if (needle == null) {
+                    hasNull = true;
+                    states.add(-1);
+                    continue;
+                }
+
+                int state = ROOT;
+                for (int i = 0; i < needle.length(); i++) {
+                    final long key = getKey(state, fold(needle.charAt(i)));
+                    Integer next = trie.get(key);
+                    if (next == null) {
+                        next = depths.size();
+                        trie.put(key, next);
+                        depths.add(depths.get(state) + 1);
+                        ids.add(-1);
+                    }
+
+                    state = next;
+                }
+
+                if (ids.get(state) < 0) {
+                    ids.set(state, count++);
+                }
+
+                states.add(state);
+
+                longest = Math.max(longest, needle.length());
+            }
+        }
+
+        this.needles = Collections.unmodifiableList(needleList);
+        this.needleStates = states.stream().mapToInt(Integer::intValue).toArray();
+        this.nullNeedle = hasNull;
+        this.needleCount = count;
+        this.maxLength = longest;
+        this.needleIds = new int[ids.size()];
+        for (int i = 0; i < needleIds.length; i++) {
+            needleIds[i] = ids.get(i);
+        }
+
+        // Hold the transitions of each state in arrays sorted by character so that they can be binary searched
+        // without boxing
+        final int stateCount = needleIds.length;
+        final long[] keys = trie.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        this.transitionChars = new char[stateCount][];
+        this.transitionStates = new int[stateCount][];
+        int start = 0;
+        for (int state = 0; state < stateCount; state++) {
+            int end = start;
+            while (end < keys.length && (int) (keys[end] >>> 16) == state) {
+                end++;
+            }
+
+            if (end == start) {
+                transitionChars[state] = EMPTY_CHARS;
+                transitionStates[state] = EMPTY_STATES;
+                continue;
+            }
+
+            transitionChars[state] = new char[end - start];
+            transitionStates[state] = new int[end - start];
+            for (int i = start; i < end; i++) {
+                transitionChars[state][i - start] = (char) (keys[i] & 0xFFFF);
+                transitionStates[state][i - start] = trie.get(keys[i]);
+            }
+
+            start = end;
+        }
+
+        this.asciiTransitions = new int[ASCII_SIZE];
+        for (char ch = 0; ch < ASCII_SIZE; ch++) {
+            final int next = getTransition(ROOT, ch);
+            asciiTransitions[ch] = next >= 0 ? next : ROOT;
+        }
+
+        this.failureLinks = new int[needleIds.length];
+        this.dictionaryLinks = new int[needleIds.length];
+        this.outputs = new boolean[needleIds.length];
+        Arrays.fill(dictionaryLinks, -1);
+        outputs[ROOT] = needleIds[ROOT] >= 0;
+
+        // Every state other than the root is reached by exactly one transition so is queued exactly once
+        final int[] queue = new int[stateCount];
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            final int state = queue[head];
+            for (int i = 0; i < transitionChars[state].length; i++) {
+                final char ch = transitionChars[state][i];
+                final int child = transitionStates[state][i];
+
+                int failure = ROOT;
+                if (state != ROOT) {
+                    int fallback = failureLinks[state];
+                    int next = getTransition(fallback, ch);
+                    while (next < 0 && fallback != ROOT) {
+                        fallback = failureLinks[fallback];
+                        next = getTransition(fallback, ch);
+                    }
+
+                    failure = next >= 0 ? next : ROOT;
+                }
+
+                failureLinks[child] = failure;
+                dictionaryLinks[child] = needleIds[failure] >= 0 ? failure : dictionaryLinks[failure];
+                outputs[child] = needleIds[child] >= 0 || outputs[failure];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    private static long getKey(final int state, final char ch) {
+        return (long) state << 16 | ch;
+    }
+
+    private char fold(final char ch) {
+        return ignoreCase ? Character.toLowerCase(Character.toUpperCase(ch)) : ch;
+    }
+
+    private int getTransition(final int state, final char ch) {
+        final int index = Arrays.binarySearch(transitionChars[state], ch);
+
+        return index >= 0 ? transitionStates[state][index] : -1;
+    }
+
+    private int next(int state, final char ch) {
+        final char folded = fold(ch);
+        while (true) {
+            if (state == ROOT && folded < ASCII_SIZE) {
+                return asciiTransitions[folded];
+            }
+
+            final int next = getTransition(state, folded);
+            if (next >= 0) {
+                return next;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+
+            state = failureLinks[state];
+        }
+    }
+
+    /**
+     * <p>
+     * Returns whether <b>all</b> of the needles can be found within {@code cs}.
+     * </p>
+     * <p>
+     * {@code cs} is scanned once and the scan stops as soon as every needle has been found.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and contains all needles; otherwise
+     * {@literal false}.
+     */
+    public boolean allIn(final CharSequence cs) {
+        if (cs == null || nullNeedle) {
+            return false;
+        }
+
+        final boolean[] found = new boolean[needleIds.length];
+        int remaining = needleCount;
+        if (needleIds[ROOT] >= 0) {
+            found[ROOT] = true;
+            remaining--;
+        }
+
+        int state = ROOT;
+        final int length = cs.length();
+        for (int i = 0; i < length && remaining > 0; i++) {
+            state = next(state, cs.charAt(i));
+
+            int match = needleIds[state] >= 0 ? state : dictionaryLinks[state];
+            while (match > ROOT && !found[match]) {
+                found[match] = true;
+                remaining--;
+                match = dictionaryLinks[match];
+            }
+        }
+
+        return remaining == 0;
+    }
+
+    /**
+     * <p>
+     * Returns whether <b>any</b> of the needles can be found within {@code cs}.
+     * </p>
+     * <p>
+     * {@code cs} is scanned once and the scan stops as soon as any needle has been found.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and contains any needle; otherwise
+     * {@literal false}.
+     */
+    public boolean anyIn(final CharSequence cs) {
+        if (cs == null || needleCount == 0) {
+            return false;
+        }
+        if (outputs[ROOT]) {
+            return true;
+        }
+
+        int state = ROOT;
+        final int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            state = next(state, cs.charAt(i));
+            if (outputs[state]) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} starts with <b>any</b> of the needles.
+     * </p>
+     * <p>
+     * Only the characters of {@code cs} which could form a needle are examined.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and starts with any needle; otherwise
+     * {@literal false}.
+     */
+    public boolean anyPrefixOf(final CharSequence cs) {
+        if (cs == null || needleCount == 0) {
+            return false;
+        }
+
+        int state = ROOT;
+        final int length = Math.min(cs.length(), maxLength);
+        for (int i = 0; needleIds[state] < 0; i++) {
+            if (i == length) {
+                return false;
+            }
+
+            final int next = getTransition(state, fold(cs.charAt(i)));
+            if (next < 0) {
+                return false;
+            }
+
+            state = next;
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether {@code cs} ends with <b>any</b> of the needles.
+     * </p>
+     * <p>
+     * Only the characters of {@code cs} which could form a needle are examined.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be checked (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and ends with any needle; otherwise
+     * {@literal false}.
+     */
+    public boolean anySuffixOf(final CharSequence cs) {
+        if (cs == null || needleCount == 0) {
+            return false;
+        }
+
+        // The final state only depends on the longest suffix which is also a prefix of a needle
+        int state = ROOT;
+        final int length = cs.length();
+        for (int i = Math.max(0, length - maxLength); i < length; i++) {
+            state = next(state, cs.charAt(i));
+        }
+
+        return outputs[state];
+    }
+
+    /**
+     * <p>
+     * Returns the indices of all of the needles that can be found within {@code cs}.
+     * </p>
+     * <p>
+     * Unlike {@link #allIn(CharSequence)}, {@code cs} is always scanned in its entirety so that every needle that it
+     * contains is found.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be searched (may be {@literal null})
+     * @return A {@code BitSet} containing the indices, within {@link #getNeedles()}, of the needles that were found within
+     * {@code cs}. This will be empty if {@code cs} is {@literal null}.
+     */
+    public BitSet findIn(final CharSequence cs) {
+        final BitSet result = new BitSet(needleStates.length);
+        if (cs == null) {
+            return result;
+        }
+
+        final boolean[] found = new boolean[needleIds.length];
+        found[ROOT] = true;
+
+        int state = ROOT;
+        final int length = cs.length();
+        for (int i = 0; i < length; i++) {
+            state = next(state, cs.charAt(i));
+
+            int match = needleIds[state] >= 0 ? state : dictionaryLinks[state];
+            while (match > ROOT && !found[match]) {
+                found[match] = true;
+                match = dictionaryLinks[match];
+            }
+        }
+
+        for (int i = 0; i < needleStates.length; i++) {
+            if (needleStates[i] >= 0 && found[needleStates[i]]) {
+                result.set(i);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * Returns the needles for this {@link NeedleSet}.
+     * </p>
+     *
+     * @return An unmodifiable {@code List} of the needles in the order in which they were provided, which may contain
+     * {@literal null} references.
+     */
+    public List<String> getNeedles() {
+        return needles;
+    }
+
+    /**
+     * <p>
+     * Returns whether this {@link NeedleSet} ignores case when matching.
+     * </p>
+     *
+     * @return {@literal true} if case is ignored; otherwise {@literal false}.
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    @Override
+    public String toString() {
+        return needles.toString();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * A thread-safe cache of compiled regular expressions which holds up to a maximum number of {@code Patterns},
+ * discarding the least recently used when it is full.
+ * </p>
+ * <p>
+ * Looking up a {@code Pattern} never blocks and, when it is found, creates no objects. Since other threads may use or
+ * add {@code Patterns} while one is being discarded, the {@code Pattern} that is discarded is only guaranteed to be the
+ * least recently used when the {@code PatternCache} is not being used concurrently.
+ * </p>
+ * <p>
+ * The {@link #getDefault() default} {@code PatternCache} is used when verifying values against regular expressions that
+ * are provided as {@code CharSequences} so that the same expression is not compiled each time. It can be disabled by
+ * setting its maximum size to zero.
+ * </p>
+ * <pre>
+ * PatternCache cache = new PatternCache(1);
+ * cache.compile("fo{2}") =&gt; Pattern("fo{2}") (miss)
+ * cache.compile("fo{2}") =&gt; Pattern("fo{2}") (hit)
+ * cache.compile("ba[rz]") =&gt; Pattern("ba[rz]") (miss, "fo{2}" discarded)
+ * </pre>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class PatternCache {
+
+    /**
+     * <p>
+     * The default maximum number of {@code Patterns} to be held by the {@link #getDefault() default}
+     * {@link PatternCache}.
+     * </p>
+     *
+     * @see #setMaximumSize(int)
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private static final PatternCache DEFAULT = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+    private static void checkMaximumSize(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative: " + maximumSize);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the default {@link PatternCache} which is shared by all verifiers.
+     * </p>
+     *
+     * @return The default {@link PatternCache}.
+     */
+    public static PatternCache getDefault() {
+        return DEFAULT;
+    }
+
+    private final LongAdder hitCount = new LongAdder();
+    private volatile int maximumSize;
+    private final LongAdder missCount = new LongAdder();
+    private final ConcurrentMap<Integer, ConcurrentMap<String, CachedPattern>> patternsByFlags = new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * Creates an instance of {@link PatternCache} which will hold up to the specified maximum number of
+     * {@code Patterns}.
+     * </p>
+     *
+     * @param maximumSize
+     *         the maximum number of {@code Patterns} to be held (zero to disable caching)
+     * @throws IllegalArgumentException
+     *         If {@code maximumSize} is negative.
+     */
+    public PatternCache(final int maximumSize) {
+        checkMaximumSize(maximumSize);
+
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * <p>
+     * Removes all {@code Patterns} from this {@link PatternCache}.
+     * </p>
+     * <p>
+     * The hit and miss counts are not affected.
+     * </p>
+     */
+    public void clear() {
+        patternsByFlags.clear();
+    }
+
+    /**
+     * <p>
+     * Returns the {@code Pattern} compiled from the specified {@code regex}, compiling it only if it is not already held
+     * within this {@link PatternCache}.
+     * </p>
+     *
+     * @param regex
+     *         the regular expression to be compiled
+     * @return The compiled {@code Pattern}.
+     * @throws java.util.regex.PatternSyntaxException
+     *         If {@code regex} is invalid.
+     * @see #compile(String, int)
+     */
+    public Pattern compile(final String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * <p>
+     * Returns the {@code Pattern} compiled from the specified {@code regex} with the {@code flags} provided, compiling it
+     * only if it is not already held within this {@link PatternCache}.
+     * </p>
+     * <p>
+     * Invalid expressions are never cached.
+     * </p>
+     *
+     * @param regex
+     *         the regular expression to be compiled
+     * @param flags
+     *         the match flags to be used (e.g. {@code Pattern.CASE_INSENSITIVE})
+     * @return The compiled {@code Pattern}.
+     * @throws java.util.regex.PatternSyntaxException
+     *         If {@code regex} is invalid.
+     * @see Pattern#compile(String, int)
+     */
+    public Pattern compile(final String regex, final int flags) {
+        final ConcurrentMap<String, CachedPattern> patterns = patternsByFlags.get(flags);
+        final CachedPattern cached = patterns != null ? patterns.get(regex) : null;
+        if (cached != null) {
+            cached.lastUsed = System.nanoTime();
+            hitCount.increment();
+
+            return cached.pattern;
+        }
+
+        missCount.increment();
+
+        // Compile before caching so that threads are never blocked by expensive expressions
+        final Pattern pattern = Pattern.compile(regex, flags);
+
+        if (maximumSize > 0) {
+            patternsByFlags.computeIfAbsent(flags, key -> new ConcurrentHashMap<>()).putIfAbsent(regex, new CachedPattern(pattern));
+
+            discardLeastRecentlyUsed();
+        }
+
+        return pattern;
+    }
+
+    private void discardLeastRecentlyUsed() {
+        while (getSize() > maximumSize) {
+            patternsByFlags.values().stream()
+                .flatMap(patterns -> patterns.values().stream())
+                .min(Comparator.comparingLong(cached -> cached.lastUsed))
+                .ifPresent(cached -> patternsByFlags.get(cached.pattern.flags()).remove(cached.pattern.pattern(), cached));
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the number of times that a requested {@code Pattern} was found within this {@link PatternCache}.
+     * </p>
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * <p>
+     * Returns the maximum number of {@code Patterns} to be held by this {@link PatternCache}.
+     * </p>
+     *
+     * @return The maximum size.
+     * @see #setMaximumSize(int)
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * <p>
+     * Returns the number of times that a requested {@code Pattern} was not found within this {@link PatternCache} and
+     * so had to be compiled.
+     * </p>
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * <p>
+     * Returns the number of {@code Patterns} currently held by this {@link PatternCache}.
+     * </p>
+     *
+     * @return The size.
+     */
+    public int getSize() {
+        int size = 0;
+        for (final ConcurrentMap<String, CachedPattern> patterns : patternsByFlags.values()) {
+            size += patterns.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * <p>
+     * Sets the maximum number of {@code Patterns} to be held by this {@link PatternCache} to the {@code maximumSize}
+     * provided.
+     * </p>
+     * <p>
+     * If this {@link PatternCache} currently holds more {@code Patterns} than {@code maximumSize}, the least recently
+     * used are discarded immediately. Use zero to disable caching or {@link #DEFAULT_MAXIMUM_SIZE} to restore the
+     * default behavior.
+     * </p>
+     *
+     * @param maximumSize
+     *         the maximum number of {@code Patterns} to be held
+     * @throws IllegalArgumentException
+     *         If {@code maximumSize} is negative.
+     */
+    public void setMaximumSize(final int maximumSize) {
+        checkMaximumSize(maximumSize);
+
+        this.maximumSize = maximumSize;
+
+        discardLeastRecentlyUsed();
+    }
+
+    /**
+     * <p>
+     * A compiled {@code Pattern} along with when it was last used.
+     * </p>
+     */
+    private static final class CachedPattern {
+
+        // Written without synchronization as it is only used to choose which Pattern to discard
+        private long lastUsed = System.nanoTime();
+        private final Pattern pattern;
+
+        CachedPattern(final Pattern pattern) {
+            this.pattern = pattern;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * An immutable set of compiled regular expressions which can be efficiently matched against the same
+ * {@code CharSequence}.
+ * </p>
+ * <p>
+ * When a {@code PatternSet} is created, a literal string that must be present in any input matched by each
+ * {@code Pattern} is extracted, where one can be safely determined. All of these literals are then searched for in a
+ * single pass using a {@link NeedleSet} so that any {@code Pattern} whose literal is absent can be skipped without ever
+ * running its regular expression engine. Patterns without such a literal, or with flags, are always evaluated.
+ * </p>
+ * <p>
+ * A {@code PatternSet} is intended to be created once and shared, including across threads. {@literal null} patterns
+ * are permitted but will never match.
+ * </p>
+ * <pre>
+ * PatternSet patterns = PatternSet.compile("GET /api/.*", "POST /api/.*", "DELETE .*");
+ * patterns.findFirstMatch("POST /api/users") =&gt; Pattern("POST /api/.*")
+ * patterns.findFirstMatch("PUT /api/users")  =&gt; null
+ * </pre>
+ *
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class PatternSet {
+
+    private static final Pattern UNSUPPORTED_CONSTRUCTS = Pattern.compile("\\[|\\\\Q|\\(\\?[a-zA-Z-]");
+
+    /**
+     * <p>
+     * Returns the longest literal string that must be present in any input that is matched by the specified
+     * {@code pattern}, if one can be safely determined.
+     * </p>
+     * <p>
+     * Only literals outside of groups are considered and any {@code pattern} that contains top-level alternation,
+     * character classes, quoting or inline flags, or which was compiled with flags, is ignored entirely.
+     * </p>
+     *
+     * @param pattern
+     *         the {@code Pattern} whose required literal is to be returned
+     * @return The required literal or {@literal null} if none could be determined.
+     */
+    static String getRequiredLiteral(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        if (pattern.flags() != 0 || UNSUPPORTED_CONSTRUCTS.matcher(regex).find()) {
+            return null;
+        }
+
+        String longest = "";
+        final StringBuilder current = new StringBuilder();
+        boolean lastWasLiteral = false;
+        for (int i = 0; i < regex.length(); i++) {
+            final char ch = regex.charAt(i);
+            boolean literal = false;
+
+            switch (ch) {
+                case '|':
+                    return null;
+                case '(':
+                    i = skipGroup(regex, i);
+                    break;
+                case '?':
+                case '*':
+                case '{':
+                    // Preceding literal is optional
+                    if (lastWasLiteral) {
+                        current.setLength(current.length() - 1);
+                    }
+                    if (ch == '{') {
+                        i = regex.indexOf('}', i);
+                    }
+                    break;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    break;
+                case '\\':
+                    final char escaped = regex.charAt(++i);
+                    literal = !Character.isLetterOrDigit(escaped);
+                    if (literal) {
+                        current.append(escaped);
+                    } else {
+                        i = skipEscapeOperand(regex, i);
+                    }
+                    break;
+                default:
+                    current.append(ch);
+                    literal = true;
+            }
+
+            if (!literal) {
+                if (current.length() > longest.length()) {
+                    longest = current.toString();
+                }
+
+                current.setLength(0);
+            }
+
+            lastWasLiteral = literal;
+        }
+
+        if (current.length() > longest.length()) {
+            longest = current.toString();
+        }
+
+        return longest.isEmpty() ? null : longest;
+    }
+
+    private static boolean isDigit(final String regex, final int index, final char max) {
+        return index < regex.length() && regex.charAt(index) >= '0' && regex.charAt(index) <= max;
+    }
+
+    private static int skipEscapeOperand(final String regex, final int start) {
+        // Returns the index of the last character of the escape whose letter or digit is at start, erring on the side of
+        // skipping too much as any skipped characters are simply not treated as literals
+        final char escaped = regex.charAt(start);
+        int end = start;
+        switch (escaped) {
+            case 'c':
+                return start + 1;
+            case 'k':
+                return regex.indexOf('>', start);
+            case 'p':
+            case 'P':
+            case 'x':
+                if (regex.charAt(start + 1) == '{') {
+                    return regex.indexOf('}', start);
+                }
+
+                return escaped == 'x' ? start + 2 : start + 1;
+            case 'u':
+                return start + 4;
+            case '0':
+                while (end < start + 3 && isDigit(regex, end + 1, '7')) {
+                    end++;
+                }
+
+                return end;
+            default:
+                // Back references may consume any digits which follow them
+                while (escaped <= '9' && isDigit(regex, end + 1, '9')) {
+                    end++;
+                }
+
+                return end;
+        }
+    }
+
+    private static int skipGroup(final String regex, final int start) {
+        int depth = 0;
+        int i = start;
+        do {
+            final char ch = regex.charAt(i);
+            if (ch == '\\') {
+                i = Character.isLetterOrDigit(regex.charAt(i + 1)) ? skipEscapeOperand(regex, i + 1) : i + 1;
+            } else if (ch == '(') {
+                depth++;
+            } else if (ch == ')') {
+                depth--;
+            }
+
+            i++;
+        } while (depth > 0);
+
+        return i - 1;
+    }
+
+    /**
+     * <p>
+     * Compiles each of the specified {@code regexes} and creates a {@link PatternSet} containing the resulting
+     * {@code Patterns}.
+     * </p>
+     *
+     * @param regexes
+     *         the regular expressions to be compiled (may be {@literal null} or contain {@literal null} references)
+     * @return The {@link PatternSet}.
+     * @throws java.util.regex.PatternSyntaxException
+     *         If any of the {@code regexes} are invalid.
+     */
+    public static PatternSet compile(final CharSequence... regexes) {
+        final Pattern[] patterns = regexes != null ? new Pattern[regexes.length] : null;
+        for (int i = 0; patterns != null && i < patterns.length; i++) {
+            patterns[i] = regexes[i] != null ? Pattern.compile(regexes[i].toString()) : null;
+        }
+
+        return new PatternSet(patterns);
+    }
+
+    /**
+     * <p>
+     * Creates a {@link PatternSet} containing the specified {@code patterns}.
+     * </p>
+     *
+     * @param patterns
+     *         the {@code Patterns} to be included (may be {@literal null} or contain {@literal null} references)
+     * @return The {@link PatternSet}.
+     */
+    public static PatternSet of(final Pattern... patterns) {
+        return new PatternSet(patterns);
+    }
+
+    private final int[] literalIndices;
+    private final NeedleSet literals;
+    private final List<Pattern> patterns;
+
+    private PatternSet(final Pattern[] patterns) {
+        final List<Pattern> patternList = new ArrayList<>();
+        final List<String> literalList = new ArrayList<>();
+        this.literalIndices = new int[patterns != null ? patterns.length : 0];
+
+        for (int i = 0; i < literalIndices.length; i++) {
+            final Pattern pattern = patterns[i];
+            final String literal = pattern != null ? getRequiredLiteral(pattern) : null;
+
+            patternList.add(pattern);
+            literalIndices[i] = literal != null ? literalList.size() : -1;
+            if (literal != null) {
+                literalList.add(literal);
+            }
+        }
+
+        this.patterns = Collections.unmodifiableList(patternList);
+        this.literals = literalList.isEmpty() ? null : NeedleSet.of(literalList.toArray(new CharSequence[0]));
+    }
+
+    private boolean matches(final int index, final CharSequence cs, final BitSet found) {
+        final Pattern pattern = patterns.get(index);
+        if (pattern == null || literalIndices[index] >= 0 && !found.get(literalIndices[index])) {
+            return false;
+        }
+
+        return pattern.matcher(cs).matches();
+    }
+
+    private BitSet findLiterals(final CharSequence cs) {
+        return literals != null ? literals.findIn(cs) : new BitSet();
+    }
+
+    /**
+     * <p>
+     * Returns the first {@code Pattern}, in the order in which they were provided, that matches {@code cs}.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be matched (may be {@literal null})
+     * @return The first {@code Pattern} to match {@code cs} or {@literal null} if {@code cs} is {@literal null} or no
+     * {@code Pattern} matches it.
+     */
+    public Pattern findFirstMatch(final CharSequence cs) {
+        if (cs == null) {
+            return null;
+        }
+
+        final BitSet found = findLiterals(cs);
+        for (int i = 0; i < literalIndices.length; i++) {
+            if (matches(i, cs, found)) {
+                return patterns.get(i);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * <p>
+     * Returns the {@code Patterns} within this {@link PatternSet}.
+     * </p>
+     *
+     * @return An unmodifiable {@code List} of the {@code Patterns} in the order in which they were provided, which may
+     * contain {@literal null} references.
+     */
+    public List<Pattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * <p>
+     * Returns whether <b>all</b> of the {@code Patterns} match {@code cs}.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be matched (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and is matched by all {@code Patterns}; otherwise
+     * {@literal false}.
+     */
+    public boolean matchesAll(final CharSequence cs) {
+        if (cs == null) {
+            return false;
+        }
+
+        final BitSet found = findLiterals(cs);
+        for (int i = 0; i < literalIndices.length; i++) {
+            if (!matches(i, cs, found)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether <b>any</b> of the {@code Patterns} match {@code cs}.
+     * </p>
+     *
+     * @param cs
+     *         the {@code CharSequence} to be matched (may be {@literal null})
+     * @return {@literal true} if {@code cs} is not {@literal null} and is matched by any {@code Pattern}; otherwise
+     * {@literal false}.
+     * @see #findFirstMatch(CharSequence)
+     */
+    public boolean matchesAny(final CharSequence cs) {
+        return findFirstMatch(cs) != null;
+    }
+
+    @Override
+    public String toString() {
+        return patterns.toString();
+    }
+}
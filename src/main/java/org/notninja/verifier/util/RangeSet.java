@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * An immutable set of ranges (each of which is inclusive of its start and end) so that checking whether a value falls
+ * within any of them takes logarithmic time, regardless of how many ranges there are.
+ * </p>
+ * <p>
+ * A {@code RangeSet} is intended to be created once and shared, including across threads, and is most useful when
+ * verifying values against several permitted ranges (e.g. port ranges, error code bands or time windows). When it is
+ * built, the ranges are sorted and any which overlap are merged so that a value can be looked up using a binary search.
+ * When all of the bounds are either {@code Integers} or {@code Longs}, they are also held as primitives so that looking
+ * up a value requires neither calls to {@code Comparable#compareTo(Object)} nor unboxing of the bounds.
+ * </p>
+ * <pre>
+ * RangeSet&lt;Integer&gt; ports = RangeSet.&lt;Integer&gt;builder()
+ *     .add(80, 80)
+ *     .add(8000, 8999)
+ *     .add(443, 443)
+ *     .build();
+ * Verifier.verify(8080).inRanges(ports) =&gt; PASS
+ * Verifier.verify(8443).inRanges(ports) =&gt; PASS
+ * Verifier.verify(9000).inRanges(ports) =&gt; FAIL
+ * </pre>
+ *
+ * @param <T>
+ *         the {@code Comparable} type of the values
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class RangeSet<T extends Comparable<? super T>> {
+
+    /**
+     * <p>
+     * Returns a {@link Builder} that can be used to create a {@link RangeSet}.
+     * </p>
+     *
+     * @param <T>
+     *         the {@code Comparable} type of the values
+     * @return A new {@link Builder}.
+     */
+    public static <T extends Comparable<? super T>> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<? super T>> int compare(final T value, final Object bound) {
+        return value.compareTo((T) bound);
+    }
+
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+
+    private static long[] toLongs(final Object[] values) {
+        final long[] longs = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            longs[i] = ((Number) values[i]).longValue();
+        }
+
+        return longs;
+    }
+
+    private final Object[] ends;
+    private final long[] longEnds;
+    private final long[] longStarts;
+    private final Object[] starts;
+
+    private RangeSet(final List<Range<T>> ranges) {
+        final List<Range<T>> sortedRanges = new ArrayList<>(ranges);
+        sortedRanges.sort((range, other) -> range.start.compareTo(other.start));
+
+        final List<T> mergedStarts = new ArrayList<>();
+        final List<T> mergedEnds = new ArrayList<>();
+        boolean integral = !sortedRanges.isEmpty();
+        for (final Range<T> range : sortedRanges) {
+            final int last = mergedEnds.size() - 1;
+            if (last >= 0 && range.start.compareTo(mergedEnds.get(last)) <= 0) {
+                if (range.end.compareTo(mergedEnds.get(last)) > 0) {
+                    mergedEnds.set(last, range.end);
+                }
+            } else {
+                mergedStarts.add(range.start);
+                mergedEnds.add(range.end);
+            }
+
+            // Bounds of the same range must be of the same type in order to be compared, so only starts need checking
+            integral = integral && isIntegral(range.start);
+        }
+
+        this.starts = mergedStarts.toArray();
+        this.ends = mergedEnds.toArray();
+
+        if (integral) {
+            this.longStarts = toLongs(starts);
+            this.longEnds = toLongs(ends);
+        } else {
+            this.longStarts = null;
+            this.longEnds = null;
+        }
+    }
+
+    /**
+     * <p>
+     * Returns whether the specified {@code value} falls within any of the ranges in this {@link RangeSet}.
+     * </p>
+     * <pre>
+     * RangeSet.&lt;Integer&gt;builder().add(1, 10).add(20, 30).build().contains(1)    =&gt; true
+     * RangeSet.&lt;Integer&gt;builder().add(1, 10).add(20, 30).build().contains(30)   =&gt; true
+     * RangeSet.&lt;Integer&gt;builder().add(1, 10).add(20, 30).build().contains(15)   =&gt; false
+     * RangeSet.&lt;Integer&gt;builder().add(1, 10).add(20, 30).build().contains(null) =&gt; false
+     * </pre>
+     *
+     * @param value
+     *         the value to be checked (may be {@literal null})
+     * @return {@literal true} if {@code value} is within at least one range; otherwise {@literal false}.
+     */
+    public boolean contains(final T value) {
+        if (value == null) {
+            return false;
+        }
+        if (longStarts != null) {
+            return contains(((Number) value).longValue());
+        }
+
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (compare(value, starts[middle]) < 0) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return high >= 0 && compare(value, ends[high]) <= 0;
+    }
+
+    private boolean contains(final long value) {
+        int low = 0;
+        int high = longStarts.length - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (value < longStarts[middle]) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return high >= 0 && value <= longEnds[high];
+    }
+
+    /**
+     * <p>
+     * Returns the number of ranges within this {@link RangeSet} after any overlapping ranges have been merged.
+     * </p>
+     *
+     * @return The number of ranges.
+     */
+    public int getSize() {
+        return starts.length;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buffer = new StringBuilder("[");
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0) {
+                buffer.append(", ");
+            }
+
+            buffer.append('[').append(starts[i]).append(", ").append(ends[i]).append(']');
+        }
+
+        return buffer.append(']').toString();
+    }
+
+    /**
+     * <p>
+     * Used to add the ranges for a {@link RangeSet}.
+     * </p>
+     *
+     * @param <T>
+     *         the {@code Comparable} type of the values
+     * @since 0.4.0
+     */
+    public static final class Builder<T extends Comparable<? super T>> {
+
+        private final List<Range<T>> ranges = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * <p>
+         * Adds a range between the specified {@code start} and {@code end} (both inclusive).
+         * </p>
+         *
+         * @param start
+         *         the start of the range, inclusive
+         * @param end
+         *         the end of the range, inclusive
+         * @return A reference to this {@link Builder} for chaining purposes.
+         * @throws IllegalArgumentException
+         *         If either {@code start} or {@code end} are {@literal null} or {@code start} is greater than
+         *         {@code end}.
+         */
+        public Builder<T> add(final T start, final T end) {
+            if (start == null || end == null) {
+                throw new IllegalArgumentException("start and end must not be null");
+            }
+            if (start.compareTo(end) > 0) {
+                throw new IllegalArgumentException("start must not be greater than end: " + start + " > " + end);
+            }
+
+            ranges.add(new Range<>(start, end));
+
+            return this;
+        }
+
+        /**
+         * <p>
+         * Builds a {@link RangeSet} containing all of the ranges that have been added.
+         * </p>
+         * <p>
+         * This {@link Builder} can continue to be used afterwards without affecting the {@link RangeSet}.
+         * </p>
+         *
+         * @return The {@link RangeSet}.
+         */
+        public RangeSet<T> build() {
+            return new RangeSet<>(ranges);
+        }
+    }
+
+    private static final class Range<T> {
+
+        private final T end;
+        private final T start;
+
+        Range(final T start, final T end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
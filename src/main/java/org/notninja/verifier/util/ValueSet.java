@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * An immutable set of values backed by an open-addressing hash table so that checking whether a value is one of them
+ * takes constant time, regardless of how many values there are.
+ * </p>
+ * <p>
+ * A {@code ValueSet} is intended to be created once and shared, including across threads, and is most useful when
+ * verifying values against large allow-lists (e.g. country or currency codes). Values are compared using
+ * {@link Object#equals(Object)}, except for {@code CharSequences} which are compared based on their contents. When
+ * created using {@link #ofIgnoreCase(CharSequence...)}, characters are considered equal if they are the same after being
+ * converted to upper case and then to lower case.
+ * </p>
+ * <p>
+ * {@literal null} values are permitted and duplicate values are only held once.
+ * </p>
+ * <pre>
+ * ValueSet&lt;CharSequence&gt; currencies = ValueSet.ofIgnoreCase("EUR", "GBP", "USD");
+ * Verifier.verify("gbp").in(currencies) =&gt; PASS
+ * Verifier.verify("JPY").in(currencies) =&gt; FAIL
+ * </pre>
+ *
+ * @param <T>
+ *         the type of the values
+ * @author Alasdair Mercer
+ * @since 0.4.0
+ */
+public final class ValueSet<T> {
+
+    private static final int ASCII_SIZE = 128;
+
+    /**
+     * <p>
+     * Creates a {@link ValueSet} for the {@code values} provided.
+     * </p>
+     *
+     * @param values
+     *         the values to be held (may be {@literal null} or contain {@literal null} references)
+     * @param <T>
+     *         the type of the values
+     * @return The {@link ValueSet}.
+     */
+    @SafeVarargs
+    public static <T> ValueSet<T> of(final T... values) {
+        if (values == null) {
+            return new ValueSet<>(null, false);
+        }
+
+        // Copy rather than wrap the values so that the varargs array never escapes
+        final List<T> valueList = new ArrayList<>(values.length);
+        for (final T value : values) {
+            valueList.add(value);
+        }
+
+        return new ValueSet<>(valueList, false);
+    }
+
+    /**
+     * <p>
+     * Creates a {@link ValueSet} for the {@code values} provided.
+     * </p>
+     *
+     * @param values
+     *         the values to be held (may be {@literal null} or contain {@literal null} references)
+     * @param <T>
+     *         the type of the values
+     * @return The {@link ValueSet}.
+     */
+    public static <T> ValueSet<T> of(final Collection<? extends T> values) {
+        return new ValueSet<>(values, false);
+    }
+
+    /**
+     * <p>
+     * Creates a case-insensitive {@link ValueSet} for the {@code values} provided.
+     * </p>
+     *
+     * @param values
+     *         the {@code CharSequences} to be held (may be {@literal null} or contain {@literal null} references)
+     * @return The case-insensitive {@link ValueSet}.
+     */
+    public static ValueSet<CharSequence> ofIgnoreCase(final CharSequence... values) {
+        return new ValueSet<>(values != null ? Arrays.asList(values) : null, true);
+    }
+
+    private final int[] hashes;
+    private final boolean ignoreCase;
+    private final Object[] keys;
+    private final int mask;
+    private final boolean nullValue;
+    private final List<T> values;
+
+    private ValueSet(final Collection<? extends T> values, final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+
+        final int count = values != null ? values.size() : 0;
+        final int capacity = Integer.highestOneBit(Math.max(count, 1)) << 2;
+
+        this.hashes = new int[capacity];
+        this.keys = new Object[capacity];
+        this.mask = capacity - 1;
+
+        final List<T> valueList = new ArrayList<>(count);
+        boolean hasNull = false;
+        if (values != null) {
+            for (final T value : values) {
+                if (value == null) {
+                    if (!hasNull) {
+                        hasNull = true;
+                        valueList.add(null);
+                    }
+                } else if (add(value)) {
+                    valueList.add(value);
+                }
+            }
+        }
+
+        this.nullValue = hasNull;
+        this.values = Collections.unmodifiableList(valueList);
+    }
+
+    private boolean add(final Object value) {
+        final Object key = value instanceof CharSequence ? toKey((CharSequence) value) : value;
+        final int hash = hash(value);
+
+        int index = hash & mask;
+        while (keys[index] != null) {
+            if (hashes[index] == hash && keys[index].equals(key)) {
+                return false;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        hashes[index] = hash;
+        keys[index] = key;
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Returns whether this {@link ValueSet} contains the specified {@code value}.
+     * </p>
+     * <pre>
+     * ValueSet.of("abc", "def").contains("abc")                    =&gt; true
+     * ValueSet.of("abc", "def").contains(new StringBuilder("abc")) =&gt; true
+     * ValueSet.of("abc", "def").contains("ABC")                    =&gt; false
+     * ValueSet.ofIgnoreCase("abc", "def").contains("ABC")          =&gt; true
+     * ValueSet.of("abc", null).contains(null)                      =&gt; true
+     * </pre>
+     *
+     * @param value
+     *         the value to be checked (may be {@literal null})
+     * @return {@literal true} if {@code value} is held within this {@link ValueSet}; otherwise {@literal false}.
+     */
+    public boolean contains(final Object value) {
+        if (value == null) {
+            return nullValue;
+        }
+
+        final int hash = hash(value);
+
+        for (int index = hash & mask; keys[index] != null; index = (index + 1) & mask) {
+            if (hashes[index] == hash && isMatch(keys[index], value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private char fold(final char ch) {
+        if (!ignoreCase) {
+            return ch;
+        }
+        if (ch < ASCII_SIZE) {
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    /**
+     * <p>
+     * Returns the distinct values for this {@link ValueSet}.
+     * </p>
+     *
+     * @return An unmodifiable {@code List} of the distinct values in the order in which they were first provided, which
+     * may contain a {@literal null} reference.
+     */
+    public List<T> getValues() {
+        return values;
+    }
+
+    private int hash(final Object value) {
+        int hash;
+        if (value instanceof String && !ignoreCase) {
+            hash = value.hashCode();
+        } else if (value instanceof CharSequence) {
+            final CharSequence cs = (CharSequence) value;
+
+            hash = 0;
+            for (int i = 0; i < cs.length(); i++) {
+                hash = 31 * hash + fold(cs.charAt(i));
+            }
+        } else {
+            hash = value.hashCode();
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * <p>
+     * Returns whether this {@link ValueSet} ignores case when comparing {@code CharSequences}.
+     * </p>
+     *
+     * @return {@literal true} if case is ignored; otherwise {@literal false}.
+     */
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    private boolean isMatch(final Object key, final Object value) {
+        if (!(value instanceof CharSequence)) {
+            return key.equals(value);
+        }
+        if (!(key instanceof String)) {
+            return false;
+        }
+
+        final String string = (String) key;
+        final CharSequence cs = (CharSequence) value;
+        if (string.length() != cs.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) != fold(cs.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String toKey(final CharSequence cs) {
+        final char[] chars = new char[cs.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(cs.charAt(i));
+        }
+
+        return new String(chars);
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
@@ -46,6 +46,7 @@ public class AbstractCustomVerifierMessageKeysTest extends MessageKeyEnumTestCas
         messageKeys.put("EQUAL_TO", "org.notninja.verifier.AbstractCustomVerifier.equalTo");
         messageKeys.put("EQUAL_TO_ANY", "org.notninja.verifier.AbstractCustomVerifier.equalToAny");
         messageKeys.put("HASHED_AS", "org.notninja.verifier.AbstractCustomVerifier.hashedAs");
+        messageKeys.put("IN", "org.notninja.verifier.AbstractCustomVerifier.in");
         messageKeys.put("INSTANCE_OF", "org.notninja.verifier.AbstractCustomVerifier.instanceOf");
         messageKeys.put("INSTANCE_OF_ALL", "org.notninja.verifier.AbstractCustomVerifier.instanceOfAll");
         messageKeys.put("INSTANCE_OF_ANY", "org.notninja.verifier.AbstractCustomVerifier.instanceOfAny");
@@ -27,6 +27,13 @@ import static org.mockito.Mockito.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
@@ -44,16 +51,22 @@ import org.notninja.verifier.type.ArrayVerifier;
 import org.notninja.verifier.type.BigDecimalVerifier;
 import org.notninja.verifier.type.BigIntegerVerifier;
 import org.notninja.verifier.type.BooleanVerifier;
+import org.notninja.verifier.type.ByteBufferVerifier;
 import org.notninja.verifier.type.ByteVerifier;
 import org.notninja.verifier.type.CalendarVerifier;
+import org.notninja.verifier.type.CharSequenceVerifier;
 import org.notninja.verifier.type.CharacterVerifier;
 import org.notninja.verifier.type.ClassVerifier;
 import org.notninja.verifier.type.CollectionVerifier;
 import org.notninja.verifier.type.ComparableVerifier;
 import org.notninja.verifier.type.DateVerifier;
 import org.notninja.verifier.type.DoubleVerifier;
+import org.notninja.verifier.type.DurationVerifier;
 import org.notninja.verifier.type.FloatVerifier;
+import org.notninja.verifier.type.InstantVerifier;
 import org.notninja.verifier.type.IntegerVerifier;
+import org.notninja.verifier.type.LocalDateTimeVerifier;
+import org.notninja.verifier.type.LocalDateVerifier;
 import org.notninja.verifier.type.LocaleVerifier;
 import org.notninja.verifier.type.LongVerifier;
 import org.notninja.verifier.type.MapVerifier;
@@ -61,6 +74,9 @@ import org.notninja.verifier.type.ObjectVerifier;
 import org.notninja.verifier.type.ShortVerifier;
 import org.notninja.verifier.type.StringVerifier;
 import org.notninja.verifier.type.ThrowableVerifier;
+import org.notninja.verifier.type.Utf8Verifier;
+import org.notninja.verifier.type.ZonedDateTimeVerifier;
+import org.notninja.verifier.util.ValueSet;
 import org.notninja.verifier.verification.Verification;
 
 /**
@@ -158,6 +174,22 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "foo");
     }
 
+    @Test
+    public void testAndWithByteBuffer() {
+        ByteBuffer value = ByteBuffer.allocate(0);
+        ByteBufferVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithByteBufferAndName() {
+        ByteBuffer value = ByteBuffer.allocate(0);
+        ByteBufferVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
     @Test
     public void testAndWithCalendar() {
         Calendar value = Calendar.getInstance();
@@ -174,6 +206,22 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "foo");
     }
 
+    @Test
+    public void testAndWithCharSequence() {
+        CharSequence value = new StringBuilder("foo");
+        CharSequenceVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithCharSequenceAndName() {
+        CharSequence value = new StringBuilder("foo");
+        CharSequenceVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
     @Test
     public void testAndWithCharacter() {
         char value = 'a';
@@ -252,6 +300,22 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "foo");
     }
 
+    @Test
+    public void testAndWithDuration() {
+        Duration value = Duration.ofSeconds(1);
+        DurationVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithDurationAndName() {
+        Duration value = Duration.ofSeconds(1);
+        DurationVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
     @Test
     public void testAndWithFloat() {
         float value = 123F;
@@ -268,6 +332,22 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "foo");
     }
 
+    @Test
+    public void testAndWithInstant() {
+        Instant value = Instant.EPOCH;
+        InstantVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithInstantAndName() {
+        Instant value = Instant.EPOCH;
+        InstantVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
     @Test
     public void testAndWithInteger() {
         int value = 123;
@@ -284,6 +364,38 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "foo");
     }
 
+    @Test
+    public void testAndWithLocalDate() {
+        LocalDate value = LocalDate.of(2017, 1, 1);
+        LocalDateVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithLocalDateAndName() {
+        LocalDate value = LocalDate.of(2017, 1, 1);
+        LocalDateVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
+    @Test
+    public void testAndWithLocalDateTime() {
+        LocalDateTime value = LocalDateTime.of(2017, 1, 1, 0, 0);
+        LocalDateTimeVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithLocalDateTimeAndName() {
+        LocalDateTime value = LocalDateTime.of(2017, 1, 1, 0, 0);
+        LocalDateTimeVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
     @Test
     public void testAndWithLocale() {
         Locale value = Locale.US;
@@ -396,6 +508,22 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "foo");
     }
 
+    @Test
+    public void testAndWithZonedDateTime() {
+        ZonedDateTime value = ZonedDateTime.now();
+        ZonedDateTimeVerifier result = getCustomVerifier().and(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndWithZonedDateTimeAndName() {
+        ZonedDateTime value = ZonedDateTime.now();
+        ZonedDateTimeVerifier result = getCustomVerifier().and(value, "foo");
+
+        testAndHelper(result, value, "foo");
+    }
+
     @Test
     public void testAndWithCustomVerifierClass() {
         @SuppressWarnings("unchecked")
@@ -434,6 +562,45 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         testAndHelper(result, value, "bar");
     }
 
+    @Test
+    public void testAndUtf8WithBytes() {
+        byte[] value = "foo".getBytes(StandardCharsets.UTF_8);
+        Utf8Verifier result = getCustomVerifier().andUtf8(value);
+
+        testAndHelper(result, ByteBuffer.wrap(value), null);
+    }
+
+    @Test
+    public void testAndUtf8WithBytesAndName() {
+        byte[] value = "foo".getBytes(StandardCharsets.UTF_8);
+        Utf8Verifier result = getCustomVerifier().andUtf8(value, "bar");
+
+        testAndHelper(result, ByteBuffer.wrap(value), "bar");
+    }
+
+    @Test
+    public void testAndUtf8WithByteBuffer() {
+        ByteBuffer value = ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8));
+        Utf8Verifier result = getCustomVerifier().andUtf8(value);
+
+        testAndHelper(result, value, null);
+    }
+
+    @Test
+    public void testAndUtf8WithByteBufferAndName() {
+        ByteBuffer value = ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8));
+        Utf8Verifier result = getCustomVerifier().andUtf8(value, "bar");
+
+        testAndHelper(result, value, "bar");
+    }
+
+    @Test
+    public void testAndUtf8WithNullBytes() {
+        Utf8Verifier result = getCustomVerifier().andUtf8((byte[]) null);
+
+        testAndHelper(result, null, null);
+    }
+
     @Test
     public void testEqualToWithDifferentInstance() {
         testEqualToHelper(createValueOne(), createValueTwo(), false);
@@ -602,6 +769,46 @@ public abstract class AbstractCustomVerifierTestCase<T, V extends AbstractCustom
         assertEquals("Passes hash code for message formatting", hashCode, getArgsCaptor().getValue());
     }
 
+    @Test
+    public void testInWithDifferentInstance() {
+        testInHelper(createValueOne(), ValueSet.of(createValueTwo(), new Object()), false);
+    }
+
+    @Test
+    public void testInWithEmptyValues() {
+        testInHelper(createValueOne(), ValueSet.of(), false);
+    }
+
+    @Test
+    public void testInWithNullValue() {
+        testInHelper(null, ValueSet.of(createValueOne(), createValueTwo()), false);
+    }
+
+    @Test
+    public void testInWithNullValueAndNullMember() {
+        testInHelper(null, ValueSet.of(createValueOne(), null), true);
+    }
+
+    @Test
+    public void testInWithNullValues() {
+        testInHelper(createValueOne(), null, false);
+    }
+
+    @Test
+    public void testInWithSameInstance() {
+        T value = createValueOne();
+
+        testInHelper(value, ValueSet.of(createValueTwo(), new Object(), value), true);
+    }
+
+    private void testInHelper(T value, ValueSet<?> values, boolean expected) {
+        setValue(value);
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().in(values));
+
+        verify(getMockVerification()).report(expected, AbstractCustomVerifier.MessageKeys.IN, values);
+    }
+
     @Test
     public void testInstanceOfWithObjectClass() {
         testInstanceOfHelper(createValueOne(), Object.class, true);
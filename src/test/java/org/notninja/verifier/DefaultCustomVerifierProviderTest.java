@@ -71,6 +71,8 @@ public class DefaultCustomVerifierProviderTest {
     @After
     public void tearDown() {
         TestVerificationProvider.setDelegate(null);
+
+        DefaultCustomVerifierProvider.unregister(TestCustomVerifierImpl.class);
     }
 
     @Test
@@ -82,9 +84,28 @@ public class DefaultCustomVerifierProviderTest {
         assertNotSame("Never returns same instance", customVerifier, provider.getCustomVerifier(TestCustomVerifierImpl.class, mockVerification));
     }
 
-    @Test(expected = VerifierException.class)
+    @Test
     public void testGetCustomVerifierThrowsIfClassCannotBeInstantiated() {
-        provider.getCustomVerifier(TestCustomVerifier.class, mockVerification);
+        for (int i = 0; i < 2; i++) {
+            try {
+                provider.getCustomVerifier(TestCustomVerifier.class, mockVerification);
+                fail("Should have thrown since class cannot be instantiated");
+            } catch (VerifierException e) {
+                assertEquals("Exception has message", "cls could not be instantiated", e.getMessage());
+                assertTrue("Exception has cause", e.getCause() instanceof ReflectiveOperationException);
+            }
+        }
+    }
+
+    @Test
+    public void testGetCustomVerifierThrowsIfConstructorThrows() {
+        try {
+            provider.getCustomVerifier(TestCustomVerifierWithFailingConstructor.class, mockVerification);
+            fail("Should have thrown since constructor threw");
+        } catch (VerifierException e) {
+            assertEquals("Exception has message", "cls could not be instantiated", e.getMessage());
+            assertTrue("Exception has cause thrown by constructor", e.getCause() instanceof IllegalStateException);
+        }
     }
 
     @Test(expected = VerifierException.class)
@@ -92,11 +113,66 @@ public class DefaultCustomVerifierProviderTest {
         provider.getCustomVerifier(null, mockVerification);
     }
 
+    @Test
+    public void testGetCustomVerifierWhenFactoryRegistered() {
+        TestCustomVerifierImpl expected = new TestCustomVerifierImpl(mockVerification);
+
+        DefaultCustomVerifierProvider.register(TestCustomVerifierImpl.class, verification -> expected);
+
+        assertSame("Uses registered factory", expected, provider.getCustomVerifier(TestCustomVerifierImpl.class, mockVerification));
+    }
+
+    @Test
+    public void testGetCustomVerifierWhenFactoryRegisteredAfterProvided() {
+        TestCustomVerifierImpl original = provider.getCustomVerifier(TestCustomVerifierImpl.class, mockVerification);
+        TestCustomVerifierImpl expected = new TestCustomVerifierImpl(mockVerification);
+
+        DefaultCustomVerifierProvider.register(TestCustomVerifierImpl.class, verification -> expected);
+
+        assertNotSame("Did not use registered factory before registration", expected, original);
+        assertSame("Uses registered factory after registration", expected, provider.getCustomVerifier(TestCustomVerifierImpl.class, mockVerification));
+    }
+
+    @Test
+    public void testGetCustomVerifierWhenFactoryUnregistered() {
+        TestCustomVerifierImpl registered = new TestCustomVerifierImpl(mockVerification);
+
+        DefaultCustomVerifierProvider.register(TestCustomVerifierImpl.class, verification -> registered);
+
+        assertSame("Uses registered factory", registered, provider.getCustomVerifier(TestCustomVerifierImpl.class, mockVerification));
+        assertTrue("Factory was registered", DefaultCustomVerifierProvider.unregister(TestCustomVerifierImpl.class));
+
+        TestCustomVerifierImpl customVerifier = provider.getCustomVerifier(TestCustomVerifierImpl.class, mockVerification);
+
+        assertNotSame("Does not use unregistered factory", registered, customVerifier);
+        assertSame("Passed verification", mockVerification, customVerifier.verification);
+    }
+
     @Test
     public void testGetWeight() {
         assertEquals("Has default implementation weight", Weighted.DEFAULT_IMPLEMENTATION_WEIGHT, provider.getWeight());
     }
 
+    @Test(expected = VerifierException.class)
+    public void testRegisterThrowsIfClassIsNull() {
+        DefaultCustomVerifierProvider.register(null, verification -> null);
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testRegisterThrowsIfFactoryIsNull() {
+        DefaultCustomVerifierProvider.register(TestCustomVerifierImpl.class, null);
+    }
+
+    @Test
+    public void testUnregisterWhenClassIsNull() {
+        assertFalse("Nothing registered for null", DefaultCustomVerifierProvider.unregister(null));
+    }
+
+    @Test
+    public void testUnregisterWhenNotRegistered() {
+        assertFalse("Nothing registered for class", DefaultCustomVerifierProvider.unregister(TestCustomVerifierImpl.class));
+    }
+
     private interface TestCustomVerifier<T, V extends TestCustomVerifier<T, V>> extends CustomVerifier<T, V> {
     }
 
@@ -110,4 +186,13 @@ public class DefaultCustomVerifierProviderTest {
             this.verification = verification;
         }
     }
+
+    private static class TestCustomVerifierWithFailingConstructor extends AbstractCustomVerifier<Object, TestCustomVerifierWithFailingConstructor> {
+
+        public TestCustomVerifierWithFailingConstructor(Verification<Object> verification) {
+            super(verification);
+
+            throw new IllegalStateException("test");
+        }
+    }
 }
@@ -0,0 +1,405 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.notninja.verifier.message.ResourceBundleMessageSource;
+import org.notninja.verifier.message.formatter.DefaultFormatterProvider;
+import org.notninja.verifier.message.locale.SimpleLocaleContext;
+import org.notninja.verifier.type.CollectionVerifier;
+import org.notninja.verifier.type.IntegerVerifier;
+import org.notninja.verifier.type.StringVerifier;
+import org.notninja.verifier.verification.SimpleVerification;
+import org.notninja.verifier.verification.TestVerificationProvider;
+import org.notninja.verifier.verification.Verification;
+import org.notninja.verifier.verification.VerificationProvider;
+import org.notninja.verifier.verification.report.DefaultReportExecutorProvider;
+
+/**
+ * <p>
+ * Tests for the {@link VerificationPlan} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class VerificationPlanTest {
+
+    private VerificationPlan<TestOrder> plan;
+
+    @Before
+    public void setUp() {
+        TestVerificationProvider.setDelegate(new VerificationProvider() {
+            @Override
+            public <T> Verification<T> getVerification(T value, Object name) {
+                return new SimpleVerification<>(new SimpleLocaleContext(Locale.ENGLISH), new ResourceBundleMessageSource(), new DefaultFormatterProvider(), new DefaultReportExecutorProvider().getReportExecutor(), value, name);
+            }
+
+            @Override
+            public int getWeight() {
+                return 0;
+            }
+        });
+
+        plan = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> order.id, StringVerifier::new, verifier -> verifier.not().blank())
+            .field("quantity", order -> order.quantity, IntegerVerifier::new, verifier -> verifier.positive())
+            .field("items", order -> order.items, CollectionVerifier::new, verifier -> verifier.not().empty().sizeOf(2))
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        TestVerificationProvider.setDelegate(null);
+    }
+
+    @Test
+    public void testBuilderCanBeReused() {
+        VerificationPlan.Builder<TestOrder> builder = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> order.id, StringVerifier::new, verifier -> verifier.not().blank());
+        VerificationPlan<TestOrder> first = builder.build();
+
+        builder.field("quantity", order -> order.quantity, IntegerVerifier::new, verifier -> verifier.positive());
+
+        assertEquals("First plan is unaffected", 1, first.getSize());
+        assertEquals("Second plan has all fields", 2, builder.build().getSize());
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testBuilderFieldThrowsIfAccessorIsNull() {
+        VerificationPlan.<TestOrder>builder().field("id", null, StringVerifier::new, verifier -> verifier.not().blank());
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testBuilderFieldThrowsIfFactoryIsNull() {
+        VerificationPlan.<TestOrder>builder().<String, StringVerifier>field("id", order -> order.id, null, verifier -> verifier.not().blank());
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testBuilderFieldThrowsIfVerificationsIsNull() {
+        VerificationPlan.<TestOrder>builder().field("id", order -> order.id, StringVerifier::new, null);
+    }
+
+    @Test
+    public void testCheckAll() {
+        List<TestOrder> orders = Arrays.asList(new TestOrder("abc", 1, Arrays.asList("a", "b")), new TestOrder(" ", -1, Arrays.asList("a", "b")), null, new TestOrder("def", 2, Arrays.asList("c", "d")));
+        VerificationPlan.BatchResult<TestOrder> result = plan.checkAll(orders);
+
+        BitSet expectedFailures = new BitSet();
+        expectedFailures.set(1);
+        expectedFailures.set(2);
+
+        assertFalse("Did not pass", result.isPassed());
+        assertEquals("Checked all objects", 4, result.getSize());
+        assertEquals("Some objects failed", 2, result.getFailureCount());
+        assertEquals("Failures contains failed objects", expectedFailures, result.getFailures());
+        assertFalse("First object did not fail", result.isFailed(0));
+        assertTrue("Second object failed", result.isFailed(1));
+        assertEquals("String representation", "BatchResult(2 of 4 failed)", result.toString());
+    }
+
+    @Test
+    public void testCheckAllGetResult() {
+        AtomicInteger count = new AtomicInteger();
+        List<TestOrder> orders = Arrays.asList(new TestOrder("abc", 1, Arrays.asList("a", "b")), new TestOrder(" ", -1, Arrays.asList("a", "b")));
+        VerificationPlan<TestOrder> plan = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> {
+                count.incrementAndGet();
+                return order.id;
+            }, StringVerifier::new, verifier -> verifier.not().blank())
+            .field("quantity", order -> order.quantity, IntegerVerifier::new, verifier -> verifier.positive())
+            .build();
+        VerificationPlan.BatchResult<TestOrder> result = plan.checkAll(orders);
+
+        assertEquals("Objects checked once", 2, count.get());
+
+        VerificationPlan.Result passed = result.getResult(0);
+
+        assertTrue("Passed object has passed result", passed.isPassed());
+        assertEquals("Passed result is not created by checking object again", 2, count.get());
+
+        VerificationPlan.Result failed = result.getResult(1);
+
+        assertEquals("Failed result has messages for all failed fields", Arrays.asList("id must not be blank:  ", "quantity must be positive: -1"), failed.getMessages());
+        assertEquals("Failed result is created by checking object again", 3, count.get());
+        assertSame("Failed result is only created once", failed, result.getResult(1));
+        assertEquals("Failed result is not created again", 3, count.get());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testCheckAllGetResultThrowsIfIndexIsOutOfRange() {
+        plan.checkAll(Collections.emptyList()).getResult(0);
+    }
+
+    @Test
+    public void testCheckAllInParallel() {
+        List<TestOrder> orders = new ArrayList<>();
+        BitSet expectedFailures = new BitSet();
+        for (int i = 0; i < 5000; i++) {
+            if (i % 7 == 0) {
+                orders.add(new TestOrder(" ", 1, Arrays.asList("a", "b")));
+                expectedFailures.set(i);
+            } else {
+                orders.add(new TestOrder("abc", i, Arrays.asList("a", "b")));
+            }
+        }
+
+        VerificationPlan.BatchResult<TestOrder> sequentialResult = plan.checkAll(orders, false);
+        VerificationPlan.BatchResult<TestOrder> parallelResult = plan.checkAll(orders, true);
+
+        assertEquals("Sequential failures contains failed objects", expectedFailures, sequentialResult.getFailures());
+        assertEquals("Parallel failures contains failed objects", expectedFailures, parallelResult.getFailures());
+        assertEquals("Parallel result has failure details", Collections.singletonList("id must not be blank:  "), parallelResult.getResult(4998).getMessages());
+    }
+
+    @Test
+    public void testCheckAllWithSequentialList() {
+        List<TestOrder> orders = new LinkedList<TestOrder>(Arrays.asList(new TestOrder("abc", 1, Arrays.asList("a", "b")), new TestOrder(" ", -1, Arrays.asList("a", "b")))) {
+            @Override
+            public TestOrder get(int index) {
+                throw new AssertionError("Should not look up objects by index");
+            }
+        };
+        VerificationPlan.BatchResult<TestOrder> result = plan.checkAll(orders, false);
+
+        assertEquals("Checked all objects", 2, result.getSize());
+        assertTrue("Second object failed", result.isFailed(1));
+        assertEquals("Failed result has failure details", Arrays.asList("id must not be blank:  ", "quantity must be positive: -1"), result.getResult(1).getMessages());
+    }
+
+    @Test
+    public void testCheckAllWhenEmpty() {
+        VerificationPlan.BatchResult<TestOrder> result = plan.checkAll(Collections.emptyList());
+
+        assertTrue("Passed", result.isPassed());
+        assertEquals("No objects checked", 0, result.getSize());
+        assertEquals("String representation", "BatchResult(0 of 0 failed)", result.toString());
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testCheckAllThrowsIfObjectsIsNull() {
+        plan.checkAll(null);
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testCheckAllWithVerifierThrowsIfArrayIsNull() {
+        Verifier.checkAll((TestOrder[]) null, plan);
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testCheckAllWithVerifierThrowsIfListIsNull() {
+        Verifier.checkAll((List<TestOrder>) null, plan);
+    }
+
+    @Test(expected = VerifierException.class)
+    public void testCheckAllWithVerifierThrowsIfPlanIsNull() {
+        Verifier.checkAll(Collections.<TestOrder>emptyList(), null);
+    }
+
+    @Test
+    public void testCheckWhenAllFieldsFail() {
+        VerificationPlan.Result result = plan.check(new TestOrder(" ", -1, Collections.emptyList()));
+
+        assertFalse("Did not pass", result.isPassed());
+        assertEquals("All fields failed", 3, result.getFailureCount());
+        assertEquals("Has messages for all fields", Arrays.asList("id must not be blank:  ", "quantity must be positive: -1", "items must not be empty: []"), result.getMessages());
+    }
+
+    @Test
+    public void testCheckWhenObjectIsNull() {
+        VerificationPlan.Result result = plan.check(null);
+
+        assertEquals("Fields with null values failed", 3, result.getFailureCount());
+    }
+
+    @Test
+    public void testCheckWhenPassed() {
+        VerificationPlan.Result result = plan.check(new TestOrder("abc", 1, Arrays.asList("a", "b")));
+
+        assertTrue("Passed", result.isPassed());
+        assertEquals("No fields failed", 0, result.getFailureCount());
+        assertTrue("No failures", result.getFailures().isEmpty());
+        assertTrue("No messages", result.getMessages().isEmpty());
+        assertFalse("First field did not fail", result.isFailed(0));
+        assertSame("Passed result is shared", result, plan.check(new TestOrder("def", 2, Arrays.asList("c", "d"))));
+        assertEquals("String representation", "Result(passed)", result.toString());
+    }
+
+    @Test
+    public void testCheckWhenSomeFieldsFail() {
+        VerificationPlan.Result result = plan.check(new TestOrder("abc", -1, Arrays.asList("a", "b", "c")));
+
+        BitSet expectedFailures = new BitSet();
+        expectedFailures.set(1);
+        expectedFailures.set(2);
+
+        assertFalse("Did not pass", result.isPassed());
+        assertEquals("Some fields failed", 2, result.getFailureCount());
+        assertEquals("Failures contains failed fields", expectedFailures, result.getFailures());
+        assertFalse("First field did not fail", result.isFailed(0));
+        assertTrue("Second field failed", result.isFailed(1));
+        assertEquals("Only first failed verification of field is recorded", "items must have a size of '2': ['a', 'b', 'c']", result.getMessages().get(1));
+        assertEquals("String representation", "Result(failed" + result.getMessages() + ")", result.toString());
+    }
+
+    @Test
+    public void testCheckIsNotAffectedByPreviousObject() {
+        assertFalse("First object failed", plan.check(new TestOrder(" ", 1, Arrays.asList("a", "b"))).isPassed());
+        assertTrue("Second object passed", plan.check(new TestOrder("abc", 1, Arrays.asList("a", "b"))).isPassed());
+    }
+
+    @Test
+    public void testCheckReusesVerifierPerThread() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        VerificationPlan<TestOrder> plan = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> order.id, verification -> {
+                count.incrementAndGet();
+                return new StringVerifier(verification);
+            }, verifier -> verifier.not().blank())
+            .build();
+
+        for (int i = 0; i < 10; i++) {
+            plan.check(new TestOrder("abc", 1, null));
+        }
+
+        assertEquals("Verifier is created once for thread", 1, count.get());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String id = i % 2 == 0 ? "abc" : " ";
+                futures.add(executor.submit(() -> plan.check(new TestOrder(id, 1, null)).isPassed()));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertEquals("Result is correct for object: " + i, i % 2 == 0, futures.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue("Verifier is created once per thread", count.get() <= 5);
+    }
+
+    @Test
+    public void testCheckWithNegatedFailure() {
+        VerificationPlan<TestOrder> plan = VerificationPlan.<TestOrder>builder()
+            .field(null, order -> order.id, StringVerifier::new, verifier -> verifier.not().equalTo("abc").not().nulled())
+            .build();
+
+        assertEquals("Negated message", Collections.singletonList("Value must not be equal to 'abc': abc"), plan.check(new TestOrder("abc", 1, null)).getMessages());
+        assertTrue("Negation is reset", plan.check(new TestOrder("def", 1, null)).isPassed());
+    }
+
+    @Test
+    public void testCheckWithVerificationsUsingMessages() {
+        VerificationPlan<TestOrder> plan = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> order.id, StringVerifier::new, verifier -> verifier.that(value -> value != null, "have an {0}", "id").that(value -> value != null, "be other"))
+            .build();
+
+        assertEquals("Custom message", Collections.singletonList("id must have an id: null"), plan.check(new TestOrder(null, 1, null)).getMessages());
+        assertTrue("Passes custom verification", plan.check(new TestOrder("abc", 1, null)).isPassed());
+    }
+
+    @Test
+    public void testCheckWithVerificationsUsingOtherChain() {
+        VerificationPlan<TestOrder> plan = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> order.id, StringVerifier::new, verifier -> verifier.not().blank().and(verifier.verification().getMessage("be {0}", "x"), "message").equalTo("id must be x: abc"))
+            .build();
+
+        assertTrue("Passed", plan.check(new TestOrder("abc", 1, null)).isPassed());
+    }
+
+    @Test
+    public void testCheckWithVerificationsUsingVerification() {
+        VerificationPlan<TestOrder> plan = VerificationPlan.<TestOrder>builder()
+            .field("id", order -> order.id, StringVerifier::new, verifier -> {
+                Verification<String> verification = verifier.verification();
+
+                assertEquals("Has locale", Locale.ENGLISH, verification.getLocale());
+                assertEquals("Has name", "id", verification.getName());
+                assertNotNull("Has formatter", verification.getFormatter(Collections.emptyList()));
+                assertEquals("Formats message", "id must be abc: abc", verification.getMessage("be {0}", verification.getValue()));
+                assertEquals("Formats message for key", "id must be blank: abc", verification.getMessage(() -> "org.notninja.verifier.type.StringVerifier.blank"));
+            })
+            .build();
+
+        assertTrue("Passed", plan.check(new TestOrder("abc", 1, null)).isPassed());
+    }
+
+    @Test
+    public void testGetNames() {
+        assertEquals("Names", Arrays.asList("id", "quantity", "items"), plan.getNames());
+    }
+
+    @Test
+    public void testGetSize() {
+        assertEquals("Size", 3, plan.getSize());
+    }
+
+    @Test
+    public void testVerify() {
+        TestOrder order = new TestOrder("abc", 1, Arrays.asList("a", "b"));
+
+        assertSame("Returns object", order, plan.verify(order));
+    }
+
+    @Test
+    public void testVerifyThrowsWhenFieldFails() {
+        try {
+            plan.verify(new TestOrder("abc", -1, Arrays.asList("a", "b")));
+            fail("Should have thrown since field failed");
+        } catch (VerifierException e) {
+            assertEquals("Exception has message for first failed field", "quantity must be positive: -1", e.getMessage());
+        }
+    }
+
+    private static class TestOrder {
+
+        final String id;
+        final Collection<String> items;
+        final Integer quantity;
+
+        TestOrder(String id, Integer quantity, Collection<String> items) {
+            this.id = id;
+            this.quantity = quantity;
+            this.items = items;
+        }
+    }
+}
@@ -27,6 +27,13 @@ import static org.mockito.Mockito.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
@@ -34,6 +41,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -45,16 +53,22 @@ import org.notninja.verifier.type.ArrayVerifier;
 import org.notninja.verifier.type.BigDecimalVerifier;
 import org.notninja.verifier.type.BigIntegerVerifier;
 import org.notninja.verifier.type.BooleanVerifier;
+import org.notninja.verifier.type.ByteBufferVerifier;
 import org.notninja.verifier.type.ByteVerifier;
 import org.notninja.verifier.type.CalendarVerifier;
+import org.notninja.verifier.type.CharSequenceVerifier;
 import org.notninja.verifier.type.CharacterVerifier;
 import org.notninja.verifier.type.ClassVerifier;
 import org.notninja.verifier.type.CollectionVerifier;
 import org.notninja.verifier.type.ComparableVerifier;
 import org.notninja.verifier.type.DateVerifier;
 import org.notninja.verifier.type.DoubleVerifier;
+import org.notninja.verifier.type.DurationVerifier;
 import org.notninja.verifier.type.FloatVerifier;
+import org.notninja.verifier.type.InstantVerifier;
 import org.notninja.verifier.type.IntegerVerifier;
+import org.notninja.verifier.type.LocalDateTimeVerifier;
+import org.notninja.verifier.type.LocalDateVerifier;
 import org.notninja.verifier.type.LocaleVerifier;
 import org.notninja.verifier.type.LongVerifier;
 import org.notninja.verifier.type.MapVerifier;
@@ -62,6 +76,8 @@ import org.notninja.verifier.type.ObjectVerifier;
 import org.notninja.verifier.type.ShortVerifier;
 import org.notninja.verifier.type.StringVerifier;
 import org.notninja.verifier.type.ThrowableVerifier;
+import org.notninja.verifier.type.Utf8Verifier;
+import org.notninja.verifier.type.ZonedDateTimeVerifier;
 import org.notninja.verifier.verification.TestVerificationProvider;
 import org.notninja.verifier.verification.Verification;
 import org.notninja.verifier.verification.VerificationProvider;
@@ -97,6 +113,46 @@ public class VerifierTest {
         TestVerificationProvider.setDelegate(null);
     }
 
+    @Test
+    public void testCheckAllWithArray() {
+        VerificationPlan.BatchResult<Integer> result = Verifier.checkAll(new Integer[]{1, -1, 2}, createPlan());
+
+        testCheckAllHelper(result);
+    }
+
+    @Test
+    public void testCheckAllWithArrayInParallel() {
+        VerificationPlan.BatchResult<Integer> result = Verifier.checkAll(new Integer[]{1, -1, 2}, createPlan(), true);
+
+        testCheckAllHelper(result);
+    }
+
+    @Test
+    public void testCheckAllWithList() {
+        VerificationPlan.BatchResult<Integer> result = Verifier.checkAll(Arrays.asList(1, -1, 2), createPlan());
+
+        testCheckAllHelper(result);
+    }
+
+    @Test
+    public void testCheckAllWithListInParallel() {
+        VerificationPlan.BatchResult<Integer> result = Verifier.checkAll(Arrays.asList(1, -1, 2), createPlan(), true);
+
+        testCheckAllHelper(result);
+    }
+
+    private VerificationPlan<Integer> createPlan() {
+        return VerificationPlan.<Integer>builder()
+            .field("value", Function.identity(), IntegerVerifier::new, verifier -> verifier.positive())
+            .build();
+    }
+
+    private void testCheckAllHelper(VerificationPlan.BatchResult<Integer> result) {
+        assertEquals("Checked all values", 3, result.getSize());
+        assertEquals("Only one value failed", 1, result.getFailureCount());
+        assertTrue("Failed value is flagged", result.isFailed(1));
+    }
+
     @Test
     public void testConstructor() {
         // Ensure that Verifier can be instantiated, if required
@@ -190,6 +246,22 @@ public class VerifierTest {
         testVerifyHelper(result, value, "foo");
     }
 
+    @Test
+    public void testVerifyWithByteBuffer() {
+        ByteBuffer value = ByteBuffer.allocate(0);
+        ByteBufferVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithByteBufferAndName() {
+        ByteBuffer value = ByteBuffer.allocate(0);
+        ByteBufferVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
     @Test
     public void testVerifyWithCalendar() {
         Calendar value = Calendar.getInstance();
@@ -206,6 +278,22 @@ public class VerifierTest {
         testVerifyHelper(result, value, "foo");
     }
 
+    @Test
+    public void testVerifyWithCharSequence() {
+        CharSequence value = new StringBuilder("foo");
+        CharSequenceVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithCharSequenceAndName() {
+        CharSequence value = new StringBuilder("foo");
+        CharSequenceVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
     @Test
     public void testVerifyWithCharacter() {
         char value = 'a';
@@ -284,6 +372,22 @@ public class VerifierTest {
         testVerifyHelper(result, value, "foo");
     }
 
+    @Test
+    public void testVerifyWithDuration() {
+        Duration value = Duration.ofSeconds(1);
+        DurationVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithDurationAndName() {
+        Duration value = Duration.ofSeconds(1);
+        DurationVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
     @Test
     public void testVerifyWithFloat() {
         float value = 123F;
@@ -300,6 +404,22 @@ public class VerifierTest {
         testVerifyHelper(result, value, "foo");
     }
 
+    @Test
+    public void testVerifyWithInstant() {
+        Instant value = Instant.EPOCH;
+        InstantVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithInstantAndName() {
+        Instant value = Instant.EPOCH;
+        InstantVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
     @Test
     public void testVerifyWithInteger() {
         int value = 123;
@@ -316,6 +436,38 @@ public class VerifierTest {
         testVerifyHelper(result, value, "foo");
     }
 
+    @Test
+    public void testVerifyWithLocalDate() {
+        LocalDate value = LocalDate.of(2017, 1, 1);
+        LocalDateVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithLocalDateAndName() {
+        LocalDate value = LocalDate.of(2017, 1, 1);
+        LocalDateVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
+    @Test
+    public void testVerifyWithLocalDateTime() {
+        LocalDateTime value = LocalDateTime.of(2017, 1, 1, 0, 0);
+        LocalDateTimeVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithLocalDateTimeAndName() {
+        LocalDateTime value = LocalDateTime.of(2017, 1, 1, 0, 0);
+        LocalDateTimeVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
     @Test
     public void testVerifyWithLocale() {
         Locale value = Locale.US;
@@ -429,6 +581,22 @@ public class VerifierTest {
     }
 
     @SuppressWarnings("unchecked")
+    @Test
+    public void testVerifyWithZonedDateTime() {
+        ZonedDateTime value = ZonedDateTime.now();
+        ZonedDateTimeVerifier result = Verifier.verify(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyWithZonedDateTimeAndName() {
+        ZonedDateTime value = ZonedDateTime.now();
+        ZonedDateTimeVerifier result = Verifier.verify(value, "foo");
+
+        testVerifyHelper(result, value, "foo");
+    }
+
     @Test
     public void testVerifyWithCustomVerifierClass() {
         StringVerifier expected = new StringVerifier((Verification<String>) mockVerification);
@@ -463,4 +631,43 @@ public class VerifierTest {
 
         testVerifyHelper(result, value, "bar");
     }
+
+    @Test
+    public void testVerifyUtf8WithBytes() {
+        byte[] value = "foo".getBytes(StandardCharsets.UTF_8);
+        Utf8Verifier result = Verifier.verifyUtf8(value);
+
+        testVerifyHelper(result, ByteBuffer.wrap(value), null);
+    }
+
+    @Test
+    public void testVerifyUtf8WithBytesAndName() {
+        byte[] value = "foo".getBytes(StandardCharsets.UTF_8);
+        Utf8Verifier result = Verifier.verifyUtf8(value, "bar");
+
+        testVerifyHelper(result, ByteBuffer.wrap(value), "bar");
+    }
+
+    @Test
+    public void testVerifyUtf8WithByteBuffer() {
+        ByteBuffer value = ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8));
+        Utf8Verifier result = Verifier.verifyUtf8(value);
+
+        testVerifyHelper(result, value, null);
+    }
+
+    @Test
+    public void testVerifyUtf8WithByteBufferAndName() {
+        ByteBuffer value = ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8));
+        Utf8Verifier result = Verifier.verifyUtf8(value, "bar");
+
+        testVerifyHelper(result, value, "bar");
+    }
+
+    @Test
+    public void testVerifyUtf8WithNullBytes() {
+        Utf8Verifier result = Verifier.verifyUtf8((byte[]) null);
+
+        testVerifyHelper(result, null, null);
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.message;
+
+import static org.junit.Assert.*;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link MessageCatalog} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class MessageCatalogTest {
+
+    private MessageCatalog messageCatalog;
+
+    @Before
+    public void setUp() {
+        Map<String, String> messages = new HashMap<>();
+        messages.put(TestMessageKeys.MESSAGE_1.code(), "foo {0}");
+        messages.put(TestMessageKeys.MESSAGE_2.code(), "bar");
+        messages.put(TestMessageKeys.MESSAGE_NULL.code(), null);
+        messages.put("other", "fizz {0}");
+
+        messageCatalog = new MessageCatalog(Locale.ENGLISH, key -> messages.get(key.code()));
+    }
+
+    @Test
+    public void testConstructor() {
+        List<String> resolved = new ArrayList<>();
+        MessageCatalog messageCatalog = new MessageCatalog(Locale.ENGLISH, key -> {
+            resolved.add(key.code());
+            return key == TestMessageKeys.MESSAGE_MISSING ? null : "foo";
+        });
+
+        assertTrue("Does not resolve messages until requested", resolved.isEmpty());
+        assertEquals("Resolves message", "foo", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+        assertEquals("Resolves message again", "foo", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+        assertEquals("Resolves message for other key type", "foo", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1::code));
+        assertNull("Resolves missing message", messageCatalog.getMessage(TestMessageKeys.MESSAGE_MISSING));
+        assertNull("Resolves missing message again", messageCatalog.getMessage(TestMessageKeys.MESSAGE_MISSING));
+        assertEquals("Only resolves requested messages once", Arrays.asList(TestMessageKeys.MESSAGE_1.code(), TestMessageKeys.MESSAGE_MISSING.code()), resolved);
+    }
+
+    @Test
+    public void testGetLocale() {
+        assertEquals("Has locale", Locale.ENGLISH, messageCatalog.getLocale());
+    }
+
+    @Test
+    public void testGetMessageWithEnumKey() {
+        assertEquals("Contains first message", "foo {0}", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+        assertEquals("Contains second message", "bar", messageCatalog.getMessage(TestMessageKeys.MESSAGE_2));
+        assertEquals("Contains first message again", "foo {0}", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+        assertNull("Does not contain missing message", messageCatalog.getMessage(TestMessageKeys.MESSAGE_MISSING));
+        assertNull("Does not contain null message", messageCatalog.getMessage(TestMessageKeys.MESSAGE_NULL));
+    }
+
+    @Test
+    public void testGetMessageWithOtherKey() {
+        assertEquals("Contains message", "fizz {0}", messageCatalog.getMessage(() -> "other"));
+        assertEquals("Contains message also for enum", "foo {0}", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1::code));
+        assertNull("Does not contain missing message", messageCatalog.getMessage(() -> "missing"));
+    }
+
+    @Test
+    public void testGetMessageFormat() {
+        AtomicInteger count = new AtomicInteger();
+        MessageFormat messageFormat = messageCatalog.getMessageFormat(TestMessageKeys.MESSAGE_1, message -> {
+            count.incrementAndGet();
+            return new MessageFormat(message, Locale.ENGLISH);
+        });
+
+        assertEquals("Creates message format for message", "foo {0}", messageFormat.toPattern());
+        assertSame("Message format is cached", messageFormat, messageCatalog.getMessageFormat(TestMessageKeys.MESSAGE_1, message -> null));
+        assertSame("Message format is cached for other key type", messageFormat, messageCatalog.getMessageFormat(TestMessageKeys.MESSAGE_1::code, message -> null));
+        assertEquals("Message format is only created once", 1, count.get());
+    }
+
+    @Test
+    public void testGetMessageFormatWhenMessageNotFound() {
+        assertNull("Returns null for missing message", messageCatalog.getMessageFormat(TestMessageKeys.MESSAGE_MISSING, message -> {
+            throw new AssertionError("Should not create message format");
+        }));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetMessageFormatThrowsWhenFactoryThrows() {
+        messageCatalog.getMessageFormat(() -> "other", message -> new MessageFormat("{{0}"));
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("String representation", "MessageCatalog(en)", messageCatalog.toString());
+    }
+
+    private enum TestMessageKeys implements MessageKey {
+
+        MESSAGE_1("org.notninja.verifier.message.MessageCatalog.test.message1"),
+        MESSAGE_2("org.notninja.verifier.message.MessageCatalog.test.message2") {
+            @Override
+            public String toString() {
+                return "second";
+            }
+        },
+        MESSAGE_MISSING("org.notninja.verifier.message.MessageCatalog.test.missing"),
+        MESSAGE_NULL("org.notninja.verifier.message.MessageCatalog.test.null");
+
+        private final String code;
+
+        TestMessageKeys(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public String code() {
+            return code;
+        }
+    }
+}
@@ -25,16 +25,21 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.ListResourceBundle;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -44,8 +49,12 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import org.notninja.verifier.message.formatter.DefaultFormatterProvider;
+import org.notninja.verifier.message.locale.SimpleLocaleContext;
 import org.notninja.verifier.util.TestUtils;
+import org.notninja.verifier.verification.SimpleVerification;
 import org.notninja.verifier.verification.Verification;
+import org.notninja.verifier.verification.report.DefaultReportExecutorProvider;
 
 /**
  * <p>
@@ -61,6 +70,17 @@ public class ResourceBundleMessageSourceTest {
     private static final Locale TEST_LOCALE = Locale.ENGLISH;
     private static final String TEST_MESSAGE = "foo {0}: {1}";
 
+    private static void assertMessageCatalogCacheContains(ResourceBundleMessageSource messageSource, Locale locale, MessageKey key) throws Exception {
+        MessageCatalog messageCatalog = getMessageCatalogs(messageSource).get(locale);
+
+        assertNotNull("Message catalog is cached for locale", messageCatalog);
+        assertNotNull("Message format is cached for message key: " + key, messageCatalog.getMessageFormat(key, message -> null));
+    }
+
+    private static void assertMessageCatalogCacheIsEmpty(ResourceBundleMessageSource messageSource) throws Exception {
+        assertTrue("Message catalog cache is empty", getMessageCatalogs(messageSource).isEmpty());
+    }
+
     private static void assertMessageFormatCacheContains(ResourceBundleMessageSource messageSource, String baseName, Locale locale, MessageKey key) throws Exception {
         ResourceBundle resourceBundle = getResourceBundleForBaseName(messageSource, baseName, locale);
 
@@ -98,6 +118,11 @@ public class ResourceBundleMessageSourceTest {
         assertTrue("Resource bundle cache is empty", getResourceBundlesPerBaseName(messageSource).isEmpty());
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<Locale, MessageCatalog> getMessageCatalogs(ResourceBundleMessageSource messageSource) throws ReflectiveOperationException {
+        return (Map<Locale, MessageCatalog>) TestUtils.getInstanceField(messageSource, "messageCatalogs", true);
+    }
+
     @SuppressWarnings("unchecked")
     private static Map<ResourceBundle, Map<MessageKey, Map<Locale, MessageFormat>>> getMessageFormatsPerResourceBundle(ResourceBundleMessageSource messageSource) throws ReflectiveOperationException {
         return (Map<ResourceBundle, Map<MessageKey, Map<Locale, MessageFormat>>>) TestUtils.getInstanceField(messageSource, "messageFormatsPerResourceBundle", true);
@@ -172,17 +197,21 @@ public class ResourceBundleMessageSourceTest {
             ResourceBundleMessageSource messageSource = getMessageSource();
             Verification<?> mockVerification = getMockVerification();
 
+            assertMessageCatalogCacheIsEmpty(messageSource);
             assertMessageFormatCacheIsEmpty(messageSource);
             assertResourceBundleCacheIsEmpty(messageSource);
 
             messageSource.getResourceBundle(baseName, mockVerification);
             messageSource.getMessageFormat(getResourceBundleForBaseName(messageSource, baseName, locale), key, mockVerification);
+            messageSource.resolveKey(key, mockVerification);
 
             assertResourceBundleCacheContains(messageSource, baseName, locale);
             assertMessageFormatCacheContains(messageSource, baseName, locale, key);
+            assertMessageCatalogCacheContains(messageSource, locale, key);
 
             super.testClearCache();
 
+            assertMessageCatalogCacheIsEmpty(messageSource);
             assertMessageFormatCacheIsEmpty(messageSource);
             assertResourceBundleCacheIsEmpty(messageSource);
         }
@@ -222,7 +251,7 @@ public class ResourceBundleMessageSourceTest {
         public void testGetMessageInternalWithMessageKey() throws Exception {
             super.testGetMessageInternalWithMessageKey();
 
-            assertMessageFormatCacheContains(getMessageSource(), TEST_BASE_NAMES[2], TEST_LOCALE, getMessageKey());
+            assertMessageCatalogCacheContains(getMessageSource(), TEST_LOCALE, getMessageKey());
         }
 
         @Test
@@ -254,7 +283,7 @@ public class ResourceBundleMessageSourceTest {
         public void testGetMessageInternalWithMessageKeyWhenArgsIsEmptyAndAlwaysUseMessageFormat() throws Exception {
             super.testGetMessageInternalWithMessageKeyWhenArgsIsEmptyAndAlwaysUseMessageFormat();
 
-            assertMessageFormatCacheContains(getMessageSource(), TEST_BASE_NAMES[2], TEST_LOCALE, getMessageKey());
+            assertMessageCatalogCacheContains(getMessageSource(), TEST_LOCALE, getMessageKey());
         }
 
         @Test
@@ -262,7 +291,7 @@ public class ResourceBundleMessageSourceTest {
         public void testGetMessageInternalWithMessageKeyWhenArgsIsNullAndAlwaysUseMessageFormat() throws Exception {
             super.testGetMessageInternalWithMessageKeyWhenArgsIsNullAndAlwaysUseMessageFormat();
 
-            assertMessageFormatCacheContains(getMessageSource(), TEST_BASE_NAMES[2], TEST_LOCALE, getMessageKey());
+            assertMessageCatalogCacheContains(getMessageSource(), TEST_LOCALE, getMessageKey());
         }
 
         @Test
@@ -270,7 +299,7 @@ public class ResourceBundleMessageSourceTest {
         public void testResolveKey() throws Exception {
             super.testResolveKey();
 
-            assertMessageFormatCacheContains(getMessageSource(), TEST_BASE_NAMES[2], TEST_LOCALE, getMessageKey());
+            assertMessageCatalogCacheContains(getMessageSource(), TEST_LOCALE, getMessageKey());
         }
 
         @Test
@@ -455,6 +484,179 @@ public class ResourceBundleMessageSourceTest {
             assertTrue("BaseNames property is modifiable", messageSource.getBaseNames().contains("foo"));
         }
 
+        @Test
+        public void testCreateMessageCatalog() {
+            MessageCatalog messageCatalog = messageSource.createMessageCatalog(mockVerification);
+
+            assertEquals("Has locale", TEST_LOCALE, messageCatalog.getLocale());
+            assertEquals("Contains message from later base name", TEST_MESSAGE, messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+            assertNotNull("Contains message from earlier base name", messageCatalog.getMessage(ResourceBundleMessageSource.MessageKeys.DEFAULT_NAME));
+            assertNull("Does not contain missing message", messageCatalog.getMessage(TestMessageKeys.MESSAGE_MISSING));
+        }
+
+        @Test
+        public void testCreateMessageCatalogUsesEarliestBaseName() {
+            messageSource = new ResourceBundleMessageSource("foo", "bar") {
+                @Override
+                protected ResourceBundle getResourceBundleInternal(String baseName, Locale locale) {
+                    return super.getResourceBundleInternal(TEST_BASE_NAMES[2], baseName.equals("foo") ? Locale.FRENCH : Locale.GERMAN);
+                }
+            };
+
+            MessageCatalog messageCatalog = messageSource.createMessageCatalog(mockVerification);
+
+            assertEquals("Contains message from earliest base name", "fu {0}", messageCatalog.getMessage(TestMessageKeys.MESSAGE_2));
+        }
+
+        @Test
+        public void testCreateMessageCatalogWhenMessageNotFound() {
+            messageSource = new ResourceBundleMessageSource(TEST_BASE_NAMES) {
+                @Override
+                protected String getStringOrNull(ResourceBundle bundle, MessageKey key) {
+                    return key.code().equals(TestMessageKeys.MESSAGE_1.code()) ? null : super.getStringOrNull(bundle, key);
+                }
+            };
+
+            MessageCatalog messageCatalog = messageSource.createMessageCatalog(mockVerification);
+
+            assertNull("Does not contain message not found", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+            assertNotNull("Contains other message", messageCatalog.getMessage(TestMessageKeys.MESSAGE_2));
+        }
+
+        @Test
+        public void testCreateMessageCatalogWhenResourceBundleContainsNonStringValue() {
+            messageSource = new ResourceBundleMessageSource("foo") {
+                @Override
+                protected ResourceBundle getResourceBundleInternal(String baseName, Locale locale) {
+                    return new ListResourceBundle() {
+                        @Override
+                        protected Object[][] getContents() {
+                            return new Object[][]{
+                                {TestMessageKeys.MESSAGE_1.code(), TEST_MESSAGE},
+                                {"other", 123}
+                            };
+                        }
+                    };
+                }
+            };
+
+            MessageCatalog messageCatalog = messageSource.createMessageCatalog(mockVerification);
+
+            assertEquals("Contains string message", TEST_MESSAGE, messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+        }
+
+        @Test
+        public void testCreateMessageCatalogWhenMessageIsSynthesized() {
+            messageSource = new ResourceBundleMessageSource(TEST_BASE_NAMES) {
+                @Override
+                protected String getStringOrNull(ResourceBundle bundle, MessageKey key) {
+                    return key.code().equals("synthesized") ? "fizz" : super.getStringOrNull(bundle, key);
+                }
+            };
+
+            MessageCatalog messageCatalog = messageSource.createMessageCatalog(mockVerification);
+
+            assertEquals("Contains synthesized message", "fizz", messageCatalog.getMessage(() -> "synthesized"));
+            assertEquals("Contains message from resource bundle", TEST_MESSAGE, messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+        }
+
+        @Test
+        public void testGetMessageCatalog() throws Exception {
+            MessageCatalog messageCatalog = messageSource.getMessageCatalog(mockVerification);
+
+            assertSame("Message catalog is cached", messageCatalog, messageSource.getMessageCatalog(mockVerification));
+            assertSame("Message catalog is cached for locale", messageCatalog, getMessageCatalogs(messageSource).get(TEST_LOCALE));
+
+            when(mockVerification.getLocale()).thenReturn(Locale.FRENCH);
+
+            MessageCatalog otherMessageCatalog = messageSource.getMessageCatalog(mockVerification);
+
+            assertNotSame("Message catalog is built for other locale", messageCatalog, otherMessageCatalog);
+            assertEquals("Message catalog has other locale", Locale.FRENCH, otherMessageCatalog.getLocale());
+            assertEquals("Message catalog contains message for other locale", "fu {0}", otherMessageCatalog.getMessage(TestMessageKeys.MESSAGE_2));
+        }
+
+        @Test
+        public void testGetMessageCatalogWhenBaseNamesAdded() {
+            messageSource.setBaseNames(TEST_BASE_NAMES[0]);
+
+            MessageCatalog messageCatalog = messageSource.getMessageCatalog(mockVerification);
+
+            assertNull("Does not contain message", messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+
+            messageSource.getBaseNames().add(TEST_BASE_NAMES[2]);
+
+            assertEquals("Contains message after base names added", TEST_MESSAGE, messageSource.getMessageCatalog(mockVerification).getMessage(TestMessageKeys.MESSAGE_1));
+        }
+
+        @Test
+        public void testGetMessageCatalogWhenBaseNamesChanged() {
+            MessageCatalog messageCatalog = messageSource.getMessageCatalog(mockVerification);
+
+            assertEquals("Contains message", TEST_MESSAGE, messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+
+            messageSource.setBaseNames(TEST_BASE_NAMES[0], TEST_BASE_NAMES[1], "foo");
+
+            assertNull("Does not contain message after base names changed", messageSource.getMessageCatalog(mockVerification).getMessage(TestMessageKeys.MESSAGE_1));
+        }
+
+        @Test
+        public void testGetMessageCatalogWhenBaseNamesRemoved() {
+            MessageCatalog messageCatalog = messageSource.getMessageCatalog(mockVerification);
+
+            assertEquals("Contains message", TEST_MESSAGE, messageCatalog.getMessage(TestMessageKeys.MESSAGE_1));
+
+            messageSource.getBaseNames().remove(TEST_BASE_NAMES[2]);
+
+            assertNull("Does not contain message after base names removed", messageSource.getMessageCatalog(mockVerification).getMessage(TestMessageKeys.MESSAGE_1));
+        }
+
+        @Test
+        public void testGetMessageReturnsCorrectMessagesWhenCalledConcurrentlyWhileCacheIsCleared() throws Exception {
+            MessageKey argumentsKey = () -> "org.notninja.verifier.type.base.BaseCollectionVerifier.sizeOf";
+            MessageKey noArgumentsKey = () -> "org.notninja.verifier.type.ByteBufferVerifier.ascii";
+            Locale[] locales = {Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN};
+            int taskCount = 100;
+            int iterationCount = 1000;
+
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            try {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int i = 0; i < taskCount; i++) {
+                    int task = i;
+
+                    futures.add(executor.submit(() -> {
+                        int count = 0;
+                        for (int j = 0; j < iterationCount; j++) {
+                            if (task == 0 && j % 100 == 0) {
+                                messageSource.clearCache();
+                            }
+
+                            Locale locale = locales[(task + j) % locales.length];
+                            Verification<Integer> verification = new SimpleVerification<>(new SimpleLocaleContext(locale), messageSource, new DefaultFormatterProvider(), new DefaultReportExecutorProvider().getReportExecutor(), j, "foo");
+                            verification.setNegated(j % 2 == 0);
+
+                            String expectedPrefix = j % 2 == 0 ? "foo must not " : "foo must ";
+
+                            assertEquals("Message with arguments is formatted correctly", expectedPrefix + "have a size of '" + j + "': " + j, messageSource.getMessage(verification, argumentsKey, new Object[]{j}));
+                            assertEquals("Message without arguments is resolved correctly", expectedPrefix + "contain only ASCII bytes: " + j, messageSource.getMessage(verification, noArgumentsKey, null));
+                            assertEquals("Message is formatted correctly", expectedPrefix + "be " + j + ": " + j, messageSource.getMessage(verification, "be {0}", new Object[]{j}));
+
+                            count++;
+                        }
+
+                        return count;
+                    }));
+                }
+
+                for (Future<Integer> future : futures) {
+                    assertEquals("All messages were checked", Integer.valueOf(iterationCount), future.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
         @Test
         public void testGetMessageFormat() throws Exception {
             testGetMessageFormatHelper(TEST_BASE_NAMES[2], TEST_LOCALE, TestMessageKeys.MESSAGE_1, true, "foo {0}: {1}");
@@ -103,6 +103,22 @@ public class CollectionFormatterTest {
         assertEquals("Formats empty array", expected, actual);
     }
 
+    @Test
+    public void testFormatWithPrimitiveArray() {
+        String expected = "['80', '75', '-1']";
+        String actual = formatter.format(mockVerification, new byte[]{0x50, 0x4B, (byte) 0xFF});
+
+        assertEquals("Formats primitive array", expected, actual);
+    }
+
+    @Test
+    public void testFormatWithPrimitiveArrayWhenArrayIsEmpty() {
+        String expected = "[]";
+        String actual = formatter.format(mockVerification, new int[0]);
+
+        assertEquals("Formats empty primitive array", expected, actual);
+    }
+
     @Test
     public void testFormatWithCollection() {
         List<Object> nestedList = new ArrayList<>();
@@ -146,6 +162,7 @@ public class CollectionFormatterTest {
     @Test
     public void testSupportsWithArrayClass() {
         assertTrue("Supports arrays", formatter.supports(Object[].class));
+        assertTrue("Supports primitive arrays", formatter.supports(byte[].class));
     }
 
     @Test
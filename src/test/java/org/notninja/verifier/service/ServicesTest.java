@@ -132,6 +132,16 @@ public class ServicesTest {
         assertTrue("Last item should be last registered service", services.get(1) instanceof TestCustomVerifierProvider);
     }
 
+    @Test
+    public void testGetServicesReturnsCopy() {
+        List<CustomVerifierProvider> services = Services.getServices(CustomVerifierProvider.class);
+        services.clear();
+
+        assertNotSame("Returns new list", services, Services.getServices(CustomVerifierProvider.class));
+        assertEquals("Cached services are not modified", 2, Services.getServices(CustomVerifierProvider.class).size());
+        assertSame("Returns same service instances", Services.getService(CustomVerifierProvider.class), Services.getServices(CustomVerifierProvider.class).get(0));
+    }
+
     @Test
     public void testGetServicesWhenNoneFound() {
         List<TestService> services = Services.getServices(TestService.class);
@@ -163,6 +173,16 @@ public class ServicesTest {
         assertTrue("Last item should be least important service", services.get(1) instanceof DefaultCustomVerifierProvider);
     }
 
+    @Test
+    public void testGetWeightedServicesReturnsCopy() {
+        List<CustomVerifierProvider> services = Services.getWeightedServices(CustomVerifierProvider.class);
+        services.clear();
+
+        assertNotSame("Returns new list", services, Services.getWeightedServices(CustomVerifierProvider.class));
+        assertEquals("Cached services are not modified", 2, Services.getWeightedServices(CustomVerifierProvider.class).size());
+        assertSame("Returns same service instances", Services.getWeightedService(CustomVerifierProvider.class), Services.getWeightedServices(CustomVerifierProvider.class).get(0));
+    }
+
     @Test
     public void testGetWeightedServicesWhenNoneFound() {
         List<TestWeightedService> services = Services.getWeightedServices(TestWeightedService.class);
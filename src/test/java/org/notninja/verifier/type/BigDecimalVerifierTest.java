@@ -21,11 +21,20 @@
  */
 package org.notninja.verifier.type;
 
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
 import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKeyEnumTestCase;
+import org.notninja.verifier.type.base.BaseNumberVerifier;
 import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
 import org.notninja.verifier.type.base.BaseNumberVerifierTestCase;
 import org.notninja.verifier.type.base.BaseTruthVerifierTestCase;
@@ -151,4 +160,294 @@ public class BigDecimalVerifierTest {
             return new BigDecimal[]{BigDecimal.ONE};
         }
     }
+
+    public static class BigDecimalVerifierMiscTest extends CustomVerifierTestCaseBase<BigDecimal, BigDecimalVerifier> {
+
+        @Test
+        public void testEvenWhenValueHasFraction() {
+            testEvenHelper(new BigDecimal("2.5"), false);
+        }
+
+        @Test
+        public void testEvenWhenValueHasNegativeScale() {
+            testEvenHelper(new BigDecimal("1E+2"), true);
+        }
+
+        @Test
+        public void testEvenWhenValueHasTrailingZeros() {
+            testEvenHelper(new BigDecimal("2.00"), true);
+        }
+
+        @Test
+        public void testEvenWhenValueIsLessThanOne() {
+            testEvenHelper(new BigDecimal("0.2"), false);
+        }
+
+        @Test
+        public void testEvenWhenValueIsMultipleOfTen() {
+            testEvenHelper(new BigDecimal("100"), true);
+        }
+
+        @Test
+        public void testEvenWhenValueIsNegative() {
+            testEvenHelper(new BigDecimal("-4"), true);
+        }
+
+        @Test
+        public void testEvenWhenValueIsOdd() {
+            testEvenHelper(new BigDecimal("3.0"), false);
+        }
+
+        @Test
+        public void testEvenWhenValueIsOutsideLongRange() {
+            testEvenHelper(new BigDecimal("18446744073709551616"), true);
+        }
+
+        @Test
+        public void testEvenWhenValueIsZeroWithScale() {
+            testEvenHelper(new BigDecimal("0.00"), true);
+        }
+
+        private void testEvenHelper(BigDecimal value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().even());
+
+            verify(getMockVerification()).report(expected, BaseNumberVerifier.MessageKeys.EVEN);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueHasFraction() {
+            testFitsInLongHelper(new BigDecimal("123.45"), false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueHasTrailingZeros() {
+            testFitsInLongHelper(new BigDecimal("123.00"), true);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsLongMaxValue() {
+            testFitsInLongHelper(BigDecimal.valueOf(Long.MAX_VALUE), true);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsLongMinValue() {
+            testFitsInLongHelper(BigDecimal.valueOf(Long.MIN_VALUE), true);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsAboveLongMaxValue() {
+            testFitsInLongHelper(new BigDecimal("9223372036854775808"), false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsBelowLongMinValue() {
+            testFitsInLongHelper(new BigDecimal("-9223372036854775809"), false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsNull() {
+            testFitsInLongHelper(null, false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsSmall() {
+            testFitsInLongHelper(new BigDecimal("-123"), true);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsVeryLarge() {
+            testFitsInLongHelper(new BigDecimal("1E+20"), false);
+        }
+
+        private void testFitsInLongHelper(BigDecimal value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().fitsInLong());
+
+            verify(getMockVerification()).report(expected, BigDecimalVerifier.MessageKeys.FITS_IN_LONG);
+        }
+
+        @Test
+        public void testIntegralWhenValueHasFraction() {
+            testIntegralHelper(new BigDecimal("123.45"), false);
+        }
+
+        @Test
+        public void testIntegralWhenValueHasNegativeScale() {
+            testIntegralHelper(new BigDecimal("1.23E+5"), true);
+        }
+
+        @Test
+        public void testIntegralWhenValueHasTrailingZeros() {
+            testIntegralHelper(new BigDecimal("123.00"), true);
+        }
+
+        @Test
+        public void testIntegralWhenValueIsInteger() {
+            testIntegralHelper(new BigDecimal("123"), true);
+        }
+
+        @Test
+        public void testIntegralWhenValueIsLessThanOne() {
+            testIntegralHelper(new BigDecimal("0.5"), false);
+        }
+
+        @Test
+        public void testIntegralWhenValueIsNull() {
+            testIntegralHelper(null, false);
+        }
+
+        @Test
+        public void testIntegralWhenValueIsZeroWithScale() {
+            testIntegralHelper(new BigDecimal("0.000"), true);
+        }
+
+        private void testIntegralHelper(BigDecimal value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().integral());
+
+            verify(getMockVerification()).report(expected, BigDecimalVerifier.MessageKeys.INTEGRAL);
+        }
+
+        @Test
+        public void testOddWhenValueHasFraction() {
+            testOddHelper(new BigDecimal("1.5"), false);
+        }
+
+        @Test
+        public void testOddWhenValueHasNegativeScale() {
+            testOddHelper(new BigDecimal("1E+1"), false);
+        }
+
+        @Test
+        public void testOddWhenValueHasTrailingZeros() {
+            testOddHelper(new BigDecimal("3.00"), true);
+        }
+
+        @Test
+        public void testOddWhenValueIsMultipleOfTen() {
+            testOddHelper(new BigDecimal("100"), false);
+        }
+
+        @Test
+        public void testOddWhenValueIsNegative() {
+            testOddHelper(new BigDecimal("-3"), true);
+        }
+
+        @Test
+        public void testOddWhenValueIsOutsideLongRange() {
+            testOddHelper(new BigDecimal("18446744073709551617"), true);
+        }
+
+        @Test
+        public void testOddWhenValueIsZeroWithScale() {
+            testOddHelper(new BigDecimal("0.0"), false);
+        }
+
+        private void testOddHelper(BigDecimal value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().odd());
+
+            verify(getMockVerification()).report(expected, BaseNumberVerifier.MessageKeys.ODD);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasLargerPrecision() {
+            testPrecisionAtMostHelper(new BigDecimal("1234.5"), 4, false);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasSamePrecision() {
+            testPrecisionAtMostHelper(new BigDecimal("-123.45"), 5, true);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasSmallerPrecision() {
+            testPrecisionAtMostHelper(new BigDecimal("1.2"), 5, true);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasTrailingZeros() {
+            testPrecisionAtMostHelper(new BigDecimal("123.450"), 5, false);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueIsNull() {
+            testPrecisionAtMostHelper(null, 5, false);
+        }
+
+        private void testPrecisionAtMostHelper(BigDecimal value, int precision, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().precisionAtMost(precision));
+
+            verify(getMockVerification()).report(expected, BigDecimalVerifier.MessageKeys.PRECISION_AT_MOST, precision);
+        }
+
+        @Test
+        public void testScaleAtMostWhenValueHasLargerScale() {
+            testScaleAtMostHelper(new BigDecimal("123.456"), 2, false);
+        }
+
+        @Test
+        public void testScaleAtMostWhenValueHasNegativeScale() {
+            testScaleAtMostHelper(new BigDecimal("1E+3"), 0, true);
+        }
+
+        @Test
+        public void testScaleAtMostWhenValueHasSameScale() {
+            testScaleAtMostHelper(new BigDecimal("123.45"), 2, true);
+        }
+
+        @Test
+        public void testScaleAtMostWhenValueHasSmallerScale() {
+            testScaleAtMostHelper(new BigDecimal("123"), 2, true);
+        }
+
+        @Test
+        public void testScaleAtMostWhenValueHasTrailingZeros() {
+            testScaleAtMostHelper(new BigDecimal("123.450"), 2, false);
+        }
+
+        @Test
+        public void testScaleAtMostWhenValueIsNull() {
+            testScaleAtMostHelper(null, 2, false);
+        }
+
+        private void testScaleAtMostHelper(BigDecimal value, int scale, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().scaleAtMost(scale));
+
+            verify(getMockVerification()).report(expected, BigDecimalVerifier.MessageKeys.SCALE_AT_MOST, scale);
+        }
+
+        @Override
+        protected BigDecimalVerifier createCustomVerifier() {
+            return new BigDecimalVerifier(getMockVerification());
+        }
+    }
+
+    public static class BigDecimalVerifierMessageKeysTest extends MessageKeyEnumTestCase<BigDecimalVerifier.MessageKeys> {
+
+        @Override
+        protected Class<? extends Enum> getEnumClass() {
+            return BigDecimalVerifier.MessageKeys.class;
+        }
+
+        @Override
+        protected Map<String, String> getMessageKeys() {
+            Map<String, String> messageKeys = new HashMap<>();
+            messageKeys.put("FITS_IN_LONG", "org.notninja.verifier.type.BigDecimalVerifier.fitsInLong");
+            messageKeys.put("INTEGRAL", "org.notninja.verifier.type.BigDecimalVerifier.integral");
+            messageKeys.put("PRECISION_AT_MOST", "org.notninja.verifier.type.BigDecimalVerifier.precisionAtMost");
+            messageKeys.put("SCALE_AT_MOST", "org.notninja.verifier.type.BigDecimalVerifier.scaleAtMost");
+
+            return messageKeys;
+        }
+    }
 }
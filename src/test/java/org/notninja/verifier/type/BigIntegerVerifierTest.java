@@ -21,11 +21,19 @@
  */
 package org.notninja.verifier.type;
 
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
 import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
 import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKeyEnumTestCase;
 import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
 import org.notninja.verifier.type.base.BaseNumberVerifierTestCase;
 import org.notninja.verifier.type.base.BaseTruthVerifierTestCase;
@@ -151,4 +159,120 @@ public class BigIntegerVerifierTest {
             return new BigInteger[]{BigInteger.ONE};
         }
     }
+
+    public static class BigIntegerVerifierMiscTest extends CustomVerifierTestCaseBase<BigInteger, BigIntegerVerifier> {
+
+        @Test
+        public void testFitsInLongWhenValueIsAboveLongMaxValue() {
+            testFitsInLongHelper(new BigInteger("9223372036854775808"), false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsBelowLongMinValue() {
+            testFitsInLongHelper(new BigInteger("-9223372036854775809"), false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsLongMaxValue() {
+            testFitsInLongHelper(BigInteger.valueOf(Long.MAX_VALUE), true);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsLongMinValue() {
+            testFitsInLongHelper(BigInteger.valueOf(Long.MIN_VALUE), true);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsNull() {
+            testFitsInLongHelper(null, false);
+        }
+
+        @Test
+        public void testFitsInLongWhenValueIsSmall() {
+            testFitsInLongHelper(new BigInteger("123"), true);
+        }
+
+        private void testFitsInLongHelper(BigInteger value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().fitsInLong());
+
+            verify(getMockVerification()).report(expected, BigIntegerVerifier.MessageKeys.FITS_IN_LONG);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenPrecisionIsNotPositive() {
+            testPrecisionAtMostHelper(BigInteger.ZERO, 0, false);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasLargerPrecision() {
+            testPrecisionAtMostHelper(new BigInteger("1000"), 3, false);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasMuchLargerPrecision() {
+            testPrecisionAtMostHelper(new BigInteger("10000"), 3, false);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasMuchSmallerPrecision() {
+            testPrecisionAtMostHelper(new BigInteger("100"), 3, true);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueHasSamePrecision() {
+            testPrecisionAtMostHelper(new BigInteger("999"), 3, true);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueIsNegative() {
+            testPrecisionAtMostHelper(new BigInteger("-999"), 3, true);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueIsNull() {
+            testPrecisionAtMostHelper(null, 3, false);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueIsVeryLarge() {
+            testPrecisionAtMostHelper(new BigInteger("123456789012345678901234567890"), 30, true);
+        }
+
+        @Test
+        public void testPrecisionAtMostWhenValueIsZero() {
+            testPrecisionAtMostHelper(BigInteger.ZERO, 1, true);
+        }
+
+        private void testPrecisionAtMostHelper(BigInteger value, int precision, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().precisionAtMost(precision));
+
+            verify(getMockVerification()).report(expected, BigIntegerVerifier.MessageKeys.PRECISION_AT_MOST, precision);
+        }
+
+        @Override
+        protected BigIntegerVerifier createCustomVerifier() {
+            return new BigIntegerVerifier(getMockVerification());
+        }
+    }
+
+    public static class BigIntegerVerifierMessageKeysTest extends MessageKeyEnumTestCase<BigIntegerVerifier.MessageKeys> {
+
+        @Override
+        protected Class<? extends Enum> getEnumClass() {
+            return BigIntegerVerifier.MessageKeys.class;
+        }
+
+        @Override
+        protected Map<String, String> getMessageKeys() {
+            Map<String, String> messageKeys = new HashMap<>();
+            messageKeys.put("FITS_IN_LONG", "org.notninja.verifier.type.BigIntegerVerifier.fitsInLong");
+            messageKeys.put("PRECISION_AT_MOST", "org.notninja.verifier.type.BigIntegerVerifier.precisionAtMost");
+
+            return messageKeys;
+        }
+    }
 }
@@ -0,0 +1,615 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKeyEnumTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link ByteBufferVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class ByteBufferVerifierTest {
+
+    private static ByteBuffer direct(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+
+        return buffer;
+    }
+
+    private static ByteBuffer utf8(String str) {
+        return ByteBuffer.wrap(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class ByteBufferVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<ByteBuffer, ByteBufferVerifier> {
+
+        @Override
+        protected ByteBufferVerifier createCustomVerifier() {
+            return new ByteBufferVerifier(getMockVerification());
+        }
+
+        @Override
+        protected ByteBuffer createValueOne() {
+            return utf8("foo");
+        }
+
+        @Override
+        protected ByteBuffer createValueTwo() {
+            return utf8("bar");
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return ByteBuffer.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return createValueOne().getClass();
+        }
+    }
+
+    public static class ByteBufferVerifierMiscTest extends CustomVerifierTestCaseBase<ByteBuffer, ByteBufferVerifier> {
+
+        private static final long ADLER32_FOO = 42074437L;
+        private static final long CRC32_FOO = 2356372769L;
+
+        @Test
+        public void testAdler32WhenValueDoesNotMatch() {
+            testAdler32Helper(utf8("foo"), 1L, false);
+        }
+
+        @Test
+        public void testAdler32WhenValueIsDirect() {
+            testAdler32Helper(direct("foo".getBytes(StandardCharsets.UTF_8)), ADLER32_FOO, true);
+        }
+
+        @Test
+        public void testAdler32WhenValueIsEmpty() {
+            testAdler32Helper(ByteBuffer.allocate(0), 1L, true);
+        }
+
+        @Test
+        public void testAdler32WhenValueIsNull() {
+            testAdler32Helper(null, 1L, false);
+        }
+
+        @Test
+        public void testAdler32WhenValueIsSlice() {
+            ByteBuffer value = utf8("xfoox");
+            value.position(1);
+            value.limit(4);
+
+            testAdler32Helper(value, ADLER32_FOO, true);
+        }
+
+        @Test
+        public void testAdler32WhenValueMatches() {
+            testAdler32Helper(utf8("foo"), ADLER32_FOO, true);
+        }
+
+        private void testAdler32Helper(ByteBuffer value, long checksum, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().adler32(checksum));
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.ADLER32, checksum);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testAsciiWhenValueContainsNonAsciiAfterLongRun() {
+            testAsciiHelper(utf8("abcdefghijklmnopé"), false);
+        }
+
+        @Test
+        public void testAsciiWhenValueContainsNonAsciiAtStart() {
+            testAsciiHelper(ByteBuffer.wrap(new byte[]{(byte) 0x80, 0x41}), false);
+        }
+
+        @Test
+        public void testAsciiWhenValueIsAscii() {
+            testAsciiHelper(ByteBuffer.wrap(new byte[]{0x00, 0x41, 0x7F}), true);
+        }
+
+        @Test
+        public void testAsciiWhenValueIsDirect() {
+            testAsciiHelper(direct("abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII)), true);
+        }
+
+        @Test
+        public void testAsciiWhenValueIsEmpty() {
+            testAsciiHelper(ByteBuffer.allocate(0), true);
+        }
+
+        @Test
+        public void testAsciiWhenValueIsNull() {
+            testAsciiHelper(null, false);
+        }
+
+        @Test
+        public void testAsciiWhenValueIsSliceOfNonAscii() {
+            ByteBuffer value = utf8("éabcé");
+            value.position(2);
+            value.limit(5);
+
+            testAsciiHelper(value, true);
+        }
+
+        private void testAsciiHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().ascii());
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.ASCII);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testBytesBetweenWhenValueContainsByteAboveRange() {
+            testBytesBetweenHelper(ByteBuffer.wrap(new byte[]{0x41, (byte) 0xFF}), 0x20, 0x7E, false);
+        }
+
+        @Test
+        public void testBytesBetweenWhenValueContainsByteBelowRange() {
+            testBytesBetweenHelper(ByteBuffer.wrap(new byte[]{0x0A, 0x41}), 0x20, 0x7E, false);
+        }
+
+        @Test
+        public void testBytesBetweenWhenValueContainsOnlyBytesInRange() {
+            testBytesBetweenHelper(ByteBuffer.wrap(new byte[]{0x20, 0x41, 0x7E}), 0x20, 0x7E, true);
+        }
+
+        @Test
+        public void testBytesBetweenWhenValueContainsOnlyHighBytesInRange() {
+            testBytesBetweenHelper(ByteBuffer.wrap(new byte[]{(byte) 0x80, (byte) 0xFF}), 0x80, 0xFF, true);
+        }
+
+        @Test
+        public void testBytesBetweenWhenValueIsEmpty() {
+            testBytesBetweenHelper(ByteBuffer.allocate(0), 0x20, 0x7E, true);
+        }
+
+        @Test
+        public void testBytesBetweenWhenValueIsNull() {
+            testBytesBetweenHelper(null, 0x20, 0x7E, false);
+        }
+
+        private void testBytesBetweenHelper(ByteBuffer value, int start, int end, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().bytesBetween(start, end));
+
+            verify(getMockVerification()).report(eq(expected), eq(ByteBufferVerifier.MessageKeys.BYTES_BETWEEN), getArgsCaptor().capture());
+
+            assertArrayEquals("Passes start and end for message formatting", new Object[]{start, end}, getArgsCaptor().getAllValues().toArray());
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testCrc32WhenValueDoesNotMatch() {
+            testCrc32Helper(utf8("foo"), 0L, false);
+        }
+
+        @Test
+        public void testCrc32WhenValueIsDirect() {
+            testCrc32Helper(direct("foo".getBytes(StandardCharsets.UTF_8)), CRC32_FOO, true);
+        }
+
+        @Test
+        public void testCrc32WhenValueIsEmpty() {
+            testCrc32Helper(ByteBuffer.allocate(0), 0L, true);
+        }
+
+        @Test
+        public void testCrc32WhenValueIsNull() {
+            testCrc32Helper(null, 0L, false);
+        }
+
+        @Test
+        public void testCrc32WhenValueIsSlice() {
+            ByteBuffer value = utf8("xfoox");
+            value.position(1);
+            value.limit(4);
+
+            testCrc32Helper(value, CRC32_FOO, true);
+        }
+
+        @Test
+        public void testCrc32WhenValueMatches() {
+            testCrc32Helper(utf8("foo"), CRC32_FOO, true);
+        }
+
+        private void testCrc32Helper(ByteBuffer value, long checksum, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().crc32(checksum));
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.CRC32, checksum);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testEmptyWhenValueHasNoRemainingBytes() {
+            ByteBuffer value = utf8("foo");
+            value.position(3);
+
+            testEmptyHelper(value, true);
+        }
+
+        @Test
+        public void testEmptyWhenValueHasRemainingBytes() {
+            testEmptyHelper(utf8("foo"), false);
+        }
+
+        @Test
+        public void testEmptyWhenValueIsEmpty() {
+            testEmptyHelper(ByteBuffer.allocate(0), true);
+        }
+
+        @Test
+        public void testEmptyWhenValueIsNull() {
+            testEmptyHelper(null, true);
+        }
+
+        private void testEmptyHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().empty());
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.EMPTY);
+        }
+
+        @Test
+        public void testSizeAtLeastWhenValueIsLarger() {
+            testSizeAtLeastHelper(ByteBuffer.allocate(4), 2, true);
+        }
+
+        @Test
+        public void testSizeAtLeastWhenValueIsNull() {
+            testSizeAtLeastHelper(null, 1, false);
+        }
+
+        @Test
+        public void testSizeAtLeastWhenValueIsNullAndSizeIsZero() {
+            testSizeAtLeastHelper(null, 0, true);
+        }
+
+        @Test
+        public void testSizeAtLeastWhenValueIsSameSize() {
+            testSizeAtLeastHelper(ByteBuffer.allocate(4), 4, true);
+        }
+
+        @Test
+        public void testSizeAtLeastWhenValueIsSmaller() {
+            testSizeAtLeastHelper(ByteBuffer.allocate(4), 8, false);
+        }
+
+        private void testSizeAtLeastHelper(ByteBuffer value, int size, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sizeAtLeast(size));
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.SIZE_AT_LEAST, size);
+        }
+
+        @Test
+        public void testSizeAtMostWhenValueIsLarger() {
+            testSizeAtMostHelper(ByteBuffer.allocate(4), 2, false);
+        }
+
+        @Test
+        public void testSizeAtMostWhenValueIsNull() {
+            testSizeAtMostHelper(null, 0, true);
+        }
+
+        @Test
+        public void testSizeAtMostWhenValueIsSameSize() {
+            testSizeAtMostHelper(ByteBuffer.allocate(4), 4, true);
+        }
+
+        @Test
+        public void testSizeAtMostWhenValueIsSmaller() {
+            testSizeAtMostHelper(ByteBuffer.allocate(4), 8, true);
+        }
+
+        private void testSizeAtMostHelper(ByteBuffer value, int size, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sizeAtMost(size));
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.SIZE_AT_MOST, size);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsDifferentSize() {
+            testSizeOfHelper(ByteBuffer.allocate(4), 2, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsNull() {
+            testSizeOfHelper(null, 1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsNullAndSizeIsZero() {
+            testSizeOfHelper(null, 0, true);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsSameSize() {
+            testSizeOfHelper(ByteBuffer.allocate(4), 4, true);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsSlice() {
+            ByteBuffer value = ByteBuffer.allocate(8);
+            value.position(2);
+            value.limit(6);
+
+            testSizeOfHelper(value, 4, true);
+        }
+
+        private void testSizeOfHelper(ByteBuffer value, int size, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sizeOf(size));
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.SIZE_OF, size);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsEmpty() {
+            testStartWithHelper(ByteBuffer.allocate(4), new byte[0], true);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsLongerThanValue() {
+            testStartWithHelper(ByteBuffer.wrap(new byte[]{0x50}), new byte[]{0x50, 0x4B}, false);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsNull() {
+            testStartWithHelper(ByteBuffer.allocate(4), null, false);
+        }
+
+        @Test
+        public void testStartWithWhenValueDoesNotStartWithPrefix() {
+            testStartWithHelper(ByteBuffer.wrap(new byte[]{0x50, 0x4B, 0x03, 0x04}), new byte[]{0x50, 0x4C}, false);
+        }
+
+        @Test
+        public void testStartWithWhenValueDoesNotStartWithFirstByteOfPrefix() {
+            testStartWithHelper(ByteBuffer.wrap(new byte[]{0x50, 0x4B, 0x03, 0x04}), new byte[]{0x4B, 0x50}, false);
+        }
+
+        @Test
+        public void testStartWithWhenValueIsDirect() {
+            testStartWithHelper(direct(new byte[]{0x50, 0x4B, 0x03, 0x04}), new byte[]{0x50, 0x4B}, true);
+        }
+
+        @Test
+        public void testStartWithWhenValueIsNull() {
+            testStartWithHelper(null, new byte[]{0x50}, false);
+        }
+
+        @Test
+        public void testStartWithWhenValueIsSlice() {
+            ByteBuffer value = ByteBuffer.wrap(new byte[]{0x00, 0x50, 0x4B, 0x03, 0x04});
+            value.position(1);
+
+            testStartWithHelper(value, new byte[]{0x50, 0x4B}, true);
+        }
+
+        @Test
+        public void testStartWithWhenValueStartsWithPrefix() {
+            testStartWithHelper(ByteBuffer.wrap(new byte[]{0x50, 0x4B, 0x03, 0x04}), new byte[]{0x50, 0x4B}, true);
+        }
+
+        private void testStartWithHelper(ByteBuffer value, byte[] prefix, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().startWith(prefix));
+
+            verify(getMockVerification()).report(eq(expected), eq(ByteBufferVerifier.MessageKeys.START_WITH), getArgsCaptor().capture());
+
+            assertSame("Passes prefix for message formatting", prefix, getArgsCaptor().getValue());
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsAboveMaximumCodePoint() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsInvalidContinuation() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xE2, (byte) 0x82, 0x41}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsInvalidLeadingByte() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{0x41, (byte) 0xFF}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsLoneContinuation() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{0x41, (byte) 0x80}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsOverlongThreeByteEncoding() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xE0, (byte) 0x80, (byte) 0xAF}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsOverlongFourByteEncoding() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xF0, (byte) 0x80, (byte) 0x80, (byte) 0xAF}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsOverlongTwoByteEncoding() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xC0, (byte) 0x80}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsSurrogate() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueContainsTruncatedSequence() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{0x41, (byte) 0xE2, (byte) 0x82}), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsAscii() {
+            testUtf8Helper(utf8("foo bar fizz buzz"), true);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsDirect() {
+            testUtf8Helper(direct("foo é € 😀 bar".getBytes(StandardCharsets.UTF_8)), true);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsEmpty() {
+            testUtf8Helper(ByteBuffer.allocate(0), true);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsLatin1() {
+            testUtf8Helper(ByteBuffer.wrap("é".getBytes(StandardCharsets.ISO_8859_1)), false);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsMultiByte() {
+            testUtf8Helper(utf8("é€😀￿􏿿"), true);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsMultiByteInSupplementaryPlanes() {
+            testUtf8Helper(ByteBuffer.wrap(new byte[]{(byte) 0xF1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0xF3, (byte) 0xBF, (byte) 0xBF, (byte) 0xBF}), true);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsNull() {
+            testUtf8Helper(null, false);
+        }
+
+        @Test
+        public void testUtf8WhenValueIsSliceExcludingTruncatedSequence() {
+            ByteBuffer value = ByteBuffer.wrap(new byte[]{0x41, 0x42, (byte) 0xE2, (byte) 0x82});
+            value.limit(2);
+
+            testUtf8Helper(value, true);
+        }
+
+        private void testUtf8Helper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().utf8());
+
+            verify(getMockVerification()).report(expected, ByteBufferVerifier.MessageKeys.UTF8);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        private void assertBufferUnchanged(ByteBuffer value, int position, int limit) {
+            if (value != null) {
+                assertEquals("Position is unchanged", position, value.position());
+                assertEquals("Limit is unchanged", limit, value.limit());
+            }
+        }
+
+        @Override
+        protected ByteBufferVerifier createCustomVerifier() {
+            return new ByteBufferVerifier(getMockVerification());
+        }
+    }
+
+    public static class ByteBufferVerifierMessageKeysTest extends MessageKeyEnumTestCase<ByteBufferVerifier.MessageKeys> {
+
+        @Override
+        protected Class<? extends Enum> getEnumClass() {
+            return ByteBufferVerifier.MessageKeys.class;
+        }
+
+        @Override
+        protected Map<String, String> getMessageKeys() {
+            Map<String, String> messageKeys = new HashMap<>();
+            messageKeys.put("ADLER32", "org.notninja.verifier.type.ByteBufferVerifier.adler32");
+            messageKeys.put("ASCII", "org.notninja.verifier.type.ByteBufferVerifier.ascii");
+            messageKeys.put("BYTES_BETWEEN", "org.notninja.verifier.type.ByteBufferVerifier.bytesBetween");
+            messageKeys.put("CRC32", "org.notninja.verifier.type.ByteBufferVerifier.crc32");
+            messageKeys.put("EMPTY", "org.notninja.verifier.type.ByteBufferVerifier.empty");
+            messageKeys.put("SIZE_AT_LEAST", "org.notninja.verifier.type.ByteBufferVerifier.sizeAtLeast");
+            messageKeys.put("SIZE_AT_MOST", "org.notninja.verifier.type.ByteBufferVerifier.sizeAtMost");
+            messageKeys.put("SIZE_OF", "org.notninja.verifier.type.ByteBufferVerifier.sizeOf");
+            messageKeys.put("START_WITH", "org.notninja.verifier.type.ByteBufferVerifier.startWith");
+            messageKeys.put("UTF8", "org.notninja.verifier.type.ByteBufferVerifier.utf8");
+
+            return messageKeys;
+        }
+    }
+}
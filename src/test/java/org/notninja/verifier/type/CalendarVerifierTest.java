@@ -21,12 +21,19 @@
  */
 package org.notninja.verifier.type;
 
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
 import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKey;
 import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
 import org.notninja.verifier.type.base.BaseTimeVerifierTestCase;
 
@@ -113,4 +120,33 @@ public class CalendarVerifierTest {
             return calendar;
         }
     }
+
+    public static class CalendarVerifierMiscTest extends CustomVerifierTestCaseBase<Calendar, CalendarVerifier> {
+
+        @Override
+        protected CalendarVerifier createCustomVerifier() {
+            return new CalendarVerifier(getMockVerification());
+        }
+
+        @Test
+        public void testIsSameAsWithUnsupportedUnit() {
+            thrown.expect(IllegalArgumentException.class);
+            thrown.expectMessage("Unsupported unit: Decades");
+
+            Calendar calendar = Calendar.getInstance();
+
+            getCustomVerifier().isSameAs(calendar, calendar, ChronoUnit.DECADES);
+        }
+
+        @Test
+        public void testSameWeekAsWithDifferentWeekInSameYear() {
+            Calendar other = BaseTimeVerifierTestCase.createCalendar(GregorianCalendar.AD, 2016, 20, 0, 0, 0);
+
+            setValue(BaseTimeVerifierTestCase.createCalendar(GregorianCalendar.AD, 2016, 10, 0, 0, 0));
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sameWeekAs(other));
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+    }
 }
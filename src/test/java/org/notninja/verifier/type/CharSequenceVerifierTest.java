@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifier;
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.type.base.BaseCharSequenceVerifierTestCase;
+import org.notninja.verifier.type.base.BaseTruthVerifierTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link CharSequenceVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class CharSequenceVerifierTest {
+
+    public static class CharSequenceVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<CharSequence, CharSequenceVerifier> {
+
+        @Override
+        protected CharSequenceVerifier createCustomVerifier() {
+            return new CharSequenceVerifier(getMockVerification());
+        }
+
+        @Override
+        protected CharSequence createValueOne() {
+            return new StringBuilder("foo");
+        }
+
+        @Override
+        protected CharSequence createValueTwo() {
+            return new StringBuilder("bar");
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return CharSequence.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return StringBuilder.class;
+        }
+    }
+
+    public static class CharSequenceVerifierBaseTruthVerifierTest extends BaseTruthVerifierTestCase<CharSequence, CharSequenceVerifier> {
+
+        @Override
+        protected CharSequenceVerifier createCustomVerifier() {
+            return new CharSequenceVerifier(getMockVerification());
+        }
+
+        @Override
+        protected CharSequence[] getFalsyValues() {
+            return new CharSequence[]{"", new StringBuilder(), "false", new StringBuilder("FALSE")};
+        }
+
+        @Override
+        protected CharSequence[] getTruthyValues() {
+            return new CharSequence[]{"true", new StringBuilder("TRUE")};
+        }
+    }
+
+    public static class CharSequenceVerifierBaseCharSequenceVerifierTest extends BaseCharSequenceVerifierTestCase<CharSequence, CharSequenceVerifier> {
+
+        @Override
+        protected CharSequenceVerifier createCustomVerifier() {
+            return new CharSequenceVerifier(getMockVerification());
+        }
+
+        @Override
+        protected CharSequence createValue(String str) {
+            return wrap(str);
+        }
+    }
+
+    public static class CharSequenceVerifierMiscTest extends CustomVerifierTestCaseBase<CharSequence, CharSequenceVerifier> {
+
+        @Test
+        public void testEqualToWhenOtherIsCharSequenceWithDifferentContent() {
+            testEqualToHelper("foo", new StringWrapper("bar"), false);
+        }
+
+        @Test
+        public void testEqualToWhenOtherIsCharSequenceWithSameContent() {
+            testEqualToHelper("foo", new StringWrapper("foo"), true);
+        }
+
+        @Test
+        public void testEqualToWhenOtherIsNotCharSequence() {
+            testEqualToHelper("foo", new Object(), false);
+        }
+
+        @Test
+        public void testEqualToWhenOtherIsStringWithSameContent() {
+            testEqualToHelper("foo", "foo", true);
+        }
+
+        private void testEqualToHelper(String value, Object other, boolean expected) {
+            setValue(wrap(value));
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().equalTo(other));
+
+            verify(getMockVerification()).report(expected, AbstractCustomVerifier.MessageKeys.EQUAL_TO, other);
+        }
+
+        @Override
+        protected CharSequenceVerifier createCustomVerifier() {
+            return new CharSequenceVerifier(getMockVerification());
+        }
+    }
+
+    private static CharSequence wrap(String value) {
+        return value != null ? new StringWrapper(value) : null;
+    }
+
+    private static class StringWrapper implements CharSequence {
+
+        final String str;
+
+        StringWrapper(String str) {
+            this.str = str;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return str.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return str.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int beginIndex, int endIndex) {
+            return str.subSequence(beginIndex, endIndex);
+        }
+
+        @Override
+        public String toString() {
+            return str;
+        }
+    }
+}
@@ -21,13 +21,20 @@
  */
 package org.notninja.verifier.type;
 
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
 import org.junit.runner.RunWith;
 
 import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKey;
 import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
 import org.notninja.verifier.type.base.BaseTimeVerifierTestCase;
 
@@ -114,4 +121,34 @@ public class DateVerifierTest {
             return calendar == null ? null : calendar.getTime();
         }
     }
+
+    public static class DateVerifierMiscTest extends CustomVerifierTestCaseBase<Date, DateVerifier> {
+
+        @Override
+        protected DateVerifier createCustomVerifier() {
+            return new DateVerifier(getMockVerification());
+        }
+
+        @Test
+        public void testSameDayAsResolvesDefaultZoneOncePerChain() {
+            TimeZone originalTimeZone = TimeZone.getDefault();
+            Date other = Date.from(Instant.parse("2016-10-31T14:30:00Z"));
+
+            setValue(Date.from(Instant.parse("2016-10-31T15:30:00Z")));
+
+            try {
+                TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+
+                getCustomVerifier().sameDayAs(other);
+
+                TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+                getCustomVerifier().sameDayAs(other);
+            } finally {
+                TimeZone.setDefault(originalTimeZone);
+            }
+
+            verify(getMockVerification(), times(2)).report(eq(false), any(MessageKey.class), eq(other));
+        }
+    }
 }
@@ -0,0 +1,400 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKeyEnumTestCase;
+import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link DurationVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class DurationVerifierTest {
+
+    public static class DurationVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<Duration, DurationVerifier> {
+
+        @Override
+        protected DurationVerifier createCustomVerifier() {
+            return new DurationVerifier(getMockVerification());
+        }
+
+        @Override
+        protected Duration createValueOne() {
+            return Duration.ofSeconds(1);
+        }
+
+        @Override
+        protected Duration createValueTwo() {
+            return Duration.ofSeconds(2);
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return Duration.class;
+        }
+    }
+
+    public static class DurationVerifierBaseComparableVerifierTest extends BaseComparableVerifierTestCase<Duration, DurationVerifier> {
+
+        @Override
+        protected DurationVerifier createCustomVerifier() {
+            return new DurationVerifier(getMockVerification());
+        }
+
+        @Override
+        public Duration getBaseValue() {
+            return Duration.ofSeconds(30);
+        }
+
+        @Override
+        public Duration getHigherValue() {
+            return Duration.ofSeconds(45);
+        }
+
+        @Override
+        public Duration getHighestValue() {
+            return Duration.ofMinutes(1);
+        }
+
+        @Override
+        public Duration getLowerValue() {
+            return Duration.ofSeconds(15);
+        }
+
+        @Override
+        public Duration getLowestValue() {
+            return Duration.ZERO;
+        }
+    }
+
+    public static class DurationVerifierMiscTest extends CustomVerifierTestCaseBase<Duration, DurationVerifier> {
+
+        @Override
+        protected DurationVerifier createCustomVerifier() {
+            return new DurationVerifier(getMockVerification());
+        }
+
+        @Test
+        public void testNegativeWhenNegative() {
+            testNegativeHelper(Duration.ofNanos(-1), true);
+        }
+
+        @Test
+        public void testNegativeWhenNull() {
+            testNegativeHelper(null, false);
+        }
+
+        @Test
+        public void testNegativeWhenPositive() {
+            testNegativeHelper(Duration.ofNanos(1), false);
+        }
+
+        @Test
+        public void testNegativeWhenZero() {
+            testNegativeHelper(Duration.ZERO, false);
+        }
+
+        private void testNegativeHelper(Duration value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().negative());
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.NEGATIVE);
+        }
+
+        @Test
+        public void testPositiveWhenNegative() {
+            testPositiveHelper(Duration.ofNanos(-1), false);
+        }
+
+        @Test
+        public void testPositiveWhenNull() {
+            testPositiveHelper(null, false);
+        }
+
+        @Test
+        public void testPositiveWhenPositive() {
+            testPositiveHelper(Duration.ofNanos(1), true);
+        }
+
+        @Test
+        public void testPositiveWhenZero() {
+            testPositiveHelper(Duration.ZERO, false);
+        }
+
+        private void testPositiveHelper(Duration value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().positive());
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.POSITIVE);
+        }
+
+        @Test
+        public void testSameDaysAsWithDifferentDays() {
+            testSameDaysAsHelper(Duration.ofDays(2), Duration.ofDays(3), false);
+        }
+
+        @Test
+        public void testSameDaysAsWithNegativeDifferentDays() {
+            testSameDaysAsHelper(Duration.ofHours(-36), Duration.ofDays(-2), false);
+        }
+
+        @Test
+        public void testSameDaysAsWithNegativeSameDays() {
+            testSameDaysAsHelper(Duration.ofHours(-36), Duration.ofDays(-1), true);
+        }
+
+        @Test
+        public void testSameDaysAsWithNullOther() {
+            testSameDaysAsHelper(Duration.ofDays(2), null, false);
+        }
+
+        @Test
+        public void testSameDaysAsWithNullValue() {
+            testSameDaysAsHelper(null, Duration.ofDays(2), false);
+        }
+
+        @Test
+        public void testSameDaysAsWithNullValueAndNullOther() {
+            testSameDaysAsHelper(null, null, false);
+        }
+
+        @Test
+        public void testSameDaysAsWithSameDays() {
+            testSameDaysAsHelper(Duration.ofDays(2), Duration.ofDays(2).plusHours(23), true);
+        }
+
+        private void testSameDaysAsHelper(Duration value, Duration other, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sameDaysAs(other));
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.SAME_DAYS_AS, other);
+        }
+
+        @Test
+        public void testSameHoursAsWithDifferentHours() {
+            testSameHoursAsHelper(Duration.ofHours(2), Duration.ofHours(3), false);
+        }
+
+        @Test
+        public void testSameHoursAsWithNegativeDifferentHours() {
+            testSameHoursAsHelper(Duration.ofMinutes(-90), Duration.ofHours(-2), false);
+        }
+
+        @Test
+        public void testSameHoursAsWithNegativeSameHours() {
+            testSameHoursAsHelper(Duration.ofMinutes(-90), Duration.ofHours(-1), true);
+        }
+
+        @Test
+        public void testSameHoursAsWithNullOther() {
+            testSameHoursAsHelper(Duration.ofHours(2), null, false);
+        }
+
+        @Test
+        public void testSameHoursAsWithNullValue() {
+            testSameHoursAsHelper(null, Duration.ofHours(2), false);
+        }
+
+        @Test
+        public void testSameHoursAsWithNullValueAndNullOther() {
+            testSameHoursAsHelper(null, null, false);
+        }
+
+        @Test
+        public void testSameHoursAsWithSameHours() {
+            testSameHoursAsHelper(Duration.ofHours(2), Duration.ofHours(2).plusMinutes(59), true);
+        }
+
+        private void testSameHoursAsHelper(Duration value, Duration other, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sameHoursAs(other));
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.SAME_HOURS_AS, other);
+        }
+
+        @Test
+        public void testSameMinutesAsWithDifferentMinutes() {
+            testSameMinutesAsHelper(Duration.ofMinutes(2), Duration.ofMinutes(3), false);
+        }
+
+        @Test
+        public void testSameMinutesAsWithNegativeDifferentMinutes() {
+            testSameMinutesAsHelper(Duration.ofMillis(-59500), Duration.ofMinutes(-1), false);
+        }
+
+        @Test
+        public void testSameMinutesAsWithNegativeSameMinutes() {
+            testSameMinutesAsHelper(Duration.ofMillis(-59500), Duration.ZERO, true);
+        }
+
+        @Test
+        public void testSameMinutesAsWithNullOther() {
+            testSameMinutesAsHelper(Duration.ofMinutes(2), null, false);
+        }
+
+        @Test
+        public void testSameMinutesAsWithNullValue() {
+            testSameMinutesAsHelper(null, Duration.ofMinutes(2), false);
+        }
+
+        @Test
+        public void testSameMinutesAsWithNullValueAndNullOther() {
+            testSameMinutesAsHelper(null, null, false);
+        }
+
+        @Test
+        public void testSameMinutesAsWithSameMinutes() {
+            testSameMinutesAsHelper(Duration.ofMinutes(2), Duration.ofMinutes(2).plusSeconds(59), true);
+        }
+
+        private void testSameMinutesAsHelper(Duration value, Duration other, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sameMinutesAs(other));
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.SAME_MINUTES_AS, other);
+        }
+
+        @Test
+        public void testSameSecondsAsWithDifferentSeconds() {
+            testSameSecondsAsHelper(Duration.ofSeconds(2), Duration.ofSeconds(3), false);
+        }
+
+        @Test
+        public void testSameSecondsAsWithNegativeDifferentSeconds() {
+            testSameSecondsAsHelper(Duration.ofMillis(-500), Duration.ofSeconds(-1), false);
+        }
+
+        @Test
+        public void testSameSecondsAsWithNegativeSameSeconds() {
+            testSameSecondsAsHelper(Duration.ofMillis(-500), Duration.ZERO, true);
+        }
+
+        @Test
+        public void testSameSecondsAsWithNegativeSameWholeSeconds() {
+            testSameSecondsAsHelper(Duration.ofMillis(-1500), Duration.ofSeconds(-1), true);
+        }
+
+        @Test
+        public void testSameSecondsAsWithNullOther() {
+            testSameSecondsAsHelper(Duration.ofSeconds(2), null, false);
+        }
+
+        @Test
+        public void testSameSecondsAsWithNullValue() {
+            testSameSecondsAsHelper(null, Duration.ofSeconds(2), false);
+        }
+
+        @Test
+        public void testSameSecondsAsWithNullValueAndNullOther() {
+            testSameSecondsAsHelper(null, null, false);
+        }
+
+        @Test
+        public void testSameSecondsAsWithSameSeconds() {
+            testSameSecondsAsHelper(Duration.ofSeconds(2), Duration.ofSeconds(2).plusMillis(999), true);
+        }
+
+        private void testSameSecondsAsHelper(Duration value, Duration other, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sameSecondsAs(other));
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.SAME_SECONDS_AS, other);
+        }
+
+        @Test
+        public void testZeroWhenNegative() {
+            testZeroHelper(Duration.ofNanos(-1), false);
+        }
+
+        @Test
+        public void testZeroWhenNull() {
+            testZeroHelper(null, false);
+        }
+
+        @Test
+        public void testZeroWhenPositive() {
+            testZeroHelper(Duration.ofNanos(1), false);
+        }
+
+        @Test
+        public void testZeroWhenZero() {
+            testZeroHelper(Duration.ZERO, true);
+        }
+
+        private void testZeroHelper(Duration value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().zero());
+
+            verify(getMockVerification()).report(expected, DurationVerifier.MessageKeys.ZERO);
+        }
+    }
+
+    public static class DurationVerifierMessageKeysTest extends MessageKeyEnumTestCase<DurationVerifier.MessageKeys> {
+
+        @Override
+        protected Class<? extends Enum> getEnumClass() {
+            return DurationVerifier.MessageKeys.class;
+        }
+
+        @Override
+        protected Map<String, String> getMessageKeys() {
+            Map<String, String> messageKeys = new HashMap<>();
+            messageKeys.put("NEGATIVE", "org.notninja.verifier.type.DurationVerifier.negative");
+            messageKeys.put("POSITIVE", "org.notninja.verifier.type.DurationVerifier.positive");
+            messageKeys.put("SAME_DAYS_AS", "org.notninja.verifier.type.DurationVerifier.sameDaysAs");
+            messageKeys.put("SAME_HOURS_AS", "org.notninja.verifier.type.DurationVerifier.sameHoursAs");
+            messageKeys.put("SAME_MINUTES_AS", "org.notninja.verifier.type.DurationVerifier.sameMinutesAs");
+            messageKeys.put("SAME_SECONDS_AS", "org.notninja.verifier.type.DurationVerifier.sameSecondsAs");
+            messageKeys.put("ZERO", "org.notninja.verifier.type.DurationVerifier.zero");
+
+            return messageKeys;
+        }
+    }
+}
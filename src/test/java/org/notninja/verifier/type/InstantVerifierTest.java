@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
+import org.notninja.verifier.type.base.BaseTimeVerifierTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link InstantVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class InstantVerifierTest {
+
+    public static class InstantVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<Instant, InstantVerifier> {
+
+        @Override
+        protected InstantVerifier createCustomVerifier() {
+            return new InstantVerifier(getMockVerification());
+        }
+
+        @Override
+        protected Instant createValueOne() {
+            return Instant.parse("2016-01-01T00:00:00Z");
+        }
+
+        @Override
+        protected Instant createValueTwo() {
+            return Instant.parse("2016-01-01T00:01:00Z");
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return Instant.class;
+        }
+    }
+
+    public static class InstantVerifierBaseComparableVerifierTest extends BaseComparableVerifierTestCase<Instant, InstantVerifier> {
+
+        @Override
+        protected InstantVerifier createCustomVerifier() {
+            return new InstantVerifier(getMockVerification());
+        }
+
+        @Override
+        public Instant getBaseValue() {
+            return Instant.parse("2016-01-01T00:00:30Z");
+        }
+
+        @Override
+        public Instant getHigherValue() {
+            return Instant.parse("2016-01-01T00:00:45Z");
+        }
+
+        @Override
+        public Instant getHighestValue() {
+            return Instant.parse("2016-01-01T00:01:00Z");
+        }
+
+        @Override
+        public Instant getLowerValue() {
+            return Instant.parse("2016-01-01T00:00:15Z");
+        }
+
+        @Override
+        public Instant getLowestValue() {
+            return Instant.parse("2016-01-01T00:00:00Z");
+        }
+    }
+
+    public static class InstantVerifierBaseTimeVerifierTest extends BaseTimeVerifierTestCase<Instant, InstantVerifier> {
+
+        @Override
+        protected InstantVerifier createCustomVerifier() {
+            return new InstantVerifier(getMockVerification()).withZone(ZoneId.systemDefault());
+        }
+
+        @Override
+        protected Instant createValueForCalendar(Calendar calendar) {
+            return calendar == null ? null : calendar.toInstant();
+        }
+    }
+
+    public static class InstantVerifierMiscTest extends CustomVerifierTestCaseBase<Instant, InstantVerifier> {
+
+        @Override
+        protected InstantVerifier createCustomVerifier() {
+            return new InstantVerifier(getMockVerification());
+        }
+
+        @Test
+        public void testSameDayAsUsesUtcByDefault() {
+            Instant other = Instant.parse("2016-10-31T00:00:00Z");
+
+            setValue(Instant.parse("2016-10-31T23:30:00Z"));
+
+            getCustomVerifier().sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testSameDayAsWithNanos() {
+            Instant other = Instant.parse("2016-10-31T00:00:00Z");
+
+            setValue(other.minusNanos(1));
+
+            getCustomVerifier().sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testSameTimeAsWithDifferentNanos() {
+            Instant other = Instant.parse("2016-10-31T00:00:00Z");
+
+            setValue(other.plusNanos(1));
+
+            getCustomVerifier().sameTimeAs(other);
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testWithZone() {
+            Instant other = Instant.parse("2016-10-31T00:00:00Z");
+
+            setValue(Instant.parse("2016-10-31T23:30:00Z"));
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().withZone(ZoneId.of("Europe/Paris")));
+
+            getCustomVerifier().sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testWithZoneAcrossDaylightSavingTransition() {
+            // Both are 02:30 in Paris, once before and once after the clocks go back
+            Instant summer = Instant.parse("2016-10-30T00:30:00Z");
+            Instant winter = Instant.parse("2016-10-30T01:30:00Z");
+
+            getCustomVerifier().withZone(ZoneId.of("Europe/Paris"));
+
+            setValue(winter);
+            getCustomVerifier().sameHourAs(summer);
+
+            setValue(summer);
+            getCustomVerifier().sameHourAs(winter);
+
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(summer));
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(winter));
+        }
+
+        @Test
+        public void testWithZoneAfterLastTransition() {
+            Instant other = Instant.parse("2016-10-31T14:30:00Z");
+
+            setValue(Instant.parse("2016-10-31T15:30:00Z"));
+
+            getCustomVerifier().withZone(ZoneId.of("Asia/Tokyo")).sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testWithZoneBeforeFirstTransition() {
+            Instant other = Instant.parse("1799-12-31T15:00:00Z");
+
+            setValue(Instant.parse("1800-01-01T14:00:00Z"));
+
+            getCustomVerifier().withZone(ZoneId.of("Asia/Tokyo")).sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testWithZoneWithFixedOffset() {
+            Instant other = Instant.parse("2016-10-31T00:00:00Z");
+
+            setValue(Instant.parse("2016-10-31T23:30:00Z"));
+
+            getCustomVerifier().withZone(ZoneOffset.ofHours(-1)).sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testWithZoneWithNull() {
+            Instant other = Instant.parse("2016-10-31T00:00:00Z");
+
+            setValue(Instant.parse("2016-10-31T23:30:00Z"));
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().withZone(ZoneId.of("Europe/Paris")).withZone(null));
+
+            getCustomVerifier().sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(other));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
+import org.notninja.verifier.type.base.BaseTimeVerifierTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link LocalDateTimeVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class LocalDateTimeVerifierTest {
+
+    public static class LocalDateTimeVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<LocalDateTime, LocalDateTimeVerifier> {
+
+        @Override
+        protected LocalDateTimeVerifier createCustomVerifier() {
+            return new LocalDateTimeVerifier(getMockVerification());
+        }
+
+        @Override
+        protected LocalDateTime createValueOne() {
+            return LocalDateTime.of(2016, 1, 1, 0, 0, 0);
+        }
+
+        @Override
+        protected LocalDateTime createValueTwo() {
+            return LocalDateTime.of(2016, 1, 1, 0, 1, 0);
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return LocalDateTime.class;
+        }
+    }
+
+    public static class LocalDateTimeVerifierBaseComparableVerifierTest extends BaseComparableVerifierTestCase<LocalDateTime, LocalDateTimeVerifier> {
+
+        @Override
+        protected LocalDateTimeVerifier createCustomVerifier() {
+            return new LocalDateTimeVerifier(getMockVerification());
+        }
+
+        @Override
+        public LocalDateTime getBaseValue() {
+            return LocalDateTime.of(2016, 1, 1, 0, 0, 30);
+        }
+
+        @Override
+        public LocalDateTime getHigherValue() {
+            return LocalDateTime.of(2016, 1, 1, 0, 0, 45);
+        }
+
+        @Override
+        public LocalDateTime getHighestValue() {
+            return LocalDateTime.of(2016, 1, 1, 0, 1, 0);
+        }
+
+        @Override
+        public LocalDateTime getLowerValue() {
+            return LocalDateTime.of(2016, 1, 1, 0, 0, 15);
+        }
+
+        @Override
+        public LocalDateTime getLowestValue() {
+            return LocalDateTime.of(2016, 1, 1, 0, 0, 0);
+        }
+    }
+
+    public static class LocalDateTimeVerifierBaseTimeVerifierTest extends BaseTimeVerifierTestCase<LocalDateTime, LocalDateTimeVerifier> {
+
+        @Override
+        protected LocalDateTimeVerifier createCustomVerifier() {
+            return new LocalDateTimeVerifier(getMockVerification());
+        }
+
+        @Override
+        protected LocalDateTime createValueForCalendar(Calendar calendar) {
+            return calendar == null ? null : LocalDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault());
+        }
+    }
+}
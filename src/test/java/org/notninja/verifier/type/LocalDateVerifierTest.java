@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
+import org.notninja.verifier.type.base.BaseTimeVerifierTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link LocalDateVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class LocalDateVerifierTest {
+
+    public static class LocalDateVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<LocalDate, LocalDateVerifier> {
+
+        @Override
+        protected LocalDateVerifier createCustomVerifier() {
+            return new LocalDateVerifier(getMockVerification());
+        }
+
+        @Override
+        protected LocalDate createValueOne() {
+            return LocalDate.of(2016, 1, 1);
+        }
+
+        @Override
+        protected LocalDate createValueTwo() {
+            return LocalDate.of(2016, 1, 2);
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return LocalDate.class;
+        }
+    }
+
+    public static class LocalDateVerifierBaseComparableVerifierTest extends BaseComparableVerifierTestCase<LocalDate, LocalDateVerifier> {
+
+        @Override
+        protected LocalDateVerifier createCustomVerifier() {
+            return new LocalDateVerifier(getMockVerification());
+        }
+
+        @Override
+        public LocalDate getBaseValue() {
+            return LocalDate.of(2016, 1, 3);
+        }
+
+        @Override
+        public LocalDate getHigherValue() {
+            return LocalDate.of(2016, 1, 4);
+        }
+
+        @Override
+        public LocalDate getHighestValue() {
+            return LocalDate.of(2016, 1, 5);
+        }
+
+        @Override
+        public LocalDate getLowerValue() {
+            return LocalDate.of(2016, 1, 2);
+        }
+
+        @Override
+        public LocalDate getLowestValue() {
+            return LocalDate.of(2016, 1, 1);
+        }
+    }
+
+    public static class LocalDateVerifierBaseTimeVerifierTest extends BaseTimeVerifierTestCase<LocalDate, LocalDateVerifier> {
+
+        @Override
+        protected LocalDateVerifier createCustomVerifier() {
+            return new LocalDateVerifier(getMockVerification());
+        }
+
+        @Override
+        protected LocalDate createValueForCalendar(Calendar calendar) {
+            return calendar == null ? null : LocalDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault()).toLocalDate();
+        }
+
+        @Test
+        @Override
+        public void testSameHourAsWithDifferentHour() {
+            // Time of day is not held by LocalDate so values on the same day always match
+            testSameHourAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 1, 0, 0), true);
+        }
+
+        @Test
+        @Override
+        public void testSameMinuteAsWithDifferentHour() {
+            testSameMinuteAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 1, 0, 0), true);
+        }
+
+        @Test
+        @Override
+        public void testSameMinuteAsWithDifferentMinute() {
+            testSameMinuteAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 0, 1, 0), true);
+        }
+
+        @Test
+        @Override
+        public void testSameSecondAsWithDifferentHour() {
+            testSameSecondAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 1, 0, 0), true);
+        }
+
+        @Test
+        @Override
+        public void testSameSecondAsWithDifferentMinute() {
+            testSameSecondAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 0, 1, 0), true);
+        }
+
+        @Test
+        @Override
+        public void testSameSecondAsWithDifferentSecond() {
+            testSameSecondAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 1), true);
+        }
+
+        @Test
+        @Override
+        public void testSameTimeAsWithDifferentTime() {
+            testSameTimeAsHelper(createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 0), createCalendar(GregorianCalendar.AD, 2016, 1, 0, 0, 1), true);
+        }
+    }
+}
@@ -24,6 +24,7 @@ package org.notninja.verifier.type;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
+import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -74,6 +75,44 @@ public class ThrowableVerifierTest {
 
     public static class ThrowableVerifierMiscTest extends CustomVerifierTestCaseBase<Throwable, ThrowableVerifier> {
 
+        @Test
+        public void testCausedByWithClassWhenTypeIsInterface() {
+            testCausedByWithClassHelper(new CheckedException(null, new SerializableException()), Serializable.class, true);
+        }
+
+        @Test
+        public void testCausedByWithClassWhenTypeIsNull() {
+            testCausedByWithClassHelper(new CheckedException(null, null), null, false);
+        }
+
+        @Test
+        public void testCausedByWithClassWhenTypeIsSuperclassOfCause() {
+            testCausedByWithClassHelper(new CheckedException(null, new UncheckedException(null, null)), RuntimeException.class, true);
+        }
+
+        @Test
+        public void testCausedByWithClassWhenValueChanges() {
+            setValue(new CheckedException(null, null));
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().causedBy(UncheckedException.class));
+
+            verify(getMockVerification()).report(false, ThrowableVerifier.MessageKeys.CAUSED_BY, UncheckedException.class);
+
+            setValue(new UncheckedException(null, null));
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().causedBy(UncheckedException.class));
+
+            verify(getMockVerification()).report(true, ThrowableVerifier.MessageKeys.CAUSED_BY, UncheckedException.class);
+        }
+
+        @Test
+        public void testCausedByWithClassWhenValueHasIndirectCircularCause() {
+            Exception value = new Exception();
+            value.initCause(new UncheckedException(null, value));
+
+            testCausedByWithClassHelper(value, IllegalStateException.class, false);
+        }
+
         @Test
         public void testCausedByWithClassWhenValueHasCircularCause() {
             testCausedByWithClassHelper(new CheckedException(null, new CircularException()), CircularException.class, true);
@@ -488,6 +527,13 @@ public class ThrowableVerifierTest {
         }
     }
 
+    private static class SerializableException extends Exception implements Serializable {
+
+        SerializableException() {
+            super();
+        }
+    }
+
     private static class UncheckedException extends RuntimeException {
 
         UncheckedException(String message, Throwable cause) {
@@ -0,0 +1,500 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.type.base.BaseCharSequenceVerifier;
+import org.notninja.verifier.util.CharacterClass;
+
+/**
+ * <p>
+ * Tests for the {@link Utf8Verifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class Utf8VerifierTest {
+
+    private static final String ACCENTED = "\u00E9t\u00E9";
+    private static final String SUPPLEMENTARY = "\uD835\uDC00";
+
+    private static ByteBuffer bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+
+        return ByteBuffer.wrap(bytes);
+    }
+
+    private static ByteBuffer direct(String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+
+        return buffer;
+    }
+
+    private static ByteBuffer slice(String str, int start, int end) {
+        ByteBuffer buffer = utf8(str);
+        buffer.position(start);
+        buffer.limit(end);
+
+        return buffer;
+    }
+
+    private static ByteBuffer utf8(String str) {
+        return ByteBuffer.wrap(str.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class Utf8VerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<ByteBuffer, Utf8Verifier> {
+
+        @Override
+        protected Utf8Verifier createCustomVerifier() {
+            return new Utf8Verifier(getMockVerification());
+        }
+
+        @Override
+        protected ByteBuffer createValueOne() {
+            return utf8("foo");
+        }
+
+        @Override
+        protected ByteBuffer createValueTwo() {
+            return utf8("bar");
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return ByteBuffer.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return createValueOne().getClass();
+        }
+    }
+
+    public static class Utf8VerifierMiscTest extends CustomVerifierTestCaseBase<ByteBuffer, Utf8Verifier> {
+
+        private static final int[] CODE_POINTS = {'a', 'Z', '1', ' ', '\n', 0xE9, 0x394, 0x663, 0x20AC, 0xFFFD, 0x1D400, 0x1F600};
+
+        @Test
+        public void testAlphaWhenValueContainsDigits() {
+            testAlphaHelper(utf8("abc123"), false);
+        }
+
+        @Test
+        public void testAlphaWhenValueContainsMultiByteLetters() {
+            testAlphaHelper(utf8(ACCENTED + "\u0394"), true);
+        }
+
+        @Test
+        public void testAlphaWhenValueContainsMultiByteNonLetter() {
+            testAlphaHelper(utf8("abc\u20AC"), false);
+        }
+
+        @Test
+        public void testAlphaWhenValueContainsSupplementaryLetter() {
+            testAlphaHelper(utf8(SUPPLEMENTARY), false);
+        }
+
+        @Test
+        public void testAlphaWhenValueContainsInvalidLeadingByte() {
+            testAlphaHelper(bytes('a', 0xFF), false);
+        }
+
+        @Test
+        public void testAlphaWhenValueContainsLoneContinuation() {
+            testAlphaHelper(bytes('a', 0x80), false);
+        }
+
+        @Test
+        public void testAlphaWhenValueContainsTruncatedSequence() {
+            testAlphaHelper(bytes('a', 0xC3), false);
+        }
+
+        @Test
+        public void testAlphaWhenValueIsDirect() {
+            testAlphaHelper(direct(ACCENTED), true);
+        }
+
+        @Test
+        public void testAlphaWhenValueIsEmpty() {
+            testAlphaHelper(ByteBuffer.allocate(0), true);
+        }
+
+        @Test
+        public void testAlphaWhenValueIsLetters() {
+            testAlphaHelper(utf8("abc"), true);
+        }
+
+        @Test
+        public void testAlphaWhenValueIsNull() {
+            testAlphaHelper(null, false);
+        }
+
+        @Test
+        public void testAlphaWhenValueIsSlice() {
+            testAlphaHelper(slice("1abc2", 1, 4), true);
+        }
+
+        private void testAlphaHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().alpha());
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.ALPHA);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testAlphanumericWhenValueContainsSpace() {
+            testAlphanumericHelper(utf8("abc 123"), false);
+        }
+
+        @Test
+        public void testAlphanumericWhenValueIsAlphanumeric() {
+            testAlphanumericHelper(utf8("abc123" + ACCENTED + "\u0663"), true);
+        }
+
+        @Test
+        public void testAlphanumericWhenValueIsNull() {
+            testAlphanumericHelper(null, false);
+        }
+
+        private void testAlphanumericHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().alphanumeric());
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.ALPHANUMERIC);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueContainsControl() {
+            testAsciiPrintableHelper(utf8("abc\r\n"), false);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueContainsDelete() {
+            testAsciiPrintableHelper(utf8("abc\u007F"), false);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueContainsMultiByte() {
+            testAsciiPrintableHelper(utf8(ACCENTED), false);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueIsAsciiPrintable() {
+            testAsciiPrintableHelper(utf8(" abc 123 ~!"), true);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueIsEmpty() {
+            testAsciiPrintableHelper(ByteBuffer.allocate(0), true);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueIsNull() {
+            testAsciiPrintableHelper(null, false);
+        }
+
+        @Test
+        public void testAsciiPrintableWhenValueIsSlice() {
+            testAsciiPrintableHelper(slice("\nabc\n", 1, 4), true);
+        }
+
+        private void testAsciiPrintableHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().asciiPrintable());
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.ASCII_PRINTABLE);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testEmptyWhenValueIsEmpty() {
+            testEmptyHelper(ByteBuffer.allocate(0), true);
+        }
+
+        @Test
+        public void testEmptyWhenValueIsEmptySlice() {
+            testEmptyHelper(slice("abc", 1, 1), true);
+        }
+
+        @Test
+        public void testEmptyWhenValueIsNotEmpty() {
+            testEmptyHelper(utf8(" "), false);
+        }
+
+        @Test
+        public void testEmptyWhenValueIsNull() {
+            testEmptyHelper(null, true);
+        }
+
+        private void testEmptyHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().empty());
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.EMPTY);
+        }
+
+        @Test
+        public void testMatchesDecodedString() {
+            Random random = new Random(42);
+
+            for (int i = 0; i < 500; i++) {
+                StringBuilder builder = new StringBuilder();
+                int length = random.nextInt(12);
+                for (int j = 0; j < length; j++) {
+                    builder.appendCodePoint(CODE_POINTS[random.nextInt(CODE_POINTS.length)]);
+                }
+
+                String str = builder.toString();
+                String prefix = str.substring(0, random.nextInt(str.length() + 1));
+                ByteBuffer value = utf8(str);
+
+                assertEquals("Alpha for " + str, CharacterClass.ALPHA.matchesAll(str), Utf8Verifier.matchesAll(value, CharacterClass.ALPHA));
+                assertEquals("Numeric for " + str, CharacterClass.NUMERIC.matchesAll(str), Utf8Verifier.matchesAll(value, CharacterClass.NUMERIC));
+                assertEquals("Length of " + str, str.length(), Utf8Verifier.getLength(value));
+                assertTrue("Starts with " + prefix, Utf8Verifier.startsWith(value, prefix));
+                assertFalse("Starts with " + str + "x", Utf8Verifier.startsWith(value, str + "x"));
+            }
+        }
+
+        @Test
+        public void testNumericWhenValueContainsLetters() {
+            testNumericHelper(utf8("123abc"), false);
+        }
+
+        @Test
+        public void testNumericWhenValueIsNull() {
+            testNumericHelper(null, false);
+        }
+
+        @Test
+        public void testNumericWhenValueIsNumeric() {
+            testNumericHelper(utf8("123\u0663"), true);
+        }
+
+        private void testNumericHelper(ByteBuffer value, boolean expected) {
+            setValue(value);
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().numeric());
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.NUMERIC);
+        }
+
+        @Test
+        public void testSizeOfWhenValueContainsAboveMaximumCodePoint() {
+            testSizeOfHelper(bytes(0xF4, 0x90, 0x80, 0x80), 2, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueContainsInvalidContinuation() {
+            testSizeOfHelper(bytes(0xC3, 'a'), 1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueContainsInvalidContinuationAndSizeIsNegative() {
+            testSizeOfHelper(bytes(0xC3, 'a'), -1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueContainsOverlongFourByteEncoding() {
+            testSizeOfHelper(bytes(0xF0, 0x8F, 0xBF, 0xBF), 1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueContainsOverlongThreeByteEncoding() {
+            testSizeOfHelper(bytes(0xE0, 0x9F, 0xBF), 1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueContainsSurrogate() {
+            testSizeOfHelper(bytes(0xED, 0xA0, 0x80), 1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsAscii() {
+            testSizeOfHelper(utf8("abcdefghijklmnopqrstuvwxyz"), 26, true);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsDifferentSize() {
+            testSizeOfHelper(utf8("abc"), 4, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsMultiByte() {
+            testSizeOfHelper(utf8("abcdefghij" + ACCENTED + "\u20AC"), 14, true);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsMultiByteInSupplementaryPlanes() {
+            testSizeOfHelper(utf8("a" + SUPPLEMENTARY), 3, true);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsNull() {
+            testSizeOfHelper(null, 1, false);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsNullAndSizeIsZero() {
+            testSizeOfHelper(null, 0, true);
+        }
+
+        @Test
+        public void testSizeOfWhenValueIsSlice() {
+            testSizeOfHelper(slice("x" + ACCENTED + "x", 1, 6), 3, true);
+        }
+
+        private void testSizeOfHelper(ByteBuffer value, int size, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().sizeOf(size));
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.SIZE_OF, size);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsEmpty() {
+            testStartWithHelper(utf8("abc"), "", true);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsLongerThanValue() {
+            testStartWithHelper(utf8("abc"), "abcd", false);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsNull() {
+            testStartWithHelper(utf8("abc"), null, false);
+        }
+
+        @Test
+        public void testStartWithWhenPrefixIsPartOfSupplementaryCodePoint() {
+            testStartWithHelper(utf8(SUPPLEMENTARY), SUPPLEMENTARY.substring(0, 1), true);
+        }
+
+        @Test
+        public void testStartWithWhenValueContainsInvalidSequence() {
+            testStartWithHelper(bytes('a', 0xC3, 'b'), "a\u00E9", false);
+        }
+
+        @Test
+        public void testStartWithWhenValueDoesNotStartWithMultiBytePrefix() {
+            testStartWithHelper(utf8(ACCENTED), "\u00C9", false);
+        }
+
+        @Test
+        public void testStartWithWhenValueDoesNotStartWithPrefix() {
+            testStartWithHelper(utf8("abc def"), "ABC", false);
+        }
+
+        @Test
+        public void testStartWithWhenValueDoesNotStartWithSupplementaryPrefix() {
+            testStartWithHelper(utf8(SUPPLEMENTARY), "\uD835\uDC01", false);
+        }
+
+        @Test
+        public void testStartWithWhenValueDoesNotStartWithSupplementaryPrefixHighSurrogate() {
+            testStartWithHelper(utf8(SUPPLEMENTARY), "\uD836\uDC00", false);
+        }
+
+        @Test
+        public void testStartWithWhenValueIsNull() {
+            testStartWithHelper(null, "abc", false);
+        }
+
+        @Test
+        public void testStartWithWhenValueIsSlice() {
+            testStartWithHelper(slice("xabcx", 1, 4), "abc", true);
+        }
+
+        @Test
+        public void testStartWithWhenValueStartsWithMultiBytePrefix() {
+            testStartWithHelper(utf8(ACCENTED + SUPPLEMENTARY + "abc"), new StringBuilder(ACCENTED + SUPPLEMENTARY + "a"), true);
+        }
+
+        @Test
+        public void testStartWithWhenValueStartsWithPrefix() {
+            testStartWithHelper(utf8("abc def"), "abc", true);
+        }
+
+        private void testStartWithHelper(ByteBuffer value, CharSequence prefix, boolean expected) {
+            setValue(value);
+
+            int position = value != null ? value.position() : 0;
+            int limit = value != null ? value.limit() : 0;
+
+            assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().startWith(prefix));
+
+            verify(getMockVerification()).report(expected, BaseCharSequenceVerifier.MessageKeys.START_WITH, prefix);
+
+            assertBufferUnchanged(value, position, limit);
+        }
+
+        private void assertBufferUnchanged(ByteBuffer value, int position, int limit) {
+            if (value != null) {
+                assertEquals("Position is unchanged", position, value.position());
+                assertEquals("Limit is unchanged", limit, value.limit());
+            }
+        }
+
+        @Override
+        protected Utf8Verifier createCustomVerifier() {
+            return new Utf8Verifier(getMockVerification());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type;
+
+import static org.mockito.Mockito.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import org.junit.Test;
+import org.junit.experimental.runners.Enclosed;
+import org.junit.runner.RunWith;
+
+import org.notninja.verifier.AbstractCustomVerifierTestCase;
+import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.type.base.BaseComparableVerifierTestCase;
+import org.notninja.verifier.type.base.BaseTimeVerifierTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link ZonedDateTimeVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+@RunWith(Enclosed.class)
+public class ZonedDateTimeVerifierTest {
+
+    public static class ZonedDateTimeVerifierAbstractCustomVerifierTest extends AbstractCustomVerifierTestCase<ZonedDateTime, ZonedDateTimeVerifier> {
+
+        @Override
+        protected ZonedDateTimeVerifier createCustomVerifier() {
+            return new ZonedDateTimeVerifier(getMockVerification());
+        }
+
+        @Override
+        protected ZonedDateTime createValueOne() {
+            return ZonedDateTime.parse("2016-01-01T00:00:00Z");
+        }
+
+        @Override
+        protected ZonedDateTime createValueTwo() {
+            return ZonedDateTime.parse("2016-01-01T00:01:00Z");
+        }
+
+        @Override
+        protected Class<?> getParentClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected Class<?> getValueClass() {
+            return ZonedDateTime.class;
+        }
+    }
+
+    public static class ZonedDateTimeVerifierBaseComparableVerifierTest extends BaseComparableVerifierTestCase<ZonedDateTime, ZonedDateTimeVerifier> {
+
+        @Override
+        protected ZonedDateTimeVerifier createCustomVerifier() {
+            return new ZonedDateTimeVerifier(getMockVerification());
+        }
+
+        @Override
+        public ZonedDateTime getBaseValue() {
+            return ZonedDateTime.parse("2016-01-01T00:00:30Z");
+        }
+
+        @Override
+        public ZonedDateTime getHigherValue() {
+            return ZonedDateTime.parse("2016-01-01T00:00:45Z");
+        }
+
+        @Override
+        public ZonedDateTime getHighestValue() {
+            return ZonedDateTime.parse("2016-01-01T00:01:00Z");
+        }
+
+        @Override
+        public ZonedDateTime getLowerValue() {
+            return ZonedDateTime.parse("2016-01-01T00:00:15Z");
+        }
+
+        @Override
+        public ZonedDateTime getLowestValue() {
+            return ZonedDateTime.parse("2016-01-01T00:00:00Z");
+        }
+    }
+
+    public static class ZonedDateTimeVerifierBaseTimeVerifierTest extends BaseTimeVerifierTestCase<ZonedDateTime, ZonedDateTimeVerifier> {
+
+        @Override
+        protected ZonedDateTimeVerifier createCustomVerifier() {
+            return new ZonedDateTimeVerifier(getMockVerification());
+        }
+
+        @Override
+        protected ZonedDateTime createValueForCalendar(Calendar calendar) {
+            return calendar == null ? null : ZonedDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault());
+        }
+    }
+
+    public static class ZonedDateTimeVerifierMiscTest extends CustomVerifierTestCaseBase<ZonedDateTime, ZonedDateTimeVerifier> {
+
+        @Override
+        protected ZonedDateTimeVerifier createCustomVerifier() {
+            return new ZonedDateTimeVerifier(getMockVerification());
+        }
+
+        @Test
+        public void testSameDayAsUsesZoneOfValueByDefault() {
+            ZonedDateTime other = ZonedDateTime.parse("2016-10-31T00:00:00Z");
+
+            setValue(ZonedDateTime.parse("2016-10-31T23:30:00Z").withZoneSameInstant(ZoneId.of("Europe/Paris")));
+
+            getCustomVerifier().sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(false), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testSameDayAsWithDifferentZones() {
+            ZonedDateTime other = ZonedDateTime.parse("2016-10-31T00:00:00Z");
+
+            setValue(ZonedDateTime.parse("2016-10-31T12:00:00Z").withZoneSameInstant(ZoneId.of("Europe/Paris")));
+
+            getCustomVerifier().sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(other));
+        }
+
+        @Test
+        public void testWithZone() {
+            ZonedDateTime other = ZonedDateTime.parse("2016-10-31T00:00:00Z");
+
+            setValue(ZonedDateTime.parse("2016-10-31T23:30:00Z").withZoneSameInstant(ZoneId.of("Europe/Paris")));
+
+            getCustomVerifier().withZone(ZoneId.of("UTC")).sameDayAs(other);
+
+            verify(getMockVerification()).report(eq(true), any(MessageKey.class), eq(other));
+        }
+    }
+}
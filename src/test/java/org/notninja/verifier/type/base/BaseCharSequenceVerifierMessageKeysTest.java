@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type.base;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.notninja.verifier.message.MessageKeyEnumTestCase;
+
+/**
+ * <p>
+ * Tests for the {@link BaseCharSequenceVerifier.MessageKeys} enum.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class BaseCharSequenceVerifierMessageKeysTest extends MessageKeyEnumTestCase<BaseCharSequenceVerifier.MessageKeys> {
+
+    @Override
+    protected Class<? extends Enum> getEnumClass() {
+        return BaseCharSequenceVerifier.MessageKeys.class;
+    }
+
+    @Override
+    protected Map<String, String> getMessageKeys() {
+        Map<String, String> messageKeys = new HashMap<>();
+        messageKeys.put("ALPHA", "org.notninja.verifier.type.StringVerifier.alpha");
+        messageKeys.put("ALPHA_SPACE", "org.notninja.verifier.type.StringVerifier.alphaSpace");
+        messageKeys.put("ALPHANUMERIC", "org.notninja.verifier.type.StringVerifier.alphanumeric");
+        messageKeys.put("ALPHANUMERIC_SPACE", "org.notninja.verifier.type.StringVerifier.alphanumericSpace");
+        messageKeys.put("ASCII_PRINTABLE", "org.notninja.verifier.type.StringVerifier.asciiPrintable");
+        messageKeys.put("BLANK", "org.notninja.verifier.type.StringVerifier.blank");
+        messageKeys.put("CONTAIN", "org.notninja.verifier.type.StringVerifier.contain");
+        messageKeys.put("CONTAIN_ALL", "org.notninja.verifier.type.StringVerifier.containAll");
+        messageKeys.put("CONTAIN_ALL_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.containAllIgnoreCase");
+        messageKeys.put("CONTAIN_ANY", "org.notninja.verifier.type.StringVerifier.containAny");
+        messageKeys.put("CONTAIN_ANY_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.containAnyIgnoreCase");
+        messageKeys.put("CONTAIN_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.containIgnoreCase");
+        messageKeys.put("EMPTY", "org.notninja.verifier.type.StringVerifier.empty");
+        messageKeys.put("END_WITH", "org.notninja.verifier.type.StringVerifier.endWith");
+        messageKeys.put("END_WITH_ANY", "org.notninja.verifier.type.StringVerifier.endWithAny");
+        messageKeys.put("END_WITH_ANY_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.endWithAnyIgnoreCase");
+        messageKeys.put("END_WITH_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.endWithIgnoreCase");
+        messageKeys.put("EQUAL_TO_ANY_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.equalToAnyIgnoreCase");
+        messageKeys.put("EQUAL_TO_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.equalToIgnoreCase");
+        messageKeys.put("LOWER_CASE", "org.notninja.verifier.type.StringVerifier.lowerCase");
+        messageKeys.put("MATCH", "org.notninja.verifier.type.StringVerifier.match");
+        messageKeys.put("MATCH_ALL", "org.notninja.verifier.type.StringVerifier.matchAll");
+        messageKeys.put("MATCH_ANY", "org.notninja.verifier.type.StringVerifier.matchAny");
+        messageKeys.put("MATCH_ANY_MATCH", "org.notninja.verifier.type.StringVerifier.matchAnyMatch");
+        messageKeys.put("NUMERIC", "org.notninja.verifier.type.StringVerifier.numeric");
+        messageKeys.put("NUMERIC_SPACE", "org.notninja.verifier.type.StringVerifier.numericSpace");
+        messageKeys.put("SIZE_OF", "org.notninja.verifier.type.StringVerifier.sizeOf");
+        messageKeys.put("START_WITH", "org.notninja.verifier.type.StringVerifier.startWith");
+        messageKeys.put("START_WITH_ANY", "org.notninja.verifier.type.StringVerifier.startWithAny");
+        messageKeys.put("START_WITH_ANY_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.startWithAnyIgnoreCase");
+        messageKeys.put("START_WITH_IGNORE_CASE", "org.notninja.verifier.type.StringVerifier.startWithIgnoreCase");
+        messageKeys.put("UPPER_CASE", "org.notninja.verifier.type.StringVerifier.upperCase");
+
+        messageKeys.put("BASE64", "org.notninja.verifier.type.StringVerifier.base64");
+        messageKeys.put("EMAIL", "org.notninja.verifier.type.StringVerifier.email");
+        messageKeys.put("HEX", "org.notninja.verifier.type.StringVerifier.hex");
+        messageKeys.put("IPV4", "org.notninja.verifier.type.StringVerifier.ipv4");
+        messageKeys.put("IPV6", "org.notninja.verifier.type.StringVerifier.ipv6");
+        messageKeys.put("ISO8601", "org.notninja.verifier.type.StringVerifier.iso8601");
+        messageKeys.put("URL", "org.notninja.verifier.type.StringVerifier.url");
+        messageKeys.put("UUID", "org.notninja.verifier.type.StringVerifier.uuid");
+
+        return messageKeys;
+    }
+}
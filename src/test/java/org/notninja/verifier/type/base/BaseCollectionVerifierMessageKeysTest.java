@@ -46,6 +46,8 @@ public class BaseCollectionVerifierMessageKeysTest extends MessageKeyEnumTestCas
         messageKeys.put("CONTAIN", "org.notninja.verifier.type.base.BaseCollectionVerifier.contain");
         messageKeys.put("CONTAIN_ALL", "org.notninja.verifier.type.base.BaseCollectionVerifier.containAll");
         messageKeys.put("CONTAIN_ANY", "org.notninja.verifier.type.base.BaseCollectionVerifier.containAny");
+        messageKeys.put("DISTINCT", "org.notninja.verifier.type.base.BaseCollectionVerifier.distinct");
+        messageKeys.put("DISTINCT_DUPLICATE", "org.notninja.verifier.type.base.BaseCollectionVerifier.distinctDuplicate");
         messageKeys.put("EMPTY", "org.notninja.verifier.type.base.BaseCollectionVerifier.empty");
         messageKeys.put("SIZE_OF", "org.notninja.verifier.type.base.BaseCollectionVerifier.sizeOf");
 
@@ -25,6 +25,9 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -34,6 +37,7 @@ import org.notninja.verifier.CustomVerifierTestCaseBase;
 import org.notninja.verifier.VerifierAssertion;
 import org.notninja.verifier.VerifierException;
 import org.notninja.verifier.message.MessageKey;
+import org.notninja.verifier.util.TestUtils;
 
 /**
  * <p>
@@ -54,6 +58,13 @@ public abstract class BaseCollectionVerifierTestCase<E, T, V extends BaseCollect
     @Mock
     private VerifierAssertion<E> mockAssertion;
 
+    @Test
+    public void testBloomFilter() {
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().bloomFilter());
+
+        verifyZeroInteractions(getMockVerification());
+    }
+
     @Test
     public void testContainWhenElementIsNotPresentInValue() {
         testContainHelper(createFullValue(), getMissingElement(), false);
@@ -190,6 +201,96 @@ public abstract class BaseCollectionVerifierTestCase<E, T, V extends BaseCollect
         verify(getMockVerification()).report(expected, BaseCollectionVerifier.MessageKeys.CONTAIN_ANY, (Object) elements);
     }
 
+    @Test
+    public void testDistinctWithBloomFilter() {
+        getCustomVerifier().bloomFilter();
+
+        testDistinctHelper(createFullValue(), true);
+    }
+
+    @Test
+    public void testDistinctWithBloomFilterIsReset() throws Exception {
+        getCustomVerifier().bloomFilter();
+
+        testDistinctHelper(createFullValue(), true);
+
+        assertEquals("Bloom filter is reset after use", false, TestUtils.getField(BaseCollectionVerifier.class, getCustomVerifier(), "bloomFilter", true));
+    }
+
+    @Test
+    public void testDistinctWithDistinctValue() {
+        testDistinctHelper(createFullValue(), true);
+    }
+
+    @Test
+    public void testDistinctWithEmptyValue() {
+        testDistinctHelper(createEmptyValue(), true);
+    }
+
+    @Test
+    public void testDistinctWithNullValue() {
+        testDistinctHelper(null, false);
+    }
+
+    private void testDistinctHelper(T value, boolean expected) {
+        setValue(value);
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().distinct());
+
+        verify(getMockVerification()).report(expected, BaseCollectionVerifier.MessageKeys.DISTINCT);
+    }
+
+    @Test
+    public void testDistinctByThrowsWhenKeyMapperIsNull() {
+        thrown.expect(VerifierException.class);
+        thrown.expectMessage("keyMapper must not be null: null");
+
+        getCustomVerifier().distinctBy(null);
+    }
+
+    @Test
+    public void testDistinctByWhenKeysAreDistinct() {
+        setValue(createFullValue());
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().distinctBy(Objects::toString));
+
+        verify(getMockVerification()).report(true, BaseCollectionVerifier.MessageKeys.DISTINCT);
+    }
+
+    @Test
+    public void testDistinctByWhenKeysAreDuplicated() {
+        testDistinctByWhenKeysAreDuplicatedHelper("key");
+    }
+
+    @Test
+    public void testDistinctByWhenKeysAreDuplicatedAndBloomFilterIsUsed() {
+        getCustomVerifier().bloomFilter();
+
+        testDistinctByWhenKeysAreDuplicatedHelper("key");
+    }
+
+    @Test
+    public void testDistinctByWhenKeysAreNull() {
+        testDistinctByWhenKeysAreDuplicatedHelper(null);
+    }
+
+    private void testDistinctByWhenKeysAreDuplicatedHelper(Object key) {
+        setValue(createFullValue());
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().distinctBy(element -> key));
+
+        verify(getMockVerification()).report(false, BaseCollectionVerifier.MessageKeys.DISTINCT_DUPLICATE, key, 0, 1);
+    }
+
+    @Test
+    public void testDistinctByWhenValueIsNull() {
+        setValue(null);
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().distinctBy(Objects::toString));
+
+        verify(getMockVerification()).report(false, BaseCollectionVerifier.MessageKeys.DISTINCT);
+    }
+
     @Test
     public void testEmptyWithEmptyValue() {
         testEmptyHelper(createEmptyValue(), true);
@@ -213,6 +314,36 @@ public abstract class BaseCollectionVerifierTestCase<E, T, V extends BaseCollect
         verify(getMockVerification()).report(expected, BaseCollectionVerifier.MessageKeys.EMPTY);
     }
 
+    @Test
+    public void testParallel() {
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().parallel());
+
+        verifyZeroInteractions(getMockVerification());
+    }
+
+    @Test
+    public void testParallelWithPoolAndThreshold() {
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().parallel(ForkJoinPool.commonPool(), 1));
+
+        verifyZeroInteractions(getMockVerification());
+    }
+
+    @Test
+    public void testParallelThrowsWhenPoolIsNull() {
+        thrown.expect(VerifierException.class);
+        thrown.expectMessage("pool must not be null: null");
+
+        getCustomVerifier().parallel(null, 1);
+    }
+
+    @Test
+    public void testParallelThrowsWhenThresholdIsZero() {
+        thrown.expect(VerifierException.class);
+        thrown.expectMessage("threshold must be greater than '0': 0");
+
+        getCustomVerifier().parallel(ForkJoinPool.commonPool(), 0);
+    }
+
     @Test
     public void testSizeOfWithEmptyValue() {
         testSizeOfHelper(createEmptyValue(), 0, true);
@@ -302,6 +433,45 @@ public abstract class BaseCollectionVerifierTestCase<E, T, V extends BaseCollect
         verify(mockAssertion, times(assertionCalls)).verify(any(getElementClass()));
     }
 
+    @Test
+    public void testThatAllWithParallelWhenAssertionFailsForSomeElements() {
+        testThatAllWithParallelHelper(createFullValue(), element -> !Objects.equals(element, getExistingElement()), false);
+    }
+
+    @Test
+    public void testThatAllWithParallelWhenAssertionPassesForAllElements() {
+        testThatAllWithParallelHelper(createFullValue(), element -> true, true);
+    }
+
+    @Test
+    public void testThatAllWithParallelWhenValueIsNull() {
+        testThatAllWithParallelHelper(null, element -> false, true);
+    }
+
+    private void testThatAllWithParallelHelper(T value, VerifierAssertion<E> assertion, boolean expected) {
+        setValue(value);
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().parallel(ForkJoinPool.commonPool(), 1).thatAll(assertion));
+
+        verify(getMockVerification()).report(expected, (String) null);
+    }
+
+    @Test
+    public void testThatAllWithParallelIsReset() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            setValue(createFullValue());
+
+            getCustomVerifier().parallel(pool, 1).thatAll(element -> ForkJoinTask.inForkJoinPool());
+            getCustomVerifier().thatAll(element -> !ForkJoinTask.inForkJoinPool());
+
+            verify(getMockVerification(), times(2)).report(true, (String) null);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testThatAllInternalThrowsWhenAssertionIsNull() {
         thrown.expect(VerifierException.class);
@@ -503,6 +673,45 @@ public abstract class BaseCollectionVerifierTestCase<E, T, V extends BaseCollect
         verify(mockAssertion, times(assertionCalls)).verify(any(getElementClass()));
     }
 
+    @Test
+    public void testThatAnyWithParallelWhenAssertionFailsForAllElements() {
+        testThatAnyWithParallelHelper(createFullValue(), element -> false, false);
+    }
+
+    @Test
+    public void testThatAnyWithParallelWhenAssertionPassesForSomeElements() {
+        testThatAnyWithParallelHelper(createFullValue(), element -> Objects.equals(element, getExistingElement()), true);
+    }
+
+    @Test
+    public void testThatAnyWithParallelWhenValueIsNull() {
+        testThatAnyWithParallelHelper(null, element -> true, false);
+    }
+
+    private void testThatAnyWithParallelHelper(T value, VerifierAssertion<E> assertion, boolean expected) {
+        setValue(value);
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().parallel(ForkJoinPool.commonPool(), 1).thatAny(assertion));
+
+        verify(getMockVerification()).report(expected, (String) null);
+    }
+
+    @Test
+    public void testThatAnyWithParallelIsReset() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+
+        try {
+            setValue(createFullValue());
+
+            getCustomVerifier().parallel(pool, 1).thatAny(element -> !ForkJoinTask.inForkJoinPool());
+            getCustomVerifier().thatAny(element -> ForkJoinTask.inForkJoinPool());
+
+            verify(getMockVerification(), times(2)).report(false, (String) null);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testThatAnyInternalThrowsWhenAssertionIsNull() {
         thrown.expect(VerifierException.class);
@@ -47,6 +47,7 @@ public class BaseComparableVerifierMessageKeysTest extends MessageKeyEnumTestCas
         messageKeys.put("BETWEEN_EXCLUSIVE", "org.notninja.verifier.type.base.BaseComparableVerifier.betweenExclusive");
         messageKeys.put("GREATER_THAN", "org.notninja.verifier.type.base.BaseComparableVerifier.greaterThan");
         messageKeys.put("GREATER_THAN_OR_EQUAL_TO", "org.notninja.verifier.type.base.BaseComparableVerifier.greaterThanOrEqualTo");
+        messageKeys.put("IN_RANGES", "org.notninja.verifier.type.base.BaseComparableVerifier.inRanges");
         messageKeys.put("LESS_THAN", "org.notninja.verifier.type.base.BaseComparableVerifier.lessThan");
         messageKeys.put("LESS_THAN_OR_EQUAL_TO", "org.notninja.verifier.type.base.BaseComparableVerifier.lessThanOrEqualTo");
 
@@ -26,7 +26,9 @@ import static org.mockito.Mockito.*;
 
 import org.junit.Test;
 
+import org.notninja.verifier.AbstractCustomVerifier;
 import org.notninja.verifier.CustomVerifierTestCaseBase;
+import org.notninja.verifier.util.RangeSet;
 
 /**
  * <p>
@@ -428,6 +430,59 @@ public abstract class BaseComparableVerifierTestCase<T extends Comparable<? supe
         assertSame("Passes other name for message formatting", otherName, getArgsCaptor().getValue());
     }
 
+    @Test
+    public void testInWithNullLiteral() {
+        setValue(getBaseValue());
+
+        // Must not be ambiguous with inRanges(RangeSet)
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().in(null));
+
+        verify(getMockVerification()).report(false, AbstractCustomVerifier.MessageKeys.IN, null);
+    }
+
+    @Test
+    public void testInRangesWhenRangesAreEmpty() {
+        testInRangesHelper(getBaseValue(), RangeSet.<T>builder().build(), false);
+    }
+
+    @Test
+    public void testInRangesWhenRangesAreNull() {
+        testInRangesHelper(getBaseValue(), null, false);
+    }
+
+    @Test
+    public void testInRangesWhenValueIsBetweenRanges() {
+        testInRangesHelper(getBaseValue(), RangeSet.<T>builder().add(getLowestValue(), getLowerValue()).add(getHigherValue(), getHighestValue()).build(), false);
+    }
+
+    @Test
+    public void testInRangesWhenValueIsEndOfRange() {
+        testInRangesHelper(getBaseValue(), RangeSet.<T>builder().add(getLowestValue(), getBaseValue()).add(getHigherValue(), getHighestValue()).build(), true);
+    }
+
+    @Test
+    public void testInRangesWhenValueIsNull() {
+        testInRangesHelper(null, RangeSet.<T>builder().add(getLowestValue(), getHighestValue()).build(), false);
+    }
+
+    @Test
+    public void testInRangesWhenValueIsStartOfRange() {
+        testInRangesHelper(getBaseValue(), RangeSet.<T>builder().add(getLowestValue(), getLowerValue()).add(getBaseValue(), getHighestValue()).build(), true);
+    }
+
+    @Test
+    public void testInRangesWhenValueIsWithinRange() {
+        testInRangesHelper(getBaseValue(), RangeSet.<T>builder().add(getLowestValue(), getHighestValue()).build(), true);
+    }
+
+    private void testInRangesHelper(T value, RangeSet<T> ranges, boolean expected) {
+        setValue(value);
+
+        assertSame("Chains reference", getCustomVerifier(), getCustomVerifier().inRanges(ranges));
+
+        verify(getMockVerification()).report(expected, BaseComparableVerifier.MessageKeys.IN_RANGES, ranges);
+    }
+
     @Test
     public void testLessThanWhenOtherIsNull() {
         testLessThanHelper(getBaseValue(), null, false);
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.type.base;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * <p>
+ * Tests for the static and default methods of the {@link BaseTimeVerifier} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class BaseTimeVerifierTest {
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Locale originalFormatLocale;
+
+    @Before
+    public void setUp() {
+        originalFormatLocale = Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(Locale.Category.FORMAT, originalFormatLocale);
+    }
+
+    private static boolean isSameDayAs(LocalDate date1, LocalDate date2, ChronoUnit unit) {
+        return BaseTimeVerifier.isSameAs(date1.toEpochDay() * SECONDS_PER_DAY, 0, date2.toEpochDay() * SECONDS_PER_DAY, 0, unit);
+    }
+
+    @Test
+    public void testGetCalendarWhenNotOverridden() {
+        thrown.expect(UnsupportedOperationException.class);
+        thrown.expectMessage(UnimplementedTimeVerifier.class.getName() + " must override isSameAs or getCalendar");
+
+        new UnimplementedTimeVerifier().isSameAs(new Date(0), new Date(0), ChronoUnit.DAYS);
+    }
+
+    @Test
+    public void testIsSameAsUsesGetCalendarByDefault() {
+        CalendarTimeVerifier verifier = new CalendarTimeVerifier();
+        Date value = BaseTimeVerifierTestCase.createCalendar(GregorianCalendar.AD, 2016, 1, 13, 45, 30).getTime();
+
+        assertTrue(verifier.isSameAs(value, BaseTimeVerifierTestCase.createCalendar(GregorianCalendar.AD, 2016, 1, 0, 7, 2).getTime(), ChronoUnit.DAYS));
+        assertFalse(verifier.isSameAs(value, BaseTimeVerifierTestCase.createCalendar(GregorianCalendar.AD, 2016, 2, 13, 45, 30).getTime(), ChronoUnit.DAYS));
+        assertTrue(verifier.isSameAs(value, value, ChronoUnit.NANOS));
+    }
+
+    @Test
+    public void testIsSameAsWithEras() {
+        assertTrue(isSameDayAs(LocalDate.of(1, 1, 1), LocalDate.of(2016, 12, 31), ChronoUnit.ERAS));
+        assertTrue(isSameDayAs(LocalDate.of(0, 1, 1), LocalDate.of(-2016, 12, 31), ChronoUnit.ERAS));
+        assertFalse(isSameDayAs(LocalDate.of(0, 12, 31), LocalDate.of(1, 1, 1), ChronoUnit.ERAS));
+    }
+
+    @Test
+    public void testIsSameAsWithMonthsAndYearsMatchesIsoCalendar() {
+        LocalDate date = LocalDate.of(-1000, 1, 1);
+        LocalDate end = LocalDate.of(3000, 1, 1);
+
+        while (date.isBefore(end)) {
+            LocalDate next = date.plusDays(1);
+
+            assertEquals("Month of " + date, date.getMonth() == next.getMonth(), isSameDayAs(date, next, ChronoUnit.MONTHS));
+            assertEquals("Year of " + date, date.getYear() == next.getYear(), isSameDayAs(date, next, ChronoUnit.YEARS));
+
+            date = next;
+        }
+    }
+
+    @Test
+    public void testIsSameAsWithNanos() {
+        assertTrue(BaseTimeVerifier.isSameAs(1, 1, 1, 1, ChronoUnit.NANOS));
+        assertFalse(BaseTimeVerifier.isSameAs(1, 1, 1, 2, ChronoUnit.NANOS));
+        assertFalse(BaseTimeVerifier.isSameAs(1, 1, 2, 1, ChronoUnit.NANOS));
+    }
+
+    @Test
+    public void testIsSameAsWithNegativeSeconds() {
+        assertFalse(BaseTimeVerifier.isSameAs(-1, 0, 0, 0, ChronoUnit.MINUTES));
+        assertTrue(BaseTimeVerifier.isSameAs(-1, 0, -60, 0, ChronoUnit.MINUTES));
+        assertFalse(BaseTimeVerifier.isSameAs(-1, 0, 0, 0, ChronoUnit.DAYS));
+    }
+
+    @Test
+    public void testIsSameAsWithUnsupportedUnit() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Unsupported unit: Decades");
+
+        BaseTimeVerifier.isSameAs(0, 0, 0, 0, ChronoUnit.DECADES);
+    }
+
+    @Test
+    public void testIsSameAsWithWeeksStartingOnMonday() {
+        Locale.setDefault(Locale.Category.FORMAT, Locale.UK);
+
+        assertFalse(isSameDayAs(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 2), ChronoUnit.WEEKS));
+        assertTrue(isSameDayAs(LocalDate.of(2017, 1, 2), LocalDate.of(2017, 1, 8), ChronoUnit.WEEKS));
+        assertTrue(isSameDayAs(LocalDate.of(2016, 12, 31), LocalDate.of(2017, 1, 1), ChronoUnit.WEEKS));
+    }
+
+    @Test
+    public void testIsSameAsWithWeeksStartingOnSunday() {
+        Locale.setDefault(Locale.Category.FORMAT, Locale.US);
+
+        assertTrue(isSameDayAs(LocalDate.of(2017, 1, 1), LocalDate.of(2017, 1, 7), ChronoUnit.WEEKS));
+        assertFalse(isSameDayAs(LocalDate.of(2016, 12, 31), LocalDate.of(2017, 1, 1), ChronoUnit.WEEKS));
+        assertTrue(isSameDayAs(LocalDate.of(2015, 12, 31), LocalDate.of(2016, 1, 2), ChronoUnit.WEEKS));
+    }
+
+    private static class CalendarTimeVerifier extends BaseTimeVerifier<Date, CalendarTimeVerifier> {
+
+        CalendarTimeVerifier() {
+            super(null);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        protected Calendar getCalendar(Date value) {
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTime(value);
+
+            return calendar;
+        }
+    }
+
+    private static class UnimplementedTimeVerifier extends BaseTimeVerifier<Date, UnimplementedTimeVerifier> {
+
+        UnimplementedTimeVerifier() {
+            super(null);
+        }
+    }
+}
@@ -150,7 +150,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameDayAsHelper(value, other, true);
     }
 
-    private void testSameDayAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameDayAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -194,7 +194,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameEraAsHelper(value, other, true);
     }
 
-    private void testSameEraAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameEraAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -263,7 +263,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameHourAsHelper(value, other, true);
     }
 
-    private void testSameHourAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameHourAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -339,7 +339,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameMinuteAsHelper(value, other, true);
     }
 
-    private void testSameMinuteAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameMinuteAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -399,7 +399,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameMonthAsHelper(value, other, true);
     }
 
-    private void testSameMonthAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameMonthAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -483,7 +483,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameSecondAsHelper(value, other, true);
     }
 
-    private void testSameSecondAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameSecondAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -527,7 +527,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameTimeAsHelper(value, other, true);
     }
 
-    private void testSameTimeAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameTimeAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -587,7 +587,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameWeekAsHelper(value, other, true);
     }
 
-    private void testSameWeekAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameWeekAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
@@ -639,7 +639,7 @@ public abstract class BaseTimeVerifierTestCase<T extends Comparable<? super T>,
         testSameYearAsHelper(value, other, true);
     }
 
-    private void testSameYearAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
+    protected void testSameYearAsHelper(Calendar valueCalendar, Calendar otherCalendar, boolean expected) {
         T value = createValueForCalendar(valueCalendar);
         T other = createValueForCalendar(otherCalendar);
 
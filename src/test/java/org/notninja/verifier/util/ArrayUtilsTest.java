@@ -53,4 +53,20 @@ public class ArrayUtilsTest {
         assertTrue("Array with no elements is empty", ArrayUtils.isEmpty(new Object[0]));
         assertFalse("Array with at least one element is not empty", ArrayUtils.isEmpty(new Object[]{"foo"}));
     }
+
+    @Test
+    public void testMatchAll() {
+        assertTrue("Null always matches", ArrayUtils.matchAll(null, element -> false));
+        assertTrue("Array with no elements always matches", ArrayUtils.matchAll(new String[0], element -> false));
+        assertTrue("Array with only matching elements matches", ArrayUtils.matchAll(new String[]{"", ""}, String::isEmpty));
+        assertFalse("Array with non-matching element does not match", ArrayUtils.matchAll(new String[]{"", "foo"}, String::isEmpty));
+    }
+
+    @Test
+    public void testMatchAny() {
+        assertFalse("Null never matches", ArrayUtils.matchAny(null, element -> true));
+        assertFalse("Array with no elements never matches", ArrayUtils.matchAny(new String[0], element -> true));
+        assertTrue("Array with matching element matches", ArrayUtils.matchAny(new String[]{"", "foo"}, String::isEmpty));
+        assertFalse("Array with only non-matching elements does not match", ArrayUtils.matchAny(new String[]{"foo", "bar"}, String::isEmpty));
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link CharSequenceUtils} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class CharSequenceUtilsTest {
+
+    private static String randomString(final Random random, final char[] alphabet, final int maxLength) {
+        final char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+
+        return new String(chars);
+    }
+
+    @Test
+    public void testConstructor() {
+        // Ensure that CharSequenceUtils can be instantiated, if required
+        new CharSequenceUtils();
+    }
+
+    @Test
+    public void testContains() {
+        assertFalse("Null never contains", CharSequenceUtils.contains(null, "foo"));
+        assertFalse("Never contains null", CharSequenceUtils.contains(new StringBuilder("foo"), null));
+        assertTrue("Always contains empty", CharSequenceUtils.contains(new StringBuilder("foo"), ""));
+        assertTrue("Contains search at start", CharSequenceUtils.contains(new StringBuilder("foo bar"), "foo"));
+        assertTrue("Contains search at end", CharSequenceUtils.contains(new StringBuilder("foo bar"), new StringBuilder("bar")));
+        assertTrue("Contains search after partial match", CharSequenceUtils.contains(new StringBuilder("fofoo"), "foo"));
+        assertFalse("Does not contain search in different case", CharSequenceUtils.contains(new StringBuilder("foo bar"), "BAR"));
+        assertFalse("Does not contain search longer than value", CharSequenceUtils.contains(new StringBuilder("foo"), "foo bar"));
+        assertTrue("Contains search using String", CharSequenceUtils.contains("foo bar", "bar"));
+    }
+
+    @Test
+    public void testContainsIgnoreCase() {
+        assertFalse("Null never contains", CharSequenceUtils.containsIgnoreCase(null, "foo"));
+        assertFalse("Never contains null", CharSequenceUtils.containsIgnoreCase(new StringBuilder("foo"), null));
+        assertTrue("Always contains empty", CharSequenceUtils.containsIgnoreCase(new StringBuilder("foo"), ""));
+        assertTrue("Contains search in same case", CharSequenceUtils.containsIgnoreCase(new StringBuilder("foo bar"), "bar"));
+        assertTrue("Contains search in different case", CharSequenceUtils.containsIgnoreCase(new StringBuilder("foo bar"), new StringBuilder("BAR")));
+        assertFalse("Does not contain different search", CharSequenceUtils.containsIgnoreCase(new StringBuilder("foo bar"), "baz"));
+        assertFalse("Does not contain search longer than value", CharSequenceUtils.containsIgnoreCase(new StringBuilder("foo"), "FOO BAR"));
+    }
+
+    @Test
+    public void testContentEquals() {
+        CharSequence value = new StringBuilder("foo");
+
+        assertTrue("Null equals null", CharSequenceUtils.contentEquals(null, null));
+        assertTrue("Same instance is equal", CharSequenceUtils.contentEquals(value, value));
+        assertFalse("Null does not equal non-null", CharSequenceUtils.contentEquals(null, value));
+        assertFalse("Non-null does not equal null", CharSequenceUtils.contentEquals(value, null));
+        assertTrue("Same characters are equal", CharSequenceUtils.contentEquals(value, "foo"));
+        assertFalse("Different case is not equal", CharSequenceUtils.contentEquals(value, "FOO"));
+        assertFalse("Different length is not equal", CharSequenceUtils.contentEquals(value, "foobar"));
+    }
+
+    @Test
+    public void testEndsWith() {
+        assertFalse("Null never ends with", CharSequenceUtils.endsWith(null, "foo", false));
+        assertFalse("Never ends with null", CharSequenceUtils.endsWith(new StringBuilder("foo"), null, false));
+        assertTrue("Always ends with empty", CharSequenceUtils.endsWith(new StringBuilder("foo"), "", false));
+        assertTrue("Ends with suffix", CharSequenceUtils.endsWith(new StringBuilder("foo bar"), "bar", false));
+        assertFalse("Does not end with suffix in different case", CharSequenceUtils.endsWith(new StringBuilder("foo bar"), "BAR", false));
+        assertTrue("Ends with suffix in different case when ignoring case", CharSequenceUtils.endsWith(new StringBuilder("foo bar"), "BAR", true));
+        assertFalse("Does not end with suffix longer than value", CharSequenceUtils.endsWith(new StringBuilder("bar"), "foo bar", false));
+    }
+
+    @Test
+    public void testEqualsAnyIgnoreCase() {
+        CharSequence value = new StringBuilder("foo");
+
+        assertFalse("Null others", CharSequenceUtils.equalsAnyIgnoreCase(value, null));
+        assertFalse("No others", CharSequenceUtils.equalsAnyIgnoreCase(value, new CharSequence[0]));
+        assertTrue("Null equals null", CharSequenceUtils.equalsAnyIgnoreCase(null, new CharSequence[]{"foo", null}));
+        assertTrue("Different case is equal", CharSequenceUtils.equalsAnyIgnoreCase(value, new CharSequence[]{"bar", "FOO"}));
+        assertFalse("None are equal", CharSequenceUtils.equalsAnyIgnoreCase(value, new CharSequence[]{"bar", null, "FOOBAR"}));
+    }
+
+    @Test
+    public void testEqualsIgnoreCase() {
+        CharSequence value = new StringBuilder("foo");
+
+        assertTrue("Null equals null", CharSequenceUtils.equalsIgnoreCase(null, null));
+        assertTrue("Same instance is equal", CharSequenceUtils.equalsIgnoreCase(value, value));
+        assertFalse("Null does not equal non-null", CharSequenceUtils.equalsIgnoreCase(null, value));
+        assertFalse("Non-null does not equal null", CharSequenceUtils.equalsIgnoreCase(value, null));
+        assertTrue("Same characters are equal", CharSequenceUtils.equalsIgnoreCase(value, "foo"));
+        assertTrue("Different case is equal", CharSequenceUtils.equalsIgnoreCase(value, "FOO"));
+        assertFalse("Different length is not equal", CharSequenceUtils.equalsIgnoreCase(value, "FOOBAR"));
+        assertFalse("Different characters are not equal", CharSequenceUtils.equalsIgnoreCase(value, "bar"));
+    }
+
+    @Test
+    public void testIndexOf() {
+        assertEquals(-1, CharSequenceUtils.indexOf(null, "foo", 0));
+        assertEquals(-1, CharSequenceUtils.indexOf(new StringBuilder("foo"), null, 0));
+        assertEquals(0, CharSequenceUtils.indexOf(new StringBuilder("foo"), "", -1));
+        assertEquals(3, CharSequenceUtils.indexOf(new StringBuilder("foo"), "", 5));
+        assertEquals(4, CharSequenceUtils.indexOf(new StringBuilder("foo bar bar"), "bar", 0));
+        assertEquals(8, CharSequenceUtils.indexOf(new StringBuilder("foo bar bar"), "bar", 5));
+        assertEquals(-1, CharSequenceUtils.indexOf(new StringBuilder("foo bar bar"), "baz", 0));
+        assertEquals(8, CharSequenceUtils.indexOf("foo bar bar", "bar", 5));
+    }
+
+    @Test
+    public void testIndexOfIgnoreCase() {
+        assertEquals("Null is never searched", -1, CharSequenceUtils.indexOfIgnoreCase(null, "foo", 0));
+        assertEquals("Null is never found", -1, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder("foo"), null, 0));
+        assertEquals("Empty is found at start", 1, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder("foo"), "", 1));
+        assertEquals("Empty is found at end when start is out of bounds", 3, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder("foo"), "", 4));
+        assertEquals("Search is found in same case", 4, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder("foo bar"), "bar", 0));
+        assertEquals("Search is found in different case", 4, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder("foo BAR"), "bAr", 0));
+        assertEquals("Single character search is found", 2, CharSequenceUtils.indexOfIgnoreCase("foo", "O", 2));
+        assertEquals("Search is found after start", 8, CharSequenceUtils.indexOfIgnoreCase("foo bar BAR", "bar", 5));
+        assertEquals("Search is found with negative start", 0, CharSequenceUtils.indexOfIgnoreCase("foo", "FOO", -1));
+        assertEquals("Non-ASCII search is found", 2, CharSequenceUtils.indexOfIgnoreCase("a \u00C9T\u00C9", "\u00E9t\u00E9", 0));
+        assertEquals("Different search is not found", -1, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder("foo bar"), "baz", 0));
+        assertEquals("Search longer than value is not found", -1, CharSequenceUtils.indexOfIgnoreCase("foo", "FOO BAR", 0));
+        assertEquals("Search is not found after start", -1, CharSequenceUtils.indexOfIgnoreCase("foo bar", "foo", 1));
+    }
+
+    @Test
+    public void testIndexOfIgnoreCaseWithLongValue() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            value.append("foo bar ");
+        }
+        value.append("FIZZ BUZZ");
+
+        assertEquals("Long search is found", 800, CharSequenceUtils.indexOfIgnoreCase(value, "fizz buzz", 0));
+        assertEquals("Long search is found after start", 804, CharSequenceUtils.indexOfIgnoreCase(value, " Buzz", 10));
+        assertEquals("Long search is not found", -1, CharSequenceUtils.indexOfIgnoreCase(value, "fizz bar", 0));
+        assertEquals("Short search is found", 800, CharSequenceUtils.indexOfIgnoreCase(value, "fiz", 0));
+    }
+
+    @Test
+    public void testIndexOfIgnoreCaseMatchesRegionMatches() {
+        char[] alphabet = {'a', 'b', 'A', 'B', ' ', '\u00E9', '\u00C9', '\u0101', '\u0201', '\u0130', '\u0131', 'i', 'I'};
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            // Lengths are chosen so that both short and long searches are made
+            String value = randomString(random, alphabet, i % 2 == 0 ? 20 : 600);
+            String search = randomString(random, alphabet, i % 4 < 2 ? 4 : 8);
+            int fromIndex = random.nextInt(5);
+
+            int expected = -1;
+            for (int j = fromIndex; j <= value.length() - search.length(); j++) {
+                if (value.regionMatches(true, j, search, 0, search.length())) {
+                    expected = j;
+                    break;
+                }
+            }
+
+            if (search.isEmpty()) {
+                expected = Math.min(fromIndex, value.length());
+            }
+
+            assertEquals("Index of " + search + " in " + value, expected, CharSequenceUtils.indexOfIgnoreCase(new StringBuilder(value), search, fromIndex));
+        }
+    }
+
+    @Test
+    public void testIsBlank() {
+        assertTrue("Null is blank", CharSequenceUtils.isBlank(null));
+        assertTrue("Empty is blank", CharSequenceUtils.isBlank(new StringBuilder()));
+        assertTrue("Whitespace is blank", CharSequenceUtils.isBlank(new StringBuilder(" \r\n\t")));
+        assertFalse("Non-whitespace is not blank", CharSequenceUtils.isBlank(new StringBuilder(" foo ")));
+    }
+
+    @Test
+    public void testRegionMatches() {
+        assertFalse("Null never matches", CharSequenceUtils.regionMatches(null, false, 0, "foo", 0, 3));
+        assertFalse("Never matches null", CharSequenceUtils.regionMatches(new StringBuilder("foo"), false, 0, null, 0, 3));
+        assertTrue("Matches same region", CharSequenceUtils.regionMatches(new StringBuilder("foo bar"), false, 4, "bar", 0, 3));
+        assertFalse("Does not match region in different case", CharSequenceUtils.regionMatches(new StringBuilder("foo bar"), false, 4, "BAR", 0, 3));
+        assertTrue("Matches region in different case when ignoring case", CharSequenceUtils.regionMatches(new StringBuilder("foo bar"), true, 4, "BAR", 0, 3));
+        assertFalse("Does not match different region when ignoring case", CharSequenceUtils.regionMatches(new StringBuilder("foo bar"), true, 4, "BAZ", 0, 3));
+        assertFalse("Does not match negative offset", CharSequenceUtils.regionMatches(new StringBuilder("foo"), false, -1, "foo", 0, 3));
+        assertFalse("Does not match negative start", CharSequenceUtils.regionMatches(new StringBuilder("foo"), false, 0, "foo", -1, 3));
+        assertFalse("Does not match region beyond value", CharSequenceUtils.regionMatches(new StringBuilder("foo"), false, 1, "foo", 0, 3));
+        assertFalse("Does not match region beyond other", CharSequenceUtils.regionMatches(new StringBuilder("foo"), false, 0, "foo", 1, 3));
+        assertTrue("Matches region using Strings", CharSequenceUtils.regionMatches("foo bar", false, 4, "bar", 0, 3));
+        assertTrue("Matches region using Strings when ignoring case", CharSequenceUtils.regionMatches("foo bar", true, 4, "BAR", 0, 3));
+        assertTrue("Matches non-ASCII region when ignoring case", CharSequenceUtils.regionMatches("\u00E9t\u00E9", true, 0, "\u00C9T\u00C9", 0, 3));
+        assertFalse("Does not match different non-ASCII region when ignoring case", CharSequenceUtils.regionMatches("\u00E9t\u00E9", true, 0, "\u00C9T\u00C8", 0, 3));
+    }
+
+    @Test
+    public void testStartsWith() {
+        assertFalse("Null never starts with", CharSequenceUtils.startsWith(null, "foo", false));
+        assertFalse("Never starts with null", CharSequenceUtils.startsWith(new StringBuilder("foo"), null, false));
+        assertTrue("Always starts with empty", CharSequenceUtils.startsWith(new StringBuilder("foo"), "", false));
+        assertTrue("Starts with prefix", CharSequenceUtils.startsWith(new StringBuilder("foo bar"), "foo", false));
+        assertFalse("Does not start with prefix in different case", CharSequenceUtils.startsWith(new StringBuilder("foo bar"), "FOO", false));
+        assertTrue("Starts with prefix in different case when ignoring case", CharSequenceUtils.startsWith(new StringBuilder("foo bar"), "FOO", true));
+        assertFalse("Does not start with prefix longer than value", CharSequenceUtils.startsWith(new StringBuilder("foo"), "foo bar", false));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link CharacterClass} enum.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class CharacterClassTest {
+
+    private static Map<CharacterClass, IntPredicate> getExpectedPredicates() {
+        Map<CharacterClass, IntPredicate> predicates = new EnumMap<>(CharacterClass.class);
+        predicates.put(CharacterClass.ALPHA, Character::isLetter);
+        predicates.put(CharacterClass.ALPHA_OR_SPACE, ch -> Character.isLetter(ch) || ch == ' ');
+        predicates.put(CharacterClass.ALPHANUMERIC, Character::isLetterOrDigit);
+        predicates.put(CharacterClass.ALPHANUMERIC_OR_SPACE, ch -> Character.isLetterOrDigit(ch) || ch == ' ');
+        predicates.put(CharacterClass.ASCII, ch -> ch < 128);
+        predicates.put(CharacterClass.ASCII_ALPHA, ch -> ch < 128 && Character.isLetter(ch));
+        predicates.put(CharacterClass.ASCII_ALPHA_LOWER_CASE, ch -> ch < 128 && Character.isLowerCase(ch));
+        predicates.put(CharacterClass.ASCII_ALPHA_UPPER_CASE, ch -> ch < 128 && Character.isUpperCase(ch));
+        predicates.put(CharacterClass.ASCII_ALPHANUMERIC, ch -> ch < 128 && Character.isLetterOrDigit(ch));
+        predicates.put(CharacterClass.ASCII_CONTROL, ch -> ch < 128 && Character.isISOControl(ch));
+        predicates.put(CharacterClass.ASCII_NUMERIC, ch -> ch < 128 && Character.isDigit(ch));
+        predicates.put(CharacterClass.ASCII_PRINTABLE, ch -> ch >= 32 && ch < 127);
+        predicates.put(CharacterClass.LOWER_CASE, Character::isLowerCase);
+        predicates.put(CharacterClass.NUMERIC, Character::isDigit);
+        predicates.put(CharacterClass.NUMERIC_OR_SPACE, ch -> Character.isDigit(ch) || ch == ' ');
+        predicates.put(CharacterClass.UPPER_CASE, Character::isUpperCase);
+        predicates.put(CharacterClass.WHITESPACE, Character::isWhitespace);
+
+        return predicates;
+    }
+
+    @Test
+    public void testMatches() {
+        Map<CharacterClass, IntPredicate> predicates = getExpectedPredicates();
+
+        assertEquals("Covers all character classes", CharacterClass.values().length, predicates.size());
+
+        for (Map.Entry<CharacterClass, IntPredicate> entry : predicates.entrySet()) {
+            for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ch++) {
+                assertEquals(entry.getKey() + " for " + ch, entry.getValue().test(ch), entry.getKey().matches((char) ch));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesAll() {
+        assertFalse("Null never matches", CharacterClass.ALPHA.matchesAll(null));
+        assertTrue("Empty always matches", CharacterClass.ALPHA.matchesAll(""));
+        assertTrue("Matches when all characters match", CharacterClass.ALPHA.matchesAll(new StringBuilder("abc\u00E9")));
+        assertFalse("Does not match when any ASCII character does not match", CharacterClass.ALPHA.matchesAll("abc1"));
+        assertFalse("Does not match when any non-ASCII character does not match", CharacterClass.ALPHA.matchesAll("abc\u00A0"));
+        assertFalse("Does not match non-ASCII characters for ASCII class", CharacterClass.ASCII_ALPHA.matchesAll("abc\u00E9"));
+    }
+}
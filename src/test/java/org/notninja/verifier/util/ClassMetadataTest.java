@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link ClassMetadata} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class ClassMetadataTest {
+
+    private static final Class<?>[] TYPES = {
+        ArrayList.class, AbstractList.class, List.class, Collection.class, Iterable.class, RandomAccess.class,
+        Cloneable.class, Serializable.class, Object.class, String.class, CharSequence.class, Comparable.class,
+        Integer.class, Number.class, int.class, long.class, void.class, Void.class, int[].class, long[].class,
+        int[][].class, Object[].class, Object[][].class, String[].class, String[][].class, CharSequence[].class,
+        Comparable[][].class, Serializable[].class, Cloneable[].class, List[].class, ArrayList[].class,
+        Thread.State.class, Enum.class, Retention.class, Annotation.class
+    };
+
+    @Test
+    public void testGetAnnotationTypes() {
+        assertEquals("Annotation types", new HashSet<>(Arrays.asList(AnnotationOne.class, AnnotationTwo.class)), ClassMetadata.of(TypeWithAnnotations.class).getAnnotationTypes());
+        assertEquals("Inherited annotation types", Collections.singleton(AnnotationTwo.class), ClassMetadata.of(TypeWithInheritedAnnotation.class).getAnnotationTypes());
+        assertTrue("No annotation types", ClassMetadata.of(TypeWithNoAnnotations.class).getAnnotationTypes().isEmpty());
+    }
+
+    @Test
+    public void testGetAssignableTypes() {
+        for (Class<?> type : TYPES) {
+            Set<Class<?>> assignableTypes = ClassMetadata.of(type).getAssignableTypes();
+
+            for (Class<?> other : TYPES) {
+                assertEquals(type.getName() + " is assignable to " + other.getName(), other.isAssignableFrom(type), assignableTypes.contains(other));
+            }
+        }
+    }
+
+    @Test
+    public void testGetAssignableTypesIsCached() {
+        ClassMetadata metadata = ClassMetadata.of(String[].class);
+
+        assertSame("Assignable types", metadata.getAssignableTypes(), metadata.getAssignableTypes());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetAssignableTypesIsUnmodifiable() {
+        ClassMetadata.of(String.class).getAssignableTypes().add(Integer.class);
+    }
+
+    @Test
+    public void testGetType() {
+        assertSame("Type", String.class, ClassMetadata.of(String.class).getType());
+    }
+
+    @Test
+    public void testIsAnnotated() {
+        assertTrue("Annotated", ClassMetadata.of(TypeWithAnnotations.class).isAnnotated());
+        assertTrue("Annotated with inherited annotation", ClassMetadata.of(TypeWithInheritedAnnotation.class).isAnnotated());
+        assertFalse("Not annotated", ClassMetadata.of(TypeWithNoAnnotations.class).isAnnotated());
+    }
+
+    @Test
+    public void testIsAnnotatedWith() {
+        ClassMetadata metadata = ClassMetadata.of(TypeWithAnnotations.class);
+
+        assertTrue("Annotated with first", metadata.isAnnotatedWith(AnnotationOne.class));
+        assertTrue("Annotated with second", metadata.isAnnotatedWith(AnnotationTwo.class));
+        assertFalse("Annotated with other", metadata.isAnnotatedWith(Documented.class));
+        assertFalse("Annotated with null", metadata.isAnnotatedWith(null));
+        assertTrue("Annotated with inherited", ClassMetadata.of(TypeWithInheritedAnnotation.class).isAnnotatedWith(AnnotationTwo.class));
+        assertFalse("Annotated with not inherited", ClassMetadata.of(TypeWithInheritedAnnotation.class).isAnnotatedWith(AnnotationOne.class));
+        assertFalse("Not annotated", ClassMetadata.of(TypeWithNoAnnotations.class).isAnnotatedWith(AnnotationOne.class));
+    }
+
+    @Test
+    public void testIsAssignableFrom() {
+        for (Class<?> type : TYPES) {
+            ClassMetadata metadata = ClassMetadata.of(type);
+
+            for (Class<?> other : TYPES) {
+                assertEquals(type.getName() + " is assignable from " + other.getName(), type.isAssignableFrom(other), metadata.isAssignableFrom(other));
+            }
+        }
+
+        assertFalse("Assignable from null", ClassMetadata.of(Object.class).isAssignableFrom(null));
+    }
+
+    @Test
+    public void testIsPredicates() {
+        Object anonymous = new Object() {
+        };
+
+        for (Class<?> type : TYPES) {
+            testIsPredicatesHelper(type);
+        }
+
+        testIsPredicatesHelper(anonymous.getClass());
+        testIsPredicatesHelper(TypeWithAnnotations.class);
+    }
+
+    private void testIsPredicatesHelper(Class<?> type) {
+        ClassMetadata metadata = ClassMetadata.of(type);
+
+        assertEquals("Annotation: " + type, type.isAnnotation(), metadata.isAnnotation());
+        assertEquals("Anonymous: " + type, type.isAnonymousClass(), metadata.isAnonymous());
+        assertEquals("Array: " + type, type.isArray(), metadata.isArray());
+        assertEquals("Enumeration: " + type, type.isEnum(), metadata.isEnumeration());
+        assertEquals("Interface: " + type, type.isInterface(), metadata.isInterface());
+        assertEquals("Nested: " + type, type.getEnclosingClass() != null, metadata.isNested());
+        assertEquals("Primitive: " + type, type.isPrimitive(), metadata.isPrimitive());
+    }
+
+    @Test
+    public void testIsPrimitiveWrapper() {
+        for (Class<?> type : new Class<?>[]{Boolean.class, Byte.class, Character.class, Double.class, Float.class, Integer.class, Long.class, Short.class, void.class}) {
+            assertTrue("Primitive wrapper: " + type, ClassMetadata.of(type).isPrimitiveWrapper());
+        }
+
+        assertFalse("Primitive is not wrapper", ClassMetadata.of(int.class).isPrimitiveWrapper());
+        assertFalse("Other is not wrapper", ClassMetadata.of(String.class).isPrimitiveWrapper());
+    }
+
+    @Test
+    public void testOf() {
+        assertSame("Same instance", ClassMetadata.of(String.class), ClassMetadata.of(String.class));
+        assertNotSame("Different instance", ClassMetadata.of(String.class), ClassMetadata.of(Integer.class));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfWithNull() {
+        ClassMetadata.of(null);
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("String representation", "ClassMetadata(java.lang.String)", ClassMetadata.of(String.class).toString());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    private @interface AnnotationOne {
+    }
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    private @interface AnnotationTwo {
+    }
+
+    @AnnotationOne
+    @AnnotationTwo
+    private static class TypeWithAnnotations {
+    }
+
+    private static class TypeWithInheritedAnnotation extends TypeWithAnnotations {
+    }
+
+    private static class TypeWithNoAnnotations {
+    }
+}
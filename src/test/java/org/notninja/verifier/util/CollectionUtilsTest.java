@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link CollectionUtils} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class CollectionUtilsTest {
+
+    private static List<Integer> createList(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    private static List<Integer> createListFailingAfter(int size, int lastIndex) {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                if (index > lastIndex) {
+                    throw new AssertionError("Iterated beyond index " + lastIndex);
+                }
+
+                return index;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Test
+    public void testConstructor() {
+        // Ensure that CollectionUtils can be instantiated, if required
+        new CollectionUtils();
+    }
+
+    @Test
+    public void testContainsAll() {
+        Collection<String> collection = Arrays.asList("foo", "bar", null);
+
+        assertFalse("Null never contains", CollectionUtils.containsAll(null, new Object[]{"foo"}));
+        assertTrue("Always contains null elements", CollectionUtils.containsAll(collection, null));
+        assertTrue("Always contains no elements", CollectionUtils.containsAll(collection, new Object[0]));
+        assertTrue("Contains all elements", CollectionUtils.containsAll(collection, new Object[]{"bar", null}));
+        assertFalse("Does not contain all elements", CollectionUtils.containsAll(collection, new Object[]{"bar", "fizz"}));
+    }
+
+    @Test
+    public void testContainsAllWithLargeList() {
+        List<Integer> list = createList(1000);
+
+        assertTrue("Contains all elements", CollectionUtils.containsAll(list, new Object[]{0, 500, 999}));
+        assertTrue("Contains all duplicated elements", CollectionUtils.containsAll(list, new Object[]{999, 0, 999}));
+        assertFalse("Does not contain all elements", CollectionUtils.containsAll(list, new Object[]{0, 500, 1000}));
+        assertTrue("Contains single element", CollectionUtils.containsAll(list, new Object[]{999}));
+    }
+
+    @Test
+    public void testContainsAllWithLargeListStopsWhenAllElementsFound() {
+        assertTrue(CollectionUtils.containsAll(createListFailingAfter(1000000, 500), new Object[]{500, 0, 250}));
+    }
+
+    @Test
+    public void testContainsAllWithLargeSet() {
+        Collection<Integer> set = new HashSet<>(createList(1000));
+
+        assertTrue("Contains all elements", CollectionUtils.containsAll(set, new Object[]{0, 500, 999}));
+        assertFalse("Does not contain all elements", CollectionUtils.containsAll(set, new Object[]{0, 500, 1000}));
+    }
+
+    @Test
+    public void testContainsAny() {
+        Collection<String> collection = Arrays.asList("foo", "bar", null);
+
+        assertFalse("Null never contains", CollectionUtils.containsAny(null, new Object[]{"foo"}));
+        assertFalse("Never contains null elements", CollectionUtils.containsAny(collection, null));
+        assertFalse("Never contains no elements", CollectionUtils.containsAny(collection, new Object[0]));
+        assertTrue("Contains any element", CollectionUtils.containsAny(collection, new Object[]{"fizz", null}));
+        assertFalse("Does not contain any element", CollectionUtils.containsAny(collection, new Object[]{"fizz", "buzz"}));
+    }
+
+    @Test
+    public void testContainsAnyWithLargeList() {
+        List<Integer> list = createList(1000);
+
+        assertTrue("Contains any element", CollectionUtils.containsAny(list, new Object[]{-1, 1000, 999}));
+        assertFalse("Does not contain any element", CollectionUtils.containsAny(list, new Object[]{-1, 1000, 2000}));
+        assertFalse("Does not contain single element", CollectionUtils.containsAny(Collections.unmodifiableList(list), new Object[]{1000}));
+    }
+
+    @Test
+    public void testContainsAnyWithLargeListStopsAtFirstMatch() {
+        assertTrue(CollectionUtils.containsAny(createListFailingAfter(1000000, 500), new Object[]{-1, 500, 2000000}));
+    }
+
+    @Test
+    public void testMatchAllParallel() {
+        List<Integer> list = createList(10000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertTrue("Null always matches", CollectionUtils.matchAllParallel(null, element -> false, pool, 1));
+            assertTrue("Empty always matches", CollectionUtils.matchAllParallel(Collections.<Integer>emptyList(), element -> false, pool, 1));
+            assertTrue("Matches when all elements match", CollectionUtils.matchAllParallel(list, element -> element >= 0, pool, 100));
+            assertFalse("Does not match when last element does not match", CollectionUtils.matchAllParallel(list, element -> element < 9999, pool, 100));
+            assertFalse("Does not match when small collection does not match", CollectionUtils.matchAllParallel(list, element -> element < 9999, pool, 10000));
+            assertTrue("Matches when small collection matches", CollectionUtils.matchAllParallel(list, element -> element >= 0, pool, 10000));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchAllParallelAbandonsWorkWhenResultIsKnown() {
+        List<Integer> list = createList(100000);
+        AtomicInteger calls = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertFalse(CollectionUtils.matchAllParallel(list, element -> calls.incrementAndGet() < 0, pool, 10));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue("Abandons outstanding work", calls.get() < list.size() / 2);
+    }
+
+    @Test
+    public void testMatchAllParallelWhenSizeIsOverstated() {
+        Collection<Integer> collection = new ArrayList<Integer>(createList(100)) {
+            @Override
+            public int size() {
+                return super.size() + 10;
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertTrue(CollectionUtils.matchAllParallel(collection, element -> element >= 0, pool, 10));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchAnyParallel() {
+        List<Integer> list = createList(10000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertFalse("Null never matches", CollectionUtils.matchAnyParallel(null, element -> true, pool, 1));
+            assertFalse("Empty never matches", CollectionUtils.matchAnyParallel(Collections.<Integer>emptyList(), element -> true, pool, 1));
+            assertTrue("Matches when last element matches", CollectionUtils.matchAnyParallel(list, element -> element == 9999, pool, 100));
+            assertFalse("Does not match when no elements match", CollectionUtils.matchAnyParallel(list, element -> element < 0, pool, 100));
+            assertTrue("Matches when small collection matches", CollectionUtils.matchAnyParallel(list, element -> element == 9999, pool, 10000));
+            assertFalse("Does not match when small collection does not match", CollectionUtils.matchAnyParallel(list, element -> element < 0, pool, 10000));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testMatchAnyParallelAbandonsWorkWhenResultIsKnown() {
+        List<Integer> list = createList(100000);
+        AtomicInteger calls = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            assertTrue(CollectionUtils.matchAnyParallel(list, element -> calls.incrementAndGet() > 0, pool, 10));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue("Abandons outstanding work", calls.get() < list.size() / 2);
+    }
+
+    @Test
+    public void testMatchAnyParallelDoesNotSplitWorkWhenResultIsKnown() {
+        List<Integer> list = createList(100000);
+        AtomicInteger calls = new AtomicInteger();
+        // A single worker runs the first task to completion before any of the others that were forked along the way
+        ForkJoinPool pool = new ForkJoinPool(1);
+
+        try {
+            assertTrue(CollectionUtils.matchAnyParallel(list, element -> calls.incrementAndGet() == 1, pool, 10));
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals("Calls predicate once", 1, calls.get());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link Duplicate} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class DuplicateTest {
+
+    private static void assertDuplicate(Duplicate duplicate, Object key, int firstIndex, int index) {
+        assertNotNull("Duplicate found", duplicate);
+        assertEquals("Key", key, duplicate.getKey());
+        assertEquals("First index", firstIndex, duplicate.getFirstIndex());
+        assertEquals("Index", index, duplicate.getIndex());
+    }
+
+    @Test
+    public void testFind() {
+        assertDuplicate(Duplicate.find(Arrays.asList("a", "b", "c", "b", "a"), Function.identity()), "b", 1, 3);
+    }
+
+    @Test
+    public void testFindWhenDistinct() {
+        assertNull("No duplicate", Duplicate.find(Arrays.asList("a", "b", "c"), Function.identity()));
+    }
+
+    @Test
+    public void testFindWhenEmpty() {
+        assertNull("No duplicate", Duplicate.find(Collections.emptyList(), Function.identity()));
+        assertNull("No duplicate with Bloom filter", Duplicate.find(Collections.emptyList(), Function.identity(), true));
+    }
+
+    @Test
+    public void testFindWithBloomFilter() {
+        assertDuplicate(Duplicate.find(Arrays.asList("a", "b", "c", "b", "a"), Function.identity(), true), "b", 1, 3);
+    }
+
+    @Test
+    public void testFindWithBloomFilterWhenDistinct() {
+        assertNull("No duplicate", Duplicate.find(Arrays.asList("a", "b", "c"), Function.identity(), true));
+    }
+
+    @Test
+    public void testFindWithBloomFilterWhenHashCodesCollide() {
+        assertEquals("Hash codes collide", "Aa".hashCode(), "BB".hashCode());
+
+        assertNull("No duplicate", Duplicate.find(Arrays.asList("Aa", "BB"), Function.identity(), true));
+        assertDuplicate(Duplicate.find(Arrays.asList("Aa", "BB", "BB"), Function.identity(), true), "BB", 1, 2);
+    }
+
+    @Test
+    public void testFindWithHashCodesColliding() {
+        assertNull("No duplicate", Duplicate.find(Arrays.asList("Aa", "BB"), Function.identity()));
+        assertDuplicate(Duplicate.find(Arrays.asList("Aa", "BB", "Aa"), Function.identity()), "Aa", 0, 2);
+    }
+
+    @Test
+    public void testFindWithKeyMapper() {
+        assertDuplicate(Duplicate.find(Arrays.asList("a", "bb", "cc"), String::length), 2, 1, 2);
+        assertDuplicate(Duplicate.find(Arrays.asList("a", "bb", "cc"), String::length, true), 2, 1, 2);
+    }
+
+    @Test
+    public void testFindWithManyElements() {
+        Random random = new Random(42);
+
+        for (int run = 0; run < 20; run++) {
+            List<Integer> elements = new ArrayList<>();
+            int size = 1 + random.nextInt(5000);
+            for (int i = 0; i < size; i++) {
+                elements.add(random.nextInt(size * 20));
+            }
+
+            Map<Integer, Integer> firstIndices = new HashMap<>();
+            boolean found = false;
+            for (int i = 0; i < size && !found; i++) {
+                Integer firstIndex = firstIndices.putIfAbsent(elements.get(i), i);
+                if (firstIndex != null) {
+                    found = true;
+
+                    assertDuplicate(Duplicate.find(elements, Function.identity()), elements.get(i), firstIndex, i);
+                    assertDuplicate(Duplicate.find(elements, Function.identity(), true), elements.get(i), firstIndex, i);
+                }
+            }
+
+            if (!found) {
+                assertNull("No duplicate", Duplicate.find(elements, Function.identity()));
+                assertNull("No duplicate with Bloom filter", Duplicate.find(elements, Function.identity(), true));
+            }
+        }
+    }
+
+    @Test
+    public void testFindWithManyDistinctElements() {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            elements.add("element" + i);
+        }
+
+        assertNull("No duplicate", Duplicate.find(elements, Function.identity()));
+        assertNull("No duplicate with Bloom filter", Duplicate.find(elements, Function.identity(), true));
+
+        elements.add("element" + 99999);
+
+        assertDuplicate(Duplicate.find(elements, Function.identity()), "element99999", 99999, 100000);
+        assertDuplicate(Duplicate.find(elements, Function.identity(), true), "element99999", 99999, 100000);
+    }
+
+    @Test
+    public void testFindWithManyDuplicatedElements() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        elements.add(0, -1);
+        elements.add(-1);
+
+        assertDuplicate(Duplicate.find(elements, Function.identity(), true), 0, 1, 1001);
+    }
+
+    @Test
+    public void testFindWithNullKeys() {
+        assertDuplicate(Duplicate.find(Arrays.asList("a", null, "b", null), Function.identity()), null, 1, 3);
+        assertDuplicate(Duplicate.find(Arrays.asList("a", null, "b", null), Function.identity(), true), null, 1, 3);
+        assertNull("No duplicate", Duplicate.find(Arrays.asList("a", null, "b"), Function.identity()));
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("Duplicate(b at 1 and 3)", Duplicate.find(Arrays.asList("a", "b", "c", "b"), Function.identity()).toString());
+    }
+}
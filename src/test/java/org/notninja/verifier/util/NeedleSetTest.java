@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link NeedleSet} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class NeedleSetTest {
+
+    private static final char[] ALPHABET = {'a', 'b', 'c', 'A', 'B', '\u00E9', '\u00C9', '\u0394'};
+
+    private static BitSet bits(final int... indices) {
+        final BitSet bits = new BitSet();
+        for (final int index : indices) {
+            bits.set(index);
+        }
+
+        return bits;
+    }
+
+    private static boolean naiveAllIn(final CharSequence cs, final CharSequence[] needles, final boolean ignoreCase) {
+        for (final CharSequence needle : needles) {
+            if (!naiveIn(cs, needle, ignoreCase)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean naiveAnyIn(final CharSequence cs, final CharSequence[] needles, final boolean ignoreCase) {
+        for (final CharSequence needle : needles) {
+            if (naiveIn(cs, needle, ignoreCase)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean naiveIn(final CharSequence cs, final CharSequence needle, final boolean ignoreCase) {
+        return ignoreCase ? CharSequenceUtils.containsIgnoreCase(cs, needle) : CharSequenceUtils.contains(cs, needle);
+    }
+
+    private static String randomString(final Random random, final int maxLength) {
+        final char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+
+        return new String(chars);
+    }
+
+    @Test
+    public void testAllIn() {
+        NeedleSet needles = NeedleSet.of("he", "she", "his", "hers");
+
+        assertTrue("Contains all", needles.allIn("ushers and his"));
+        assertTrue("Contains all when overlapping", needles.allIn(new StringBuilder("hishers")));
+        assertFalse("Contains some", needles.allIn("ushers"));
+        assertFalse("Case differs", needles.allIn("USHERS AND HIS"));
+        assertFalse("Null", needles.allIn(null));
+    }
+
+    @Test
+    public void testAllInWhenEmpty() {
+        assertTrue("No needles", NeedleSet.of().allIn("foo"));
+        assertTrue("Null needles", NeedleSet.of((CharSequence[]) null).allIn(""));
+        assertTrue("Empty needle", NeedleSet.of("").allIn(""));
+        assertTrue("Empty and other needle", NeedleSet.of("", "o").allIn("foo"));
+        assertFalse("Empty and missing needle", NeedleSet.of("", "x").allIn("foo"));
+    }
+
+    @Test
+    public void testAllInWithDuplicates() {
+        assertTrue("Duplicate needles", NeedleSet.of("foo", "foo", "oo").allIn("foo"));
+        assertFalse("Duplicate needles missing", NeedleSet.of("foo", "foo", "bar").allIn("foo"));
+    }
+
+    @Test
+    public void testAllInWithNullNeedle() {
+        assertFalse("Null needle", NeedleSet.of("foo", null).allIn("foo"));
+    }
+
+    @Test
+    public void testAnyIn() {
+        NeedleSet needles = NeedleSet.of("he", "she", "his", "hers");
+
+        assertTrue("Contains one", needles.anyIn("ushers"));
+        assertTrue("Contains one after failure", needles.anyIn(new StringBuilder("hxhis")));
+        assertFalse("Contains none", needles.anyIn("abc"));
+        assertFalse("Case differs", needles.anyIn("SHE"));
+        assertFalse("Null", needles.anyIn(null));
+    }
+
+    @Test
+    public void testAnyInWhenEmpty() {
+        assertFalse("No needles", NeedleSet.of().anyIn("foo"));
+        assertFalse("Only null needle", NeedleSet.of((CharSequence) null).anyIn("foo"));
+        assertTrue("Empty needle", NeedleSet.of("").anyIn(""));
+        assertTrue("Null and empty needle", NeedleSet.of(null, "").anyIn("foo"));
+    }
+
+    @Test
+    public void testAnyPrefixOf() {
+        NeedleSet needles = NeedleSet.of("abc", "ab", "xyz");
+
+        assertTrue("Starts with shorter", needles.anyPrefixOf("abd"));
+        assertTrue("Starts with longer", needles.anyPrefixOf(new StringBuilder("abcdef")));
+        assertTrue("Equals", needles.anyPrefixOf("xyz"));
+        assertFalse("Too short", needles.anyPrefixOf("xy"));
+        assertFalse("Contains only", needles.anyPrefixOf("_abc"));
+        assertFalse("Case differs", needles.anyPrefixOf("ABC"));
+        assertFalse("Null", needles.anyPrefixOf(null));
+        assertFalse("No needles", NeedleSet.of().anyPrefixOf("abc"));
+        assertTrue("Empty needle", NeedleSet.of("").anyPrefixOf(""));
+    }
+
+    @Test
+    public void testAnySuffixOf() {
+        NeedleSet needles = NeedleSet.of("abc", "bc", "xyz");
+
+        assertTrue("Ends with shorter", needles.anySuffixOf("_bc"));
+        assertTrue("Ends with longer", needles.anySuffixOf(new StringBuilder("fooabc")));
+        assertTrue("Equals", needles.anySuffixOf("xyz"));
+        assertFalse("Too short", needles.anySuffixOf("yz"));
+        assertFalse("Contains only", needles.anySuffixOf("abc_"));
+        assertFalse("Case differs", needles.anySuffixOf("ABC"));
+        assertFalse("Null", needles.anySuffixOf(null));
+        assertFalse("No needles", NeedleSet.of().anySuffixOf("abc"));
+        assertTrue("Empty needle", NeedleSet.of("").anySuffixOf(""));
+    }
+
+    @Test
+    public void testFindIn() {
+        NeedleSet needles = NeedleSet.of("he", null, "she", "his", "hers", "", "he", "xyz");
+
+        assertEquals("Found needles", bits(0, 2, 4, 5, 6), needles.findIn("ushers"));
+        assertEquals("Found needles when overlapping", bits(0, 2, 3, 4, 5, 6), needles.findIn(new StringBuilder("shishers")));
+        assertEquals("Found empty needle only", bits(5), needles.findIn(""));
+        assertTrue("Null", needles.findIn(null).isEmpty());
+        assertEquals("Ignore case", bits(0, 1), NeedleSet.ofIgnoreCase("He", "HIS").findIn("this is the end"));
+    }
+
+    @Test
+    public void testGetNeedles() {
+        assertEquals("Needles in order", Arrays.asList("foo", null, "bar"), NeedleSet.of("foo", null, new StringBuilder("bar")).getNeedles());
+        assertTrue("Null needles", NeedleSet.of((CharSequence[]) null).getNeedles().isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetNeedlesIsUnmodifiable() {
+        NeedleSet.of("foo").getNeedles().add("bar");
+    }
+
+    @Test
+    public void testIgnoreCase() {
+        NeedleSet needles = NeedleSet.ofIgnoreCase("Foo", "\u00C9T\u00C9");
+
+        assertTrue("Is ignore case", needles.isIgnoreCase());
+        assertFalse("Is not ignore case", NeedleSet.of("foo").isIgnoreCase());
+        assertTrue("All in", needles.allIn("fOO and \u00E9t\u00E9"));
+        assertTrue("Any in", needles.anyIn("FOO"));
+        assertTrue("Any prefix", needles.anyPrefixOf("\u00E9T\u00E9!"));
+        assertTrue("Any suffix", needles.anySuffixOf("the fOo"));
+        assertFalse("Any in", needles.anyIn("fo"));
+    }
+
+    @Test
+    public void testMatchesNaiveSearch() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            boolean ignoreCase = random.nextBoolean();
+            CharSequence[] needles = new CharSequence[random.nextInt(6)];
+            for (int j = 0; j < needles.length; j++) {
+                needles[j] = randomString(random, 4);
+            }
+
+            NeedleSet needleSet = ignoreCase ? NeedleSet.ofIgnoreCase(needles) : NeedleSet.of(needles);
+            String cs = randomString(random, 20);
+            String message = Arrays.toString(needles) + (ignoreCase ? " (ignore case)" : "") + " in " + cs;
+
+            assertEquals("All in " + message, naiveAllIn(cs, needles, ignoreCase), needleSet.allIn(cs));
+            assertEquals("Any in " + message, naiveAnyIn(cs, needles, ignoreCase), needleSet.anyIn(cs));
+
+            BitSet found = needleSet.findIn(cs);
+            for (int j = 0; j < needles.length; j++) {
+                assertEquals("Find " + needles[j] + " in " + message, naiveIn(cs, needles[j], ignoreCase), found.get(j));
+            }
+
+            boolean prefix = false;
+            boolean suffix = false;
+            for (CharSequence needle : needles) {
+                prefix |= CharSequenceUtils.startsWith(cs, needle, ignoreCase);
+                suffix |= CharSequenceUtils.endsWith(cs, needle, ignoreCase);
+            }
+
+            assertEquals("Any prefix of " + message, prefix, needleSet.anyPrefixOf(cs));
+            assertEquals("Any suffix of " + message, suffix, needleSet.anySuffixOf(cs));
+        }
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("[foo, null, bar]", NeedleSet.of("foo", null, "bar").toString());
+    }
+}
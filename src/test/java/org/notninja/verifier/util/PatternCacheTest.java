@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link PatternCache} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class PatternCacheTest {
+
+    @Test
+    public void testClear() {
+        PatternCache cache = new PatternCache(2);
+        Pattern pattern = cache.compile("fo{2}");
+        cache.clear();
+
+        assertEquals("Size", 0, cache.getSize());
+        assertNotSame("Pattern after clear", pattern, cache.compile("fo{2}"));
+        assertEquals("Hit count", 0, cache.getHitCount());
+        assertEquals("Miss count", 2, cache.getMissCount());
+    }
+
+    @Test
+    public void testCompile() {
+        PatternCache cache = new PatternCache(2);
+        Pattern pattern = cache.compile("fo{2}");
+
+        assertEquals("Pattern", "fo{2}", pattern.pattern());
+        assertEquals("Flags", 0, pattern.flags());
+        assertSame("Cached pattern", pattern, cache.compile("fo{2}"));
+        assertEquals("Size", 1, cache.getSize());
+        assertEquals("Hit count", 1, cache.getHitCount());
+        assertEquals("Miss count", 1, cache.getMissCount());
+    }
+
+    @Test
+    public void testCompileDiscardsLeastRecentlyUsed() {
+        PatternCache cache = new PatternCache(2);
+        Pattern foo = cache.compile("foo");
+        Pattern bar = cache.compile("bar");
+        cache.compile("foo");
+        cache.compile("fizz");
+
+        assertEquals("Size", 2, cache.getSize());
+        assertSame("Recently used pattern", foo, cache.compile("foo"));
+        assertNotSame("Least recently used pattern", bar, cache.compile("bar"));
+    }
+
+    @Test
+    public void testCompileWhenCalledConcurrently() throws Exception {
+        PatternCache cache = new PatternCache(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        String regex = "fo{" + (j % 16) + "}";
+
+                        assertEquals("Pattern", regex, cache.compile(regex).pattern());
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue("Size is within maximum", cache.getSize() <= 8);
+        assertEquals("Lookups", 40000, cache.getHitCount() + cache.getMissCount());
+    }
+
+    @Test
+    public void testCompileWhenDisabled() {
+        PatternCache cache = new PatternCache(0);
+        Pattern pattern = cache.compile("fo{2}");
+
+        assertNotSame("Pattern", pattern, cache.compile("fo{2}"));
+        assertEquals("Size", 0, cache.getSize());
+        assertEquals("Hit count", 0, cache.getHitCount());
+        assertEquals("Miss count", 2, cache.getMissCount());
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testCompileWithInvalidRegex() {
+        new PatternCache(2).compile("fo{2");
+    }
+
+    @Test
+    public void testCompileWithInvalidRegexIsNotCached() {
+        PatternCache cache = new PatternCache(2);
+
+        try {
+            cache.compile("fo{2");
+            fail("PatternSyntaxException expected");
+        } catch (PatternSyntaxException e) {
+            assertEquals("Size", 0, cache.getSize());
+        }
+    }
+
+    @Test
+    public void testCompileWithFlags() {
+        PatternCache cache = new PatternCache(2);
+        Pattern pattern = cache.compile("fo{2}", Pattern.CASE_INSENSITIVE);
+
+        assertEquals("Flags", Pattern.CASE_INSENSITIVE, pattern.flags());
+        assertNotSame("Pattern without flags", pattern, cache.compile("fo{2}"));
+        assertSame("Cached pattern", pattern, cache.compile("fo{2}", Pattern.CASE_INSENSITIVE));
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals("Maximum size", 8, new PatternCache(8).getMaximumSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructorWithNegativeMaximumSize() {
+        new PatternCache(-1);
+    }
+
+    @Test
+    public void testGetDefault() {
+        PatternCache cache = PatternCache.getDefault();
+
+        assertSame("Same instance", cache, PatternCache.getDefault());
+        assertEquals("Maximum size", PatternCache.DEFAULT_MAXIMUM_SIZE, cache.getMaximumSize());
+    }
+
+    @Test
+    public void testSetMaximumSize() {
+        PatternCache cache = new PatternCache(3);
+        cache.compile("foo");
+        Pattern bar = cache.compile("bar");
+        Pattern fizz = cache.compile("fizz");
+        cache.setMaximumSize(2);
+
+        assertEquals("Maximum size", 2, cache.getMaximumSize());
+        assertEquals("Size", 2, cache.getSize());
+        assertSame("Retained pattern", bar, cache.compile("bar"));
+        assertSame("Retained pattern", fizz, cache.compile("fizz"));
+
+        cache.setMaximumSize(4);
+
+        assertEquals("Maximum size", 4, cache.getMaximumSize());
+        assertEquals("Size", 2, cache.getSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetMaximumSizeWithNegative() {
+        new PatternCache(2).setMaximumSize(-1);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link PatternSet} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class PatternSetTest {
+
+    private static final String[] INPUTS = {
+        "", "foo", "food", "fooo", "bar", "foo bar", "foo.bar", "a+b", "GET /api/users", "POST /api/users/1",
+        "DELETE /api", "abcabc", "abc123", "x{2}", "foofoo", "(foo)", "HELLO", "hello"
+    };
+    private static final String[] REGEXES = {
+        "foo", "fo{2}", "fo+d?", "foo?", "foo*", "foo.bar", "foo\\.bar", "a\\+b", "GET /api/.*", "POST /api/users/\\d+",
+        "DELETE .*", "(abc)+", "(abc){2}", "abc\\d{3}", "(foo|bar)", "foo|bar", "x\\{2\\}", "[a-z]+", "\\Qa+b\\E",
+        "(?i)hello", "(?:foo){2}", "\\(foo\\)", "^foo$", "fo++", "fo*?", ".*bar", "(?=foo)foo.*", "(f(o)o) bar"
+    };
+
+    @Test
+    public void testCompile() {
+        PatternSet patterns = PatternSet.compile("fo{2}", null, new StringBuilder("ba[rz]"));
+
+        assertEquals("Size", 3, patterns.getPatterns().size());
+        assertEquals("First pattern", "fo{2}", patterns.getPatterns().get(0).pattern());
+        assertNull("Null pattern", patterns.getPatterns().get(1));
+        assertEquals("Last pattern", "ba[rz]", patterns.getPatterns().get(2).pattern());
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testCompileWithInvalidRegex() {
+        PatternSet.compile("fo{2");
+    }
+
+    @Test
+    public void testCompileWithNull() {
+        assertTrue("No patterns", PatternSet.compile((CharSequence[]) null).getPatterns().isEmpty());
+    }
+
+    @Test
+    public void testFindFirstMatch() {
+        PatternSet patterns = PatternSet.compile("GET /api/.*", null, "POST /api/.*", "[A-Z]+ .*");
+
+        assertSame("First match", patterns.getPatterns().get(2), patterns.findFirstMatch("POST /api/users"));
+        assertSame("Match without literal", patterns.getPatterns().get(3), patterns.findFirstMatch("PUT /api/users"));
+        assertNull("No match", patterns.findFirstMatch("put /api/users"));
+        assertNull("Null", patterns.findFirstMatch(null));
+        assertNull("No patterns", PatternSet.of().findFirstMatch("foo"));
+    }
+
+    @Test
+    public void testGetRequiredLiteral() {
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("foo")));
+        assertEquals("f", PatternSet.getRequiredLiteral(Pattern.compile("fo{2}")));
+        assertEquals("fo", PatternSet.getRequiredLiteral(Pattern.compile("foo?")));
+        assertEquals("fo", PatternSet.getRequiredLiteral(Pattern.compile("foo*")));
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("foo+")));
+        assertEquals("foo.bar", PatternSet.getRequiredLiteral(Pattern.compile("foo\\.bar")));
+        assertEquals(" /api/users/", PatternSet.getRequiredLiteral(Pattern.compile("(GET|POST) /api/users/\\d+")));
+        assertEquals("bar", PatternSet.getRequiredLiteral(Pattern.compile("^(foo)+bar.$")));
+        assertEquals("fizz", PatternSet.getRequiredLiteral(Pattern.compile("(f\\(oo\\)(b)ar)fizz")));
+        assertNull("Alternation", PatternSet.getRequiredLiteral(Pattern.compile("foo|bar")));
+        assertNull("Character class", PatternSet.getRequiredLiteral(Pattern.compile("foo[a-z]")));
+        assertNull("Quoting", PatternSet.getRequiredLiteral(Pattern.compile("\\Qfoo\\E")));
+        assertNull("Inline flags", PatternSet.getRequiredLiteral(Pattern.compile("(?i)foo")));
+        assertNull("Flags", PatternSet.getRequiredLiteral(Pattern.compile("foo", Pattern.CASE_INSENSITIVE)));
+        assertNull("No literal", PatternSet.getRequiredLiteral(Pattern.compile(".*\\d+")));
+        assertNull("Optional literal", PatternSet.getRequiredLiteral(Pattern.compile("a?")));
+    }
+
+    @Test
+    public void testGetRequiredLiteralWithEscapes() {
+        assertEquals("BC", PatternSet.getRequiredLiteral(Pattern.compile("\\x41BC")));
+        assertEquals("BC", PatternSet.getRequiredLiteral(Pattern.compile("\\x{41}BC")));
+        assertEquals("BC", PatternSet.getRequiredLiteral(Pattern.compile("\\u0041BC")));
+        assertEquals("BC", PatternSet.getRequiredLiteral(Pattern.compile("\\0101BC")));
+        assertEquals("8BC", PatternSet.getRequiredLiteral(Pattern.compile("\\018BC")));
+        assertEquals(" BC", PatternSet.getRequiredLiteral(Pattern.compile("\\01 BC")));
+        assertEquals("BC", PatternSet.getRequiredLiteral(Pattern.compile("BC\\01")));
+        assertEquals("xyz", PatternSet.getRequiredLiteral(Pattern.compile("\\cAxyz")));
+        assertEquals("b", PatternSet.getRequiredLiteral(Pattern.compile("(?<n>a)\\k<n>b")));
+        assertEquals("b", PatternSet.getRequiredLiteral(Pattern.compile("(a)\\1b")));
+        assertEquals("b", PatternSet.getRequiredLiteral(Pattern.compile("(a)\\10b")));
+        assertEquals(" b", PatternSet.getRequiredLiteral(Pattern.compile("(a)\\1 b")));
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("foo(a)\\1")));
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("\\pLfoo")));
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("\\P{L}foo")));
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("\\d\\sfoo")));
+        assertEquals("foo", PatternSet.getRequiredLiteral(Pattern.compile("(\\c(\\x28)foo")));
+    }
+
+    @Test
+    public void testMatchesAnyWithEscapes() {
+        assertTrue("Hexadecimal", PatternSet.compile("\\x41BC").matchesAny("ABC"));
+        assertTrue("Unicode", PatternSet.compile("\\u0041BC").matchesAny("ABC"));
+        assertTrue("Octal", PatternSet.compile("\\0101BC").matchesAny("ABC"));
+        assertTrue("Control character", PatternSet.compile("\\cAxyz").matchesAny("\u0001xyz"));
+        assertTrue("Named back reference", PatternSet.compile("(?<n>a)\\k<n>b").matchesAny("aab"));
+        assertTrue("Numbered back reference", PatternSet.compile("(a)\\10").matchesAny("aa0"));
+    }
+
+    @Test
+    public void testGetPatterns() {
+        Pattern foo = Pattern.compile("foo");
+
+        assertEquals("Patterns in order", Arrays.asList(foo, null), PatternSet.of(foo, null).getPatterns());
+        assertTrue("Null patterns", PatternSet.of((Pattern[]) null).getPatterns().isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetPatternsIsUnmodifiable() {
+        PatternSet.compile("foo").getPatterns().add(null);
+    }
+
+    @Test
+    public void testMatchesAll() {
+        PatternSet patterns = PatternSet.compile("fo{2}.*", ".*bar", ".* .*");
+
+        assertTrue("All match", patterns.matchesAll("foo bar"));
+        assertFalse("Some match", patterns.matchesAll("foo fizz"));
+        assertFalse("Literal missing", patterns.matchesAll("fizz buzz"));
+        assertFalse("Null", patterns.matchesAll(null));
+        assertFalse("Null pattern", PatternSet.of(Pattern.compile(".*"), null).matchesAll("foo"));
+        assertTrue("No patterns", PatternSet.of().matchesAll("foo"));
+    }
+
+    @Test
+    public void testMatchesAny() {
+        PatternSet patterns = PatternSet.compile("fo{2}", "ba[rz]");
+
+        assertTrue("First matches", patterns.matchesAny("foo"));
+        assertTrue("Last matches", patterns.matchesAny("baz"));
+        assertFalse("None match", patterns.matchesAny("fizz"));
+        assertFalse("Null", patterns.matchesAny(null));
+    }
+
+    @Test
+    public void testMatchesNaiveEvaluation() {
+        Pattern[] patterns = new Pattern[REGEXES.length];
+        for (int i = 0; i < REGEXES.length; i++) {
+            patterns[i] = Pattern.compile(REGEXES[i]);
+        }
+
+        for (String input : INPUTS) {
+            for (int i = 0; i < patterns.length; i++) {
+                PatternSet single = PatternSet.of(patterns[i]);
+                boolean expected = patterns[i].matcher(input).matches();
+
+                assertEquals(REGEXES[i] + " matches " + input, expected, single.matchesAny(input));
+                assertEquals(REGEXES[i] + " matches all " + input, expected, single.matchesAll(input));
+            }
+
+            Pattern expected = null;
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(input).matches()) {
+                    expected = pattern;
+                    break;
+                }
+            }
+
+            assertSame("First match for " + input, expected, PatternSet.of(patterns).findFirstMatch(input));
+        }
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("[fo{2}, null]", PatternSet.compile("fo{2}", null).toString());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link RangeSet} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class RangeSetTest {
+
+    @Test
+    public void testBuildCanBeCalledRepeatedly() {
+        RangeSet.Builder<Integer> builder = RangeSet.<Integer>builder()
+            .add(1, 10);
+        RangeSet<Integer> ranges = builder.build();
+
+        builder.add(20, 30);
+
+        assertEquals("Size of first build", 1, ranges.getSize());
+        assertFalse("Contains value added after build", ranges.contains(25));
+        assertTrue("Contains value added before second build", builder.build().contains(25));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderAddWhenEndIsNull() {
+        RangeSet.<Integer>builder().add(1, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderAddWhenStartIsGreaterThanEnd() {
+        RangeSet.<Integer>builder().add(10, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderAddWhenStartIsNull() {
+        RangeSet.<Integer>builder().add(null, 10);
+    }
+
+    @Test
+    public void testContainsWithBigDecimals() {
+        RangeSet<BigDecimal> ranges = RangeSet.<BigDecimal>builder()
+            .add(new BigDecimal("0.5"), new BigDecimal("1.5"))
+            .add(new BigDecimal("-2.5"), new BigDecimal("-1.5"))
+            .build();
+
+        assertTrue("Contains value within first range", ranges.contains(new BigDecimal("-2")));
+        assertTrue("Contains end with different scale", ranges.contains(new BigDecimal("1.50")));
+        assertFalse("Contains value between ranges", ranges.contains(BigDecimal.ZERO));
+        assertFalse("Contains value before ranges", ranges.contains(new BigDecimal("-3")));
+        assertFalse("Contains value after ranges", ranges.contains(new BigDecimal("1.6")));
+    }
+
+    @Test
+    public void testContainsWithIntegers() {
+        RangeSet<Integer> ranges = RangeSet.<Integer>builder()
+            .add(20, 30)
+            .add(1, 10)
+            .add(40, 40)
+            .build();
+
+        assertTrue("Contains start", ranges.contains(1));
+        assertTrue("Contains value within range", ranges.contains(5));
+        assertTrue("Contains end", ranges.contains(30));
+        assertTrue("Contains single value range", ranges.contains(40));
+        assertFalse("Contains value before ranges", ranges.contains(0));
+        assertFalse("Contains value between ranges", ranges.contains(15));
+        assertFalse("Contains value after ranges", ranges.contains(41));
+        assertFalse("Contains null", ranges.contains(null));
+    }
+
+    @Test
+    public void testContainsWithLongs() {
+        RangeSet<Long> ranges = RangeSet.<Long>builder()
+            .add(Long.MIN_VALUE, -1L)
+            .add(1L, Long.MAX_VALUE)
+            .build();
+
+        assertTrue("Contains minimum", ranges.contains(Long.MIN_VALUE));
+        assertTrue("Contains maximum", ranges.contains(Long.MAX_VALUE));
+        assertFalse("Contains value between ranges", ranges.contains(0L));
+    }
+
+    @Test
+    public void testContainsWithManyRanges() {
+        Random random = new Random(42);
+        RangeSet.Builder<Integer> integerBuilder = RangeSet.builder();
+        RangeSet.Builder<String> stringBuilder = RangeSet.builder();
+        boolean[] expected = new boolean[10000];
+
+        for (int i = 0; i < 200; i++) {
+            int start = random.nextInt(9900);
+            int end = start + random.nextInt(50);
+
+            integerBuilder.add(start, end);
+            stringBuilder.add(String.format("%05d", start), String.format("%05d", end));
+
+            for (int j = start; j <= end; j++) {
+                expected[j] = true;
+            }
+        }
+
+        RangeSet<Integer> integerRanges = integerBuilder.build();
+        RangeSet<String> stringRanges = stringBuilder.build();
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Contains " + i, expected[i], integerRanges.contains(i));
+            assertEquals("Contains string " + i, expected[i], stringRanges.contains(String.format("%05d", i)));
+        }
+    }
+
+    @Test
+    public void testContainsWithStrings() {
+        RangeSet<String> ranges = RangeSet.<String>builder()
+            .add("m", "p")
+            .add("a", "c")
+            .build();
+
+        assertTrue("Contains start", ranges.contains("a"));
+        assertTrue("Contains value within range", ranges.contains("bbb"));
+        assertTrue("Contains end", ranges.contains("p"));
+        assertFalse("Contains value before ranges", ranges.contains("A"));
+        assertFalse("Contains value between ranges", ranges.contains("d"));
+        assertFalse("Contains value after ranges", ranges.contains("pa"));
+        assertFalse("Contains null", ranges.contains(null));
+    }
+
+    @Test
+    public void testContainsWhenEmpty() {
+        assertFalse("Contains integer", RangeSet.<Integer>builder().build().contains(1));
+        assertFalse("Contains string", RangeSet.<String>builder().build().contains("a"));
+    }
+
+    @Test
+    public void testGetSizeMergesOverlappingRanges() {
+        RangeSet<Integer> ranges = RangeSet.<Integer>builder()
+            .add(1, 10)
+            .add(5, 15)
+            .add(2, 3)
+            .add(15, 20)
+            .add(21, 30)
+            .build();
+
+        assertEquals("Size", 2, ranges.getSize());
+        assertTrue("Contains value from merged range", ranges.contains(18));
+        assertTrue("Contains value from adjacent range", ranges.contains(21));
+        assertEquals("Merged ranges", "[[1, 20], [21, 30]]", ranges.toString());
+    }
+
+    @Test
+    public void testGetSizeWhenEmpty() {
+        assertEquals("Size", 0, RangeSet.<Integer>builder().build().getSize());
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("Empty", "[]", RangeSet.<Integer>builder().build().toString());
+        assertEquals("Single range", "[[a, c]]", RangeSet.<String>builder().add("a", "c").build().toString());
+        assertEquals("Many ranges", "[[1, 10], [20, 30]]", RangeSet.<Integer>builder().add(20, 30).add(1, 10).build().toString());
+    }
+}
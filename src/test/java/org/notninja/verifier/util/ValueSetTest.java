@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+
+/**
+ * <p>
+ * Tests for the {@link ValueSet} class.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class ValueSetTest {
+
+    private static final char[] ALPHABET = {'a', 'b', 'A', 'B', '\u00E9', '\u00C9', '\u0394', '\u03B4'};
+
+    private static String randomString(final Random random, final int maxLength) {
+        final char[] chars = new char[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = ALPHABET[random.nextInt(ALPHABET.length)];
+        }
+
+        return new String(chars);
+    }
+
+    @Test
+    public void testContains() {
+        ValueSet<String> values = ValueSet.of("abc", "def", "ghi");
+
+        assertTrue("Contains first", values.contains("abc"));
+        assertTrue("Contains last", values.contains("ghi"));
+        assertTrue("Contains other CharSequence", values.contains(new StringBuilder("def")));
+        assertFalse("Case sensitive", values.contains("ABC"));
+        assertFalse("Contains prefix", values.contains("ab"));
+        assertFalse("Contains other type", values.contains(123));
+        assertFalse("Contains null", values.contains(null));
+    }
+
+    @Test
+    public void testContainsWhenEmpty() {
+        assertFalse("Contains from empty", ValueSet.of().contains("abc"));
+        assertFalse("Contains from null array", ValueSet.of((Object[]) null).contains("abc"));
+        assertFalse("Contains from null collection", ValueSet.of((Collection<Object>) null).contains("abc"));
+        assertFalse("Contains from null ignore case array", ValueSet.ofIgnoreCase((CharSequence[]) null).contains("abc"));
+    }
+
+    @Test
+    public void testContainsWithCollection() {
+        ValueSet<Integer> values = ValueSet.of(Arrays.asList(1, 2, 3));
+
+        assertTrue("Contains match", values.contains(2));
+        assertFalse("Contains no match", values.contains(4));
+        assertFalse("Contains other type", values.contains(2L));
+    }
+
+    @Test
+    public void testContainsWithHashCollisions() {
+        Integer collision = "abc".hashCode();
+        ValueSet<Object> values = ValueSet.of(collision, "abc", new StringBuilder("ABC"));
+
+        assertTrue("Contains colliding non-CharSequence", values.contains(collision));
+        assertTrue("Contains colliding CharSequence", values.contains("abc"));
+        assertTrue("Contains colliding other CharSequence", values.contains(new StringBuilder("abc")));
+        assertTrue("Contains other CharSequence by content", values.contains("ABC"));
+        assertFalse("Contains other value", values.contains("abd"));
+        assertFalse("Contains other CharSequence with same hash code", ValueSet.of("").contains("\u0000"));
+    }
+
+    @Test
+    public void testContainsWithManyValues() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            codes.add("code" + i);
+        }
+
+        ValueSet<String> values = ValueSet.of(codes);
+
+        for (String code : codes) {
+            assertTrue("Contains " + code, values.contains(code));
+        }
+
+        assertFalse("Contains unknown", values.contains("code1000"));
+    }
+
+    @Test
+    public void testContainsWithNullValue() {
+        ValueSet<String> values = ValueSet.of("abc", null);
+
+        assertTrue("Contains null", values.contains(null));
+        assertTrue("Contains non-null", values.contains("abc"));
+    }
+
+    @Test
+    public void testGetValues() {
+        assertEquals("Values", Arrays.asList("abc", null, "def"), ValueSet.of("abc", null, "def", "abc", null).getValues());
+        assertEquals("Ignore case values", Arrays.asList("abc", "DEF"), ValueSet.ofIgnoreCase("abc", "DEF", "ABC", "def").getValues());
+        assertEquals("Values for null", Collections.emptyList(), ValueSet.of((Object[]) null).getValues());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetValuesIsUnmodifiable() {
+        ValueSet.of("abc").getValues().add("def");
+    }
+
+    @Test
+    public void testIgnoreCase() {
+        ValueSet<CharSequence> values = ValueSet.ofIgnoreCase("GBP", "eur", "\u00C9t\u00E9", "\u0394elta", "ISO-3");
+
+        assertTrue("Ignore case", values.isIgnoreCase());
+        assertFalse("Case sensitive", ValueSet.of("GBP").isIgnoreCase());
+
+        assertTrue("Contains lower case", values.contains("gbp"));
+        assertTrue("Contains upper case", values.contains(new StringBuilder("EUR")));
+        assertTrue("Contains mixed case", values.contains("GbP"));
+        assertTrue("Contains non-letters", values.contains("iso-3"));
+        assertTrue("Contains non-ASCII", values.contains("\u00E9T\u00C9"));
+        assertTrue("Contains Greek", values.contains("\u03B4ELTA"));
+        assertFalse("Contains different length", values.contains("gb"));
+        assertFalse("Contains different", values.contains("usd"));
+        assertFalse("Contains non-CharSequence", values.contains(123));
+        assertFalse("Contains null", values.contains(null));
+    }
+
+    @Test
+    public void testMatchesNaiveSearch() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200; i++) {
+            String[] members = new String[random.nextInt(20)];
+            for (int j = 0; j < members.length; j++) {
+                members[j] = randomString(random, 3);
+            }
+
+            ValueSet<String> values = ValueSet.of(members);
+            ValueSet<CharSequence> ignoreCaseValues = ValueSet.ofIgnoreCase(members);
+
+            for (int j = 0; j < 20; j++) {
+                String value = randomString(random, 3);
+
+                assertEquals("Contains " + value + " in " + values, Arrays.asList(members).contains(value), values.contains(value));
+                assertEquals("Contains " + value + " in " + values + " (ignore case)", CharSequenceUtils.equalsAnyIgnoreCase(value, members), ignoreCaseValues.contains(value));
+            }
+        }
+    }
+
+    @Test
+    public void testToString() {
+        assertEquals("[abc, null, def]", ValueSet.of("abc", null, "def").toString());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2017 Alasdair Mercer, !ninja
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.notninja.verifier.message;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.notninja.verifier.message.formatter.DefaultFormatterProvider;
+import org.notninja.verifier.message.locale.SimpleLocaleContext;
+import org.notninja.verifier.verification.SimpleVerification;
+import org.notninja.verifier.verification.Verification;
+import org.notninja.verifier.verification.report.DefaultReportExecutorProvider;
+
+/**
+ * <p>
+ * Tests for the {@link ResourceBundleMessageSource} class when used by virtual threads.
+ * </p>
+ *
+ * @author Alasdair Mercer
+ */
+public class ResourceBundleMessageSourceVirtualThreadTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Test
+    public void testGetMessageDoesNotPinVirtualThreads() throws Exception {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        MessageKey key = () -> "org.notninja.verifier.type.base.BaseCollectionVerifier.sizeOf";
+        Locale[] locales = {Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN};
+        int taskCount = 1000;
+        int iterationCount = 100;
+
+        Path file = Files.createTempFile("verifier-virtual-threads", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+
+            try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("verifier-", 0).factory())) {
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int i = 0; i < taskCount; i++) {
+                    int task = i;
+
+                    futures.add(executor.submit(() -> {
+                        int count = 0;
+                        for (int j = 0; j < iterationCount; j++) {
+                            if (task % 100 == 0 && j % 10 == 0) {
+                                messageSource.clearCache();
+                            }
+
+                            Locale locale = locales[(task + j) % locales.length];
+                            Verification<Integer> verification = new SimpleVerification<>(new SimpleLocaleContext(locale), messageSource, new DefaultFormatterProvider(), new DefaultReportExecutorProvider().getReportExecutor(), j, "foo");
+
+                            assertEquals("Message is resolved correctly", "foo must have a size of '" + j + "': " + j, messageSource.getMessage(verification, key, new Object[]{j}));
+
+                            count++;
+                        }
+
+                        return count;
+                    }));
+                }
+
+                for (Future<Integer> future : futures) {
+                    assertEquals("All messages were checked", Integer.valueOf(iterationCount), future.get());
+                }
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        try {
+            List<RecordedEvent> pinnedEvents = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (PINNED_EVENT.equals(event.getEventType().getName())) {
+                    pinnedEvents.add(event);
+                }
+            }
+
+            assertTrue("No virtual threads were pinned: " + pinnedEvents, pinnedEvents.isEmpty());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}